@@ -2,6 +2,8 @@ package team.serenity;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -18,6 +20,8 @@ import team.serenity.logic.Logic;
 import team.serenity.logic.LogicManager;
 import team.serenity.model.Model;
 import team.serenity.model.ModelManager;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.question.Question;
 import team.serenity.model.managers.QuestionManager;
 import team.serenity.model.managers.ReadOnlyQuestionManager;
 import team.serenity.model.managers.ReadOnlySerenity;
@@ -25,8 +29,12 @@ import team.serenity.model.managers.Serenity;
 import team.serenity.model.userprefs.ReadOnlyUserPrefs;
 import team.serenity.model.userprefs.UserPrefs;
 import team.serenity.model.util.SampleDataUtil;
-import team.serenity.storage.JsonSerenityStorage;
+import team.serenity.storage.BackgroundSaver;
+import team.serenity.storage.BinarySerenityStorage;
+import team.serenity.storage.JournalStorage;
+import team.serenity.storage.JsonJournalStorage;
 import team.serenity.storage.SerenityStorage;
+import team.serenity.storage.ShardedJsonSerenityStorage;
 import team.serenity.storage.Storage;
 import team.serenity.storage.StorageManager;
 import team.serenity.storage.question.JsonQuestionStorage;
@@ -47,6 +55,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundSaver saver;
     protected Model model;
     protected Config config;
 
@@ -61,15 +70,21 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SerenityStorage serenityStorage = new JsonSerenityStorage(userPrefs.getSerenityFilePath());
+        SerenityStorage serenityStorage = new BinarySerenityStorage(
+            BinarySerenityStorage.getBinaryFilePathFor(userPrefs.getSerenityFilePath()),
+            new ShardedJsonSerenityStorage(userPrefs.getSerenityFilePath()));
         QuestionStorage questionStorage = new JsonQuestionStorage(userPrefs.getQuestionStorageFilePath());
-        storage = new StorageManager(serenityStorage, questionStorage, userPrefsStorage);
+        JournalStorage journalStorage = new JsonJournalStorage(
+            JsonJournalStorage.getJournalFilePathFor(userPrefs.getSerenityFilePath()));
+        storage = new StorageManager(serenityStorage, questionStorage, userPrefsStorage, journalStorage,
+            StorageManager.DEFAULT_JOURNAL_SIZE_LIMIT);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundSaver(storage, config.getSaveDebounceMillis());
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
@@ -82,6 +97,20 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         ReadOnlySerenity serenity = initSerenity(storage);
         ReadOnlyQuestionManager questionManager = initQuestionManager(storage);
+
+        List<Group> groups = new ArrayList<>(serenity.getGroupList());
+        List<Question> questions = new ArrayList<>(questionManager.getListOfQuestions());
+        try {
+            if (storage.replayJournal(groups, questions)) {
+                serenity = new Serenity(groups);
+                QuestionManager replayedQuestionManager = new QuestionManager();
+                replayedQuestionManager.setQuestions(questions);
+                questionManager = replayedQuestionManager;
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Journal file could not be read. Changes made after the last snapshot are lost.");
+        }
+
         return new ModelManager(serenity, questionManager, userPrefs);
     }
 
@@ -229,11 +258,16 @@ public class MainApp extends Application {
     public void stop() {
         logger.info(
             "============================ [ Stopping Serenity ] =============================");
+        try {
+            this.saver.shutdown();
+        } catch (IOException e) {
+            logger.warning("Failed to save the latest changes, saving a snapshot instead " + StringUtil.getDetails(e));
+        }
         try {
             this.storage.saveUserPrefs(model.getUserPrefs());
-            this.storage.saveQuestionManager(model.getQuestionManager());
+            this.storage.saveSnapshot(model.getGroupManager(), model.getQuestionManager());
         } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            logger.severe("Failed to save preferences and data " + StringUtil.getDetails(e));
         }
     }
 }
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDebounceMillis = 200;
 
     public Level getLogLevel() {
         return this.logLevel;
@@ -32,6 +33,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long to wait for more commands before saving the changes made by a command, in milliseconds.
+     */
+    public long getSaveDebounceMillis() {
+        return this.saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +56,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(this.logLevel, o.logLevel)
-            && Objects.equals(this.userPrefsFilePath, o.userPrefsFilePath);
+            && Objects.equals(this.userPrefsFilePath, o.userPrefsFilePath)
+            && this.saveDebounceMillis == o.saveDebounceMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.logLevel, this.userPrefsFilePath);
+        return Objects.hash(this.logLevel, this.userPrefsFilePath, this.saveDebounceMillis);
     }
 
     @Override
@@ -57,6 +70,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + this.logLevel);
         sb.append("\nPreference file Location : " + this.userPrefsFilePath);
+        sb.append("\nSave debounce window (ms) : " + this.saveDebounceMillis);
         return sb.toString();
     }
 
@@ -12,11 +12,13 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
 
     public static final String MESSAGE_INVALID_FILE = "An error has occurred while reading the file.";
-    public static final String MESSAGE_INVALID_FILE_NON_XLSX = "The file used is not of .xlsx file type.";
+    public static final String MESSAGE_INVALID_FILE_NON_XLSX = "The file used is not of .xlsx or .csv file type.";
     public static final String MESSAGE_FILE_EMPTY = "The .xlsx file is empty.";
     public static final String MESSAGE_INVALID_HEADER_COLUMNS = "The .xlsx file is either missing the "
         + "Photo, Name and Student Number header columns, or these columns are placed in a wrong order.";
     public static final String MESSAGE_NO_STUDENT_LIST = "The .xlsx file is missing a list of students.";
+    public static final String MESSAGE_INVALID_STUDENT_ROW = "Row %d of the .xlsx file does not have a valid "
+        + "student name and student number.";
 
     public static final String MESSAGE_GROUP_LISTED_OVERVIEW = "You are in tutorial group %1$s.\n"
         + "You can view the summary of every"
@@ -42,6 +44,9 @@ public class Messages {
 
     public static final String MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX = "Index %d is invalid.";
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range %s is invalid. A range should be a start and an end index, such as 1-3.";
+    public static final String MESSAGE_TOO_MANY_INDICES = "At most %d indices can be given at once.";
 
     public static final String MESSAGE_NOT_VIEWING_A_GROUP = "Group not specified.";
     public static final String MESSAGE_NOT_VIEWING_A_LESSON = "You are trying to use a lesson specific command "
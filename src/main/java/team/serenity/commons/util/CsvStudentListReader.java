@@ -0,0 +1,111 @@
+package team.serenity.commons.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the rows of a CSV file that the tutor downloads from LUMINUS to a {@link XlsxStudentListHandler},
+ * so that it is read into the same students and lessons as the XLSX file.
+ * Fields are split by hand, and only fields that are not empty are copied out of the line being read.
+ */
+class CsvStudentListReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final XlsxStudentListHandler handler;
+    private final StringBuilder quotedField = new StringBuilder();
+
+    private String line;
+    private int position;
+
+    private CsvStudentListReader(BufferedReader reader, XlsxStudentListHandler handler) {
+        this.reader = reader;
+        this.handler = handler;
+    }
+
+    /**
+     * Streams the rows of the CSV file at {@code file} to {@code handler}.
+     */
+    static void read(Path file, XlsxStudentListHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            new CsvStudentListReader(reader, handler).readRows();
+        }
+    }
+
+    private void readRows() throws IOException {
+        int rowNum = 0;
+        while ((this.line = this.reader.readLine()) != null) {
+            if (rowNum == 0 && !this.line.isEmpty() && this.line.charAt(0) == BYTE_ORDER_MARK) {
+                this.line = this.line.substring(1);
+            }
+            this.handler.startRow(rowNum);
+            this.position = 0;
+            int column = 0;
+            do {
+                readField(column);
+                column++;
+            } while (this.position++ < this.line.length());
+            this.handler.endRow(rowNum);
+            rowNum++;
+        }
+    }
+
+    /**
+     * Reads the field that starts at {@code position} and leaves {@code position} at the separator after it,
+     * or at the end of the line.
+     */
+    private void readField(int column) throws IOException {
+        if (this.position < this.line.length() && this.line.charAt(this.position) == QUOTE) {
+            readQuotedField(column);
+            return;
+        }
+        int end = this.line.indexOf(SEPARATOR, this.position);
+        if (end == -1) {
+            end = this.line.length();
+        }
+        if (end > this.position) {
+            this.handler.addCell(column, this.line.substring(this.position, end));
+        }
+        this.position = end;
+    }
+
+    /**
+     * Reads a field in quotes, which can hold separators, line breaks and doubled quotes.
+     */
+    private void readQuotedField(int column) throws IOException {
+        this.quotedField.setLength(0);
+        this.position++;
+        while (true) {
+            if (this.position == this.line.length()) {
+                String nextLine = this.reader.readLine();
+                if (nextLine == null) {
+                    break;
+                }
+                this.quotedField.append('\n');
+                this.line = nextLine;
+                this.position = 0;
+                continue;
+            }
+            char character = this.line.charAt(this.position++);
+            if (character != QUOTE) {
+                this.quotedField.append(character);
+            } else if (this.position < this.line.length() && this.line.charAt(this.position) == QUOTE) {
+                this.quotedField.append(QUOTE);
+                this.position++;
+            } else {
+                break;
+            }
+        }
+        if (this.quotedField.length() > 0) {
+            this.handler.addCell(column, this.quotedField.toString());
+        }
+        int end = this.line.indexOf(SEPARATOR, this.position);
+        this.position = end == -1 ? this.line.length() : end;
+    }
+}
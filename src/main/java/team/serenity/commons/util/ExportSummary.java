@@ -0,0 +1,64 @@
+package team.serenity.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summarises the XLSX files written by a bulk export.
+ */
+public class ExportSummary {
+
+    private final int workbookCount;
+    private final int rowCount;
+    private final List<String> failedFileNames;
+    private final long elapsedMillis;
+
+    /**
+     * Creates a summary of a bulk export.
+     *
+     * @param workbookCount The number of workbooks written.
+     * @param rowCount The number of student rows in the written workbooks.
+     * @param failedFileNames The names of the files that could not be written.
+     * @param elapsedMillis The time taken by the export, in milliseconds.
+     */
+    public ExportSummary(int workbookCount, int rowCount, List<String> failedFileNames, long elapsedMillis) {
+        requireNonNull(failedFileNames);
+        this.workbookCount = workbookCount;
+        this.rowCount = rowCount;
+        this.failedFileNames = new ArrayList<>(failedFileNames);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getWorkbookCount() {
+        return this.workbookCount;
+    }
+
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    public List<String> getFailedFileNames() {
+        return Collections.unmodifiableList(this.failedFileNames);
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    /**
+     * Returns the number of workbooks written per second.
+     */
+    public double getWorkbooksPerSecond() {
+        return this.workbookCount * 1000.0 / Math.max(1, this.elapsedMillis);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d workbooks (%d rows) written in %d ms, %.1f workbooks/s, %d failed",
+            this.workbookCount, this.rowCount, this.elapsedMillis, getWorkbooksPerSecond(),
+            this.failedFileNames.size());
+    }
+}
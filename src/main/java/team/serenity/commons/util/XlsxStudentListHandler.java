@@ -0,0 +1,157 @@
+package team.serenity.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+import team.serenity.model.group.student.Student;
+
+/**
+ * Collects the students, lessons and validation errors of the XLSX or CSV file that the tutor downloads from LUMINUS
+ * in a single pass over the rows of its sheet. Only the cells of the row being read are kept in memory.
+ */
+class XlsxStudentListHandler implements SheetContentsHandler {
+
+    private static final int PHOTO_COLUMN = 0;
+    private static final int NAME_COLUMN = 1;
+    private static final int STUDENT_NUMBER_COLUMN = 2;
+    private static final String[] STUDENT_NUMBER_HEADERS = {"Student Number", "User ID"};
+    private static final Pattern LESSON_COLUMN_PATTERN = Pattern.compile("T?\\d+");
+
+    private final Map<Integer, String> currentRow = new HashMap<>();
+    private int nextColumn;
+
+    private boolean hasRows = false;
+    private boolean hasHeaderRow = false;
+    private boolean hasStudentRows = false;
+    private int firstInvalidStudentRowNumber = -1;
+
+    private final Set<Student> students = new HashSet<>();
+    private final List<String> lessonNames = new ArrayList<>();
+
+    @Override
+    public void startRow(int rowNum) {
+        this.hasRows = true;
+        this.currentRow.clear();
+        this.nextColumn = 0;
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        int column = cellReference == null ? this.nextColumn : new CellReference(cellReference).getCol();
+        addCell(column, formattedValue);
+    }
+
+    /**
+     * Adds the formatted value of the cell at {@code column} to the row being read.
+     */
+    public void addCell(int column, String formattedValue) {
+        this.nextColumn = column + 1;
+        this.currentRow.put(column, formattedValue == null ? "" : formattedValue);
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        if (!this.hasHeaderRow) {
+            if (isHeaderRow()) {
+                this.hasHeaderRow = true;
+                readLessonColumns();
+            }
+            return;
+        }
+        if (isBlankRow()) {
+            return;
+        }
+
+        this.hasStudentRows = true;
+        String name = getCellValue(NAME_COLUMN);
+        String studentNumber = getCellValue(STUDENT_NUMBER_COLUMN);
+        if (Student.isValidName(name) && Student.isValidStudentId(studentNumber)) {
+            this.students.add(new Student(name, studentNumber));
+        } else if (this.firstInvalidStudentRowNumber == -1) {
+            this.firstInvalidStudentRowNumber = rowNum + 1;
+        }
+    }
+
+    @Override
+    public void headerFooter(String text, boolean isHeader, String tagName) {
+        // Headers and footers of the printed sheet are not part of the student list.
+    }
+
+    private String getCellValue(int column) {
+        return this.currentRow.getOrDefault(column, "");
+    }
+
+    private boolean isHeaderRow() {
+        return getCellValue(PHOTO_COLUMN).equals("Photo")
+            && getCellValue(NAME_COLUMN).equals("Name")
+            && Arrays.asList(STUDENT_NUMBER_HEADERS).contains(getCellValue(STUDENT_NUMBER_COLUMN));
+    }
+
+    private boolean isBlankRow() {
+        return this.currentRow.values().stream().allMatch(String::isBlank);
+    }
+
+    private void readLessonColumns() {
+        this.currentRow.keySet().stream().sorted()
+            .map(this::getCellValue)
+            .filter(header -> LESSON_COLUMN_PATTERN.matcher(header).matches())
+            .map(XlsxStudentListHandler::formatLessonName)
+            .forEach(this.lessonNames::add);
+    }
+
+    private static String formatLessonName(String lessonName) {
+        // remove the first character "T" from the lessonName, which the CSV file does not have
+        String trimmedLessonName = lessonName.startsWith("T") ? lessonName.substring(1) : lessonName;
+        int lessonNumbering = Integer.parseInt(trimmedLessonName);
+        int weekNumber = lessonNumbering / 2 + lessonNumbering % 2;
+        int lessonNumber = 2 - lessonNumbering % 2;
+        return String.format("%d-%d", weekNumber, lessonNumber);
+    }
+
+    /**
+     * Returns true if the sheet does not have any rows.
+     */
+    public boolean isEmpty() {
+        return !this.hasRows;
+    }
+
+    public boolean hasHeaderRow() {
+        return this.hasHeaderRow;
+    }
+
+    public boolean hasStudentRows() {
+        return this.hasStudentRows;
+    }
+
+    /**
+     * Returns the 1-based number of the first row below the header row that does not hold a valid student.
+     */
+    public OptionalInt getFirstInvalidStudentRowNumber() {
+        return this.firstInvalidStudentRowNumber == -1
+            ? OptionalInt.empty()
+            : OptionalInt.of(this.firstInvalidStudentRowNumber);
+    }
+
+    public Set<Student> getStudents() {
+        return this.students;
+    }
+
+    /**
+     * Returns the names of the lessons in the header row, in the order of their columns.
+     */
+    public List<String> getLessonNames() {
+        return this.lessonNames;
+    }
+
+}
@@ -1,11 +1,20 @@
 package team.serenity.commons.util;
 
 import static team.serenity.commons.core.Messages.MESSAGE_FILE_EMPTY;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_FILE;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_HEADER_COLUMNS;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_STUDENT_ROW;
 import static team.serenity.commons.core.Messages.MESSAGE_NO_STUDENT_LIST;
+import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,23 +22,44 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
-
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import team.serenity.commons.core.LogsCenter;
 import team.serenity.commons.core.sorter.LessonSorter;
 import team.serenity.commons.core.sorter.StudentInfoSorter;
 import team.serenity.commons.core.sorter.StudentSorter;
 import team.serenity.logic.parser.exceptions.ParseException;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupLessonKey;
+import team.serenity.model.group.GroupName;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.student.StudentNumber;
@@ -38,37 +68,52 @@ import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
 import team.serenity.model.util.UniqueList;
 
 /**
- * Reads XLSX file that the tutor downloads from LUMINUS and writes JSON data to a new XLSX file.
+ * Reads XLSX or CSV file that the tutor downloads from LUMINUS and writes JSON data to a new XLSX file.
  */
 public class XlsxUtil {
 
+    public static final String CSV_FILE_EXTENSION = ".csv";
+
+    /** Number of rows of an exported sheet that are kept in memory before being flushed to disk. */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(XlsxUtil.class);
+
     private String filePath;
     private Workbook workbook;
     private Sheet sheet;
+    private XlsxStudentListHandler studentList;
+    private boolean isReadable = true;
 
     private DataFormatter formatter = new DataFormatter();
 
     /**
-     * Creates a XlsxUtil object that manages XLSX files.
+     * Creates a XlsxUtil object that manages XLSX or CSV files.
+     * The file is streamed once, without loading the whole workbook into memory.
+     * A file ending with {@code CSV_FILE_EXTENSION} is read as CSV, any other file as XLSX.
      *
-     * @param filePath The path of the XLSX file that the tutor downloads from LUMINUS.
+     * @param filePath The path of the XLSX or CSV file that the tutor downloads from LUMINUS.
      */
     public XlsxUtil(String filePath) {
+        this.filePath = filePath;
+        this.studentList = new XlsxStudentListHandler();
         try {
-            this.filePath = filePath;
-            this.workbook = new XSSFWorkbook(filePath);
-            this.sheet = this.workbook.getSheetAt(0);
-        } catch (IOException e) {
-            e.printStackTrace();
+            if (isCsvFile(filePath)) {
+                CsvStudentListReader.read(Paths.get(filePath), this.studentList);
+            } else {
+                readFirstSheet(filePath, this.studentList);
+            }
+        } catch (IOException | InvalidPathException | SAXException | OpenXML4JException
+            | ParserConfigurationException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            this.isReadable = false;
         }
     }
 
     /**
-     * Creates a XlsxUtil object that exports a group as a XLSX file.
+     * Creates a XlsxUtil object that exports groups as XLSX files.
      */
     public XlsxUtil() {
-        workbook = new XSSFWorkbook();
-        sheet = workbook.createSheet();
     }
 
     /**
@@ -81,6 +126,49 @@ public class XlsxUtil {
         this.filePath = filePath;
         this.workbook = workbook;
         this.sheet = this.workbook.getSheetAt(0);
+        this.studentList = new XlsxStudentListHandler();
+        for (Row row : this.sheet) {
+            this.studentList.startRow(row.getRowNum());
+            for (Cell cell : row) {
+                this.studentList.addCell(cell.getColumnIndex(), this.formatter.formatCellValue(cell));
+            }
+            this.studentList.endRow(row.getRowNum());
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath} is the path of a CSV file, whatever the case of its extension.
+     */
+    public static boolean isCsvFile(String filePath) {
+        return filePath.toLowerCase().endsWith(CSV_FILE_EXTENSION);
+    }
+
+    /**
+     * Streams the rows of the first sheet of the XLSX file at {@code filePath} to {@code handler}.
+     */
+    private static void readFirstSheet(String filePath, XlsxStudentListHandler handler)
+        throws IOException, SAXException, OpenXML4JException, ParserConfigurationException {
+        OPCPackage xlsxPackage = OPCPackage.open(filePath, PackageAccess.READ);
+        try {
+            XSSFReader reader = new XSSFReader(xlsxPackage);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(xlsxPackage);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+            parserFactory.setNamespaceAware(true);
+            parserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            XMLReader sheetParser = parserFactory.newSAXParser().getXMLReader();
+            // The styles are not read, as they only format the dates above the header row, which are skipped
+            sheetParser.setContentHandler(new XSSFSheetXMLHandler(null, strings, handler, new DataFormatter(), false));
+            try (InputStream firstSheet = sheets.next()) {
+                sheetParser.parse(new InputSource(firstSheet));
+            }
+        } finally {
+            xlsxPackage.revert();
+        }
     }
 
     /**
@@ -90,11 +178,7 @@ public class XlsxUtil {
      * @return a set of students.
      */
     public Set<Student> readStudentsFromXlsx() {
-        Set<Student> students = new HashSet<>();
-        Iterator<Row> rowIterator = this.sheet.iterator();
-        skipRowsToHeaderRow(rowIterator);
-        readDetailsOfStudents(rowIterator, students);
-        List<Student> studentList = new ArrayList<>(students);
+        List<Student> studentList = new ArrayList<>(this.studentList.getStudents());
         studentList.sort(new StudentSorter());
         return new LinkedHashSet<>(studentList);
     }
@@ -105,56 +189,21 @@ public class XlsxUtil {
      * @throws ParseException a parsing exception.
      */
     public void checkValidityOfXlsx() throws ParseException {
-        checkValidityXlsxEmpty();
-        checkValidityXlsxContents(this.sheet.iterator());
-    }
-
-    private void checkValidityXlsxEmpty() throws ParseException {
-        if (sheet.getLastRowNum() == -1) {
+        if (!this.isReadable) {
+            throw new ParseException(MESSAGE_INVALID_FILE);
+        }
+        if (this.studentList.isEmpty()) {
             throw new ParseException(MESSAGE_FILE_EMPTY);
         }
-    }
-
-    private void checkValidityXlsxContents(Iterator<Row> rowIterator) throws ParseException {
-        if (skipRowsToHeaderRow(rowIterator) == null) {
+        if (!this.studentList.hasHeaderRow()) {
             throw new ParseException(MESSAGE_INVALID_HEADER_COLUMNS);
         }
-        if (!rowIterator.hasNext()) {
+        if (!this.studentList.hasStudentRows()) {
             throw new ParseException(MESSAGE_NO_STUDENT_LIST);
         }
-    }
-
-    private Row skipRowsToHeaderRow(Iterator<Row> rowIterator) {
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-            if (isHeaderRow(row)) {
-                return row;
-            }
-        }
-        return null;
-    }
-
-    private boolean isHeaderRow(Row row) {
-        return this.formatter.formatCellValue(row.getCell(0)).equals("Photo")
-            && this.formatter.formatCellValue(row.getCell(1)).equals("Name")
-            && this.formatter.formatCellValue(row.getCell(2)).equals("Student Number");
-    }
-
-    private void readDetailsOfStudents(Iterator<Row> rowIterator, Set<Student> students)
-        throws IllegalArgumentException {
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-            Iterator<Cell> cellIterator = row.cellIterator();
-            cellIterator.next();
-
-            Cell nameCell = cellIterator.next();
-            String name = this.formatter.formatCellValue(nameCell);
-
-            Cell studentIdCell = cellIterator.next();
-            String studentId = this.formatter.formatCellValue(studentIdCell);
-
-            Student student = new Student(name, studentId);
-            students.add(student);
+        OptionalInt invalidRowNumber = this.studentList.getFirstInvalidStudentRowNumber();
+        if (invalidRowNumber.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_STUDENT_ROW, invalidRowNumber.getAsInt()));
         }
     }
 
@@ -166,34 +215,16 @@ public class XlsxUtil {
      */
     public Set<Lesson> readLessonsFromXlsx(Set<StudentInfo> studentsInfo) {
         Set<Lesson> lessons = new HashSet<>();
-        Iterator<Row> rowIterator = this.sheet.iterator();
-        Row headerRow = skipRowsToHeaderRow(rowIterator);
-        readDetailsOfLessons(Objects.requireNonNull(headerRow), lessons, studentsInfo);
+        for (String lessonName : this.studentList.getLessonNames()) {
+            UniqueList<StudentInfo> newStudentsInfo = new UniqueStudentInfoList();
+            newStudentsInfo.setElementsWithList(new ArrayList<>(studentsInfo));
+            lessons.add(new Lesson(lessonName, newStudentsInfo));
+        }
         List<Lesson> lessonList = new ArrayList<>(lessons);
         lessonList.sort(new LessonSorter());
         return new LinkedHashSet<>(lessonList);
     }
 
-    private void readDetailsOfLessons(Row headerRow, Set<Lesson> lessons, Set<StudentInfo> studentsInfo) {
-        for (Cell cell : headerRow) {
-            if (this.formatter.formatCellValue(cell).startsWith("T")) {
-                String lessonName = this.formatter.formatCellValue(cell);
-                String formattedLessonName = formatLessonName(lessonName);
-                UniqueList<StudentInfo> newStudentsInfo = new UniqueStudentInfoList();
-                newStudentsInfo.setElementsWithList(new ArrayList<>(studentsInfo));
-                lessons.add(new Lesson(formattedLessonName, newStudentsInfo));
-            }
-        }
-    }
-
-    private String formatLessonName(String lessonName) {
-        String trimmedLessonName = lessonName.substring(1); // remove the first character "T" from the lessonName
-        int lessonNumbering = Integer.parseInt(trimmedLessonName);
-        int weekNumber = lessonNumbering / 2 + lessonNumbering % 2;
-        int lessonNumber = 2 - lessonNumbering % 2;
-        return String.format("%d-%d", weekNumber, lessonNumber);
-    }
-
     /**
      * Creates a new set of StudentInfo from XLSX.
      *
@@ -215,87 +246,192 @@ public class XlsxUtil {
     }
 
     /**
-     * Write attendance data to XLSX file.
+     * Write attendance data to XLSX file in the working directory.
      *
      * @param group Group to export the attendance records.
      * @param studentInfoMap List of StudentInfo.
      */
     public void writeAttendanceToXlsx(Group group, Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap) {
-        UniqueList<Student> studentList = group.getSortedStudents();
-        UniqueList<Lesson> lessonList = group.getSortedLessons();
-        List<List<Object>> data = new ArrayList<>();
-        Map<StudentNumber, List<Integer>> studentDetailsMap = new HashMap<>();
-
-        for (Lesson lesson : lessonList) {
-            GroupLessonKey groupLessonKey = new GroupLessonKey(group.getGroupName(), lesson.getLessonName());
-            for (StudentInfo studentInfo : studentInfoMap.get(groupLessonKey)) {
-                Student student = studentInfo.getStudent();
-                Optional<List<Integer>> attList = Optional.ofNullable(studentDetailsMap.get(student.getStudentNo()));
-                List<Integer> newAttList = attList.orElseGet(ArrayList::new);
-                newAttList.add(studentInfo.getAttendance().getIntegerAttendance());
-                studentDetailsMap.put(student.getStudentNo(), newAttList);
-            }
+        try {
+            writeAttendanceToXlsx(group, studentInfoMap, Paths.get(""));
+        } catch (IOException e) {
+            logger.warning("Error writing attendance of " + group.getGroupName() + " to XLSX file: " + e);
         }
+    }
 
-        generateData(data, studentList, studentDetailsMap);
-        writeDataToXlsx(data, String.format("%s_attendance.xlsx", group.getGroupName().toString()), group);
+    /**
+     * Write attendance data to XLSX file in {@code directory}.
+     *
+     * @param group Group to export the attendance records.
+     * @param studentInfoMap List of StudentInfo.
+     * @param directory Directory to write the XLSX file to.
+     * @return The path of the written XLSX file.
+     * @throws IOException if the XLSX file cannot be written.
+     */
+    public Path writeAttendanceToXlsx(Group group, Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap,
+        Path directory) throws IOException {
+        Path outputFile = directory.resolve(String.format("%s_attendance.xlsx", group.getGroupName()));
+        writeDataToXlsx(group, studentInfoMap, studentInfo -> studentInfo.getAttendance().getIntegerAttendance(),
+            outputFile);
+        return outputFile;
     }
 
     /**
-     * Write participation score data to XLSX file.
+     * Write participation score data to XLSX file in the working directory.
      *
      * @param group Group to export the participation score records.
      * @param studentInfoMap List of StudentInfo.
      */
     public void writeScoreToXlsx(Group group, Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap) {
-        UniqueList<Student> studentList = group.getSortedStudents();
-        UniqueList<Lesson> lessonList = group.getSortedLessons();
-        List<List<Object>> data = new ArrayList<>();
-        Map<StudentNumber, List<Integer>> studentDetailsMap = new HashMap<>();
-
-        for (Lesson lesson : lessonList) {
-            GroupLessonKey groupLessonKey = new GroupLessonKey(group.getGroupName(), lesson.getLessonName());
-            for (StudentInfo studentInfo : studentInfoMap.get(groupLessonKey)) {
-                Student student = studentInfo.getStudent();
-                Optional<List<Integer>> scoreList = Optional.ofNullable(studentDetailsMap.get(student.getStudentNo()));
-                List<Integer> newScoreList = scoreList.orElseGet(ArrayList::new);
-                newScoreList.add(studentInfo.getParticipation().getScore());
-                studentDetailsMap.put(student.getStudentNo(), newScoreList);
-            }
+        try {
+            writeScoreToXlsx(group, studentInfoMap, Paths.get(""));
+        } catch (IOException e) {
+            logger.warning("Error writing participation of " + group.getGroupName() + " to XLSX file: " + e);
         }
+    }
 
-        generateData(data, studentList, studentDetailsMap);
-        writeDataToXlsx(data, String.format("%s_participation.xlsx", group.getGroupName().toString()), group);
+    /**
+     * Write participation score data to XLSX file in {@code directory}.
+     *
+     * @param group Group to export the participation score records.
+     * @param studentInfoMap List of StudentInfo.
+     * @param directory Directory to write the XLSX file to.
+     * @return The path of the written XLSX file.
+     * @throws IOException if the XLSX file cannot be written.
+     */
+    public Path writeScoreToXlsx(Group group, Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap,
+        Path directory) throws IOException {
+        Path outputFile = directory.resolve(String.format("%s_participation.xlsx", group.getGroupName()));
+        writeDataToXlsx(group, studentInfoMap, studentInfo -> studentInfo.getParticipation().getScore(), outputFile);
+        return outputFile;
     }
 
-    private void generateData(List<List<Object>> data, UniqueList<Student> studentList,
-        Map<StudentNumber, List<Integer>> studentDetailsMap) {
-        for (Student student : studentList) {
-            List<Object> studentDetails = new ArrayList<>();
-            studentDetails.add(student.getStudentName().toString());
-            studentDetails.add(student.getStudentNo().toString());
-            List<Integer> lst = studentDetailsMap.get(student.getStudentNo());
-            studentDetails.addAll(lst);
-            data.add(studentDetails);
+    /**
+     * Writes the attendance and participation of each group in {@code groups} to XLSX files in {@code directory}.
+     * {@code studentInfoMap} is walked once to split it by group, and the workbooks of different groups are
+     * written in parallel by at most {@code threadCount} threads. Workbooks that cannot be written are skipped,
+     * and a group whose export fails does not stop the workbooks of the other groups from being collected.
+     *
+     * @param groups Groups to export.
+     * @param studentInfoMap List of StudentInfo of every lesson.
+     * @param directory Directory to write the XLSX files to.
+     * @param threadCount Maximum number of workbooks written at the same time.
+     * @return A summary of the written workbooks.
+     */
+    public static ExportSummary writeAllToXlsx(List<Group> groups,
+        Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap, Path directory, int threadCount) {
+        requireAllNonNull(groups, studentInfoMap, directory);
+        long startTime = System.nanoTime();
+        Map<GroupName, Map<GroupLessonKey, UniqueList<StudentInfo>>> studentInfoMapByGroup = new HashMap<>();
+        for (Map.Entry<GroupLessonKey, UniqueList<StudentInfo>> entry : studentInfoMap.entrySet()) {
+            studentInfoMapByGroup.computeIfAbsent(entry.getKey().getGroupName(), groupName -> new HashMap<>())
+                .put(entry.getKey(), entry.getValue());
         }
-    }
 
-    private void writeDataToXlsx(List<List<Object>> data, String outputFileName, Group group) {
+        int workbookCount = 0;
         int rowCount = 0;
-        int columnCount = 0;
-
-        Row row = sheet.createRow(rowCount);
-        Cell cell = row.createCell(columnCount);
+        List<String> failedFileNames = new ArrayList<>();
+        if (!groups.isEmpty()) {
+            // Both workbooks of a group are written by the same task, so each lesson is only read by one thread
+            ExecutorService exportExecutor = Executors.newFixedThreadPool(Math.min(groups.size(), threadCount),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "xlsx-exporter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            CompletionService<ExportSummary> exports = new ExecutorCompletionService<>(exportExecutor);
+            Map<Future<ExportSummary>, Group> exportedGroups = new HashMap<>();
+            try {
+                for (Group group : groups) {
+                    Map<GroupLessonKey, UniqueList<StudentInfo>> groupStudentInfoMap =
+                        studentInfoMapByGroup.getOrDefault(group.getGroupName(), new HashMap<>());
+                    exportedGroups.put(exports.submit(() -> writeGroupToXlsx(group, groupStudentInfoMap, directory)),
+                        group);
+                }
+                int failedGroupCount = 0;
+                for (int i = 0; i < groups.size(); i++) {
+                    Future<ExportSummary> export = exports.take();
+                    try {
+                        ExportSummary groupSummary = export.get();
+                        workbookCount += groupSummary.getWorkbookCount();
+                        rowCount += groupSummary.getRowCount();
+                        failedFileNames.addAll(groupSummary.getFailedFileNames());
+                    } catch (ExecutionException e) {
+                        // Only this group failed, so keep collecting the workbooks of the other groups
+                        GroupName groupName = exportedGroups.get(export).getGroupName();
+                        logger.warning("Error exporting " + groupName + " to XLSX files: " + e.getCause());
+                        failedFileNames.add(String.format("%s_attendance.xlsx", groupName));
+                        failedFileNames.add(String.format("%s_participation.xlsx", groupName));
+                        failedGroupCount++;
+                    }
+                    logger.info(String.format("Exported %d of %d groups, %d failed", i + 1 - failedGroupCount,
+                        groups.size(), failedGroupCount));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exportExecutor.shutdownNow();
+            }
+        }
 
-        addTitle(cell, group.getGroupName().toString());
-        addHeaders(goToHeaderRow(rowCount), columnCount, group.getLessons());
-        addContent(goToContentRow(rowCount), data);
+        ExportSummary summary = new ExportSummary(workbookCount, rowCount, failedFileNames,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        logger.info("Exported all groups to XLSX files: " + summary);
+        return summary;
+    }
 
+    /**
+     * Writes the attendance and participation of {@code group} to XLSX files in {@code directory}.
+     */
+    private static ExportSummary writeGroupToXlsx(Group group,
+        Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap, Path directory) {
+        long startTime = System.nanoTime();
+        XlsxUtil util = new XlsxUtil();
+        List<String> failedFileNames = new ArrayList<>();
         try {
-            FileOutputStream outputStream = new FileOutputStream(outputFileName);
-            workbook.write(outputStream);
+            util.writeAttendanceToXlsx(group, studentInfoMap, directory);
+        } catch (IOException e) {
+            logger.warning("Error writing attendance of " + group.getGroupName() + " to XLSX file: " + e);
+            failedFileNames.add(String.format("%s_attendance.xlsx", group.getGroupName()));
+        }
+        try {
+            util.writeScoreToXlsx(group, studentInfoMap, directory);
         } catch (IOException e) {
-            e.printStackTrace();
+            logger.warning("Error writing participation of " + group.getGroupName() + " to XLSX file: " + e);
+            failedFileNames.add(String.format("%s_participation.xlsx", group.getGroupName()));
+        }
+        int workbookCount = 2 - failedFileNames.size();
+        return new ExportSummary(workbookCount, workbookCount * group.getStudents().size(), failedFileNames,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Streams one row per student of {@code group} to {@code outputFile}, with the {@code field} of the student in
+     * each lesson of the group as a column.
+     * Only {@code ROW_ACCESS_WINDOW_SIZE} rows are kept in memory, the rest are flushed to a temporary file
+     * that is deleted once the workbook is written.
+     */
+    private void writeDataToXlsx(Group group, Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap,
+        ToIntFunction<StudentInfo> field, Path outputFile) throws IOException {
+        List<Student> studentList = group.getSortedStudents();
+        List<Lesson> lessonList = group.getSortedLessons();
+        List<UniqueList<StudentInfo>> lessonsStudentsInfo = new ArrayList<>();
+        for (Lesson lesson : lessonList) {
+            lessonsStudentsInfo.add(studentInfoMap.get(new GroupLessonKey(group.getGroupName(),
+                lesson.getLessonName())));
+        }
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(outputFile))) {
+            Sheet sheet = workbook.createSheet();
+            int rowCount = 0;
+            addTitle(sheet.createRow(rowCount).createCell(0), group.getGroupName().toString());
+            addHeaders(sheet, goToHeaderRow(rowCount), 0, lessonList);
+            addContent(sheet, goToContentRow(rowCount), studentList, lessonsStudentsInfo, field);
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
@@ -316,7 +452,7 @@ public class XlsxUtil {
         headerCell.setCellValue(headerName);
     }
 
-    private void addHeaders(int rowCount, int columnCount, UniqueList<Lesson> lessonList) {
+    private void addHeaders(Sheet sheet, int rowCount, int columnCount, List<Lesson> lessonList) {
         Row row = sheet.createRow(rowCount);
         addHeader(columnCount, row, "Name");
         columnCount++;
@@ -328,16 +464,17 @@ public class XlsxUtil {
         }
     }
 
-    private void addContent(int rowCount, List<List<Object>> data) {
-        for (List<Object> studentDetails : data) {
+    private void addContent(Sheet sheet, int rowCount, List<Student> studentList,
+        List<UniqueList<StudentInfo>> lessonsStudentsInfo, ToIntFunction<StudentInfo> field) {
+        for (Student student : studentList) {
             Row row = sheet.createRow(rowCount);
-            int columnCount = 0;
-            for (Object field : studentDetails) {
-                Cell cell = row.createCell(columnCount);
-                if (field instanceof String) {
-                    cell.setCellValue((String) field);
-                } else if (field instanceof Integer) {
-                    cell.setCellValue((Integer) field);
+            row.createCell(0).setCellValue(student.getStudentName().toString());
+            row.createCell(1).setCellValue(student.getStudentNo().toString());
+            int columnCount = 2;
+            for (UniqueList<StudentInfo> studentsInfo : lessonsStudentsInfo) {
+                StudentInfo studentInfo = findStudentInfo(studentsInfo, student.getStudentNo());
+                if (studentInfo != null) {
+                    row.createCell(columnCount).setCellValue(field.applyAsInt(studentInfo));
                 }
                 columnCount++;
             }
@@ -345,6 +482,27 @@ public class XlsxUtil {
         }
     }
 
+    /**
+     * Returns the student info of the student with {@code studentNumber} in {@code studentsInfo},
+     * or null if there is none.
+     */
+    private static StudentInfo findStudentInfo(UniqueList<StudentInfo> studentsInfo, StudentNumber studentNumber) {
+        if (studentsInfo == null) {
+            return null;
+        }
+        if (studentsInfo instanceof UniqueStudentInfoList) {
+            UniqueStudentInfoList indexedStudentsInfo = (UniqueStudentInfoList) studentsInfo;
+            int index = indexedStudentsInfo.indexOf(studentNumber);
+            return index == -1 ? null : indexedStudentsInfo.getList().get(index);
+        }
+        for (StudentInfo studentInfo : studentsInfo) {
+            if (studentInfo.getStudent().getStudentNo().equals(studentNumber)) {
+                return studentInfo;
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean equals(Object obj) {
         return obj == this // short circuit if same object
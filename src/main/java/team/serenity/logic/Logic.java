@@ -1,6 +1,7 @@
 package team.serenity.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import team.serenity.commons.core.GuiSettings;
@@ -29,6 +30,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message when the changes made by a command could not be saved.
+     * Changes are saved on a background thread, so the handler is not called on the JavaFX application thread.
+     */
+    void setOnSaveFailure(Consumer<String> onSaveFailure);
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -65,9 +72,9 @@ public interface Logic {
     ObservableList<StudentInfo> getStudentInfoList();
 
     /**
-     * Returns all student info across all tutorial groups.
+     * Returns the student info of the students whose attendance is flagged, across all tutorial groups.
      */
-    ObservableList<StudentInfo> getAllStudentInfo();
+    ObservableList<StudentInfo> getFlaggedStudentsInfo();
 
     /**
      * Returns an unmodifiable view of the list of questions from a group-lesson.
@@ -1,7 +1,11 @@
 package team.serenity.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +22,7 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.question.Question;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.storage.BackgroundSaver;
 import team.serenity.storage.Storage;
 
 /**
@@ -26,37 +31,93 @@ import team.serenity.storage.Storage;
 public class LogicManager implements Logic {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_INVALID_BATCH_COMMAND = "Command %1$d of the batch (%2$s) is invalid:\n%3$s";
+    public static final String MESSAGE_BATCH_FAILED =
+        "Command %1$d of the batch (%2$s) failed, so no changes were made:\n%3$s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final BackgroundSaver saver;
     private final SerenityParser serenityParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The changes made by each command are saved through {@code saver}.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, BackgroundSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         this.serenityParser = new SerenityParser();
+        this.storage.startJournal(this.model.getGroupManager(), this.model.getQuestionManager());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        List<String> commandTexts = SerenityParser.splitCommands(commandText);
+        if (commandTexts.size() > 1) {
+            return executeBatch(commandTexts);
+        }
+
         CommandResult commandResult;
         Command command = this.serenityParser.parseCommand(commandText);
         commandResult = command.execute(this.model);
+        this.saver.requestSave(this.model.getGroupManager(), this.model.getQuestionManager());
 
+        return commandResult;
+    }
+
+    /**
+     * Executes the commands of a batch in order as a single transaction, and saves their changes once.
+     * All the commands are parsed before any of them is executed. If any command fails,
+     * the changes made by the earlier commands of the batch are undone and nothing is saved.
+     *
+     * @return the feedback of every command, with the UI action of the last command.
+     */
+    private CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : commandTexts) {
+            commands.add(parseBatchCommand(commandText, commands.size()));
+        }
+
+        StringBuilder feedback = new StringBuilder();
+        CommandResult commandResult = null;
+        this.model.startTransaction();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commandResult = commands.get(i).execute(this.model);
+            } catch (CommandException e) {
+                this.model.rollbackTransaction();
+                throw new CommandException(String.format(MESSAGE_BATCH_FAILED, i + 1, commandTexts.get(i),
+                    e.getMessage()), e);
+            } catch (RuntimeException e) {
+                this.model.rollbackTransaction();
+                throw e;
+            }
+            feedback.append(commandResult.getFeedbackToUser().trim()).append("\n");
+        }
+        this.model.commitTransaction();
+        this.saver.requestSave(this.model.getGroupManager(), this.model.getQuestionManager());
+
+        return new CommandResult(feedback.toString().trim(), commandResult.getUiAction());
+    }
+
+    private Command parseBatchCommand(String commandText, int index) throws ParseException {
         try {
-            this.storage.saveSerenity(this.model.getGroupManager());
-            this.storage.saveQuestionManager(this.model.getQuestionManager());
-        } catch (IOException e) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + e, e);
+            return this.serenityParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, index + 1, commandText,
+                e.getMessage()), e);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setOnSaveFailure(Consumer<String> onSaveFailure) {
+        requireNonNull(onSaveFailure);
+        this.saver.setOnSaveFailure(e -> onSaveFailure.accept(FILE_OPS_ERROR_MESSAGE + e));
     }
 
     @Override
@@ -97,8 +158,8 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<StudentInfo> getAllStudentInfo() {
-        return this.model.getAllStudentInfo();
+    public ObservableList<StudentInfo> getFlaggedStudentsInfo() {
+        return this.model.getFlaggedStudentsInfo();
     }
 
     @Override
@@ -25,7 +25,7 @@ public class AddGrpCommand extends Command {
         + ": Adds a new tutorial group.\n"
         + "Parameters: "
         + PREFIX_GRP + "GROUP_NAME "
-        + PREFIX_PATH + "PATH_TO_XLSX\n"
+        + PREFIX_PATH + "PATH_TO_XLSX_OR_CSV\n"
         + "Example: " + COMMAND_WORD + " "
         + PREFIX_GRP + "G04 "
         + PREFIX_PATH + "CS2101_G04.xlsx\n";
@@ -0,0 +1,91 @@
+package team.serenity.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static team.serenity.logic.commands.AddGrpCommand.MESSAGE_DUPLICATE_GROUP_NAME_FORMAT;
+import static team.serenity.logic.commands.AddGrpCommand.MESSAGE_DUPLICATE_STUDENT_FORMAT;
+import static team.serenity.logic.parser.CliSyntax.PREFIX_PATH;
+import static team.serenity.model.Model.PREDICATE_SHOW_ALL_GROUPS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.model.Model;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+
+/**
+ * Adds several tutorial groups at once, either all of them or none of them.
+ */
+public class AddGrpsCommand extends Command {
+
+    public static final String COMMAND_WORD = "addgrps";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Adds a new tutorial group for each XLSX or CSV file in a folder, or matching a file name pattern.\n"
+        + "The name of each group is the part of its file name after the last underscore.\n"
+        + "Parameters: "
+        + PREFIX_PATH + "PATH_TO_FOLDER_OR_PATTERN\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_PATH + "CS2101_G*.xlsx\n";
+
+    public static final String MESSAGE_SUCCESS = "%1$d new tutorial groups added: %2$s";
+
+    private final List<Group> toAdd;
+
+    /**
+     * Creates an AddGrpsCommand to add the specified {@code Group}s.
+     */
+    public AddGrpsCommand(List<Group> groups) {
+        requireNonNull(groups);
+        this.toAdd = new ArrayList<>(groups);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        checkGroupsCanBeAdded(model);
+        for (Group group : this.toAdd) {
+            model.addGroup(group);
+        }
+        model.updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+        String groupNames = this.toAdd.stream().map(group -> group.getGroupName().toString())
+            .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, this.toAdd.size(), groupNames),
+            CommandResult.UiAction.ADD_GRPS);
+    }
+
+    /**
+     * Checks that no group name or student is already in {@code model} or in more than one of the new groups,
+     * in a single pass over the students of the new groups.
+     */
+    private void checkGroupsCanBeAdded(Model model) throws CommandException {
+        Set<GroupName> groupNames = new HashSet<>();
+        Set<StudentNumber> studentNumbers = new HashSet<>();
+        for (Group group : this.toAdd) {
+            checkIfGroupNameExists(model, group);
+            if (!groupNames.add(group.getGroupName())) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_GROUP_NAME_FORMAT,
+                    group.getGroupName().groupName));
+            }
+            for (Student student : group.getStudents()) {
+                if (!studentNumbers.add(student.getStudentNo()) || model.hasStudent(student)) {
+                    throw new CommandException(String.format(MESSAGE_DUPLICATE_STUDENT_FORMAT,
+                        student.getStudentName(), student.getStudentNo()));
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AddGrpsCommand // instanceof handles nulls
+            && this.toAdd.equals(((AddGrpsCommand) other).toAdd));
+    }
+
+}
@@ -11,6 +11,7 @@ public class CommandResult {
 
     public static enum UiAction {
         ADD_GRP,
+        ADD_GRPS,
         DEL_GRP,
         DEL_LSN,
         EXIT,
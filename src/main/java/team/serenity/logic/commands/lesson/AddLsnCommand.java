@@ -75,10 +75,11 @@ public class AddLsnCommand extends Command {
         }
 
         targetGrp.getLessons().add(toAdd);
+        targetGrp.shareStudentsOfLessons();
 
         model.updateLessonList();
         model.updateFilteredLessonList(new LessonContainsKeywordPredicate(this.toAdd.lessonName));
-        model.updateFilteredQuestionList(this.qnPredicate);
+        model.showLessonQuestions(this.qnPredicate);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd, targetGrp), CommandResult.UiAction.VIEW_LSN);
     }
 
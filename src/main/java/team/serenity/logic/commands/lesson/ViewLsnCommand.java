@@ -69,7 +69,7 @@ public class ViewLsnCommand extends Command {
             throw new CommandException(LESSON_DOES_NOT_EXIST_MESSAGE);
         }
 
-        model.updateFilteredQuestionList(this.qnPredicate);
+        model.showLessonQuestions(this.qnPredicate);
 
         return new CommandResult(this.getMessage(model), CommandResult.UiAction.VIEW_LSN);
     }
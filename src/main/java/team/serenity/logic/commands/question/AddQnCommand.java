@@ -5,6 +5,8 @@ import static team.serenity.commons.core.Messages.MESSAGE_NOT_VIEWING_A_GROUP;
 import static team.serenity.commons.core.Messages.MESSAGE_NOT_VIEWING_A_LESSON;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_QN;
 
+import java.util.List;
+
 import team.serenity.logic.commands.Command;
 import team.serenity.logic.commands.CommandResult;
 import team.serenity.logic.commands.exceptions.CommandException;
@@ -17,6 +19,7 @@ import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
 
 /**
  * Adds a question to the Question manager.
+ * Any similar questions already asked, in any group and lesson, are listed after the question is added.
  */
 public class AddQnCommand extends Command {
 
@@ -30,6 +33,7 @@ public class AddQnCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New question added: %1$s";
     public static final String MESSAGE_DUPLICATE_QUESTION = "This question already exists.";
+    public static final String MESSAGE_SIMILAR_QUESTIONS = "\nSimilar questions have already been asked:%1$s";
 
     private final Description toAdd;
 
@@ -62,13 +66,20 @@ public class AddQnCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_QUESTION);
         }
 
+        List<Question> similarQuestions = model.getSimilarQuestions(questionToAdd);
         model.addQuestion(questionToAdd);
 
-        model.updateFilteredQuestionList(
+        model.showLessonQuestions(
                 new QuestionFromGroupLessonPredicate(uniqueGroup.getGroupName(), uniqueLesson.getLessonName())
         );
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, questionToAdd));
+        String feedback = String.format(MESSAGE_SUCCESS, questionToAdd);
+        if (!similarQuestions.isEmpty()) {
+            StringBuilder similarQuestionList = new StringBuilder();
+            similarQuestions.forEach(question -> similarQuestionList.append("\n  ").append(question));
+            feedback += String.format(MESSAGE_SIMILAR_QUESTIONS, similarQuestionList);
+        }
+        return new CommandResult(feedback);
 
     }
 
@@ -2,6 +2,9 @@ package team.serenity.logic.commands.question;
 
 import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.core.Messages.MESSAGE_QUESTIONS_LISTED_OVERVIEW;
+import static team.serenity.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.Optional;
 
 import team.serenity.logic.commands.Command;
 import team.serenity.logic.commands.CommandResult;
@@ -12,6 +15,7 @@ import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
 /**
  * Finds and lists all questions that contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * If a limit is given, only that many of the questions found are listed, from the most to the least relevant.
  */
 public class FindQnCommand extends Command {
 
@@ -20,23 +24,48 @@ public class FindQnCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds all questions that contain any of the specified keywords (case-insensitive) and "
             + "displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " deadline";
+            + "If a limit is given, only that many of the best matches are listed, best match first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_TOP + "LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " deadline\n"
+            + "Example: " + COMMAND_WORD + " deadline report " + PREFIX_TOP + "5";
+
+    public static final String MESSAGE_RANKED = "\nThe best matches are listed first.";
 
     public static final String MESSAGE_TO_VIEW_ALL_QUESTIONS =
             String.format("\nUse the \"%s\" command to show all questions from all tutorial groups and lessons.",
                     ViewQnCommand.COMMAND_WORD);
 
     private final QuestionContainsKeywordPredicate predicate;
+    private final Optional<Integer> limit;
 
+    /**
+     * Creates a FindQnCommand that lists all the questions found, in their original order.
+     */
     public FindQnCommand(QuestionContainsKeywordPredicate predicate) {
         this.predicate = predicate;
+        this.limit = Optional.empty();
+    }
+
+    /**
+     * Creates a FindQnCommand that lists at most {@code limit} of the questions found, from the most to the least
+     * relevant.
+     */
+    public FindQnCommand(QuestionContainsKeywordPredicate predicate, int limit) {
+        assert limit > 0;
+        this.predicate = predicate;
+        this.limit = Optional.of(limit);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredQuestionList(this.predicate);
+        if (this.limit.isPresent()) {
+            model.rankQuestions(this.predicate, this.limit.get());
+            return new CommandResult(String.format(MESSAGE_QUESTIONS_LISTED_OVERVIEW,
+                    model.getFilteredQuestionList().size(), "questions") + MESSAGE_RANKED
+                    + MESSAGE_TO_VIEW_ALL_QUESTIONS);
+        }
+        model.findQuestions(this.predicate);
         return new CommandResult(String.format(MESSAGE_QUESTIONS_LISTED_OVERVIEW,
                 model.getFilteredQuestionList().size(), "questions") + MESSAGE_TO_VIEW_ALL_QUESTIONS);
     }
@@ -45,7 +74,8 @@ public class FindQnCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof FindQnCommand // instanceof handles nulls
-            && this.predicate.equals(((FindQnCommand) other).predicate)); // state check
+            && this.predicate.equals(((FindQnCommand) other).predicate) // state check
+            && this.limit.equals(((FindQnCommand) other).limit));
     }
 
 }
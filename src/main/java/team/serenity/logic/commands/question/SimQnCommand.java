@@ -0,0 +1,53 @@
+package team.serenity.logic.commands.question;
+
+import static java.util.Objects.requireNonNull;
+import static team.serenity.model.Model.PREDICATE_SHOW_ALL_GROUPS;
+import static team.serenity.model.Model.PREDICATE_SHOW_ALL_LESSONS;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import team.serenity.logic.commands.Command;
+import team.serenity.logic.commands.CommandResult;
+import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.model.Model;
+import team.serenity.model.group.question.Question;
+
+/**
+ * Lists the questions that are similar to each other, across all tutorial groups and lessons.
+ */
+public class SimQnCommand extends Command {
+
+    public static final String COMMAND_WORD = "simqn";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Displays the questions from all tutorial groups and tutorial lessons that are similar to "
+        + "other questions, and lists each set of similar questions.";
+    public static final String MESSAGE_SUCCESS = "%1$d sets of similar questions found:%2$s";
+    public static final String MESSAGE_NO_SIMILAR_QUESTIONS = "No similar questions found.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<List<Question>> clusters = model.getSimilarQuestionClusters();
+        Set<Question> similarQuestions = new HashSet<>();
+        StringBuilder clusterList = new StringBuilder();
+        for (int i = 0; i < clusters.size(); i++) {
+            clusterList.append("\n").append(i + 1).append(".");
+            for (Question question : clusters.get(i)) {
+                clusterList.append("\n  ").append(question);
+                similarQuestions.add(question);
+            }
+        }
+
+        model.updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+        model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        model.updateFilteredQuestionList(similarQuestions::contains);
+        if (clusters.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SIMILAR_QUESTIONS, CommandResult.UiAction.VIEW_QN);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clusters.size(), clusterList),
+            CommandResult.UiAction.VIEW_QN);
+    }
+
+}
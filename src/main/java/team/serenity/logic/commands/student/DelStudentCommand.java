@@ -18,6 +18,7 @@ import team.serenity.logic.commands.CommandResult;
 import team.serenity.logic.commands.exceptions.CommandException;
 import team.serenity.model.Model;
 import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.student.StudentName;
 import team.serenity.model.group.student.StudentNumber;
@@ -87,7 +88,8 @@ public class DelStudentCommand extends Command {
 
         if (!isByIndex) {
             toDelete = Optional.ofNullable(new Student(this.studentName.get(), this.studentNumber.get()));
-            if (!groups.get(0).getStudents().contains(toDelete.get())) {
+            Optional<GroupName> groupOfStudent = model.getGroupNameOfStudent(this.studentNumber.get());
+            if (groupOfStudent.isEmpty() || !groupOfStudent.get().equals(groups.get(0).getGroupName())) {
                 //student does not exist
                 throw new CommandException(MESSAGE_STUDENT_EMPTY);
             }
@@ -10,6 +10,8 @@ import static team.serenity.logic.parser.CliSyntax.PREFIX_ADD_SCORE;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -24,12 +26,11 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 public class AddScoreCommand extends Command {
     public static final String COMMAND_WORD = "addscore";
     public static final String MESSAGE_SUCCESS = "%s: \nUpdated Participation Score: %d";
+    public static final String MESSAGE_MANY_SUCCESS = "Updated Participation Score of %1$d students:\n%2$s";
     public static final String MESSAGE_STUDENT_NOT_PRESENT = "%s is not present.\n"
         + "Please ensure student is present before adding score!";
     public static final String MESSAGE_SCORE_NOT_WITHIN_RANGE = "Updated score should be within range of 0 to 5";
@@ -39,15 +40,15 @@ public class AddScoreCommand extends Command {
         + "Parameters (2 methods):\n"
         + "1. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER "
         + PREFIX_ADD_SCORE + "SCORE_TO_ADD (must be an integer from 0 to 5)\n"
-        + "2. INDEX (must be a positive integer) "
+        + "2. INDEXES (positive integers, separated by commas, or ranges such as 1-3) "
         + PREFIX_ADD_SCORE + "SCORE_TO_ADD (must be an integer from 0 to 5)\n"
         + "Examples:\n"
         + "1. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A "
         + PREFIX_ADD_SCORE + "2\n"
-        + "2. " + COMMAND_WORD + " 1 " + PREFIX_ADD_SCORE + "2\n";
+        + "2. " + COMMAND_WORD + " 1,3 " + PREFIX_ADD_SCORE + "2\n";
 
     private Optional<Student> toAddScore;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private int score;
     private int scoreToAdd;
@@ -62,7 +63,7 @@ public class AddScoreCommand extends Command {
         // Specified student to add participation score
         this.toAddScore = Optional.ofNullable(student);
         this.scoreToAdd = scoreToAdd;
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -70,10 +71,18 @@ public class AddScoreCommand extends Command {
      * Creates an AddScoreCommand to increase the specified {@code Student}'s participation score by index.
      */
     public AddScoreCommand(Index index, int scoreToAdd) {
-        requireNonNull(index);
+        this(List.of(index), scoreToAdd);
+    }
+
+    /**
+     * Creates an AddScoreCommand to increase the specified {@code Student}'s participation score by a list of indices.
+     */
+    public AddScoreCommand(List<Index> indices, int scoreToAdd) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
         requireNonNull(scoreToAdd);
-        // Specified index of student to add participation score
-        this.index = Optional.ofNullable(index);
+        // Specified indices of students to add participation score
+        this.indices = List.copyOf(indices);
         this.toAddScore = Optional.empty();
         this.scoreToAdd = scoreToAdd;
         this.isByIndex = true;
@@ -95,29 +104,45 @@ public class AddScoreCommand extends Command {
         Lesson uniqueLesson = model.getFilteredLessonList().get(0);
         GroupLessonKey key = new GroupLessonKey(uniqueGroup.getGroupName(), uniqueLesson.getLessonName());
         ObservableList<StudentInfo> currentStudentInfoList = model.getObservableListOfStudentsInfoFromKey(key);
+
+        // Add to the participation score of several students by index
+        if (this.indices.size() > 1) {
+            return executeAddScoreManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
+        }
+
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
 
-        return executeAddScoreOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeAddScoreOneStudent(model, key, targetStudentInfo);
     }
 
     /**
      * Executes the  add one student's participation score command and returns the result message.
      */
-    private CommandResult executeAddScoreOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-        ObservableList<StudentInfo> currentStudentInfoList,
-        StudentInfo targetStudentInfo) throws CommandException {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForAddScoreOneStudent =
-            getUpdatedListForAddScoreOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForAddScoreOneStudent);
-        lesson.setStudentsInfo(updatedListForAddScoreOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeAddScoreOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo)
+        throws CommandException {
+        Participation updatedParticipation = getUpdatedParticipation(targetStudentInfo);
+
+        // Updates the participation of the targetStudentInfo in place
+        model.updateParticipation(key, targetStudentInfo.getStudent().getStudentNo(), updatedParticipation);
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent(), newScore));
     }
 
+    /**
+     * Executes the add several students' participation score command and returns the result message.
+     * Nothing is updated unless every student can be updated, and all the students are updated in a single change.
+     */
+    private CommandResult executeAddScoreManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) throws CommandException {
+        List<StudentInfo> updatedStudentsInfo = new ArrayList<>(targetStudentsInfo.size());
+        for (StudentInfo targetStudentInfo : targetStudentsInfo) {
+            updatedStudentsInfo.add(targetStudentInfo.updateParticipation(getUpdatedParticipation(targetStudentInfo)));
+        }
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listScores(updatedStudentsInfo)));
+    }
+
     /**
      * Returns the {@code targetStudentInfo} object in the {@code currentStudentInfoList}.
      */
@@ -125,11 +150,11 @@ public class AddScoreCommand extends Command {
         throws CommandException {
         if (this.isByIndex) {
             // Add Score by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
-            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || index.get().getOneBased() == 0) {
+            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
                 throw new CommandException(
                     String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, targetIndex.getOneBased()));
             }
@@ -151,15 +176,12 @@ public class AddScoreCommand extends Command {
     }
 
     /**
-     * Add score to the given {@code targetStudentInfo}'s {@code Participation} field
-     * in the {@code currentStudentInfoList}.
-     * Returns the {@code updatedStudentInfoList}.
+     * Add score to the given {@code targetStudentInfo}'s {@code Participation} field.
+     * Returns the updated {@code Participation}.
      *
-     * @param currentStudentInfoList the current student info list.
      * @param targetStudentInfo the target student info to add score.
      */
-    private UniqueList<StudentInfo> getUpdatedListForAddScoreOneStudent(
-        ObservableList<StudentInfo> currentStudentInfoList, StudentInfo targetStudentInfo) throws CommandException {
+    private Participation getUpdatedParticipation(StudentInfo targetStudentInfo) throws CommandException {
         if (!targetStudentInfo.getAttendance().isPresent()) {
             throw new CommandException(String.format(MESSAGE_STUDENT_NOT_PRESENT, targetStudentInfo.getStudent()));
         }
@@ -168,12 +190,7 @@ public class AddScoreCommand extends Command {
         if (newScore > 5 || newScore < 0) {
             throw new CommandException(String.format(MESSAGE_ADDED_SCORE_NOT_WITHIN_RANGE, scoreToAdd, newScore));
         }
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-            new Participation().setNewScore(newScore), targetStudentInfo.getAttendance());
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
+        return new Participation().setNewScore(newScore);
     }
 
     /**
@@ -186,7 +203,7 @@ public class AddScoreCommand extends Command {
             || (other instanceof AddScoreCommand // instanceof handles nulls
             && this.scoreToAdd == ((AddScoreCommand) other).scoreToAdd)
             && this.toAddScore.equals(((AddScoreCommand) other).toAddScore)
-            && this.index.equals(((AddScoreCommand) other).index)
+            && this.indices.equals(((AddScoreCommand) other).indices)
             && this.isByIndex == (((AddScoreCommand) other).isByIndex);
     }
 }
@@ -9,6 +9,8 @@ import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_SET_SCORE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -23,13 +25,12 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 public class EditScoreCommand extends Command {
 
     public static final String COMMAND_WORD = "editscore";
     public static final String MESSAGE_SUCCESS = "%s: \nUpdated Participation Score: %d";
+    public static final String MESSAGE_MANY_SUCCESS = "Updated Participation Score of %1$d students:\n%2$s";
     public static final String MESSAGE_STUDENT_NOT_PRESENT =
             "%s is not present. \nPlease ensure student is present before giving a score!";
 
@@ -39,7 +40,7 @@ public class EditScoreCommand extends Command {
             + "Parameters (2 methods):\n"
             + "1. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER "
                     + PREFIX_SET_SCORE + "SCORE (must be an integer from 0 to 5)\n"
-            + "2. INDEX (must be a positive integer) "
+            + "2. INDEXES (positive integers, separated by commas, or ranges such as 1-3) "
                     + PREFIX_SET_SCORE + "SCORE (must be an integer from 0 to 5)\n"
             + "Examples:\n"
             + "1. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A "
@@ -47,7 +48,7 @@ public class EditScoreCommand extends Command {
             + "2. " + COMMAND_WORD + " 1 " + PREFIX_SET_SCORE + "2\n";
 
     private Optional<Student> toSetScore;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private int scoreToSet;
 
@@ -60,7 +61,7 @@ public class EditScoreCommand extends Command {
         // Specified student to set participation score
         this.toSetScore = Optional.ofNullable(student);
         this.scoreToSet = scoreToSet;
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -68,10 +69,18 @@ public class EditScoreCommand extends Command {
      * Creates an SetScoreCommand to set the specified {@code Student}'s participation score by index.
      */
     public EditScoreCommand(Index index, int scoreToSet) {
-        requireNonNull(index);
+        this(List.of(index), scoreToSet);
+    }
+
+    /**
+     * Creates an SetScoreCommand to set the specified {@code Student}'s participation score by a list of indices.
+     */
+    public EditScoreCommand(List<Index> indices, int scoreToSet) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
         requireNonNull(scoreToSet);
-        // Specified index of student to set participation score
-        this.index = Optional.ofNullable(index);
+        // Specified indices of students to set participation score
+        this.indices = List.copyOf(indices);
         this.toSetScore = Optional.empty();
         this.scoreToSet = scoreToSet;
         this.isByIndex = true;
@@ -94,29 +103,51 @@ public class EditScoreCommand extends Command {
         Lesson uniqueLesson = model.getFilteredLessonList().get(0);
         GroupLessonKey key = new GroupLessonKey(uniqueGroup.getGroupName(), uniqueLesson.getLessonName());
         ObservableList<StudentInfo> currentStudentInfoList = model.getObservableListOfStudentsInfoFromKey(key);
+
+        // Set the participation score of several students by index
+        if (this.indices.size() > 1) {
+            return executeSetScoreManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
+        }
+
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
 
-        return executeSetScoreOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeSetScoreOneStudent(model, key, targetStudentInfo);
     }
 
     /**
-     * Executes the set one student's score command and returns the result message.
+     * Executes the set one student's participation score command and returns the result message.
      */
-    private CommandResult executeSetScoreOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-                                                ObservableList<StudentInfo> currentStudentInfoList,
-                                                StudentInfo targetStudentInfo) throws CommandException {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForSetScoreOneStudent =
-                getUpdatedListForSetScoreOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForSetScoreOneStudent);
-        lesson.setStudentsInfo(updatedListForSetScoreOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeSetScoreOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo)
+            throws CommandException {
+        if (!targetStudentInfo.getAttendance().isPresent()) {
+            throw new CommandException(String.format(MESSAGE_STUDENT_NOT_PRESENT, targetStudentInfo.getStudent()));
+        }
+
+        // Updates the participation of the targetStudentInfo in place
+        model.updateParticipation(key, targetStudentInfo.getStudent().getStudentNo(),
+                new Participation().setNewScore(scoreToSet));
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent(), scoreToSet));
     }
 
+    /**
+     * Executes the set several students' participation score command and returns the result message.
+     * Nothing is updated unless every student can be updated, and all the students are updated in a single change.
+     */
+    private CommandResult executeSetScoreManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) throws CommandException {
+        List<StudentInfo> updatedStudentsInfo = new ArrayList<>(targetStudentsInfo.size());
+        for (StudentInfo targetStudentInfo : targetStudentsInfo) {
+            if (!targetStudentInfo.getAttendance().isPresent()) {
+                throw new CommandException(String.format(MESSAGE_STUDENT_NOT_PRESENT, targetStudentInfo.getStudent()));
+            }
+            updatedStudentsInfo.add(targetStudentInfo.updateParticipation(new Participation().setNewScore(scoreToSet)));
+        }
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listScores(updatedStudentsInfo)));
+    }
+
     /**
      * Returns the {@code targetStudentInfo} object in the {@code currentStudentInfoList}.
      */
@@ -124,11 +155,11 @@ public class EditScoreCommand extends Command {
             throws CommandException {
         if (this.isByIndex) {
             // Set Score by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
-            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || index.get().getOneBased() == 0) {
+            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
                 throw new CommandException(
                         String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, targetIndex.getOneBased()));
             }
@@ -149,34 +180,13 @@ public class EditScoreCommand extends Command {
         return optionalStudentInfo.get();
     }
 
-    /**
-     * Sets the given {@code targetStudentInfo}'s {@code Participation} field
-     * in the {@code currentStudentInfoList} with a score.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     * @param targetStudentInfo the target student info to set score.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForSetScoreOneStudent(
-            ObservableList<StudentInfo> currentStudentInfoList, StudentInfo targetStudentInfo) throws CommandException {
-        if (!targetStudentInfo.getAttendance().isPresent()) {
-            throw new CommandException(String.format(MESSAGE_STUDENT_NOT_PRESENT, targetStudentInfo.getStudent()));
-        }
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-                new Participation().setNewScore(scoreToSet), targetStudentInfo.getAttendance());
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EditScoreCommand // instanceof handles nulls
                 && this.scoreToSet == ((EditScoreCommand) other).scoreToSet)
                 && this.toSetScore.equals(((EditScoreCommand) other).toSetScore)
-                && this.index.equals(((EditScoreCommand) other).index)
+                && this.indices.equals(((EditScoreCommand) other).indices)
                 && this.isByIndex == (((EditScoreCommand) other).isByIndex);
     }
 
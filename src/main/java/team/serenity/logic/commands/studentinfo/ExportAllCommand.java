@@ -0,0 +1,64 @@
+package team.serenity.logic.commands.studentinfo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import team.serenity.commons.util.ExportSummary;
+import team.serenity.logic.commands.Command;
+import team.serenity.logic.commands.CommandResult;
+import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.model.Model;
+
+/**
+ * Exports the attendance and participation sheets of every tutorial group as XLSX files.
+ */
+public class ExportAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportall";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Exports the attendance and participation sheets of every tutorial group as new excel files.\n"
+        + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Attendance and participation sheets of every tutorial group "
+        + "have been exported.\n%d files (%d rows) written in %d ms.";
+    public static final String MESSAGE_FAILURE = "%d files written, %d could not be written: %s";
+
+    private final Path directory;
+
+    /**
+     * Creates an ExportAllCommand to export every group to the working directory.
+     */
+    public ExportAllCommand() {
+        this(Paths.get(""));
+    }
+
+    /**
+     * Creates an ExportAllCommand to export every group to {@code directory}.
+     */
+    public ExportAllCommand(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ExportSummary summary = model.exportAll(this.directory);
+        if (!summary.getFailedFileNames().isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, summary.getWorkbookCount(),
+                summary.getFailedFileNames().size(), String.join(", ", summary.getFailedFileNames())));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, summary.getWorkbookCount(), summary.getRowCount(),
+            summary.getElapsedMillis()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ExportAllCommand // instanceof handles nulls
+            && this.directory.equals(((ExportAllCommand) other).directory));
+    }
+
+}
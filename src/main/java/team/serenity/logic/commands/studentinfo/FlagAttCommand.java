@@ -8,7 +8,9 @@ import static team.serenity.commons.core.Messages.MESSAGE_STUDENT_NOT_FOUND;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import team.serenity.commons.core.index.Index;
@@ -22,8 +24,6 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Attendance;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 /**
  * Flags the attendance of a student in the class.
@@ -32,20 +32,22 @@ public class FlagAttCommand extends Command {
 
     public static final String COMMAND_WORD = "flagatt";
     public static final String MESSAGE_SUCCESS = "%s: \nAttendance is flagged!";
+    public static final String MESSAGE_MANY_SUCCESS = "Attendance of %1$d students is flagged:\n%2$s";
+    public static final String MESSAGE_STUDENT_NOT_ABSENT = "%s should be absent to be flagged!";
     public static final String MESSAGE_FAILURE = "Student should be absent to be flagged!";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Flags the attendance of the specific student for a tutorial lesson.\n"
             + "Parameters (2 methods):\n"
             + "1. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER\n"
-            + "2. INDEX (must be a positive integer)\n"
+            + "2. INDEXES (positive integers, separated by commas, or ranges such as 1-3)\n"
             + "Examples:\n"
             + "1. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A\n"
             + "2. " + COMMAND_WORD + " 1";
 
 
     private Optional<Student> toFlagAtt;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private boolean isCorrectStudent;
 
@@ -56,7 +58,7 @@ public class FlagAttCommand extends Command {
         requireNonNull(student);
         // Specified student to flag attendance
         this.toFlagAtt = Optional.ofNullable(student);
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -64,9 +66,17 @@ public class FlagAttCommand extends Command {
      * Creates an FlagAttCommand to flag a specified {@code Student}'s attendance by index.
      */
     public FlagAttCommand(Index index) {
-        requireNonNull(index);
-        // Specified index of student to flag attendance
-        this.index = Optional.ofNullable(index);
+        this(List.of(index));
+    }
+
+    /**
+     * Creates an FlagAttCommand to flag a specified {@code Student}'s attendance by a list of indices.
+     */
+    public FlagAttCommand(List<Index> indices) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
+        // Specified indices of students to flag attendance
+        this.indices = List.copyOf(indices);
         this.toFlagAtt = Optional.empty();
         this.isByIndex = true;
     }
@@ -87,29 +97,52 @@ public class FlagAttCommand extends Command {
         Lesson uniqueLesson = model.getFilteredLessonList().get(0);
         GroupLessonKey key = new GroupLessonKey(uniqueGroup.getGroupName(), uniqueLesson.getLessonName());
         ObservableList<StudentInfo> currentStudentInfoList = model.getObservableListOfStudentsInfoFromKey(key);
+
+        // Flag the attendance of several students by index
+        if (this.indices.size() > 1) {
+            return executeFlagManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
+        }
+
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
 
-        return executeFlagOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeFlagOneStudent(model, key, targetStudentInfo);
     }
 
     /**
      * Executes the flag one student attendance command and returns the result message.
      */
-    private CommandResult executeFlagOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-                                                ObservableList<StudentInfo> currentStudentInfoList,
-                                                StudentInfo targetStudentInfo) throws CommandException {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForFlagOneStudent =
-                getUpdatedListForFlagOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForFlagOneStudent);
-        lesson.setStudentsInfo(updatedListForFlagOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeFlagOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo)
+            throws CommandException {
+        if (targetStudentInfo.getAttendance().isPresent()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        // Updates the attendance of the targetStudentInfo in place
+        model.updateAttendance(key, targetStudentInfo.getStudent().getStudentNo(), new Attendance(false, true));
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent()));
     }
 
+    /**
+     * Executes the flag several students attendance command and returns the result message.
+     * All the students are updated in a single change.
+     */
+    private CommandResult executeFlagManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) throws CommandException {
+        for (StudentInfo targetStudentInfo : targetStudentsInfo) {
+            if (targetStudentInfo.getAttendance().isPresent()) {
+                throw new CommandException(String.format(MESSAGE_STUDENT_NOT_ABSENT, targetStudentInfo.getStudent()));
+            }
+        }
+
+        List<StudentInfo> updatedStudentsInfo = targetStudentsInfo.stream()
+                .map(studentInfo -> studentInfo.updateAttendance(new Attendance(false, true)))
+                .collect(Collectors.toList());
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listStudents(updatedStudentsInfo)));
+    }
+
     /**
      * Returns the {@code targetStudentInfo} object in the {@code currentStudentInfoList}.
      */
@@ -117,11 +150,11 @@ public class FlagAttCommand extends Command {
             throws CommandException {
         if (this.isByIndex) {
             // Flag Attendance by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
-            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || index.get().getOneBased() == 0) {
+            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
                 throw new CommandException(
                         String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, targetIndex.getOneBased()));
             }
@@ -142,33 +175,12 @@ public class FlagAttCommand extends Command {
         return optionalStudentInfo.get();
     }
 
-    /**
-     * Sets the given {@code targetStudentInfo}'s {@code Attendance}'s {@code isFlagged} field
-     * in the {@code currentStudentInfoList} to {@code true}.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     * @param targetStudentInfo the target student info to flag attendance.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForFlagOneStudent(
-            ObservableList<StudentInfo> currentStudentInfoList, StudentInfo targetStudentInfo) throws CommandException {
-        if (targetStudentInfo.getAttendance().isPresent()) {
-            throw new CommandException(MESSAGE_FAILURE);
-        }
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-                targetStudentInfo.getParticipation(), new Attendance(false, true));
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FlagAttCommand // instanceof handles nulls
                 && this.toFlagAtt.equals(((FlagAttCommand) other).toFlagAtt)
-                && this.index.equals(((FlagAttCommand) other).index)
+                && this.indices.equals(((FlagAttCommand) other).indices)
                 && this.isCorrectStudent == ((FlagAttCommand) other).isCorrectStudent);
     }
 }
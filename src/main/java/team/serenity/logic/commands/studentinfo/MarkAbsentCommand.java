@@ -24,13 +24,12 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Attendance;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 public class MarkAbsentCommand extends Command {
 
     public static final String COMMAND_WORD = "markabsent";
     public static final String MESSAGE_SUCCESS = "%s: \nAttendance:  absent";
+    public static final String MESSAGE_MANY_SUCCESS = "Attendance of %1$d students marked absent:\n%2$s";
     public static final String MESSAGE_ALL_SUCCESS = "Attendance of all students marked absent!";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
@@ -38,14 +37,14 @@ public class MarkAbsentCommand extends Command {
             + "Parameters (3 methods):\n"
             + "1. all\n"
             + "2. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER\n"
-            + "3. INDEX (must be a positive integer)\n"
+            + "3. INDEXES (positive integers, separated by commas, or ranges such as 1-3)\n"
             + "Examples:\n"
             + "1. " + COMMAND_WORD + " " + "all\n"
             + "2. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A\n"
             + "3. " + COMMAND_WORD + " 1";
 
     private Optional<Student> toMarkAbsent;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private boolean isWholeClass;
     private boolean isCorrectStudent;
@@ -57,7 +56,7 @@ public class MarkAbsentCommand extends Command {
         // Mark all students absent
         this.isWholeClass = true;
         this.toMarkAbsent = Optional.empty();
-        this.index = Optional.empty();
+        this.indices = List.of();
     }
 
     /**
@@ -68,7 +67,7 @@ public class MarkAbsentCommand extends Command {
         this.isWholeClass = false;
         // Specified student to mark present
         this.toMarkAbsent = Optional.ofNullable(student);
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -76,10 +75,18 @@ public class MarkAbsentCommand extends Command {
      * Creates an MarkAbsentCommand to mark the specified {@code Student} absent by index.
      */
     public MarkAbsentCommand(Index index) {
-        requireNonNull(index);
+        this(List.of(index));
+    }
+
+    /**
+     * Creates an MarkAbsentCommand to mark the specified {@code Student} absent by a list of indices.
+     */
+    public MarkAbsentCommand(List<Index> indices) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
         this.isWholeClass = false;
-        // Specified index of student to mark present
-        this.index = Optional.ofNullable(index);
+        // Specified indices of students to mark present
+        this.indices = List.copyOf(indices);
         this.toMarkAbsent = Optional.empty();
         this.isByIndex = true;
     }
@@ -103,48 +110,52 @@ public class MarkAbsentCommand extends Command {
 
         // Mark all students absent
         if (this.isWholeClass) {
-            return executeMarkAll(model, key, uniqueLesson, currentStudentInfoList);
+            return executeMarkAll(model, key);
+        }
+
+        // Mark several students absent by index
+        if (this.indices.size() > 1) {
+            return executeMarkManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
         }
 
         // Mark one student absent
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
-        return executeMarkOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeMarkOneStudent(model, key, targetStudentInfo);
     }
 
     /**
      * Executes the mark all student absent command and returns the result message.
      */
-    private CommandResult executeMarkAll(Model model, GroupLessonKey key, Lesson lesson,
-                                         ObservableList<StudentInfo> currentStudentInfoList) {
-        // Gets the updated StudentInfoList with all the updated StudentsInfo
-        UniqueList<StudentInfo> updatedListForMarkAll = getUpdatedListForMarkAll(currentStudentInfoList);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForMarkAll);
-        lesson.setStudentsInfo(updatedListForMarkAll);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeMarkAll(Model model, GroupLessonKey key) {
+        // Sets the attendance of all the students of the lesson in place, as a single change
+        model.updateAttendanceOfAll(key, new Attendance(false));
         return new CommandResult(MESSAGE_ALL_SUCCESS);
     }
 
     /**
      * Executes the mark one student absent command and returns the result message.
      */
-    private CommandResult executeMarkOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-                                                ObservableList<StudentInfo> currentStudentInfoList,
-                                                StudentInfo targetStudentInfo) {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForMarkOneStudent =
-                getUpdatedListForMarkOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForMarkOneStudent);
-        lesson.setStudentsInfo(updatedListForMarkOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeMarkOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo) {
+        // Updates the attendance of the targetStudentInfo in place
+        model.updateAttendance(key, targetStudentInfo.getStudent().getStudentNo(), new Attendance(false));
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent()));
     }
 
+    /**
+     * Executes the mark several students absent command and returns the result message.
+     * All the students are updated in a single change.
+     */
+    private CommandResult executeMarkManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) {
+        List<StudentInfo> updatedStudentsInfo = targetStudentsInfo.stream()
+                .map(studentInfo -> studentInfo.updateAttendance(new Attendance(false)))
+                .collect(Collectors.toList());
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listStudents(updatedStudentsInfo)));
+    }
+
     /**
      * Returns the {@code targetStudentInfo} object in the {@code currentStudentInfoList}.
      */
@@ -152,8 +163,8 @@ public class MarkAbsentCommand extends Command {
             throws CommandException {
         if (this.isByIndex) {
             // Mark absent StudentInfo by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
             if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
@@ -178,47 +189,12 @@ public class MarkAbsentCommand extends Command {
         return optionalStudentInfo.get();
     }
 
-    /**
-     * Sets all {@code StudentInfo}'s {@code Attendance}'s {@code isPresent} field
-     * in the {@code currentStudentInfoList} to {@code false}.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForMarkAll(ObservableList<StudentInfo> currentStudentInfoList) {
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        List<StudentInfo> updatedStudentInfo = updatedList.stream()
-                .map(s -> new StudentInfo(s.getStudent(), s.getParticipation(), new Attendance(false)))
-                .collect(Collectors.toList());
-        updatedList.setElementsWithList(updatedStudentInfo);
-        return updatedList;
-    }
-
-    /**
-     * Sets the given {@code targetStudentInfo}'s {@code Attendance}'s {@code isPresent} field
-     * in the {@code currentStudentInfoList} to {@code false}.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     * @param targetStudentInfo the target student info to mark absent.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForMarkOneStudent(ObservableList<StudentInfo> currentStudentInfoList,
-                                                                    StudentInfo targetStudentInfo) {
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-                targetStudentInfo.getParticipation(), new Attendance(false));
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof MarkAbsentCommand // instanceof handles nulls
                 && this.toMarkAbsent.equals(((MarkAbsentCommand) other).toMarkAbsent)
-                && this.index.equals(((MarkAbsentCommand) other).index)
+                && this.indices.equals(((MarkAbsentCommand) other).indices)
                 && this.isCorrectStudent == ((MarkAbsentCommand) other).isCorrectStudent
                 && this.isWholeClass == ((MarkAbsentCommand) other).isWholeClass);
     }
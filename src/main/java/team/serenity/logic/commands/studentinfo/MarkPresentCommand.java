@@ -24,8 +24,6 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Attendance;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 /**
  * Marks the attendance of a class or a student in the class.
@@ -34,6 +32,7 @@ public class MarkPresentCommand extends Command {
 
     public static final String COMMAND_WORD = "markpresent";
     public static final String MESSAGE_SUCCESS = "%s: \nAttendance: present";
+    public static final String MESSAGE_MANY_SUCCESS = "Attendance of %1$d students marked present:\n%2$s";
     public static final String MESSAGE_ALL_SUCCESS = "Attendance of all students marked present!";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
@@ -41,14 +40,14 @@ public class MarkPresentCommand extends Command {
             + "Parameters (3 methods):\n"
             + "1. all\n"
             + "2. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER\n"
-            + "3. INDEX (must be a positive integer)\n"
+            + "3. INDEXES (positive integers, separated by commas, or ranges such as 1-3)\n"
             + "Examples:\n"
             + "1. " + COMMAND_WORD + " " + "all\n"
             + "2. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A\n"
-            + "3. " + COMMAND_WORD + " 1";
+            + "3. " + COMMAND_WORD + " 1-3,5";
 
     private Optional<Student> toMarkPresent;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private boolean isWholeClass;
 
@@ -59,7 +58,7 @@ public class MarkPresentCommand extends Command {
         // Mark all students present
         this.isWholeClass = true;
         this.toMarkPresent = Optional.empty();
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -71,7 +70,7 @@ public class MarkPresentCommand extends Command {
         this.isWholeClass = false;
         // Specified student to mark present
         this.toMarkPresent = Optional.ofNullable(student);
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -79,10 +78,18 @@ public class MarkPresentCommand extends Command {
      * Creates an MarkPresentCommand to mark the specified {@code Student} present by index.
      */
     public MarkPresentCommand(Index index) {
-        requireNonNull(index);
+        this(List.of(index));
+    }
+
+    /**
+     * Creates an MarkPresentCommand to mark the specified {@code Student} present by a list of indices.
+     */
+    public MarkPresentCommand(List<Index> indices) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
         this.isWholeClass = false;
-        // Specified index of student to mark present
-        this.index = Optional.ofNullable(index);
+        // Specified indices of students to mark present
+        this.indices = List.copyOf(indices);
         this.toMarkPresent = Optional.empty();
         this.isByIndex = true;
     }
@@ -106,48 +113,52 @@ public class MarkPresentCommand extends Command {
 
         // Mark all students present
         if (this.isWholeClass) {
-            return executeMarkAll(model, key, uniqueLesson, currentStudentInfoList);
+            return executeMarkAll(model, key);
+        }
+
+        // Mark several students present by index
+        if (this.indices.size() > 1) {
+            return executeMarkManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
         }
 
         // Mark one student present
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
-        return executeMarkOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeMarkOneStudent(model, key, targetStudentInfo);
     }
 
     /**
      * Executes the mark all student present command and returns the result message.
      */
-    private CommandResult executeMarkAll(Model model, GroupLessonKey key, Lesson lesson,
-                                         ObservableList<StudentInfo> currentStudentInfoList) {
-        // Gets the updated StudentInfoList with all the updated StudentsInfo
-        UniqueList<StudentInfo> updatedListForMarkAll = getUpdatedListForMarkAll(currentStudentInfoList);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForMarkAll);
-        lesson.setStudentsInfo(updatedListForMarkAll);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeMarkAll(Model model, GroupLessonKey key) {
+        // Sets the attendance of all the students of the lesson in place, as a single change
+        model.updateAttendanceOfAll(key, new Attendance(true));
         return new CommandResult(MESSAGE_ALL_SUCCESS);
     }
 
     /**
      * Executes the mark one student present command and returns the result message.
      */
-    private CommandResult executeMarkOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-                                                ObservableList<StudentInfo> currentStudentInfoList,
-                                                StudentInfo targetStudentInfo) {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForMarkOneStudent =
-                getUpdatedListForMarkOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForMarkOneStudent);
-        lesson.setStudentsInfo(updatedListForMarkOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeMarkOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo) {
+        // Updates the attendance of the targetStudentInfo in place
+        model.updateAttendance(key, targetStudentInfo.getStudent().getStudentNo(), new Attendance(true));
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent()));
     }
 
+    /**
+     * Executes the mark several students present command and returns the result message.
+     * All the students are updated in a single change.
+     */
+    private CommandResult executeMarkManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) {
+        List<StudentInfo> updatedStudentsInfo = targetStudentsInfo.stream()
+                .map(studentInfo -> studentInfo.updateAttendance(new Attendance(true)))
+                .collect(Collectors.toList());
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listStudents(updatedStudentsInfo)));
+    }
+
     /**
      * Returns the {@code targetStudentInfo} object in the {@code currentStudentInfoList}.
      */
@@ -155,11 +166,11 @@ public class MarkPresentCommand extends Command {
             throws CommandException {
         if (this.isByIndex) {
             // Mark present by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
-            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || index.get().getOneBased() == 0) {
+            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
                 throw new CommandException(
                         String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, targetIndex.getOneBased()));
             }
@@ -181,47 +192,12 @@ public class MarkPresentCommand extends Command {
         return optionalStudentInfo.get();
     }
 
-    /**
-     * Sets all {@code StudentInfo}'s {@code Attendance}'s {@code isPresent} field
-     * in the {@code currentStudentInfoList} to {@code true}.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForMarkAll(ObservableList<StudentInfo> currentStudentInfoList) {
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        List<StudentInfo> updatedStudentInfo = updatedList.stream()
-                .map(s -> new StudentInfo(s.getStudent(), s.getParticipation(), new Attendance(true)))
-                .collect(Collectors.toList());
-        updatedList.setElementsWithList(updatedStudentInfo);
-        return updatedList;
-    }
-
-    /**
-     * Sets the given {@code targetStudentInfo}'s {@code Attendance}'s {@code isPresent} field
-     * in the {@code currentStudentInfoList} to {@code true}.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     * @param targetStudentInfo the target student info to mark present.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForMarkOneStudent(ObservableList<StudentInfo> currentStudentInfoList,
-                                                                    StudentInfo targetStudentInfo) {
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-                targetStudentInfo.getParticipation(), new Attendance(true));
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof MarkPresentCommand // instanceof handles nulls
                 && this.toMarkPresent.equals(((MarkPresentCommand) other).toMarkPresent)
-                && this.index.equals(((MarkPresentCommand) other).index)
+                && this.indices.equals(((MarkPresentCommand) other).indices)
                 && this.isByIndex == (((MarkPresentCommand) other).isByIndex)
                 && this.isWholeClass == ((MarkPresentCommand) other).isWholeClass);
     }
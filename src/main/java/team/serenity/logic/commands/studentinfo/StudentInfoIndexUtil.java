@@ -0,0 +1,58 @@
+package team.serenity.logic.commands.studentinfo;
+
+import static java.util.Objects.requireNonNull;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import team.serenity.commons.core.index.Index;
+import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.model.group.studentinfo.StudentInfo;
+
+/**
+ * Contains utility methods used by the commands that act on several students by their index
+ * in the displayed list of students info.
+ */
+final class StudentInfoIndexUtil {
+
+    private StudentInfoIndexUtil() {
+    }
+
+    /**
+     * Returns the students info at {@code indices} of {@code studentsInfo}, in the order of {@code indices}.
+     *
+     * @throws CommandException if any of the indices is out of range.
+     */
+    static List<StudentInfo> getStudentsInfoAt(List<Index> indices, List<StudentInfo> studentsInfo)
+            throws CommandException {
+        requireNonNull(indices);
+        requireNonNull(studentsInfo);
+        List<StudentInfo> targetStudentsInfo = new ArrayList<>(indices.size());
+        for (Index index : indices) {
+            if (index.getZeroBased() >= studentsInfo.size()) {
+                throw new CommandException(String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, index.getOneBased()));
+            }
+            targetStudentsInfo.add(studentsInfo.get(index.getZeroBased()));
+        }
+        return targetStudentsInfo;
+    }
+
+    /**
+     * Returns the students of {@code studentsInfo}, one per line.
+     */
+    static String listStudents(List<StudentInfo> studentsInfo) {
+        return studentsInfo.stream().map(studentInfo -> studentInfo.getStudent().toString())
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Returns the students of {@code studentsInfo} with their participation scores, one per line.
+     */
+    static String listScores(List<StudentInfo> studentsInfo) {
+        return studentsInfo.stream().map(studentInfo -> studentInfo.getStudent() + ": "
+                + studentInfo.getParticipation().getScore()).collect(Collectors.joining("\n"));
+    }
+
+}
@@ -10,6 +10,8 @@ import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_SUBTRACT_SCORE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -24,12 +26,11 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 public class SubScoreCommand extends Command {
     public static final String COMMAND_WORD = "subscore";
     public static final String MESSAGE_SUCCESS = "%s: \nUpdated Participation Score: %d";
+    public static final String MESSAGE_MANY_SUCCESS = "Updated Participation Score of %1$d students:\n%2$s";
     public static final String MESSAGE_STUDENT_NOT_PRESENT =
             "%s is not present. \nPlease ensure student is present before subtracting score!";
 
@@ -38,7 +39,7 @@ public class SubScoreCommand extends Command {
             + "Parameters (2 methods):\n"
             + "1. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER "
                     + PREFIX_SUBTRACT_SCORE + "SCORE_TO_SUBTRACT (must be an integer from 0 to 5)\n"
-            + "2. INDEX (must be a positive integer) "
+            + "2. INDEXES (positive integers, separated by commas, or ranges such as 1-3) "
                     + PREFIX_SUBTRACT_SCORE + "SCORE_TO_SUBTRACT (must be an integer from 0 to 5)\n"
             + "Examples:\n"
             + "1. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A "
@@ -46,7 +47,7 @@ public class SubScoreCommand extends Command {
             + "2. " + COMMAND_WORD + " 1 " + PREFIX_SUBTRACT_SCORE + "2\n";
 
     private Optional<Student> toSubScore;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private int score;
     private int scoreToSub;
@@ -61,7 +62,7 @@ public class SubScoreCommand extends Command {
         // Specified student to decrease participation score
         this.toSubScore = Optional.ofNullable(student);
         this.scoreToSub = scoreToSub;
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -69,10 +70,18 @@ public class SubScoreCommand extends Command {
      * Creates an SubScoreCommand to decrease the specified {@code Student}'s participation score by index.
      */
     public SubScoreCommand(Index index, int scoreToSub) {
-        requireNonNull(index);
+        this(List.of(index), scoreToSub);
+    }
+
+    /**
+     * Creates an SubScoreCommand to decrease the specified {@code Student}'s participation score by a list of indices.
+     */
+    public SubScoreCommand(List<Index> indices, int scoreToSub) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
         requireNonNull(scoreToSub);
-        // Specified index of student to decrease participation score
-        this.index = Optional.ofNullable(index);
+        // Specified indices of students to decrease participation score
+        this.indices = List.copyOf(indices);
         this.toSubScore = Optional.empty();
         this.scoreToSub = scoreToSub;
         this.isByIndex = true;
@@ -94,39 +103,37 @@ public class SubScoreCommand extends Command {
         Lesson uniqueLesson = model.getFilteredLessonList().get(0);
         GroupLessonKey key = new GroupLessonKey(uniqueGroup.getGroupName(), uniqueLesson.getLessonName());
         ObservableList<StudentInfo> currentStudentInfoList = model.getObservableListOfStudentsInfoFromKey(key);
+
+        // Subtract from the participation score of several students by index
+        if (this.indices.size() > 1) {
+            return executeSubScoreManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
+        }
+
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
 
-        return executeSubScoreOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeSubScoreOneStudent(model, key, targetStudentInfo);
     }
 
     /**
-     * Executes the  subtract one student's participation score command and returns the result message.
+     * Executes the subtract one student's participation score command and returns the result message.
      */
-    private CommandResult executeSubScoreOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-                                                    ObservableList<StudentInfo> currentStudentInfoList,
-                                                    StudentInfo targetStudentInfo) throws CommandException {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForSubScoreOneStudent =
-                getUpdatedListForSubScoreOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForSubScoreOneStudent);
-        lesson.setStudentsInfo(updatedListForSubScoreOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeSubScoreOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo)
+            throws CommandException {
+        Participation updatedParticipation = getUpdatedParticipation(targetStudentInfo);
+
+        // Updates the participation of the targetStudentInfo in place
+        model.updateParticipation(key, targetStudentInfo.getStudent().getStudentNo(), updatedParticipation);
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent(), newScore));
     }
 
     /**
-     * Subtract score from the given {@code targetStudentInfo}'s {@code Participation} field
-     * in the {@code currentStudentInfoList}.
-     * Returns the {@code updatedStudentInfoList}.
+     * Subtract score from the given {@code targetStudentInfo}'s {@code Participation} field.
+     * Returns the updated {@code Participation}.
      *
-     * @param currentStudentInfoList the current student info list.
-     * @param targetStudentInfo the target student info to add score.
+     * @param targetStudentInfo the target student info to subtract score.
      */
-    private UniqueList<StudentInfo> getUpdatedListForSubScoreOneStudent(
-            ObservableList<StudentInfo> currentStudentInfoList, StudentInfo targetStudentInfo) throws CommandException {
+    private Participation getUpdatedParticipation(StudentInfo targetStudentInfo) throws CommandException {
         if (!targetStudentInfo.getAttendance().isPresent()) {
             throw new CommandException(String.format(MESSAGE_STUDENT_NOT_PRESENT, targetStudentInfo.getStudent()));
         }
@@ -135,12 +142,22 @@ public class SubScoreCommand extends Command {
         if (newScore > 5 || newScore < 0) {
             throw new CommandException(String.format(MESSAGE_SUBTRACTED_SCORE_NOT_WITHIN_RANGE, scoreToSub, newScore));
         }
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-                new Participation().setNewScore(newScore), targetStudentInfo.getAttendance());
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
+        return new Participation().setNewScore(newScore);
+    }
+
+    /**
+     * Executes the subtract several students' participation score command and returns the result message.
+     * Nothing is updated unless every student can be updated, and all the students are updated in a single change.
+     */
+    private CommandResult executeSubScoreManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) throws CommandException {
+        List<StudentInfo> updatedStudentsInfo = new ArrayList<>(targetStudentsInfo.size());
+        for (StudentInfo targetStudentInfo : targetStudentsInfo) {
+            updatedStudentsInfo.add(targetStudentInfo.updateParticipation(getUpdatedParticipation(targetStudentInfo)));
+        }
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listScores(updatedStudentsInfo)));
     }
 
     /**
@@ -150,11 +167,11 @@ public class SubScoreCommand extends Command {
             throws CommandException {
         if (this.isByIndex) {
             // Sub Score by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
-            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || index.get().getOneBased() == 0) {
+            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
                 throw new CommandException(
                         String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, targetIndex.getOneBased()));
             }
@@ -181,7 +198,7 @@ public class SubScoreCommand extends Command {
                 || (other instanceof SubScoreCommand // instanceof handles nulls
                 && this.toSubScore.equals(((SubScoreCommand) other).toSubScore)
                 && this.scoreToSub == ((SubScoreCommand) other).scoreToSub)
-                && this.index.equals(((SubScoreCommand) other).index)
+                && this.indices.equals(((SubScoreCommand) other).indices)
                 && this.isByIndex == (((SubScoreCommand) other).isByIndex);
     }
 }
@@ -8,7 +8,9 @@ import static team.serenity.commons.core.Messages.MESSAGE_STUDENT_NOT_FOUND;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import team.serenity.commons.core.index.Index;
@@ -22,8 +24,6 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Attendance;
 import team.serenity.model.group.studentinfo.StudentInfo;
-import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 /**
  * Unflags the attendance of a student in the class.
@@ -31,19 +31,20 @@ import team.serenity.model.util.UniqueList;
 public class UnflagAttCommand extends Command {
     public static final String COMMAND_WORD = "unflagatt";
     public static final String MESSAGE_SUCCESS = "%s: \nAttendance is unflagged!";
+    public static final String MESSAGE_MANY_SUCCESS = "Attendance of %1$d students is unflagged:\n%2$s";
     public static final String MESSAGE_FAILURE = "Student has not been flagged.";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Unflags the attendance of the specific student for a tutorial lesson.\n"
             + "Parameters (2 methods):\n"
             + "1. " + PREFIX_NAME + "STUDENT_NAME " + PREFIX_MATRIC + "STUDENT_NUMBER\n"
-            + "2. INDEX (must be a positive integer)\n"
+            + "2. INDEXES (positive integers, separated by commas, or ranges such as 1-3)\n"
             + "Examples:\n"
             + "1. " + COMMAND_WORD + " " + PREFIX_NAME + "Aaron Tan " + PREFIX_MATRIC + "A0123456A\n"
             + "2. " + COMMAND_WORD + " 1";
 
     private Optional<Student> toUnflagAtt;
-    private Optional<Index> index;
+    private List<Index> indices;
     private boolean isByIndex;
     private boolean isCorrectStudent;
 
@@ -54,7 +55,7 @@ public class UnflagAttCommand extends Command {
         requireNonNull(student);
         // Specified student to flag attendance
         this.toUnflagAtt = Optional.ofNullable(student);
-        this.index = Optional.empty();
+        this.indices = List.of();
         this.isByIndex = false;
     }
 
@@ -62,9 +63,17 @@ public class UnflagAttCommand extends Command {
      * Creates an UnflagAttCommand to unflag a specified {@code Student}'s attendance by index.
      */
     public UnflagAttCommand(Index index) {
-        requireNonNull(index);
-        // Specified index of student to unflag attendance
-        this.index = Optional.ofNullable(index);
+        this(List.of(index));
+    }
+
+    /**
+     * Creates an UnflagAttCommand to unflag a specified {@code Student}'s attendance by a list of indices.
+     */
+    public UnflagAttCommand(List<Index> indices) {
+        requireNonNull(indices);
+        assert !indices.isEmpty();
+        // Specified indices of students to unflag attendance
+        this.indices = List.copyOf(indices);
         this.toUnflagAtt = Optional.empty();
         this.isByIndex = true;
     }
@@ -85,29 +94,41 @@ public class UnflagAttCommand extends Command {
         Lesson uniqueLesson = model.getFilteredLessonList().get(0);
         GroupLessonKey key = new GroupLessonKey(uniqueGroup.getGroupName(), uniqueLesson.getLessonName());
         ObservableList<StudentInfo> currentStudentInfoList = model.getObservableListOfStudentsInfoFromKey(key);
+
+        // Unflag the attendance of several students by index
+        if (this.indices.size() > 1) {
+            return executeUnflagManyStudents(model, key,
+                    StudentInfoIndexUtil.getStudentsInfoAt(this.indices, currentStudentInfoList));
+        }
+
         StudentInfo targetStudentInfo = getTargetStudentInfo(currentStudentInfoList);
 
-        return executeUnflagOneStudent(model, key, uniqueLesson, currentStudentInfoList, targetStudentInfo);
+        return executeUnflagOneStudent(model, key, targetStudentInfo);
     }
 
     /**
      * Executes the unflag one student attendance command and returns the result message.
      */
-    private CommandResult executeUnflagOneStudent(Model model, GroupLessonKey key, Lesson lesson,
-                                                ObservableList<StudentInfo> currentStudentInfoList,
-                                                StudentInfo targetStudentInfo) {
-        // Gets the updated StudentInfoList with the updated targetStudentInfo
-        UniqueList<StudentInfo> updatedListForUnflagOneStudent =
-                getUpdatedListForUnflagOneStudent(currentStudentInfoList, targetStudentInfo);
-
-        // Updates the modelManager and lesson object with the new StudentInfoList
-        model.setListOfStudentsInfoToGroupLessonKey(key, updatedListForUnflagOneStudent);
-        lesson.setStudentsInfo(updatedListForUnflagOneStudent);
-        model.updateLessonList();
-        model.updateStudentsInfoList();
+    private CommandResult executeUnflagOneStudent(Model model, GroupLessonKey key, StudentInfo targetStudentInfo) {
+        // Updates the attendance of the targetStudentInfo in place
+        model.updateAttendance(key, targetStudentInfo.getStudent().getStudentNo(), new Attendance(false, false));
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentInfo.getStudent()));
     }
 
+    /**
+     * Executes the unflag several students attendance command and returns the result message.
+     * All the students are updated in a single change.
+     */
+    private CommandResult executeUnflagManyStudents(Model model, GroupLessonKey key,
+            List<StudentInfo> targetStudentsInfo) {
+        List<StudentInfo> updatedStudentsInfo = targetStudentsInfo.stream()
+                .map(studentInfo -> studentInfo.updateAttendance(new Attendance(false, false)))
+                .collect(Collectors.toList());
+        model.updateStudentsInfo(key, updatedStudentsInfo);
+        return new CommandResult(String.format(MESSAGE_MANY_SUCCESS, updatedStudentsInfo.size(),
+                StudentInfoIndexUtil.listStudents(updatedStudentsInfo)));
+    }
+
     /**
      * Returns the {@code targetStudentInfo} object in the {@code currentStudentInfoList}.
      */
@@ -115,11 +136,11 @@ public class UnflagAttCommand extends Command {
             throws CommandException {
         if (this.isByIndex) {
             // Unflag Attendance by index
-            assert this.index.isPresent();
-            Index targetIndex = this.index.get();
+            assert this.indices.size() == 1;
+            Index targetIndex = this.indices.get(0);
 
             // Return error message if index is out of range
-            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || index.get().getOneBased() == 0) {
+            if (targetIndex.getZeroBased() >= currentStudentInfoList.size() || targetIndex.getOneBased() == 0) {
                 throw new CommandException(
                         String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, targetIndex.getOneBased()));
             }
@@ -140,30 +161,12 @@ public class UnflagAttCommand extends Command {
         return optionalStudentInfo.get();
     }
 
-    /**
-     * Sets the given {@code targetStudentInfo}'s {@code Attendance}'s {@code isFlagged} field
-     * in the {@code currentStudentInfoList} to {@code false}.
-     * Returns the {@code updatedStudentInfoList}.
-     *
-     * @param currentStudentInfoList the current student info list.
-     * @param targetStudentInfo the target student info to unflag attendance.
-     */
-    private UniqueList<StudentInfo> getUpdatedListForUnflagOneStudent(
-            ObservableList<StudentInfo> currentStudentInfoList, StudentInfo targetStudentInfo) {
-        UniqueList<StudentInfo> updatedList = new UniqueStudentInfoList();
-        updatedList.setElementsWithList(currentStudentInfoList);
-        StudentInfo updatedStudentInfo = new StudentInfo(targetStudentInfo.getStudent(),
-                targetStudentInfo.getParticipation(), new Attendance(false, false));
-        updatedList.setElement(targetStudentInfo, updatedStudentInfo);
-        return updatedList;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UnflagAttCommand // instanceof handles nulls
                 && this.toUnflagAtt.equals(((UnflagAttCommand) other).toUnflagAtt)
-                && this.index.equals(((UnflagAttCommand) other).index)
+                && this.indices.equals(((UnflagAttCommand) other).indices)
                 && this.isCorrectStudent == ((UnflagAttCommand) other).isCorrectStudent);
     }
 }
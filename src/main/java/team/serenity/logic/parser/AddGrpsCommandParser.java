@@ -0,0 +1,170 @@
+package team.serenity.logic.parser;
+
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
+import static team.serenity.logic.parser.CliSyntax.PREFIX_PATH;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import team.serenity.commons.util.XlsxUtil;
+import team.serenity.logic.commands.AddGrpsCommand;
+import team.serenity.logic.parser.exceptions.ParseException;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
+
+/**
+ * Parses input arguments and creates a new AddGrpsCommand object.
+ * The XLSX or CSV files of the groups are read in parallel.
+ */
+public class AddGrpsCommandParser implements Parser<AddGrpsCommand> {
+
+    public static final String MESSAGE_NO_FILES = "There are no .xlsx or .csv files at %s.";
+    public static final String MESSAGE_INVALID_FILE_NAME = "The tutorial group of %s cannot be told from its "
+        + "file name. The file name must end with the group name, e.g. CS2101_G01.xlsx.";
+    public static final String MESSAGE_INVALID_GROUP_FILE = "%s: %s";
+
+    private static final String XLSX_FILE_EXTENSION = ".xlsx";
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddGrpsCommand and
+     * returns an AddGrpsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddGrpsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PATH);
+
+        if (argMultimap.getValue(PREFIX_PATH).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddGrpsCommand.MESSAGE_USAGE));
+        }
+
+        String path = argMultimap.getValue(PREFIX_PATH).get().trim();
+        List<Path> files = findFiles(path);
+        if (files.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_NO_FILES, path));
+        }
+        return new AddGrpsCommand(readGroups(files));
+    }
+
+    /**
+     * Returns the XLSX and CSV files in the folder at {@code path}, or matching the file name pattern of {@code path},
+     * sorted by name.
+     */
+    private static List<Path> findFiles(String path) throws ParseException {
+        try {
+            Path directory;
+            String pattern;
+            int globIndex = indexOfGlob(path);
+            if (globIndex == -1 && Files.isDirectory(Paths.get(path))) {
+                directory = Paths.get(path);
+                pattern = "*.{xlsx,csv}";
+            } else {
+                int separatorIndex = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+                if (globIndex != -1 && separatorIndex > globIndex) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AddGrpsCommand.MESSAGE_USAGE));
+                }
+                directory = Paths.get(separatorIndex == -1 ? "" : path.substring(0, separatorIndex + 1));
+                pattern = path.substring(separatorIndex + 1);
+            }
+
+            List<Path> files = new ArrayList<>();
+            if (!Files.isDirectory(directory.toAbsolutePath())) {
+                return files;
+            }
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory.toAbsolutePath(), pattern)) {
+                for (Path entry : entries) {
+                    if (isRosterFile(entry.getFileName().toString()) && Files.isRegularFile(entry)) {
+                        files.add(directory.resolve(entry.getFileName()));
+                    }
+                }
+            }
+            files.sort(null);
+            return files;
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, e);
+        }
+    }
+
+    private static boolean isRosterFile(String fileName) {
+        return fileName.endsWith(XLSX_FILE_EXTENSION) || XlsxUtil.isCsvFile(fileName);
+    }
+
+    private static int indexOfGlob(String path) {
+        for (int i = 0; i < path.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(path.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a group from each of {@code files} in parallel, and returns the groups in the same order.
+     */
+    private static List<Group> readGroups(List<Path> files) throws ParseException {
+        int threadCount = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService readExecutor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "group-xlsx-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Group>> readGroups = new ArrayList<>();
+            for (Path file : files) {
+                readGroups.add(readExecutor.submit(() -> readGroup(file)));
+            }
+            List<Group> groups = new ArrayList<>();
+            for (Future<Group> readGroup : readGroups) {
+                groups.add(getGroup(readGroup));
+            }
+            return groups;
+        } finally {
+            readExecutor.shutdownNow();
+        }
+    }
+
+    private static Group readGroup(Path file) throws ParseException {
+        String fileName = file.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+        String groupName = baseName.substring(baseName.lastIndexOf('_') + 1).toUpperCase();
+        if (!GroupName.isValidName(groupName)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_NAME, fileName));
+        }
+
+        XlsxUtil grpExcelData = new XlsxUtil(file.toString());
+        try {
+            grpExcelData.checkValidityOfXlsx();
+        } catch (ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_GROUP_FILE, fileName, e.getMessage()), e);
+        }
+        return new Group(new GroupName(groupName), grpExcelData);
+    }
+
+    private static Group getGroup(Future<Group> readGroup) throws ParseException {
+        try {
+            return readGroup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            }
+            throw new ParseException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
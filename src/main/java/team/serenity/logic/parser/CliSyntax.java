@@ -15,5 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_SUBTRACT_SCORE = new Prefix("score/");
     public static final Prefix PREFIX_SET_SCORE = new Prefix("score/");
     public static final Prefix PREFIX_QN = new Prefix("qn/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
 }
@@ -3,10 +3,13 @@ package team.serenity.logic.parser;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static team.serenity.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import team.serenity.logic.commands.AddGrpCommand;
+import team.serenity.logic.commands.AddGrpsCommand;
 import team.serenity.logic.commands.Command;
 import team.serenity.logic.commands.DelGrpCommand;
 import team.serenity.logic.commands.ExitCommand;
@@ -22,11 +25,13 @@ import team.serenity.logic.commands.question.AddQnCommand;
 import team.serenity.logic.commands.question.DelQnCommand;
 import team.serenity.logic.commands.question.EditQnCommand;
 import team.serenity.logic.commands.question.FindQnCommand;
+import team.serenity.logic.commands.question.SimQnCommand;
 import team.serenity.logic.commands.question.ViewQnCommand;
 import team.serenity.logic.commands.student.AddStudentCommand;
 import team.serenity.logic.commands.student.DelStudentCommand;
 import team.serenity.logic.commands.studentinfo.AddScoreCommand;
 import team.serenity.logic.commands.studentinfo.EditScoreCommand;
+import team.serenity.logic.commands.studentinfo.ExportAllCommand;
 import team.serenity.logic.commands.studentinfo.ExportAttCommand;
 import team.serenity.logic.commands.studentinfo.ExportScoreCommand;
 import team.serenity.logic.commands.studentinfo.FlagAttCommand;
@@ -65,6 +70,23 @@ public class SerenityParser {
     private static final Pattern BASIC_COMMAND_FORMAT =
         Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * Used for separation of the commands in a batch, which are given on separate lines.
+     */
+    private static final Pattern LINE_SEPARATOR = Pattern.compile("\\R");
+
+    /**
+     * Splits user input into the commands of a batch, one per line, in the order they are given.
+     * Only line breaks end a command, since they cannot appear within the arguments of any command,
+     * e.g. the description of a question. The text of each command is kept exactly as typed, including blank lines.
+     *
+     * @param userInput full user input string
+     * @return the text of each command in the batch
+     */
+    public static List<String> splitCommands(String userInput) {
+        return Arrays.asList(LINE_SEPARATOR.split(userInput, -1));
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -86,6 +108,9 @@ public class SerenityParser {
         case AddGrpCommand.COMMAND_WORD:
             return new AddGrpCommandParser().parse(arguments);
 
+        case AddGrpsCommand.COMMAND_WORD:
+            return new AddGrpsCommandParser().parse(arguments);
+
         case AddLsnCommand.COMMAND_WORD:
             return new AddLsnCommandParser().parse(arguments);
 
@@ -128,6 +153,9 @@ public class SerenityParser {
         case ExportScoreCommand.COMMAND_WORD:
             return new ExportScoreCommandParser().parse(arguments);
 
+        case ExportAllCommand.COMMAND_WORD:
+            return new ExportAllCommand();
+
         case ViewGrpCommand.COMMAND_WORD:
             return new ViewGrpCommandParser().parse(arguments);
 
@@ -160,6 +188,9 @@ public class SerenityParser {
         case ViewQnCommand.COMMAND_WORD:
             return new ViewQnCommand();
 
+        case SimQnCommand.COMMAND_WORD:
+            return new SimQnCommand();
+
         // ========================== Util Commands =========================
 
         case ExitCommand.COMMAND_WORD:
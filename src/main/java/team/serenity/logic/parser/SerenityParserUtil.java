@@ -4,6 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_FILE_NON_XLSX;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_INDEX;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_INDEX_RANGE;
+import static team.serenity.commons.core.Messages.MESSAGE_TOO_MANY_INDICES;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
 
@@ -24,6 +31,12 @@ import team.serenity.model.group.studentinfo.Participation;
  */
 public class SerenityParserUtil {
 
+    /** The most indices that {@link #parseIndices(String)} accepts at once. */
+    public static final int MAX_INDEX_COUNT = 1000;
+
+    private static final String INDEX_SEPARATOR = ",";
+    private static final String INDEX_RANGE_SEPARATOR = "-";
+
     /**
      * Parses a {@code String groupName} into a {@code GroupName}. Leading and trailing whitespaces will be trimmed.
      *
@@ -43,8 +56,8 @@ public class SerenityParserUtil {
     }
 
     /**
-     * Parses a {@code String filePath} into a {@code XlsxUtil} object. Leading and trailing whitespaces will be
-     * trimmed.
+     * Parses a {@code String filePath} of a XLSX or CSV file into a {@code XlsxUtil} object.
+     * Leading and trailing whitespaces will be trimmed.
      *
      * @throws ParseException if the given {@code filePath} is invalid.
      */
@@ -53,7 +66,7 @@ public class SerenityParserUtil {
         String trimmedFilePath = filePath.trim();
         if (trimmedFilePath.isEmpty()) {
             throw new ParseException(Messages.MESSAGE_FILE_PATH_EMPTY);
-        } else if (!filePath.trim().endsWith(".xlsx")) {
+        } else if (!filePath.trim().endsWith(".xlsx") && !XlsxUtil.isCsvFile(trimmedFilePath)) {
             throw new ParseException(MESSAGE_INVALID_FILE_NON_XLSX);
         }
         try {
@@ -158,4 +171,38 @@ public class SerenityParserUtil {
         }
         return Index.fromOneBased(index);
     }
+
+    /**
+     * Parses {@code oneBasedIndices}, a comma-separated list of indices and ranges such as {@code 1-12,15,18-20},
+     * into the {@code Index}es it lists, in the order they are first listed. Leading and trailing whitespaces
+     * around each index will be trimmed.
+     *
+     * @throws ParseException if any index is invalid, a range does not have exactly one start and one end,
+     *     a range ends before it starts, or more than {@link #MAX_INDEX_COUNT} indices are listed.
+     */
+    public static List<Index> parseIndices(String oneBasedIndices) throws ParseException {
+        requireNonNull(oneBasedIndices);
+        Set<Integer> indices = new LinkedHashSet<>();
+        for (String part : oneBasedIndices.split(INDEX_SEPARATOR, -1)) {
+            String[] bounds = part.split(INDEX_RANGE_SEPARATOR, -1);
+            if (bounds.length > 2) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+            }
+            int start = parseIndex(bounds[0]).getOneBased();
+            int end = bounds.length == 1 ? start : parseIndex(bounds[1]).getOneBased();
+            if (end < start) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+            }
+            if (end - start >= MAX_INDEX_COUNT) {
+                throw new ParseException(String.format(MESSAGE_TOO_MANY_INDICES, MAX_INDEX_COUNT));
+            }
+            for (int index = start; index <= end; index++) {
+                indices.add(index);
+            }
+            if (indices.size() > MAX_INDEX_COUNT) {
+                throw new ParseException(String.format(MESSAGE_TOO_MANY_INDICES, MAX_INDEX_COUNT));
+            }
+        }
+        return indices.stream().map(Index::fromOneBased).collect(Collectors.toList());
+    }
 }
@@ -1,10 +1,14 @@
 package team.serenity.logic.parser.question;
 
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static team.serenity.logic.parser.CliSyntax.PREFIX_TOP;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import team.serenity.logic.commands.question.FindQnCommand;
+import team.serenity.logic.parser.ArgumentMultimap;
+import team.serenity.logic.parser.ArgumentTokenizer;
 import team.serenity.logic.parser.Parser;
 import team.serenity.logic.parser.exceptions.ParseException;
 import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
@@ -12,6 +16,9 @@ import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
 /**
  * Finds and lists all questions whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Current support:
+ * findqn KEYWORD [MORE_KEYWORDS]...
+ * findqn KEYWORD [MORE_KEYWORDS]... top/LIMIT
  */
 public class FindQnCommandParser implements Parser<FindQnCommand> {
     /**
@@ -21,16 +28,29 @@ public class FindQnCommandParser implements Parser<FindQnCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindQnCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindQnCommand.MESSAGE_USAGE));
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        QuestionContainsKeywordPredicate predicate = new QuestionContainsKeywordPredicate(Arrays.asList(nameKeywords));
 
-        return new FindQnCommand(new QuestionContainsKeywordPredicate(Arrays.asList(nameKeywords)));
+        Optional<String> limit = argMultimap.getValue(PREFIX_TOP);
+        if (limit.isEmpty()) {
+            return new FindQnCommand(predicate);
+        }
+        try {
+            int parsedLimit = Integer.parseInt(limit.get().trim());
+            if (parsedLimit < 1) {
+                throw new NumberFormatException();
+            }
+            return new FindQnCommand(predicate, parsedLimit);
+        } catch (NumberFormatException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindQnCommand.MESSAGE_USAGE));
+        }
     }
 }
-
-
@@ -6,6 +6,7 @@ import static team.serenity.logic.parser.CliSyntax.PREFIX_ADD_SCORE;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -26,7 +27,7 @@ import team.serenity.model.group.studentinfo.Participation;
  * Parses input arguments and creates a new AddScoreCommand object.
  * Current support:
  * addscore name/NAME id/STUDENT_NUMBER add/SCORE_TO_ADD
- * addscore INDEX add/SCORE_TO_ADD
+ * addscore INDEXES (e.g. 1-12,15,18-20) add/SCORE_TO_ADD
  */
 public class AddScoreCommandParser implements Parser<AddScoreCommand> {
 
@@ -41,7 +42,7 @@ public class AddScoreCommandParser implements Parser<AddScoreCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput,
             PREFIX_NAME, PREFIX_MATRIC, PREFIX_ADD_SCORE);
 
-        Index index;
+        List<Index> indices;
         StudentName studentName;
         StudentNumber studentNumber;
         Optional<Student> student;
@@ -88,8 +89,8 @@ public class AddScoreCommandParser implements Parser<AddScoreCommand> {
             return new AddScoreCommand(student.get(), scoreToAdd);
         } else {
             try {
-                index = SerenityParserUtil.parseIndex(argMultimap.getPreamble());
-                return new AddScoreCommand(index, scoreToAdd);
+                indices = SerenityParserUtil.parseIndices(argMultimap.getPreamble());
+                return new AddScoreCommand(indices, scoreToAdd);
             } catch (NumberFormatException e) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddScoreCommand.MESSAGE_USAGE));
             }
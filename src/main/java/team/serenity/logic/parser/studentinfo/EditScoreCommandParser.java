@@ -6,6 +6,7 @@ import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_SET_SCORE;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -26,7 +27,7 @@ import team.serenity.model.group.studentinfo.Participation;
  * Parses input arguments and creates a new EditScoreCommand object.
  * Current support:
  * editscore name/NAME id/STUDENT_NUMBER score/SCORE
- * editscore INDEX score/SCORE
+ * editscore INDEXES (e.g. 1-12,15,18-20) score/SCORE
  */
 public class EditScoreCommandParser implements Parser<EditScoreCommand> {
 
@@ -41,7 +42,7 @@ public class EditScoreCommandParser implements Parser<EditScoreCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput,
             PREFIX_NAME, PREFIX_MATRIC, PREFIX_SET_SCORE);
 
-        Index index;
+        List<Index> indices;
         StudentName studentName;
         StudentNumber studentNumber;
         Optional<Student> student;
@@ -85,8 +86,8 @@ public class EditScoreCommandParser implements Parser<EditScoreCommand> {
             return new EditScoreCommand(student.get(), score);
         } else {
             try {
-                index = SerenityParserUtil.parseIndex(argMultimap.getPreamble());
-                return new EditScoreCommand(index, score);
+                indices = SerenityParserUtil.parseIndices(argMultimap.getPreamble());
+                return new EditScoreCommand(indices, score);
             } catch (NumberFormatException e) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditScoreCommand.MESSAGE_USAGE));
             }
@@ -4,6 +4,7 @@ import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.Optional;
 
 import team.serenity.commons.core.index.Index;
@@ -21,7 +22,7 @@ import team.serenity.model.group.student.StudentNumber;
  * Parses input arguments and creates a new FlagAttCommand object.
  * Current support:
  * flagatt name/NAME id/STUDENT_NUMBER
- * flagatt INDEX
+ * flagatt INDEXES (e.g. 1-12,15,18-20)
  */
 public class FlagAttCommandParser implements Parser<FlagAttCommand> {
 
@@ -37,7 +38,7 @@ public class FlagAttCommandParser implements Parser<FlagAttCommand> {
     public FlagAttCommand parse(String userInput) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_NAME, PREFIX_MATRIC);
 
-        Index index;
+        List<Index> indices;
         StudentName studentName;
         StudentNumber studentNumber;
         Optional<Student> student;
@@ -64,8 +65,8 @@ public class FlagAttCommandParser implements Parser<FlagAttCommand> {
                 return new FlagAttCommand(student.get());
 
             } else {
-                index = SerenityParserUtil.parseIndex(argMultimap.getPreamble());
-                return new FlagAttCommand(index);
+                indices = SerenityParserUtil.parseIndices(argMultimap.getPreamble());
+                return new FlagAttCommand(indices);
             }
         } catch (Exception e) {
             if (e instanceof ParseException) {
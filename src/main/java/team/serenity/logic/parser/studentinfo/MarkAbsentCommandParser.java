@@ -4,6 +4,7 @@ import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.Optional;
 
 import team.serenity.commons.core.index.Index;
@@ -22,7 +23,7 @@ import team.serenity.model.group.student.StudentNumber;
  * Current support:
  * markabsent name/NAME id/STUDENT_NUMBER
  * markabsent all
- * markabsent INDEX
+ * markabsent INDEXES (e.g. 1-12,15,18-20)
  */
 public class MarkAbsentCommandParser implements Parser<MarkAbsentCommand> {
 
@@ -38,7 +39,7 @@ public class MarkAbsentCommandParser implements Parser<MarkAbsentCommand> {
     public MarkAbsentCommand parse(String userInput) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_NAME, PREFIX_MATRIC);
 
-        Index index;
+        List<Index> indices;
         StudentName studentName;
         StudentNumber studentNumber;
         Optional<Student> student;
@@ -73,8 +74,8 @@ public class MarkAbsentCommandParser implements Parser<MarkAbsentCommand> {
                 return new MarkAbsentCommand();
 
             } else {
-                index = SerenityParserUtil.parseIndex(keyToAll.get());
-                return new MarkAbsentCommand(index);
+                indices = SerenityParserUtil.parseIndices(keyToAll.get());
+                return new MarkAbsentCommand(indices);
             }
 
         } catch (Exception e) {
@@ -7,6 +7,7 @@ import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_SUBTRACT_SCORE;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -27,7 +28,7 @@ import team.serenity.model.group.studentinfo.Participation;
  * Parses input arguments and creates a new SubScoreCommand object.
  * Current support:
  * subscore name/NAME id/STUDENT_NUMBER sub/SCORE_TO_SUBTRACT
- * subscore INDEX sub/SCORE_TO_SUBTRACT
+ * subscore INDEXES (e.g. 1-12,15,18-20) sub/SCORE_TO_SUBTRACT
  */
 public class SubScoreCommandParser implements Parser<SubScoreCommand> {
 
@@ -42,7 +43,7 @@ public class SubScoreCommandParser implements Parser<SubScoreCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput,
                 PREFIX_NAME, PREFIX_MATRIC, PREFIX_SUBTRACT_SCORE);
 
-        Index index;
+        List<Index> indices;
         StudentName studentName;
         StudentNumber studentNumber;
         Optional<Student> student;
@@ -90,8 +91,8 @@ public class SubScoreCommandParser implements Parser<SubScoreCommand> {
             return new SubScoreCommand(student.get(), scoreToSub);
         } else {
             try {
-                index = SerenityParserUtil.parseIndex(argMultimap.getPreamble());
-                return new SubScoreCommand(index, scoreToSub);
+                indices = SerenityParserUtil.parseIndices(argMultimap.getPreamble());
+                return new SubScoreCommand(indices, scoreToSub);
             } catch (NumberFormatException e) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SubScoreCommand.MESSAGE_USAGE));
             }
@@ -4,6 +4,7 @@ import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static team.serenity.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static team.serenity.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.Optional;
 
 import team.serenity.commons.core.index.Index;
@@ -21,7 +22,7 @@ import team.serenity.model.group.student.StudentNumber;
  * Parses input arguments and creates a new UnflagAttCommand object.
  * Current support:
  * unflagatt name/NAME id/STUDENT_NUMBER
- * unflagatt INDEX
+ * unflagatt INDEXES (e.g. 1-12,15,18-20)
  */
 public class UnflagAttCommandParser implements Parser<UnflagAttCommand> {
 
@@ -35,7 +36,7 @@ public class UnflagAttCommandParser implements Parser<UnflagAttCommand> {
     public UnflagAttCommand parse(String userInput) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_NAME, PREFIX_MATRIC);
 
-        Index index;
+        List<Index> indices;
         StudentName studentName;
         StudentNumber studentNumber;
         Optional<Student> student;
@@ -61,8 +62,8 @@ public class UnflagAttCommandParser implements Parser<UnflagAttCommand> {
 
                 return new UnflagAttCommand(student.get());
             } else {
-                index = SerenityParserUtil.parseIndex(argMultimap.getPreamble());
-                return new UnflagAttCommand(index);
+                indices = SerenityParserUtil.parseIndices(argMultimap.getPreamble());
+                return new UnflagAttCommand(indices);
             }
         } catch (Exception e) {
             if (e instanceof ParseException) {
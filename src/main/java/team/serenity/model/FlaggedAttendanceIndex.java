@@ -0,0 +1,93 @@
+package team.serenity.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.managers.GroupManager;
+
+/**
+ * An index of the students whose attendance is flagged, across all tutorial groups and lessons.
+ * The flagged students of each group are kept along with the modification count of the group when they were found,
+ * so that bringing the index up to date only looks again at the groups that changed since.
+ * The flagged students of a lesson are known without loading its attendance and participation,
+ * see {@link Lesson#getFlaggedStudentsInfo()}, so building the index does not load any lesson.
+ */
+public class FlaggedAttendanceIndex {
+
+    private final GroupManager groupManager;
+    private final Map<Group, IndexedGroup> indexedGroups = new IdentityHashMap<>();
+    private final ArrayObservableList<StudentInfo> flaggedStudentsInfo =
+            new ArrayObservableList<>(FXCollections.observableArrayList());
+    private long groupsModificationCount = -1;
+
+    /**
+     * Creates an index of the students whose attendance is flagged in the groups of {@code groupManager}.
+     */
+    public FlaggedAttendanceIndex(GroupManager groupManager) {
+        requireNonNull(groupManager);
+        this.groupManager = groupManager;
+        update();
+    }
+
+    /**
+     * Returns the information of the students whose attendance is flagged, group by group and lesson by lesson,
+     * after bringing the index up to date with the groups.
+     */
+    public ObservableList<StudentInfo> getFlaggedStudentsInfo() {
+        update();
+        return this.flaggedStudentsInfo;
+    }
+
+    /**
+     * Looks again at the groups that changed since the index was last brought up to date,
+     * and forgets the groups that were removed.
+     */
+    private void update() {
+        if (this.groupManager.getModificationCount() == this.groupsModificationCount) {
+            return;
+        }
+        Map<Group, IndexedGroup> updatedGroups = new IdentityHashMap<>();
+        List<StudentInfo> updatedStudentsInfo = new ArrayList<>();
+        for (Group group : this.groupManager.getListOfGroups()) {
+            long modificationCount = this.groupManager.getModificationCount(group);
+            IndexedGroup indexedGroup = this.indexedGroups.get(group);
+            if (indexedGroup == null || indexedGroup.modificationCount != modificationCount) {
+                indexedGroup = new IndexedGroup(group, modificationCount);
+            }
+            updatedGroups.put(group, indexedGroup);
+            updatedStudentsInfo.addAll(indexedGroup.flaggedStudentsInfo);
+        }
+        this.indexedGroups.clear();
+        this.indexedGroups.putAll(updatedGroups);
+        this.groupsModificationCount = this.groupManager.getModificationCount();
+        if (!updatedStudentsInfo.equals(this.flaggedStudentsInfo)) {
+            this.flaggedStudentsInfo.setAll(updatedStudentsInfo);
+        }
+    }
+
+    /**
+     * The students whose attendance is flagged in a group, as of the modification count they were found at.
+     */
+    private static class IndexedGroup {
+
+        private final long modificationCount;
+        private final List<StudentInfo> flaggedStudentsInfo = new ArrayList<>();
+
+        IndexedGroup(Group group, long modificationCount) {
+            this.modificationCount = modificationCount;
+            for (Lesson lesson : group.getLessons()) {
+                this.flaggedStudentsInfo.addAll(lesson.getFlaggedStudentsInfo());
+            }
+        }
+    }
+
+}
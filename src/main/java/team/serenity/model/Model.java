@@ -1,17 +1,25 @@
 package team.serenity.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import team.serenity.commons.core.GuiSettings;
+import team.serenity.commons.util.ExportSummary;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.GroupName;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.LessonName;
 import team.serenity.model.group.question.Question;
+import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
+import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.managers.GroupManager;
 import team.serenity.model.managers.ReadOnlyQuestionManager;
@@ -81,6 +89,22 @@ public interface Model {
      */
     Path getSerenityFilePath();
 
+    /**
+     * Starts a transaction, so that all the changes made to the groups and questions from now on
+     * can be undone together by {@link #rollbackTransaction()}.
+     */
+    void startTransaction();
+
+    /**
+     * Ends the current transaction and keeps all of its changes.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction and undoes all the changes made since it was started.
+     */
+    void rollbackTransaction();
+
     // ========== GroupManager ==========
 
     /**
@@ -125,6 +149,14 @@ public interface Model {
      */
     void exportParticipation(Group group);
 
+    /**
+     * Exports attendance and participation data of every group as XLSX files in {@code directory}.
+     *
+     * @param directory The directory to write the XLSX files to.
+     * @return A summary of the exported files.
+     */
+    ExportSummary exportAll(Path directory);
+
     /**
      * Returns true if a group with a GroupName that is the same as {@code toCheck} exists in the
      * GroupManager.
@@ -142,11 +174,12 @@ public interface Model {
     void updateFilteredGroupList(Predicate<Group> predicate);
 
     /**
-     * Get all student info objects from all groups.
+     * Returns the student info of the students whose attendance is flagged, from all groups and lessons.
+     * The attendance and participation of lessons that have not been loaded yet are not loaded for this.
      *
      * @return The observable list of StudentInfo.
      */
-    ObservableList<StudentInfo> getAllStudentInfo();
+    ObservableList<StudentInfo> getFlaggedStudentsInfo();
 
     // ========== LessonManager ==========
 
@@ -212,6 +245,14 @@ public interface Model {
      */
     boolean hasStudent(Student toCheck);
 
+    /**
+     * Returns the name of the group that the student with {@code studentNumber} is in.
+     *
+     * @param studentNumber the student number of the given student.
+     * @return the group name, or an empty Optional if the student is not in any group.
+     */
+    Optional<GroupName> getGroupNameOfStudent(StudentNumber studentNumber);
+
     /**
      * Removes a Student from a Group.
      *
@@ -257,6 +298,39 @@ public interface Model {
      */
     void setListOfStudentsInfoToGroupLessonKey(GroupLessonKey key, UniqueList<StudentInfo> newListOfStudentsInfo);
 
+    /**
+     * Replaces the attendance of the student with {@code studentNumber} in the lesson at {@code key}.
+     * Only the student info of that student is replaced, the rest of the list is left as it is.
+     * @param key the given target key.
+     * @param studentNumber the student number of the student to update.
+     * @param attendance the new attendance of the student.
+     */
+    void updateAttendance(GroupLessonKey key, StudentNumber studentNumber, Attendance attendance);
+
+    /**
+     * Sets the attendance of every student in the lesson at {@code key} to {@code attendance} as a single change.
+     * @param key the given target key.
+     * @param attendance the new attendance of the students.
+     */
+    void updateAttendanceOfAll(GroupLessonKey key, Attendance attendance);
+
+    /**
+     * Replaces the participation of the student with {@code studentNumber} in the lesson at {@code key}.
+     * Only the student info of that student is replaced, the rest of the list is left as it is.
+     * @param key the given target key.
+     * @param studentNumber the student number of the student to update.
+     * @param participation the new participation of the student.
+     */
+    void updateParticipation(GroupLessonKey key, StudentNumber studentNumber, Participation participation);
+
+    /**
+     * Replaces the student info of each student in {@code updatedStudentsInfo} in the lesson at {@code key}
+     * as a single change, leaving the rest of the list as it is.
+     * @param key the given target key.
+     * @param updatedStudentsInfo the updated student infos of students already in the lesson.
+     */
+    void updateStudentsInfo(GroupLessonKey key, List<StudentInfo> updatedStudentsInfo);
+
     /**
      * Updates the student info list to filter when changing to another lesson of interest.
      */
@@ -313,6 +387,22 @@ public interface Model {
      */
     void setQuestion(Question target, Question edited);
 
+    /**
+     * Returns the questions that are similar to {@code question} in any group and lesson,
+     * other than {@code question} itself, from the most to the least similar.
+     *
+     * @param question the question to compare with.
+     * @return The list of similar questions.
+     */
+    List<Question> getSimilarQuestions(Question question);
+
+    /**
+     * Returns the groups of questions that are similar to each other, across all groups and lessons.
+     *
+     * @return The list of groups, each with at least two questions.
+     */
+    List<List<Question>> getSimilarQuestionClusters();
+
     /**
      * Returns an unmodifiable view of the filtered question list
      *
@@ -327,4 +417,30 @@ public interface Model {
      */
     void updateFilteredQuestionList(Predicate<Question> predicate);
 
+    /**
+     * Updates the filter of the filtered question list to the questions matched by {@code predicate},
+     * which are looked up in the index of question descriptions instead of testing every question.
+     *
+     * @param predicate the keywords to find.
+     */
+    void findQuestions(QuestionContainsKeywordPredicate predicate);
+
+    /**
+     * Updates the filtered question list to the {@code limit} questions most relevant to the keywords of
+     * {@code predicate}, from the most to the least relevant.
+     * The order is kept until the filter of the list is next updated.
+     *
+     * @param predicate the keywords to find.
+     * @param limit the maximum number of questions to list.
+     */
+    void rankQuestions(QuestionContainsKeywordPredicate predicate, int limit);
+
+    /**
+     * Updates the filtered question list to the questions of the lesson of {@code predicate},
+     * which are looked up directly instead of testing every question.
+     *
+     * @param predicate the group and lesson of the questions to list.
+     */
+    void showLessonQuestions(QuestionFromGroupLessonPredicate predicate);
+
 }
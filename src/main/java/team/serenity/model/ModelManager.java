@@ -4,14 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import team.serenity.commons.core.GuiSettings;
 import team.serenity.commons.core.LogsCenter;
+import team.serenity.commons.util.ExportSummary;
 import team.serenity.commons.util.XlsxUtil;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupLessonKey;
@@ -20,8 +29,13 @@ import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.LessonName;
 import team.serenity.model.group.lesson.UniqueLessonList;
 import team.serenity.model.group.question.Question;
+import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
+import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
 import team.serenity.model.group.student.UniqueStudentList;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
 import team.serenity.model.managers.GroupManager;
@@ -52,11 +66,18 @@ public class ModelManager implements Model {
     private final QuestionManager questionManager;
 
     private final FilteredList<Group> filteredGroups;
+    private final FlaggedAttendanceIndex flaggedAttendanceIndex;
     private final ArrayObservableList<Student> students;
     private final ArrayObservableList<Lesson> lessons;
     private final FilteredList<Lesson> filteredLessons;
     private final ArrayObservableList<StudentInfo> studentsInfo;
+    private final SwitchableObservableList<Question> shownQuestions;
     private final FilteredList<Question> filteredQuestions;
+    private final SortedList<Question> sortedQuestions;
+
+    private Optional<GroupLessonKey> shownQuestionsLesson = Optional.empty();
+    private Transaction transaction;
+    private Map<Group, GroupCopy> rollbackCopies = new IdentityHashMap<>();
 
     /**
      * Initializes a ModelManager with the given serenity, userPrefs and Respective Managers.
@@ -79,11 +100,14 @@ public class ModelManager implements Model {
         this.questionManager = new QuestionManager(questionManager);
 
         this.filteredGroups = new FilteredList<>(this.groupManager.getListOfGroups());
+        this.flaggedAttendanceIndex = new FlaggedAttendanceIndex(this.groupManager);
         this.students = new ArrayObservableList<>(new UniqueStudentList().asUnmodifiableObservableList());
         this.lessons = new ArrayObservableList<>(new UniqueLessonList().asUnmodifiableObservableList());
         this.filteredLessons = new FilteredList<>(this.lessons);
         this.studentsInfo = new ArrayObservableList<>(new UniqueStudentInfoList().asUnmodifiableObservableList());
-        this.filteredQuestions = new FilteredList<>(this.questionManager.getListOfQuestions());
+        this.shownQuestions = new SwitchableObservableList<>(this.questionManager.getListOfQuestions());
+        this.filteredQuestions = new FilteredList<>(this.shownQuestions);
+        this.sortedQuestions = new SortedList<>(this.filteredQuestions);
     }
 
     /**
@@ -105,11 +129,14 @@ public class ModelManager implements Model {
         this.questionManager = new QuestionManager();
 
         this.filteredGroups = new FilteredList<>(this.groupManager.getListOfGroups());
+        this.flaggedAttendanceIndex = new FlaggedAttendanceIndex(this.groupManager);
         this.students = new ArrayObservableList<>(new UniqueStudentList().asUnmodifiableObservableList());
         this.lessons = new ArrayObservableList<>(new UniqueLessonList().asUnmodifiableObservableList());
         this.filteredLessons = new FilteredList<>(this.lessons);
         this.studentsInfo = new ArrayObservableList<>(new UniqueStudentInfoList().asUnmodifiableObservableList());
-        this.filteredQuestions = new FilteredList<>(this.questionManager.getListOfQuestions());
+        this.shownQuestions = new SwitchableObservableList<>(this.questionManager.getListOfQuestions());
+        this.filteredQuestions = new FilteredList<>(this.shownQuestions);
+        this.sortedQuestions = new SortedList<>(this.filteredQuestions);
     }
 
     public ModelManager() {
@@ -157,6 +184,77 @@ public class ModelManager implements Model {
         return this.userPrefs.getSerenityFilePath();
     }
 
+    @Override
+    public void startTransaction() {
+        assert this.transaction == null;
+        this.transaction = new Transaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        assert this.transaction != null;
+        this.transaction = null;
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        assert this.transaction != null;
+        Transaction rolledBack = this.transaction;
+        this.transaction = null;
+
+        if (this.groupManager.getModificationCount() != rolledBack.groupsModificationCount) {
+            this.rollbackCopies.clear();
+            // The copies are not used anywhere else, so they can become the groups of the model again
+            Serenity restored = new Serenity(rolledBack.groups);
+            this.groupManager.resetData(restored.getGroupManager());
+            this.studentManager.resetData(restored.getStudentManager());
+            this.lessonManager.resetData(restored.getLessonManager());
+            this.studentInfoManager.resetData(restored.getStudentInfoManager());
+        }
+        if (this.questionManager.getModificationCount() != rolledBack.questionsModificationCount) {
+            this.questionManager.setQuestions(rolledBack.questions);
+        }
+        showQuestionsOf(rolledBack.questionsLesson);
+
+        this.filteredGroups.setPredicate(rolledBack.groupPredicate);
+        this.filteredLessons.setPredicate(rolledBack.lessonPredicate);
+        this.filteredQuestions.setPredicate(rolledBack.questionPredicate);
+        this.sortedQuestions.setComparator(rolledBack.questionComparator);
+        this.students.clear();
+        this.lessons.clear();
+        this.studentsInfo.clear();
+        if (rolledBack.isShowingStudents) {
+            updateStudentsList();
+        }
+        if (rolledBack.isShowingLessons) {
+            updateLessonList();
+        }
+        if (rolledBack.isShowingStudentsInfo) {
+            updateStudentsInfoList();
+        }
+        logger.info("Rolled back transaction");
+    }
+
+    /**
+     * Returns copies of the groups of the model to roll back to. The copies made for earlier transactions are kept,
+     * and reused for the groups that have not changed since they were copied.
+     */
+    private List<Group> copyGroupsForRollback() {
+        Map<Group, GroupCopy> copies = new IdentityHashMap<>();
+        List<Group> groups = new ArrayList<>();
+        for (Group group : this.groupManager.getListOfGroups()) {
+            long modificationCount = this.groupManager.getModificationCount(group);
+            GroupCopy copy = this.rollbackCopies.get(group);
+            if (copy == null || copy.modificationCount != modificationCount) {
+                copy = new GroupCopy(new Group(group), modificationCount);
+            }
+            copies.put(group, copy);
+            groups.add(copy.group);
+        }
+        this.rollbackCopies = copies;
+        return groups;
+    }
+
     // ========== GroupManager ==========
 
     /**
@@ -203,18 +301,10 @@ public class ModelManager implements Model {
         this.groupManager.addGroup(newGroup);
         this.studentManager.addListOfStudentsToGroup(newGroup.getGroupName(), newStudentList);
         this.lessonManager.addListOfLessonsToGroup(newGroup, newLessonList);
-        UniqueList<StudentInfo> studentInfoList = new UniqueStudentInfoList();
-        ObservableList<Student> uniqueStudentList = newStudentList.getList();
-        for (int s = 0; s < newStudentList.size(); s++) {
-            Student uniqueStudent = uniqueStudentList.get(s);
-            StudentInfo uniqueStudentInfo = new StudentInfo(uniqueStudent);
-            studentInfoList.add(uniqueStudentInfo);
-        }
-        for (int i = 0; i < newLessonList.size(); i++) {
-            ObservableList<Lesson> uniqueLessonList = newLessonList.getList();
-            Lesson uniqueLesson = uniqueLessonList.get(i);
-            GroupLessonKey groupLessonKey = new GroupLessonKey(newGroup.getGroupName(), uniqueLesson.getLessonName());
-            this.studentInfoManager.setListOfStudentsInfoToGroupLessonKey(groupLessonKey, studentInfoList);
+        for (Lesson lesson : newLessonList) {
+            // Each lesson is mapped to its own list, since the students info of a lesson are updated in place
+            GroupLessonKey groupLessonKey = new GroupLessonKey(newGroup.getGroupName(), lesson.getLessonName());
+            this.studentInfoManager.setListOfStudentsInfoToGroupLessonKey(groupLessonKey, lesson.getStudentsInfo());
         }
     }
 
@@ -232,6 +322,13 @@ public class ModelManager implements Model {
         util.writeScoreToXlsx(group, this.studentInfoManager.getStudentInfoMap());
     }
 
+    @Override
+    public ExportSummary exportAll(Path directory) {
+        requireNonNull(directory);
+        return XlsxUtil.writeAllToXlsx(this.groupManager.getListOfGroups(), this.studentInfoManager.getStudentInfoMap(),
+            directory, Runtime.getRuntime().availableProcessors());
+    }
+
     @Override
     public void updateFilteredGroupList(Predicate<Group> predicate) {
         requireAllNonNull(predicate);
@@ -296,6 +393,12 @@ public class ModelManager implements Model {
         return this.studentManager.hasStudent(toCheck);
     }
 
+    @Override
+    public Optional<GroupName> getGroupNameOfStudent(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return this.studentManager.getGroupNameOfStudent(studentNumber);
+    }
+
     @Override
     public void deleteStudentFromGroup(Student student, Predicate<Group> predicate) {
         requireAllNonNull(student, predicate);
@@ -350,6 +453,68 @@ public class ModelManager implements Model {
         this.studentInfoManager.setListOfStudentsInfoToGroupLessonKey(key, newListOfStudentsInfo);
     }
 
+    @Override
+    public void updateAttendance(GroupLessonKey key, StudentNumber studentNumber, Attendance attendance) {
+        requireAllNonNull(key, studentNumber, attendance);
+        StudentInfo updatedStudentInfo = this.studentInfoManager.updateAttendance(key, studentNumber, attendance);
+        updateShownStudentInfo(key, updatedStudentInfo);
+    }
+
+    @Override
+    public void updateAttendanceOfAll(GroupLessonKey key, Attendance attendance) {
+        requireAllNonNull(key, attendance);
+        this.studentInfoManager.updateAttendanceOfAll(key, attendance);
+        if (isShowingLesson(key)) {
+            updateStudentsInfoList();
+        }
+    }
+
+    @Override
+    public void updateParticipation(GroupLessonKey key, StudentNumber studentNumber, Participation participation) {
+        requireAllNonNull(key, studentNumber, participation);
+        StudentInfo updatedStudentInfo =
+                this.studentInfoManager.updateParticipation(key, studentNumber, participation);
+        updateShownStudentInfo(key, updatedStudentInfo);
+    }
+
+    @Override
+    public void updateStudentsInfo(GroupLessonKey key, List<StudentInfo> updatedStudentsInfo) {
+        requireAllNonNull(key, updatedStudentsInfo);
+        this.studentInfoManager.updateStudentsInfo(key, updatedStudentsInfo);
+        if (isShowingLesson(key)) {
+            updateStudentsInfoList();
+        }
+    }
+
+    /**
+     * Replaces the shown student info of the same student as {@code updatedStudentInfo} if the lesson at {@code key}
+     * is being shown, so that only that student info is redrawn.
+     */
+    private void updateShownStudentInfo(GroupLessonKey key, StudentInfo updatedStudentInfo) {
+        if (!isShowingLesson(key)) {
+            return;
+        }
+
+        Student student = updatedStudentInfo.getStudent();
+        int position = this.studentInfoManager.getPositionOfStudent(key, student.getStudentNo());
+        if (position < this.studentsInfo.size() && this.studentsInfo.get(position).containsStudent(student)) {
+            this.studentsInfo.set(position, updatedStudentInfo);
+        } else {
+            updateStudentsInfoList();
+        }
+    }
+
+    /**
+     * Returns true if the lesson at {@code key} is the lesson being shown.
+     */
+    private boolean isShowingLesson(GroupLessonKey key) {
+        if (this.filteredGroups.isEmpty() || this.filteredLessons.isEmpty()) {
+            return false;
+        }
+        return key.equals(new GroupLessonKey(this.filteredGroups.get(0).getGroupName(),
+                this.filteredLessons.get(0).getLessonName()));
+    }
+
     @Override
     public void updateStudentsInfoList() {
         if (!this.filteredGroups.isEmpty() && !this.filteredLessons.isEmpty()) {
@@ -364,13 +529,8 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<StudentInfo> getAllStudentInfo() {
-        ObservableList<StudentInfo> studentInfoList =
-                new ArrayObservableList<>(new UniqueStudentInfoList().asUnmodifiableObservableList());
-        for (Group group : getListOfGroups()) {
-            group.getLessons().stream().forEach(lesson -> studentInfoList.addAll(lesson.getStudentsInfo().getList()));
-        }
-        return studentInfoList;
+    public ObservableList<StudentInfo> getFlaggedStudentsInfo() {
+        return this.flaggedAttendanceIndex.getFlaggedStudentsInfo();
     }
 
     // ========== QuestionManager ==========
@@ -384,6 +544,7 @@ public class ModelManager implements Model {
     public void setQuestionManager(ReadOnlyQuestionManager questionManager) {
         requireNonNull(questionManager);
         this.questionManager.resetData(questionManager);
+        showQuestionsOf(this.shownQuestionsLesson);
     }
 
     @Override
@@ -410,15 +571,68 @@ public class ModelManager implements Model {
         this.questionManager.setQuestion(target, edited);
     }
 
+    @Override
+    public List<Question> getSimilarQuestions(Question question) {
+        requireNonNull(question);
+        return this.questionManager.findSimilarQuestions(question);
+    }
+
+    @Override
+    public List<List<Question>> getSimilarQuestionClusters() {
+        return this.questionManager.getSimilarQuestionClusters();
+    }
+
     @Override
     public ObservableList<Question> getFilteredQuestionList() {
-        return this.filteredQuestions;
+        return this.sortedQuestions;
     }
 
     @Override
     public void updateFilteredQuestionList(Predicate<Question> predicate) {
         requireNonNull(predicate);
+        showQuestionsOf(Optional.empty());
+        this.filteredQuestions.setPredicate(predicate);
+        this.sortedQuestions.setComparator(null);
+    }
+
+    @Override
+    public void findQuestions(QuestionContainsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Question> foundQuestions = this.questionManager.findQuestions(predicate.getKeywords());
+        showQuestionsOf(Optional.empty());
+        this.filteredQuestions.setPredicate(foundQuestions::contains);
+        this.sortedQuestions.setComparator(null);
+    }
+
+    @Override
+    public void rankQuestions(QuestionContainsKeywordPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        List<Question> rankedQuestions = this.questionManager.rankQuestions(predicate.getKeywords(), limit);
+        Map<Question, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedQuestions.size(); i++) {
+            ranks.put(rankedQuestions.get(i), i);
+        }
+        showQuestionsOf(Optional.empty());
+        this.filteredQuestions.setPredicate(ranks::containsKey);
+        this.sortedQuestions.setComparator(Comparator.comparing(ranks::get));
+    }
+
+    @Override
+    public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {
+        requireNonNull(predicate);
+        showQuestionsOf(Optional.of(predicate.getGroupLessonKey()));
         this.filteredQuestions.setPredicate(predicate);
+        this.sortedQuestions.setComparator(null);
+    }
+
+    /**
+     * Filters the questions of the lesson with {@code lesson} if it is present, instead of all the questions,
+     * so that filtering them only looks at the questions of that lesson.
+     */
+    private void showQuestionsOf(Optional<GroupLessonKey> lesson) {
+        this.shownQuestionsLesson = lesson;
+        this.shownQuestions.setSource(lesson.map(this.questionManager::getQuestionsOf)
+            .orElseGet(this.questionManager::getListOfQuestions));
     }
 
     // ========== Utils ==========
@@ -444,7 +658,58 @@ public class ModelManager implements Model {
             && this.lessons.equals(other.lessons)
             && this.filteredLessons.equals(other.filteredLessons)
             && this.studentsInfo.equals(other.studentsInfo)
-            && this.filteredQuestions.equals(other.filteredQuestions);
+            && this.sortedQuestions.equals(other.sortedQuestions);
+    }
+
+    /**
+     * A copy of a group, along with the modification count of the group when it was copied.
+     */
+    private static class GroupCopy {
+
+        private final Group group;
+        private final long modificationCount;
+
+        GroupCopy(Group group, long modificationCount) {
+            this.group = group;
+            this.modificationCount = modificationCount;
+        }
+    }
+
+    /**
+     * The groups, questions, filters and order of questions of the model when a transaction was started, and which
+     * of its lists of students, lessons and studentinfos were being shown. The groups are copied, since commands
+     * change the lists of students and lessons of a group in place, while questions cannot be changed, so only
+     * their list is copied. Groups and questions are only restored if they have changed since.
+     */
+    private class Transaction {
+
+        private final List<Group> groups;
+        private final long groupsModificationCount;
+        private final List<Question> questions;
+        private final long questionsModificationCount;
+        private final Predicate<? super Group> groupPredicate;
+        private final Predicate<? super Lesson> lessonPredicate;
+        private final Predicate<? super Question> questionPredicate;
+        private final Comparator<? super Question> questionComparator;
+        private final Optional<GroupLessonKey> questionsLesson;
+        private final boolean isShowingStudents;
+        private final boolean isShowingLessons;
+        private final boolean isShowingStudentsInfo;
+
+        Transaction() {
+            this.groups = copyGroupsForRollback();
+            this.groupsModificationCount = ModelManager.this.groupManager.getModificationCount();
+            this.questions = new ArrayList<>(ModelManager.this.questionManager.getListOfQuestions());
+            this.questionsModificationCount = ModelManager.this.questionManager.getModificationCount();
+            this.groupPredicate = ModelManager.this.filteredGroups.getPredicate();
+            this.lessonPredicate = ModelManager.this.filteredLessons.getPredicate();
+            this.questionPredicate = ModelManager.this.filteredQuestions.getPredicate();
+            this.questionComparator = ModelManager.this.sortedQuestions.getComparator();
+            this.questionsLesson = ModelManager.this.shownQuestionsLesson;
+            this.isShowingStudents = !ModelManager.this.students.isEmpty();
+            this.isShowingLessons = !ModelManager.this.lessons.isEmpty();
+            this.isShowingStudentsInfo = !ModelManager.this.studentsInfo.isEmpty();
+        }
     }
 
 }
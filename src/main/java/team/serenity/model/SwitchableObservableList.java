@@ -0,0 +1,84 @@
+package team.serenity.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable observable list that shows the elements of a source list, and can be switched to
+ * another source list without its listeners having to be moved.
+ * Changes to the current source list are passed on to the listeners of this list.
+ */
+public class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+    private ObservableList<? extends E> source;
+
+    /**
+     * Creates a list that shows the elements of {@code source}.
+     */
+    public SwitchableObservableList(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this.sourceListener);
+    }
+
+    public ObservableList<? extends E> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Shows the elements of {@code newSource} instead, and fires a single change replacing all the elements.
+     */
+    public void setSource(ObservableList<? extends E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == this.source) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(this.source);
+        this.source.removeListener(this.sourceListener);
+        this.source = newSource;
+        newSource.addListener(this.sourceListener);
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return this.source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.source.size();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                nextReplace(from, to, change.getRemoved());
+            }
+        }
+        endChange();
+    }
+
+}
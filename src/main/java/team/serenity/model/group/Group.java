@@ -4,6 +4,7 @@ import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
@@ -13,6 +14,7 @@ import team.serenity.model.group.lesson.UniqueLessonList;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.student.UniqueStudentList;
 import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
 import team.serenity.model.util.UniqueList;
 
 /**
@@ -38,11 +40,13 @@ public class Group {
         requireAllNonNull(groupName, filePath);
         this.groupName = new GroupName(groupName);
         XlsxUtil util = new XlsxUtil(filePath);
+        Set<Student> studentsFromXlsx = util.readStudentsFromXlsx();
         this.students = new UniqueStudentList();
-        this.students.setElementsWithList(new ArrayList<>(util.readStudentsFromXlsx()));
-        Set<StudentInfo> studentsInfo = util.readStudentsInfoFromXlsx(util.readStudentsFromXlsx());
+        this.students.setElementsWithList(new ArrayList<>(studentsFromXlsx));
+        Set<StudentInfo> studentsInfo = util.readStudentsInfoFromXlsx(studentsFromXlsx);
         this.lessons = new UniqueLessonList();
         this.lessons.setElementsWithList(new ArrayList<>(util.readLessonsFromXlsx(studentsInfo)));
+        shareStudentsOfLessons();
     }
 
     /**
@@ -54,11 +58,13 @@ public class Group {
     public Group(GroupName groupName, XlsxUtil grpExcelData) {
         requireAllNonNull(groupName, grpExcelData);
         this.groupName = groupName;
+        Set<Student> studentsFromXlsx = grpExcelData.readStudentsFromXlsx();
         this.students = new UniqueStudentList();
-        this.students.setElementsWithList(new ArrayList<>(grpExcelData.readStudentsFromXlsx()));
-        Set<StudentInfo> studentsInfo = grpExcelData.readStudentsInfoFromXlsx(grpExcelData.readStudentsFromXlsx());
+        this.students.setElementsWithList(new ArrayList<>(studentsFromXlsx));
+        Set<StudentInfo> studentsInfo = grpExcelData.readStudentsInfoFromXlsx(studentsFromXlsx);
         this.lessons = new UniqueLessonList();
         this.lessons.setElementsWithList(new ArrayList<>(grpExcelData.readLessonsFromXlsx(studentsInfo)));
+        shareStudentsOfLessons();
     }
 
     /**
@@ -86,6 +92,7 @@ public class Group {
         this.groupName = new GroupName(groupName);
         this.students = students;
         this.lessons = lessons;
+        shareStudentsOfLessons();
     }
 
     /**
@@ -100,6 +107,24 @@ public class Group {
         this.groupName = groupName;
         this.students = students;
         this.lessons = lessons;
+        shareStudentsOfLessons();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied} that does not share any of its lists,
+     * so that later changes to either group do not affect the other.
+     *
+     * @param toBeCopied The group to copy.
+     */
+    public Group(Group toBeCopied) {
+        requireAllNonNull(toBeCopied);
+        this.groupName = toBeCopied.groupName;
+        this.students = new UniqueStudentList();
+        this.students.setElementsWithList(new ArrayList<>(toBeCopied.students.getList()));
+        this.lessons = new UniqueLessonList();
+        for (Lesson lesson : toBeCopied.lessons) {
+            this.lessons.add(new Lesson(lesson));
+        }
     }
 
     public GroupName getGroupName() {
@@ -122,14 +147,22 @@ public class Group {
         return this.lessons;
     }
 
-    public UniqueList<Student> getSortedStudents() {
-        this.students.sort(Comparator.comparing(x -> x.getStudentName().toString()));
-        return this.students;
+    /**
+     * Returns the students of the group sorted by name, without reordering the group's own list of students.
+     */
+    public List<Student> getSortedStudents() {
+        List<Student> sortedStudents = new ArrayList<>(this.students.asUnmodifiableObservableList());
+        sortedStudents.sort(Comparator.comparing(x -> x.getStudentName().toString()));
+        return sortedStudents;
     }
 
-    public UniqueList<Lesson> getSortedLessons() {
-        this.lessons.sort(Comparator.comparing(x -> x.getLessonName().toString()));
-        return this.lessons;
+    /**
+     * Returns the lessons of the group sorted by name, without reordering the group's own list of lessons.
+     */
+    public List<Lesson> getSortedLessons() {
+        List<Lesson> sortedLessons = new ArrayList<>(this.lessons.asUnmodifiableObservableList());
+        sortedLessons.sort(Comparator.comparing(x -> x.getLessonName().toString()));
+        return sortedLessons;
     }
 
     /**
@@ -141,6 +174,7 @@ public class Group {
         addToStudentList(student);
         this.students.sort(Comparator.comparing(x -> x.getStudentName().toString()));
         addToStudentListInLessons(student);
+        shareStudentsOfLessons();
     }
 
     /**
@@ -151,6 +185,24 @@ public class Group {
     public void deleteStudentFromGroup(Student student) {
         deleteFromStudentList(student);
         deleteStudentFromStudentListInLessons(student);
+        shareStudentsOfLessons();
+    }
+
+    /**
+     * Lets the lessons of this group that have the same students in the same order share those students,
+     * so that they are only stored once for the group. Should be called after lessons are added to the group.
+     */
+    public void shareStudentsOfLessons() {
+        List<UniqueStudentInfoList> distinctStudentLists = new ArrayList<>();
+        for (Lesson lesson : this.lessons) {
+            if (!(lesson.getStudentsInfo() instanceof UniqueStudentInfoList)) {
+                continue;
+            }
+            UniqueStudentInfoList studentsInfo = (UniqueStudentInfoList) lesson.getStudentsInfo();
+            if (distinctStudentLists.stream().noneMatch(studentsInfo::shareStudentsWith)) {
+                distinctStudentLists.add(studentsInfo);
+            }
+        }
     }
 
     private void deleteFromStudentList(Student student) {
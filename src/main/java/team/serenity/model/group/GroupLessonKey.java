@@ -29,6 +29,13 @@ public class GroupLessonKey {
         return groupName;
     }
 
+    /**
+     * Retrieves lessonName.
+     */
+    public LessonName getLessonName() {
+        return lessonName;
+    }
+
     /**
      * Generates a hashcode for the object.
      * Since Groups and Lessons are unique,
@@ -4,10 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -17,16 +15,19 @@ import team.serenity.model.group.exceptions.DuplicateGroupException;
 import team.serenity.model.group.exceptions.GroupNotFoundException;
 import team.serenity.model.group.exceptions.NotFoundException;
 import team.serenity.model.util.UniqueList;
+import team.serenity.model.util.UniqueListIndex;
 
 /**
  * A list of groups that enforces uniqueness between its elements and does not allow nulls. A group is considered unique
- * by comparing using {@code Group#equals(Group)}.
+ * by its {@code GroupName}, which the list is indexed by so that lookups do not need to scan the list.
  */
 public class UniqueGroupList implements UniqueList<Group> {
 
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final UniqueListIndex<GroupName, Group> index =
+        new UniqueListIndex<>(internalList, Group::getGroupName);
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
@@ -34,7 +35,7 @@ public class UniqueGroupList implements UniqueList<Group> {
     @Override
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::equals);
+        return this.index.containsKey(toCheck.getGroupName());
     }
 
     /**
@@ -82,12 +83,12 @@ public class UniqueGroupList implements UniqueList<Group> {
     public void setElement(Group target, Group editedGroup) throws NotFoundException, DuplicateException {
         requireAllNonNull(target, editedGroup);
 
-        int index = this.internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new GroupNotFoundException();
         }
 
-        if (!target.equals(editedGroup) && contains(editedGroup)) {
+        if (!target.getGroupName().equals(editedGroup.getGroupName()) && contains(editedGroup)) {
             throw new DuplicateGroupException();
         }
 
@@ -100,9 +101,19 @@ public class UniqueGroupList implements UniqueList<Group> {
     @Override
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new GroupNotFoundException();
         }
+        this.internalList.remove(index);
+    }
+
+    /**
+     * Returns the position of the group equal to {@code group}, or -1 if there is no such group.
+     */
+    private int indexOf(Group group) {
+        int index = this.index.indexOf(group.getGroupName());
+        return index != -1 && this.internalList.get(index).equals(group) ? index : -1;
     }
 
     public void sort(Comparator<Group> comparator) {
@@ -157,8 +168,7 @@ public class UniqueGroupList implements UniqueList<Group> {
      */
     @Override
     public boolean elementsAreUnique(List<Group> groups) {
-        Set<Group> groupSet = new HashSet<>(groups);
-        return groupSet.size() == groups.size();
+        return UniqueListIndex.hasUniqueKeys(groups, Group::getGroupName);
     }
 
 }
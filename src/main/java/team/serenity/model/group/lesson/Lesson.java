@@ -3,6 +3,9 @@ package team.serenity.model.group.lesson;
 import static team.serenity.commons.util.AppUtil.checkArgument;
 import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.studentinfo.Attendance;
@@ -47,6 +50,17 @@ public class Lesson {
         this.studentsInfo = studentsInfo;
     }
 
+    /**
+     * Creates a copy of {@code toBeCopied} that does not share its list of studentInfo.
+     * @param toBeCopied The lesson to copy.
+     */
+    public Lesson(Lesson toBeCopied) {
+        requireAllNonNull(toBeCopied);
+        this.name = toBeCopied.name;
+        this.studentsInfo = new UniqueStudentInfoList();
+        this.studentsInfo.setElementsWithUniqueList(toBeCopied.studentsInfo);
+    }
+
     private UniqueList<StudentInfo> generateStudentInfo(ObservableList<Student> students) {
         UniqueList<StudentInfo> studentInfo = new UniqueStudentInfoList();
         for (Student s : students) {
@@ -79,6 +93,19 @@ public class Lesson {
         return this.studentsInfo.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the information of the students whose attendance is flagged in this lesson.
+     * If the attendance and participation of the lesson have not been loaded yet, they are not loaded for this.
+     */
+    public List<StudentInfo> getFlaggedStudentsInfo() {
+        if (this.studentsInfo instanceof UniqueStudentInfoList) {
+            return ((UniqueStudentInfoList) this.studentsInfo).getFlaggedStudentsInfo();
+        }
+        return this.studentsInfo.stream()
+                .filter(studentInfo -> studentInfo.getAttendance().isFlagged())
+                .collect(Collectors.toList());
+    }
+
     public boolean isSame(Lesson otherLsn) {
         return otherLsn.getLessonName().equals(getLessonName());
     }
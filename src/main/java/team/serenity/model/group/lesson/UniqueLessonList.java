@@ -15,16 +15,20 @@ import team.serenity.model.group.exceptions.DuplicateLessonException;
 import team.serenity.model.group.exceptions.LessonNotFoundException;
 import team.serenity.model.group.exceptions.NotFoundException;
 import team.serenity.model.util.UniqueList;
+import team.serenity.model.util.UniqueListIndex;
 
 /**
  * A list of Lessons that enforces uniqueness between its elements and does not allow nulls.
- * A Lesson is considered unique by comparing using {@code Lesson#equal(Object)}.
+ * A Lesson is considered unique by comparing using {@code Lesson#isSame(Lesson)}, and the list is
+ * indexed by {@code LessonName} so that lookups do not need to scan the list.
  */
 public class UniqueLessonList implements UniqueList<Lesson> {
 
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final UniqueListIndex<LessonName, Lesson> index =
+            new UniqueListIndex<>(internalList, Lesson::getLessonName);
 
 
     @Override
@@ -48,7 +52,7 @@ public class UniqueLessonList implements UniqueList<Lesson> {
     @Override
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSame);
+        return this.index.containsKey(toCheck.getLessonName());
     }
 
     /**
@@ -70,8 +74,8 @@ public class UniqueLessonList implements UniqueList<Lesson> {
     public void setElement(Lesson target, Lesson editedLesson) throws NotFoundException, DuplicateException {
         requireAllNonNull(target, editedLesson);
 
-        int index = this.internalList.indexOf(target);
-        if (index == -1) {
+        int index = this.index.indexOf(target.getLessonName());
+        if (index == -1 || !this.internalList.get(index).equals(target)) {
             throw new LessonNotFoundException();
         }
 
@@ -88,13 +92,11 @@ public class UniqueLessonList implements UniqueList<Lesson> {
     @Override
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        for (int i = 0; i < this.internalList.size(); i++) {
-            if (this.internalList.get(i).isSame(toRemove)) {
-                this.internalList.remove(i);
-                return;
-            }
+        int index = this.index.indexOf(toRemove.getLessonName());
+        if (index == -1) {
+            throw new LessonNotFoundException();
         }
-        throw new LessonNotFoundException();
+        this.internalList.remove(index);
     }
 
     /**
@@ -154,13 +156,6 @@ public class UniqueLessonList implements UniqueList<Lesson> {
      */
     @Override
     public boolean elementsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return UniqueListIndex.hasUniqueKeys(lessons, Lesson::getLessonName);
     }
 }
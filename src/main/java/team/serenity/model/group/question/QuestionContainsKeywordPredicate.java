@@ -21,6 +21,13 @@ public class QuestionContainsKeywordPredicate implements Predicate<Question> {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the keywords to match.
+     */
+    public List<String> getKeywords() {
+        return this.keywords;
+    }
+
     @Override
     public boolean test(Question question) {
         return keywords.stream()
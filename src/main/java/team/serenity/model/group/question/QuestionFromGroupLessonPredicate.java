@@ -2,6 +2,7 @@ package team.serenity.model.group.question;
 
 import java.util.function.Predicate;
 
+import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.GroupName;
 import team.serenity.model.group.lesson.LessonName;
 
@@ -21,6 +22,13 @@ public class QuestionFromGroupLessonPredicate implements Predicate<Question> {
         this.lessonName = lessonName;
     }
 
+    /**
+     * Returns the key of the group and lesson to match.
+     */
+    public GroupLessonKey getGroupLessonKey() {
+        return new GroupLessonKey(this.groupName, this.lessonName);
+    }
+
     @Override
     public boolean test(Question question) {
         return question.getGroupName().equals(this.groupName) && question.getLessonName().equals(this.lessonName);
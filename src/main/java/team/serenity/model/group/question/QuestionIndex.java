@@ -0,0 +1,217 @@
+package team.serenity.model.group.question;
+
+import static java.util.Objects.requireNonNull;
+import static team.serenity.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import team.serenity.commons.util.StringUtil;
+
+/**
+ * An inverted index of questions by the short substrings, or n-grams, of the words in their descriptions,
+ * so that the questions containing a keyword can be found without testing every question.
+ * Every substring of up to {@code GRAM_LENGTH} characters of every word is indexed. A keyword of at most that
+ * length is looked up directly, while a longer keyword is looked up by intersecting the questions of each of
+ * its n-grams, and only the questions left are checked for the whole keyword.
+ * Matches the same questions as {@link QuestionContainsKeywordPredicate}.
+ * The questions found can also be ranked by how relevant they are to the keywords, see {@link #rank(List, int)}.
+ */
+public class QuestionIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    /** How quickly repeated matches of a keyword in a description stop adding to its score. */
+    private static final double BM25_K1 = 1.2;
+    /** How much the score of a description is lowered for being longer than average. */
+    private static final double BM25_B = 0.75;
+
+    /** Orders questions from the least to the most relevant, and questions equally relevant by description. */
+    private static final Comparator<Map.Entry<Question, Double>> LEAST_RELEVANT_FIRST =
+        Map.Entry.<Question, Double>comparingByValue()
+            .thenComparing(entry -> entry.getKey().getDescription().description, Comparator.reverseOrder());
+
+    private final Map<String, Set<Question>> postings = new HashMap<>();
+    private int questionCount = 0;
+    private long wordCount = 0;
+
+    /**
+     * Adds {@code question} to the index.
+     */
+    public void add(Question question) {
+        requireNonNull(question);
+        for (String gram : getGrams(question)) {
+            this.postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(question);
+        }
+        this.questionCount++;
+        this.wordCount += getWords(question).length;
+    }
+
+    /**
+     * Removes {@code question} from the index, if it is in the index.
+     */
+    public void remove(Question question) {
+        requireNonNull(question);
+        boolean isRemoved = false;
+        for (String gram : getGrams(question)) {
+            Set<Question> questions = this.postings.get(gram);
+            if (questions != null && questions.remove(question)) {
+                isRemoved = true;
+                if (questions.isEmpty()) {
+                    this.postings.remove(gram);
+                }
+            }
+        }
+        if (isRemoved) {
+            this.questionCount--;
+            this.wordCount -= getWords(question).length;
+        }
+    }
+
+    /**
+     * Removes every question from the index.
+     */
+    public void clear() {
+        this.postings.clear();
+        this.questionCount = 0;
+        this.wordCount = 0;
+    }
+
+    /**
+     * Returns the questions whose description contains any of {@code keywords}, ignoring case.
+     * Each keyword cannot be empty and must be a single word without blank spaces.
+     */
+    public Set<Question> find(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Question> found = new HashSet<>();
+        for (String keyword : keywords) {
+            found.addAll(find(keyword));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the questions whose description contains {@code keyword}, ignoring case.
+     * {@code keyword} cannot be empty and must be a single word without blank spaces.
+     */
+    public Set<Question> find(String keyword) {
+        String preppedKeyword = prepKeyword(keyword);
+        if (preppedKeyword.length() <= GRAM_LENGTH) {
+            return Collections.unmodifiableSet(this.postings.getOrDefault(preppedKeyword, Collections.emptySet()));
+        }
+
+        List<Set<Question>> postingLists = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= preppedKeyword.length(); start++) {
+            Set<Question> questions = this.postings.get(preppedKeyword.substring(start, start + GRAM_LENGTH));
+            if (questions == null) {
+                return Collections.emptySet();
+            }
+            postingLists.add(questions);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Question> found = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !found.isEmpty(); i++) {
+            found.retainAll(postingLists.get(i));
+        }
+        found.removeIf(question ->
+            !StringUtil.containsCharSequenceIgnoreCase(question.getDescription().description, preppedKeyword));
+        return found;
+    }
+
+    /**
+     * Returns up to {@code limit} of the questions whose description contains any of {@code keywords}, ignoring case,
+     * from the most to the least relevant. Each keyword cannot be empty and must be a single word without blank spaces.
+     * Questions are scored with BM25, where a keyword occurs in a description as many times as there are words
+     * containing it, so that keywords found in fewer questions, found more often, and found in shorter descriptions
+     * count for more. Only the best {@code limit} questions are kept while scoring, instead of sorting all of them.
+     */
+    public List<Question> rank(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit > 0, "Limit should be positive");
+        Set<String> preppedKeywords = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            preppedKeywords.add(prepKeyword(keyword));
+        }
+
+        double averageWordCount = (double) this.wordCount / Math.max(1, this.questionCount);
+        Map<Question, String[]> wordsOfQuestions = new HashMap<>();
+        Map<Question, Double> scores = new HashMap<>();
+        for (String keyword : preppedKeywords) {
+            Set<Question> questions = find(keyword);
+            double idf = Math.log(1 + (this.questionCount - questions.size() + 0.5) / (questions.size() + 0.5));
+            for (Question question : questions) {
+                String[] words = wordsOfQuestions.computeIfAbsent(question, QuestionIndex::getWords);
+                int keywordCount = 0;
+                for (String word : words) {
+                    if (word.contains(keyword)) {
+                        keywordCount++;
+                    }
+                }
+                double lengthNorm = 1 - BM25_B + BM25_B * words.length / averageWordCount;
+                double score = idf * keywordCount * (BM25_K1 + 1) / (keywordCount + BM25_K1 * lengthNorm);
+                scores.merge(question, score, Double::sum);
+            }
+        }
+
+        PriorityQueue<Map.Entry<Question, Double>> best = new PriorityQueue<>(LEAST_RELEVANT_FIRST);
+        for (Map.Entry<Question, Double> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (LEAST_RELEVANT_FIRST.compare(entry, best.peek()) > 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+
+        Question[] ranked = new Question[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll().getKey();
+        }
+        return List.of(ranked);
+    }
+
+    /**
+     * Returns {@code keyword} trimmed and in lower case.
+     */
+    private static String prepKeyword(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase();
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+        checkArgument(preppedKeyword.split("\\s+").length == 1, "Keyword should be a single word without blank spaces");
+        return preppedKeyword;
+    }
+
+    /**
+     * Returns the words of the description of {@code question}, in lower case.
+     */
+    private static String[] getWords(Question question) {
+        return question.getDescription().description.toLowerCase().split("\\s+");
+    }
+
+    /**
+     * Returns every substring of up to {@code GRAM_LENGTH} characters of the words in the description of
+     * {@code question}, in lower case.
+     */
+    private static Set<String> getGrams(Question question) {
+        Set<String> grams = new HashSet<>();
+        for (String word : getWords(question)) {
+            for (int start = 0; start < word.length(); start++) {
+                int maxEnd = Math.min(word.length(), start + GRAM_LENGTH);
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(word.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+
+}
@@ -0,0 +1,281 @@
+package team.serenity.model.group.question;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * An index of questions by MinHash signatures of the words in their descriptions, so that questions that are
+ * phrased slightly differently can be found without comparing every pair of questions.
+ * The signature of a question is split into bands, and questions with an identical band are put in the same
+ * bucket (locality-sensitive hashing). Only questions sharing a bucket are compared, and they are considered
+ * similar if at least {@code SIMILARITY_THRESHOLD} of the words of both are shared.
+ */
+public class QuestionSimilarityIndex {
+
+    /** The least fraction of shared words for two questions to be considered similar. */
+    static final double SIMILARITY_THRESHOLD = 0.5;
+
+    private static final int BAND_COUNT = 20;
+    private static final int ROWS_PER_BAND = 3;
+    private static final int SIGNATURE_LENGTH = BAND_COUNT * ROWS_PER_BAND;
+    private static final long HASH_SEED = 42;
+    private static final int[] HASH_MULTIPLIERS = new int[SIGNATURE_LENGTH];
+    private static final int[] HASH_INCREMENTS = new int[SIGNATURE_LENGTH];
+
+    static {
+        Random random = new Random(HASH_SEED);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            HASH_MULTIPLIERS[i] = random.nextInt() | 1;
+            HASH_INCREMENTS[i] = random.nextInt();
+        }
+    }
+
+    private final Map<Question, Set<String>> wordsOfQuestions = new LinkedHashMap<>();
+    private final List<Map<Band, Set<Question>>> buckets = new ArrayList<>(BAND_COUNT);
+
+    /**
+     * Creates an empty index.
+     */
+    public QuestionSimilarityIndex() {
+        for (int i = 0; i < BAND_COUNT; i++) {
+            this.buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code question} to the index.
+     */
+    public void add(Question question) {
+        requireNonNull(question);
+        Set<String> words = getWords(question);
+        this.wordsOfQuestions.put(question, words);
+        Band[] bands = getBands(words);
+        for (int i = 0; i < BAND_COUNT; i++) {
+            this.buckets.get(i).computeIfAbsent(bands[i], unused -> new HashSet<>()).add(question);
+        }
+    }
+
+    /**
+     * Removes {@code question} from the index, if it is in the index.
+     */
+    public void remove(Question question) {
+        requireNonNull(question);
+        Set<String> words = this.wordsOfQuestions.remove(question);
+        if (words == null) {
+            return;
+        }
+        Band[] bands = getBands(words);
+        for (int i = 0; i < BAND_COUNT; i++) {
+            Set<Question> bucket = this.buckets.get(i).get(bands[i]);
+            bucket.remove(question);
+            if (bucket.isEmpty()) {
+                this.buckets.get(i).remove(bands[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes every question from the index.
+     */
+    public void clear() {
+        this.wordsOfQuestions.clear();
+        this.buckets.forEach(Map::clear);
+    }
+
+    /**
+     * Returns the questions in the index that are similar to {@code question}, other than {@code question} itself,
+     * from the most to the least similar.
+     */
+    public List<Question> findSimilar(Question question) {
+        requireNonNull(question);
+        Set<String> words = getWords(question);
+        Band[] bands = getBands(words);
+        Set<Question> candidates = new HashSet<>();
+        for (int i = 0; i < BAND_COUNT; i++) {
+            candidates.addAll(this.buckets.get(i).getOrDefault(bands[i], Set.of()));
+        }
+        candidates.remove(question);
+
+        Map<Question, Double> similarities = new HashMap<>();
+        for (Question candidate : candidates) {
+            double similarity = getSimilarity(words, this.wordsOfQuestions.get(candidate));
+            if (similarity >= SIMILARITY_THRESHOLD) {
+                similarities.put(candidate, similarity);
+            }
+        }
+        List<Question> similarQuestions = new ArrayList<>(similarities.keySet());
+        similarQuestions.sort(Comparator.<Question>comparingDouble(similarities::get).reversed()
+            .thenComparing(similarQuestion -> similarQuestion.getDescription().description));
+        return similarQuestions;
+    }
+
+    /**
+     * Returns the groups of similar questions in the index, each with at least two questions.
+     * Questions are grouped together if they are similar to each other, directly or through other questions
+     * of the group. The groups, and the questions in each group, are in the order the questions were added.
+     */
+    public List<List<Question>> getClusters() {
+        Map<Question, Question> parents = new HashMap<>();
+        for (Map<Band, Set<Question>> bandBuckets : this.buckets) {
+            for (Set<Question> bucket : bandBuckets.values()) {
+                if (bucket.size() > 1) {
+                    joinSimilar(new ArrayList<>(bucket), parents);
+                }
+            }
+        }
+
+        Map<Question, List<Question>> clusters = new LinkedHashMap<>();
+        for (Question question : this.wordsOfQuestions.keySet()) {
+            if (parents.containsKey(question)) {
+                clusters.computeIfAbsent(findRoot(question, parents), unused -> new ArrayList<>()).add(question);
+            }
+        }
+        List<List<Question>> result = new ArrayList<>();
+        for (List<Question> cluster : clusters.values()) {
+            if (cluster.size() > 1) {
+                result.add(cluster);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Joins every pair of similar questions in {@code bucket} into the same cluster.
+     */
+    private void joinSimilar(List<Question> bucket, Map<Question, Question> parents) {
+        for (int i = 0; i < bucket.size(); i++) {
+            Question first = bucket.get(i);
+            for (int j = i + 1; j < bucket.size(); j++) {
+                Question second = bucket.get(j);
+                Question firstRoot = findRoot(first, parents);
+                Question secondRoot = findRoot(second, parents);
+                if (firstRoot == secondRoot) {
+                    continue;
+                }
+                double similarity = getSimilarity(this.wordsOfQuestions.get(first), this.wordsOfQuestions.get(second));
+                if (similarity >= SIMILARITY_THRESHOLD) {
+                    parents.put(secondRoot, firstRoot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the question representing the cluster of {@code question}, adding {@code question} to the clusters
+     * as a cluster of its own if it is not in any yet.
+     */
+    private static Question findRoot(Question question, Map<Question, Question> parents) {
+        Question root = question;
+        Question parent = parents.putIfAbsent(root, root);
+        while (parent != null && parent != root) {
+            root = parent;
+            parent = parents.get(root);
+        }
+        // Points the questions on the way straight at the root, so that later lookups are shorter
+        Question current = question;
+        while (current != root) {
+            Question next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the fraction of the words of either set that are in both sets.
+     */
+    private static double getSimilarity(Set<String> first, Set<String> second) {
+        if (first.isEmpty() && second.isEmpty()) {
+            return 1;
+        }
+        int sharedCount = 0;
+        for (String word : first) {
+            if (second.contains(word)) {
+                sharedCount++;
+            }
+        }
+        return (double) sharedCount / (first.size() + second.size() - sharedCount);
+    }
+
+    /**
+     * Returns the words of the description of {@code question}, in lower case and without punctuation.
+     */
+    private static Set<String> getWords(Question question) {
+        Set<String> words = new HashSet<>();
+        for (String word : question.getDescription().description.toLowerCase().split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the bands of the MinHash signature of {@code words}.
+     */
+    private static Band[] getBands(Set<String> words) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String word : words) {
+            int wordHash = word.hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = mix(HASH_MULTIPLIERS[i] * wordHash + HASH_INCREMENTS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+
+        Band[] bands = new Band[BAND_COUNT];
+        for (int i = 0; i < BAND_COUNT; i++) {
+            bands[i] = new Band(Arrays.copyOfRange(signature, i * ROWS_PER_BAND, (i + 1) * ROWS_PER_BAND));
+        }
+        return bands;
+    }
+
+    /**
+     * Scrambles the bits of {@code hash}, so that hashes of similar words are not close to each other.
+     */
+    private static int mix(int hash) {
+        int mixed = hash ^ (hash >>> 16);
+        mixed *= 0x85ebca6b;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xc2b2ae35;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * The rows of one band of a MinHash signature.
+     */
+    private static class Band {
+
+        private final int[] rows;
+
+        Band(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                || (other instanceof Band && Arrays.equals(this.rows, ((Band) other).rows));
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.rows);
+        }
+
+    }
+
+}
@@ -3,28 +3,41 @@ package team.serenity.model.group.question;
 import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import team.serenity.model.group.GroupLessonKey;
+import team.serenity.model.group.GroupName;
 import team.serenity.model.group.exceptions.DuplicateException;
 import team.serenity.model.group.exceptions.DuplicateQuestionException;
 import team.serenity.model.group.exceptions.NotFoundException;
 import team.serenity.model.group.exceptions.QuestionNotFoundException;
 import team.serenity.model.util.UniqueList;
+import team.serenity.model.util.UniqueListIndex;
 
 /**
  * A list of Questions that enforces uniqueness between its elements and does not allow nulls.
  * A Question is considered unique by comparing using {@code Question#equal(Object)}.
+ * The questions are partitioned by the group and lesson they were asked in, and each partition is indexed by
+ * the question itself, so that lookups and changes to the questions of a lesson do not need to go through the
+ * questions of the other lessons. The list of all questions keeps the questions of each lesson together,
+ * in the order the lessons were first given questions.
  */
 public class UniqueQuestionList implements UniqueList<Question> {
 
     private final ObservableList<Question> internalList = FXCollections.observableArrayList();
     private final ObservableList<Question> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<GroupLessonKey, Partition> partitions = new LinkedHashMap<>();
 
     @Override
     public int size() {
@@ -36,9 +49,27 @@ public class UniqueQuestionList implements UniqueList<Question> {
         return this.internalList.stream();
     }
 
+    /**
+     * Sorts the questions of each lesson, and orders the lessons by their first question after sorting,
+     * so that the questions of each lesson stay together.
+     */
     @Override
     public void sort(Comparator<Question> comparator) {
-        this.internalList.sort(comparator);
+        requireNonNull(comparator);
+        List<Map.Entry<GroupLessonKey, Partition>> sortedPartitions = new ArrayList<>(this.partitions.entrySet());
+        for (Map.Entry<GroupLessonKey, Partition> entry : sortedPartitions) {
+            entry.getValue().questions.sort(comparator);
+        }
+        sortedPartitions.sort(Map.Entry.comparingByValue(Comparator.comparing(partition ->
+            partition.questions.isEmpty() ? null : partition.questions.get(0), Comparator.nullsLast(comparator))));
+
+        List<Question> sortedQuestions = new ArrayList<>(this.internalList.size());
+        this.partitions.clear();
+        for (Map.Entry<GroupLessonKey, Partition> entry : sortedPartitions) {
+            this.partitions.put(entry.getKey(), entry.getValue());
+            sortedQuestions.addAll(entry.getValue().questions);
+        }
+        this.internalList.setAll(sortedQuestions);
     }
 
     /**
@@ -47,11 +78,13 @@ public class UniqueQuestionList implements UniqueList<Question> {
     @Override
     public boolean contains(Question toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::equals);
+        Partition partition = this.partitions.get(keyOf(toCheck));
+        return partition != null && partition.index.containsKey(toCheck);
     }
 
     /**
-     * Adds a question to the list. The question must not already exist in the list.
+     * Adds a question to the list, after the other questions of its lesson.
+     * The question must not already exist in the list.
      */
     @Override
     public void add(Question toAdd) throws DuplicateException {
@@ -59,18 +92,23 @@ public class UniqueQuestionList implements UniqueList<Question> {
         if (contains(toAdd)) {
             throw new DuplicateQuestionException();
         }
-        this.internalList.add(toAdd);
+        Partition partition = getPartition(keyOf(toAdd));
+        int position = offsetOf(partition) + partition.questions.size();
+        partition.questions.add(toAdd);
+        this.internalList.add(position, toAdd);
     }
 
     /**
      * Replaces the question {@code target} in the list with {@code question}. {@code target} must exist in the list.
      * The question identity of {@code question} must not be the same as another existing question in the list.
+     * If {@code question} is from a different lesson, it is moved after the other questions of that lesson.
      */
     @Override
     public void setElement(Question target, Question editedQuestion) throws NotFoundException, DuplicateException {
         requireAllNonNull(target, editedQuestion);
 
-        int index = this.internalList.indexOf(target);
+        Partition partition = this.partitions.get(keyOf(target));
+        int index = partition == null ? -1 : partition.index.indexOf(target);
         if (index == -1) {
             throw new QuestionNotFoundException();
         }
@@ -79,7 +117,14 @@ public class UniqueQuestionList implements UniqueList<Question> {
             throw new DuplicateQuestionException();
         }
 
-        this.internalList.set(index, editedQuestion);
+        if (!keyOf(target).equals(keyOf(editedQuestion))) {
+            removeAt(partition, index);
+            add(editedQuestion);
+            return;
+        }
+        int position = offsetOf(partition) + index;
+        partition.questions.set(index, editedQuestion);
+        this.internalList.set(position, editedQuestion);
     }
 
     /**
@@ -88,9 +133,71 @@ public class UniqueQuestionList implements UniqueList<Question> {
     @Override
     public void remove(Question toRemove) {
         requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        Partition partition = this.partitions.get(keyOf(toRemove));
+        int index = partition == null ? -1 : partition.index.indexOf(toRemove);
+        if (index == -1) {
             throw new QuestionNotFoundException();
         }
+        removeAt(partition, index);
+    }
+
+    private void removeAt(Partition partition, int index) {
+        int position = offsetOf(partition) + index;
+        partition.questions.remove(index);
+        this.internalList.remove(position);
+    }
+
+    /**
+     * Returns the questions of the lesson with {@code key} as an unmodifiable {@code ObservableList},
+     * which stays up to date as the questions of the lesson change.
+     */
+    public ObservableList<Question> getQuestionsOf(GroupLessonKey key) {
+        requireNonNull(key);
+        return getPartition(key).unmodifiableQuestions;
+    }
+
+    /**
+     * Removes all the questions of the lesson with {@code key}.
+     *
+     * @return The questions removed.
+     */
+    public List<Question> removeQuestionsOf(GroupLessonKey key) {
+        requireNonNull(key);
+        return removePartitions(key::equals);
+    }
+
+    /**
+     * Removes all the questions of the lessons of the group with {@code groupName}.
+     *
+     * @return The questions removed.
+     */
+    public List<Question> removeQuestionsOf(GroupName groupName) {
+        requireNonNull(groupName);
+        return removePartitions(key -> key.getGroupName().equals(groupName));
+    }
+
+    /**
+     * Removes the partitions of the lessons whose key matches {@code predicate}, along with their questions.
+     */
+    private List<Question> removePartitions(Predicate<GroupLessonKey> predicate) {
+        List<Question> removed = new ArrayList<>();
+        int offset = 0;
+        Iterator<Map.Entry<GroupLessonKey, Partition>> iterator = this.partitions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<GroupLessonKey, Partition> entry = iterator.next();
+            ObservableList<Question> questions = entry.getValue().questions;
+            if (!predicate.test(entry.getKey())) {
+                offset += questions.size();
+                continue;
+            }
+            removed.addAll(questions);
+            if (!questions.isEmpty()) {
+                this.internalList.remove(offset, offset + questions.size());
+                questions.clear();
+            }
+            iterator.remove();
+        }
+        return removed;
     }
 
     @Override
@@ -99,18 +206,18 @@ public class UniqueQuestionList implements UniqueList<Question> {
     }
 
     /**
-     * Replaces all the lessons from the list with a new list of lessons
-     * @param replacement
+     * Replaces all the questions from the list with the questions of {@code replacement}.
      */
     @Override
     public void setElementsWithUniqueList(UniqueList<Question> replacement) {
         requireNonNull(replacement);
-        this.internalList.setAll(replacement.getList());
+        setElementsWithList(replacement.getList());
     }
 
     /**
      * Replaces the contents of this list with {@code questionList}.
      * {@code questionList} must not contain duplicate questions.
+     * The partitions of lessons that still have questions are kept, so that their lists stay up to date.
      */
     @Override
     public void setElementsWithList(List<Question> questionList) throws DuplicateException {
@@ -118,7 +225,28 @@ public class UniqueQuestionList implements UniqueList<Question> {
         if (!elementsAreUnique(questionList)) {
             throw new DuplicateQuestionException();
         }
-        this.internalList.setAll(questionList);
+
+        Map<GroupLessonKey, List<Question>> questionsByLesson = new LinkedHashMap<>();
+        for (Question question : questionList) {
+            questionsByLesson.computeIfAbsent(keyOf(question), unused -> new ArrayList<>()).add(question);
+        }
+
+        Map<GroupLessonKey, Partition> oldPartitions = new LinkedHashMap<>(this.partitions);
+        this.partitions.clear();
+        List<Question> mergedQuestions = new ArrayList<>(questionList.size());
+        for (Map.Entry<GroupLessonKey, List<Question>> entry : questionsByLesson.entrySet()) {
+            Partition partition = oldPartitions.remove(entry.getKey());
+            if (partition == null) {
+                partition = new Partition();
+            }
+            partition.questions.setAll(entry.getValue());
+            this.partitions.put(entry.getKey(), partition);
+            mergedQuestions.addAll(entry.getValue());
+        }
+        for (Partition removedPartition : oldPartitions.values()) {
+            removedPartition.questions.clear();
+        }
+        this.internalList.setAll(mergedQuestions);
     }
 
     /**
@@ -151,14 +279,45 @@ public class UniqueQuestionList implements UniqueList<Question> {
      */
     @Override
     public boolean elementsAreUnique(List<Question> questionList) {
-        for (int i = 0; i < questionList.size() - 1; i++) {
-            for (int j = i + 1; j < questionList.size(); j++) {
-                if (questionList.get(i).equals(questionList.get(j))) {
-                    return false;
-                }
+        return UniqueListIndex.hasUniqueKeys(questionList, Function.identity());
+    }
+
+    /**
+     * Returns the partition of the lesson with {@code key}, creating an empty one if the lesson has none yet.
+     */
+    private Partition getPartition(GroupLessonKey key) {
+        return this.partitions.computeIfAbsent(key, unused -> new Partition());
+    }
+
+    /**
+     * Returns the position in the list of all questions of the first question of {@code partition}.
+     */
+    private int offsetOf(Partition partition) {
+        int offset = 0;
+        for (Partition other : this.partitions.values()) {
+            if (other == partition) {
+                return offset;
             }
+            offset += other.questions.size();
         }
-        return true;
+        throw new IllegalStateException("Partition is not in the list");
+    }
+
+    private static GroupLessonKey keyOf(Question question) {
+        return new GroupLessonKey(question.getGroupName(), question.getLessonName());
+    }
+
+    /**
+     * The questions of one lesson, in the order they appear in the list of all questions.
+     */
+    private static class Partition {
+
+        private final ObservableList<Question> questions = FXCollections.observableArrayList();
+        private final ObservableList<Question> unmodifiableQuestions =
+                FXCollections.unmodifiableObservableList(questions);
+        private final UniqueListIndex<Question, Question> index =
+                new UniqueListIndex<>(questions, Function.identity());
+
     }
 
 }
@@ -15,16 +15,20 @@ import team.serenity.model.group.exceptions.DuplicateStudentException;
 import team.serenity.model.group.exceptions.NotFoundException;
 import team.serenity.model.group.exceptions.StudentNotFoundException;
 import team.serenity.model.util.UniqueList;
+import team.serenity.model.util.UniqueListIndex;
 
 /**
  * A list of Students that enforces uniqueness between its elements and does not allow nulls.
- * A Student is considered unique by comparing using {@code Student#equal(Object)}.
+ * A Student is considered unique by comparing using {@code Student#isSameStudent(Student)}, and the list is
+ * indexed by {@code StudentNumber} so that lookups do not need to scan the list.
  */
 public class UniqueStudentList implements UniqueList<Student> {
 
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final UniqueListIndex<StudentNumber, Student> index =
+            new UniqueListIndex<>(internalList, Student::getStudentNo);
 
     @Override
     public ObservableList<Student> getList() {
@@ -47,7 +51,7 @@ public class UniqueStudentList implements UniqueList<Student> {
     @Override
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSameStudent);
+        return this.index.containsKey(toCheck.getStudentNo());
     }
 
     /**
@@ -70,7 +74,7 @@ public class UniqueStudentList implements UniqueList<Student> {
     public void setElement(Student target, Student editedStudent) throws NotFoundException, DuplicateException {
         requireAllNonNull(target, editedStudent);
 
-        int index = this.internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -88,9 +92,19 @@ public class UniqueStudentList implements UniqueList<Student> {
     @Override
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        this.internalList.remove(index);
+    }
+
+    /**
+     * Returns the position of the student equal to {@code student}, or -1 if there is no such student.
+     */
+    private int indexOf(Student student) {
+        int index = this.index.indexOf(student.getStudentNo());
+        return index != -1 && this.internalList.get(index).equals(student) ? index : -1;
     }
 
     /**
@@ -148,14 +162,7 @@ public class UniqueStudentList implements UniqueList<Student> {
      * Returns true if {@code students} contains only unique students.
      */
     public boolean elementsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).equals(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return UniqueListIndex.hasUniqueKeys(students, Student::getStudentNo);
     }
 
 }
@@ -0,0 +1,104 @@
+package team.serenity.model.group.studentinfo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.util.UniqueListIndex;
+
+/**
+ * The students of a lesson, in the order that their information is listed, indexed by {@code StudentNumber}.
+ * A roster can be shared by the lessons of a group that list the same students in the same order,
+ * so it must be copied before the students of one of those lessons are changed.
+ */
+class Roster {
+
+    private final ObservableList<Student> students = FXCollections.observableArrayList();
+    private final UniqueListIndex<StudentNumber, Student> index =
+            new UniqueListIndex<>(this.students, Student::getStudentNo);
+
+    /**
+     * Creates an empty roster.
+     */
+    Roster() {}
+
+    /**
+     * Creates a roster of {@code students}, which must not contain two students with the same student number.
+     */
+    Roster(List<Student> students) {
+        requireNonNull(students);
+        this.students.setAll(students);
+    }
+
+    /**
+     * Returns a roster with the same students that is not shared with any lesson.
+     */
+    Roster copy() {
+        return new Roster(this.students);
+    }
+
+    int size() {
+        return this.students.size();
+    }
+
+    Student get(int position) {
+        return this.students.get(position);
+    }
+
+    /**
+     * Returns the position of the student with {@code studentNumber}, or -1 if there is no such student.
+     */
+    int indexOf(StudentNumber studentNumber) {
+        return this.index.indexOf(studentNumber);
+    }
+
+    void add(int position, Student student) {
+        this.students.add(position, student);
+    }
+
+    void set(int position, Student student) {
+        this.students.set(position, student);
+    }
+
+    void remove(int position) {
+        this.students.remove(position);
+    }
+
+    /**
+     * Returns true if {@code students} lists the same students as this roster, in the same order.
+     */
+    boolean hasSameStudents(List<Student> students) {
+        if (students.size() != this.students.size()) {
+            return false;
+        }
+        for (int i = 0; i < students.size(); i++) {
+            if (!students.get(i).equals(this.students.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code other} lists the same students as this roster, in the same order.
+     */
+    boolean hasSameStudents(Roster other) {
+        return other == this || hasSameStudents(other.students);
+    }
+
+    /**
+     * Returns a hash code of the student numbers in this roster, in order.
+     */
+    int hashCodeOfStudentNumbers() {
+        int hashCode = 1;
+        for (Student student : this.students) {
+            hashCode = 31 * hashCode + student.getStudentNo().hashCode();
+        }
+        return hashCode;
+    }
+
+}
@@ -0,0 +1,395 @@
+package team.serenity.model.group.studentinfo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javafx.collections.ModifiableObservableListBase;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+
+/**
+ * An observable list of the {@code StudentInfo} of a lesson that is stored column by column.
+ * The students are kept in a {@code Roster} that can be shared with the other lessons of the group,
+ * whether each student is present or flagged is kept in two {@code BitSet}s, and the participation scores
+ * are kept in a byte array, all indexed by the position of the student in the roster.
+ * {@code StudentInfo} objects are only created when an element of the list is read.
+ * The attendance and participation columns can be loaded lazily, in which case they are only filled in
+ * the first time an element is read or changed; the size of the list, its students and the information of
+ * the students whose attendance is flagged are known beforehand.
+ */
+class StudentInfoColumns extends ModifiableObservableListBase<StudentInfo> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Roster roster = new Roster();
+    private boolean isRosterShared = false;
+    private final BitSet present = new BitSet();
+    private final BitSet flagged = new BitSet();
+    private byte[] scores = new byte[INITIAL_CAPACITY];
+    private Supplier<? extends List<StudentInfo>> columnsLoader;
+    private List<StudentInfo> flaggedBeforeLoading = Collections.emptyList();
+
+    @Override
+    public StudentInfo get(int index) {
+        Objects.checkIndex(index, size());
+        loadColumns();
+        return new StudentInfo(this.roster.get(index), new Participation(this.scores[index]),
+                new Attendance(this.present.get(index), this.flagged.get(index)));
+    }
+
+    @Override
+    public int size() {
+        return this.roster.size();
+    }
+
+    /**
+     * Returns the position of the student with {@code studentNumber}, or -1 if there is no such student.
+     */
+    int indexOf(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return this.roster.indexOf(studentNumber);
+    }
+
+    @Override
+    protected void doAdd(int index, StudentInfo element) {
+        requireNonNull(element);
+        int size = size();
+        Objects.checkIndex(index, size + 1);
+        loadColumns();
+        ownRoster().add(index, element.getStudent());
+        ensureCapacity(size + 1);
+        System.arraycopy(this.scores, index, this.scores, index + 1, size - index);
+        shiftRight(this.present, index, size);
+        shiftRight(this.flagged, index, size);
+        writeColumns(index, element);
+    }
+
+    @Override
+    protected StudentInfo doSet(int index, StudentInfo element) {
+        requireNonNull(element);
+        StudentInfo previous = get(index);
+        if (!this.roster.get(index).equals(element.getStudent())) {
+            ownRoster().set(index, element.getStudent());
+        }
+        writeColumns(index, element);
+        return previous;
+    }
+
+    @Override
+    protected StudentInfo doRemove(int index) {
+        StudentInfo previous = get(index);
+        int size = size();
+        ownRoster().remove(index);
+        System.arraycopy(this.scores, index + 1, this.scores, index, size - index - 1);
+        shiftLeft(this.present, index, size);
+        shiftLeft(this.flagged, index, size);
+        return previous;
+    }
+
+    /**
+     * Replaces the contents of this list in one pass and fires a single change.
+     * The roster is kept, and stays shared, if {@code studentsInfo} lists the same students in the same order.
+     */
+    @Override
+    public boolean setAll(Collection<? extends StudentInfo> studentsInfo) {
+        requireNonNull(studentsInfo);
+        List<StudentInfo> replacement = new ArrayList<>(studentsInfo);
+        List<StudentInfo> removed = getRemovedForChange();
+        List<Student> students = new ArrayList<>(replacement.size());
+        for (StudentInfo studentInfo : replacement) {
+            students.add(studentInfo.getStudent());
+        }
+        if (!this.roster.hasSameStudents(students)) {
+            this.roster = new Roster(students);
+            this.isRosterShared = false;
+        }
+
+        this.columnsLoader = null;
+        this.present.clear();
+        this.flagged.clear();
+        this.scores = new byte[Math.max(INITIAL_CAPACITY, replacement.size())];
+        for (int i = 0; i < replacement.size(); i++) {
+            writeColumns(i, replacement.get(i));
+        }
+        fireReplaceAll(removed);
+        return true;
+    }
+
+    /**
+     * Removes all elements in one pass and fires a single change.
+     */
+    @Override
+    public void clear() {
+        if (isEmpty()) {
+            return;
+        }
+        List<StudentInfo> removed = getRemovedForChange();
+        this.roster = new Roster();
+        this.isRosterShared = false;
+        this.columnsLoader = null;
+        this.present.clear();
+        this.flagged.clear();
+        this.scores = new byte[INITIAL_CAPACITY];
+        beginChange();
+        nextRemove(0, removed);
+        endChange();
+    }
+
+    /**
+     * Sorts the list and fires a single change, instead of one change per moved element.
+     */
+    @Override
+    public void sort(Comparator<? super StudentInfo> comparator) {
+        List<StudentInfo> sorted = new ArrayList<>(this);
+        sorted.sort(comparator);
+        setAll(sorted);
+    }
+
+    /**
+     * Replaces the contents of this list with a copy of {@code other}, sharing its roster.
+     * If the columns of {@code other} have not been loaded yet, the copy loads them lazily as well.
+     */
+    void copyColumnsOf(StudentInfoColumns other) {
+        requireNonNull(other);
+        if (other == this) {
+            return;
+        }
+        List<StudentInfo> removed = getRemovedForChange();
+        shareRoster(other);
+        this.columnsLoader = other.columnsLoader;
+        this.flaggedBeforeLoading = other.flaggedBeforeLoading;
+        this.present.clear();
+        this.present.or(other.present);
+        this.flagged.clear();
+        this.flagged.or(other.flagged);
+        this.scores = other.scores.clone();
+        fireReplaceAll(removed);
+    }
+
+    /**
+     * Shares the roster of {@code other} if it lists the same students in the same order as this list.
+     *
+     * @return True if both lists now share the same roster.
+     */
+    boolean shareRosterWith(StudentInfoColumns other) {
+        requireNonNull(other);
+        if (this.roster == other.roster) {
+            return true;
+        }
+        if (!this.roster.hasSameStudents(other.roster)) {
+            return false;
+        }
+        shareRoster(other);
+        return true;
+    }
+
+    /**
+     * Returns the information of the students whose attendance is flagged, in order,
+     * without loading the columns if they have not been loaded yet.
+     */
+    List<StudentInfo> getFlagged() {
+        if (this.columnsLoader != null) {
+            return this.flaggedBeforeLoading;
+        }
+        List<StudentInfo> flaggedStudentsInfo = new ArrayList<>();
+        for (int i = this.flagged.nextSetBit(0); i >= 0 && i < size(); i = this.flagged.nextSetBit(i + 1)) {
+            flaggedStudentsInfo.add(get(i));
+        }
+        return flaggedStudentsInfo;
+    }
+
+    /**
+     * Sets the attendance of every student to {@code attendance}, by filling the attendance columns.
+     */
+    void setAttendanceOfAll(Attendance attendance) {
+        requireNonNull(attendance);
+        loadColumns();
+        int size = size();
+        this.present.clear();
+        this.flagged.clear();
+        if (attendance.isPresent()) {
+            this.present.set(0, size);
+        }
+        if (attendance.isFlagged()) {
+            this.flagged.set(0, size);
+        }
+        fireUpdateAll();
+    }
+
+    /**
+     * Replaces the element at each of {@code indices} with the element of {@code studentsInfo} in the same position,
+     * and fires a single change for all of them.
+     */
+    void setEach(int[] indices, List<StudentInfo> studentsInfo) {
+        requireNonNull(indices);
+        requireNonNull(studentsInfo);
+        assert indices.length == studentsInfo.size();
+        beginChange();
+        try {
+            for (int i = 0; i < indices.length; i++) {
+                set(indices[i], studentsInfo.get(i));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the contents of this list, which must not have any listeners yet, with the information
+     * of {@code students}. Their attendance and participation are only read from {@code columnsLoader}
+     * the first time they are needed, and must be listed for the same students in the same order.
+     * Until then, {@code flaggedStudentsInfo} is used as the information of the students whose attendance is flagged.
+     */
+    void setColumnsLoader(List<Student> students, List<StudentInfo> flaggedStudentsInfo,
+            Supplier<? extends List<StudentInfo>> columnsLoader) {
+        requireNonNull(students);
+        requireNonNull(flaggedStudentsInfo);
+        requireNonNull(columnsLoader);
+        this.roster = new Roster(students);
+        this.isRosterShared = false;
+        this.present.clear();
+        this.flagged.clear();
+        this.scores = new byte[Math.max(INITIAL_CAPACITY, students.size())];
+        this.columnsLoader = columnsLoader;
+        this.flaggedBeforeLoading = List.copyOf(flaggedStudentsInfo);
+        this.modCount++;
+    }
+
+    /**
+     * Returns true if the attendance and participation columns have been filled in.
+     */
+    boolean isLoaded() {
+        return this.columnsLoader == null;
+    }
+
+    /**
+     * Fills in the attendance and participation columns from the columns loader, if they have not been loaded yet.
+     */
+    private void loadColumns() {
+        if (this.columnsLoader == null) {
+            return;
+        }
+        List<StudentInfo> studentsInfo = this.columnsLoader.get();
+        this.columnsLoader = null;
+        this.flaggedBeforeLoading = Collections.emptyList();
+        if (studentsInfo.size() != size()) {
+            throw new IllegalStateException("Loaded " + studentsInfo.size() + " students instead of " + size());
+        }
+        for (int i = 0; i < studentsInfo.size(); i++) {
+            writeColumns(i, studentsInfo.get(i));
+        }
+    }
+
+    private void shareRoster(StudentInfoColumns other) {
+        this.roster = other.roster;
+        this.isRosterShared = true;
+        other.isRosterShared = true;
+    }
+
+    /**
+     * Returns the roster of this list, copying it first if it is shared with another list.
+     */
+    private Roster ownRoster() {
+        if (this.isRosterShared) {
+            this.roster = this.roster.copy();
+            this.isRosterShared = false;
+        }
+        return this.roster;
+    }
+
+    private void writeColumns(int index, StudentInfo studentInfo) {
+        Attendance attendance = studentInfo.getAttendance();
+        this.present.set(index, attendance.isPresent());
+        this.flagged.set(index, attendance.isFlagged());
+        this.scores[index] = (byte) studentInfo.getParticipation().getScore();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.scores.length) {
+            this.scores = Arrays.copyOf(this.scores, Math.max(capacity, this.scores.length * 2));
+        }
+    }
+
+    /**
+     * Moves the bits from {@code index} up to {@code size} one position up, leaving the bit at {@code index} clear.
+     */
+    private static void shiftRight(BitSet bits, int index, int size) {
+        for (int i = size; i > index; i--) {
+            bits.set(i, bits.get(i - 1));
+        }
+        bits.clear(index);
+    }
+
+    /**
+     * Moves the bits after {@code index} up to {@code size} one position down, leaving the last bit clear.
+     */
+    private static void shiftLeft(BitSet bits, int index, int size) {
+        for (int i = index; i < size - 1; i++) {
+            bits.set(i, bits.get(i + 1));
+        }
+        bits.clear(size - 1);
+    }
+
+    /**
+     * Returns the elements to report as removed by a change to the whole list. They are only created
+     * if someone is listening, since nobody else needs them.
+     */
+    private List<StudentInfo> getRemovedForChange() {
+        return hasListeners() ? new ArrayList<>(this) : Collections.emptyList();
+    }
+
+    private void fireReplaceAll(List<StudentInfo> removed) {
+        this.modCount++;
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    private void fireUpdateAll() {
+        beginChange();
+        for (int i = 0; i < size(); i++) {
+            nextUpdate(i);
+        }
+        endChange();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StudentInfoColumns)) {
+            return super.equals(other);
+        }
+        StudentInfoColumns otherColumns = (StudentInfoColumns) other;
+        if (this.columnsLoader != null && this.columnsLoader == otherColumns.columnsLoader) {
+            // Both are unchanged copies of the same list, so they are equal without loading either of them
+            return this.roster.hasSameStudents(otherColumns.roster);
+        }
+        loadColumns();
+        otherColumns.loadColumns();
+        int size = size();
+        return size == otherColumns.size()
+                && this.present.equals(otherColumns.present)
+                && this.flagged.equals(otherColumns.flagged)
+                && Arrays.equals(this.scores, 0, size, otherColumns.scores, 0, size)
+                && this.roster.hasSameStudents(otherColumns.roster);
+    }
+
+    @Override
+    public int hashCode() {
+        loadColumns();
+        return Objects.hash(this.roster.hashCodeOfStudentNumbers(), this.present, this.flagged,
+                Arrays.hashCode(Arrays.copyOf(this.scores, size())));
+    }
+
+}
@@ -6,6 +6,8 @@ import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -15,15 +17,19 @@ import team.serenity.model.group.exceptions.DuplicateStudentInfoException;
 import team.serenity.model.group.exceptions.NotFoundException;
 import team.serenity.model.group.exceptions.StudentInfoNotFoundException;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
 import team.serenity.model.util.UniqueList;
+import team.serenity.model.util.UniqueListIndex;
 
 /**
  * A list of Students Info that enforces uniqueness between its elements and does not allow nulls.
- * A Student Info is considered unique by comparing using {@code StudentInfo#equal(Object)}.
+ * A Student Info is considered unique by the {@code StudentNumber} of its student, which the list is indexed by
+ * so that lookups do not need to scan the list.
+ * The attendance and participation of the students are stored in columns, see {@link StudentInfoColumns}.
  */
 public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
 
-    private final ObservableList<StudentInfo> internalList = FXCollections.observableArrayList();
+    private final StudentInfoColumns internalList = new StudentInfoColumns();
     private final ObservableList<StudentInfo> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -48,7 +54,15 @@ public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
     @Override
     public boolean contains(StudentInfo toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::equals);
+        return positionOf(toCheck) != -1;
+    }
+
+    /**
+     * Returns the position of the student info equal to {@code studentInfo}, or -1 if there is no such student info.
+     */
+    private int positionOf(StudentInfo studentInfo) {
+        int index = this.internalList.indexOf(studentInfo.getStudent().getStudentNo());
+        return index != -1 && this.internalList.get(index).equals(studentInfo) ? index : -1;
     }
 
     /**
@@ -57,7 +71,7 @@ public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
     @Override
     public void add(StudentInfo toAdd) throws DuplicateException {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (this.internalList.indexOf(toAdd.getStudent().getStudentNo()) != -1) {
             throw new DuplicateStudentInfoException();
         }
         this.internalList.add(toAdd);
@@ -76,13 +90,11 @@ public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
      * Removes the student info from the list of a particular student.
      */
     private void removeByStudent(Student student) {
-        for (StudentInfo studentInfo : this.internalList) {
-            if (studentInfo.getStudent().equals(student)) {
-                this.internalList.remove(studentInfo);
-                return;
-            }
+        int index = this.internalList.indexOf(student.getStudentNo());
+        if (index == -1 || !this.internalList.get(index).getStudent().equals(student)) {
+            throw new StudentInfoNotFoundException();
         }
-        throw new StudentInfoNotFoundException();
+        this.internalList.remove(index);
     }
 
     @Override
@@ -101,20 +113,89 @@ public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
 
         requireAllNonNull(target, editedStudentInfo);
 
-        int index = this.internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new StudentInfoNotFoundException();
         }
 
-        if (!target.equals(editedStudentInfo) && contains(editedStudentInfo)) {
+        if (!target.containsStudent(editedStudentInfo.getStudent())
+                && this.internalList.indexOf(editedStudentInfo.getStudent().getStudentNo()) != -1) {
             throw new DuplicateStudentInfoException();
         }
 
         this.internalList.set(index, editedStudentInfo);
     }
 
+    /**
+     * Returns the position of the student info of the student with {@code studentNumber},
+     * or -1 if there is no such student info.
+     */
+    public int indexOf(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return this.internalList.indexOf(studentNumber);
+    }
+
+    /**
+     * Replaces the attendance of the student with {@code studentNumber} in place.
+     * Listeners of the list are notified of a single replaced student info.
+     *
+     * @return The updated student info.
+     */
+    public StudentInfo setAttendance(StudentNumber studentNumber, Attendance attendance) throws NotFoundException {
+        requireAllNonNull(studentNumber, attendance);
+        return updateStudentInfo(studentNumber, studentInfo -> studentInfo.updateAttendance(attendance));
+    }
+
+    /**
+     * Replaces the participation of the student with {@code studentNumber} in place.
+     * Listeners of the list are notified of a single replaced student info.
+     *
+     * @return The updated student info.
+     */
+    public StudentInfo setParticipation(StudentNumber studentNumber, Participation participation)
+            throws NotFoundException {
+        requireAllNonNull(studentNumber, participation);
+        return updateStudentInfo(studentNumber, studentInfo -> studentInfo.updateParticipation(participation));
+    }
+
+    /**
+     * Replaces the student info of each student in {@code updatedStudentsInfo} in place.
+     * Every student must already be in the list, and nothing is replaced if any of them is not.
+     * Listeners of the list are notified of a single change.
+     */
+    public void setStudentsInfo(List<StudentInfo> updatedStudentsInfo) throws NotFoundException {
+        requireAllNonNull(updatedStudentsInfo);
+        int[] indices = new int[updatedStudentsInfo.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = this.internalList.indexOf(updatedStudentsInfo.get(i).getStudent().getStudentNo());
+            if (indices[i] == -1) {
+                throw new StudentInfoNotFoundException();
+            }
+        }
+        this.internalList.setEach(indices, updatedStudentsInfo);
+    }
+
+    private StudentInfo updateStudentInfo(StudentNumber studentNumber, UnaryOperator<StudentInfo> update) {
+        int index = this.internalList.indexOf(studentNumber);
+        if (index == -1) {
+            throw new StudentInfoNotFoundException();
+        }
+        StudentInfo updatedStudentInfo = update.apply(this.internalList.get(index));
+        this.internalList.set(index, updatedStudentInfo);
+        return updatedStudentInfo;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * If {@code replacement} is also a {@code UniqueStudentInfoList}, its students are shared instead of copied.
+     */
+    @Override
     public void setElementsWithUniqueList(UniqueList<StudentInfo> replacement) {
         requireNonNull(replacement);
+        if (replacement instanceof UniqueStudentInfoList) {
+            this.internalList.copyColumnsOf(((UniqueStudentInfoList) replacement).internalList);
+            return;
+        }
         this.internalList.setAll(replacement.getList());
     }
 
@@ -130,6 +211,56 @@ public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
         this.internalList.setAll(studentsInfo);
     }
 
+    /**
+     * Replaces the contents of this list with the information of {@code students}, in order, whose attendance
+     * and participation are only read from {@code loader} the first time any of them is needed.
+     * {@code loader} must return the information of the same students in the same order, and
+     * {@code flaggedStudentsInfo} must be the information it returns for the students whose attendance is flagged.
+     * Should only be used on a new list.
+     */
+    public void setElementsLazily(List<Student> students, List<StudentInfo> flaggedStudentsInfo,
+            Supplier<? extends List<StudentInfo>> loader) throws DuplicateException {
+        requireAllNonNull(students, flaggedStudentsInfo, loader);
+        if (!UniqueListIndex.hasUniqueKeys(students, Student::getStudentNo)) {
+            throw new DuplicateStudentInfoException();
+        }
+        this.internalList.setColumnsLoader(students, flaggedStudentsInfo, loader);
+    }
+
+    /**
+     * Returns true if the attendance and participation of the students in this list have been loaded.
+     */
+    public boolean isLoaded() {
+        return this.internalList.isLoaded();
+    }
+
+    /**
+     * Returns the information of the students whose attendance is flagged, in order.
+     * The attendance and participation of the other students are not loaded for this.
+     */
+    public List<StudentInfo> getFlaggedStudentsInfo() {
+        return this.internalList.getFlagged();
+    }
+
+    /**
+     * Sets the attendance of every student in the list to {@code attendance}.
+     */
+    public void setAttendanceOfAll(Attendance attendance) {
+        requireNonNull(attendance);
+        this.internalList.setAttendanceOfAll(attendance);
+    }
+
+    /**
+     * Shares the students of {@code other} with this list if both lists have the same students in the same order,
+     * so that they are only stored once.
+     *
+     * @return True if the students are now shared.
+     */
+    public boolean shareStudentsWith(UniqueStudentInfoList other) {
+        requireNonNull(other);
+        return this.internalList.shareRosterWith(other.internalList);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -159,14 +290,7 @@ public class UniqueStudentInfoList implements UniqueList<StudentInfo> {
      */
     @Override
     public boolean elementsAreUnique(List<StudentInfo> studentsInfo) {
-        for (int i = 0; i < studentsInfo.size() - 1; i++) {
-            for (int j = i + 1; j < studentsInfo.size(); j++) {
-                if (studentsInfo.get(i).equals(studentsInfo.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return UniqueListIndex.hasUniqueKeys(studentsInfo, studentInfo -> studentInfo.getStudent().getStudentNo());
     }
 
 }
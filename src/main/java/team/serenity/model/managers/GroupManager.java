@@ -2,29 +2,39 @@ package team.serenity.model.managers;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupName;
 import team.serenity.model.group.UniqueGroupList;
+import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.util.UniqueList;
 
 /**
  * Manages tutorial groups.
+ * Counts the changes made to the groups, and to the students, lessons and student information of each group,
+ * by listening to their lists, so that changes made through a group directly are counted as well.
+ * The count when each group last changed is kept as well, so that unchanged groups can be told apart.
  */
 public class GroupManager implements ReadOnlyGroupManager {
 
     private final UniqueList<Group> listOfGroups;
+    private final Map<Group, GroupWatcher> groupWatchers = new IdentityHashMap<>();
+    private long modificationCount = 0;
+    private final ListChangeListener<Group> onGroupsChanged = this::onGroupsChanged;
 
     /**
      * Instantiates a new QuestionManager.
      */
     public GroupManager() {
-        this.listOfGroups = new UniqueGroupList();
+        this(new UniqueGroupList());
     }
 
     /**
@@ -32,12 +42,18 @@ public class GroupManager implements ReadOnlyGroupManager {
      * @param toBeCopied The GroupManager involved.
      */
     public GroupManager(ReadOnlyGroupManager toBeCopied) {
-        this.listOfGroups = new UniqueGroupList();
+        this(new UniqueGroupList());
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a GroupManager that manages {@code groups}.
+     */
     public GroupManager(UniqueList<Group> groups) {
+        requireNonNull(groups);
         this.listOfGroups = groups;
+        this.listOfGroups.getList().addListener(this.onGroupsChanged);
+        this.listOfGroups.forEach(this::watchGroup);
     }
 
     // Methods that overrides the whole group list
@@ -144,6 +160,38 @@ public class GroupManager implements ReadOnlyGroupManager {
         this.listOfGroups.remove(group);
     }
 
+    @Override
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    @Override
+    public long getModificationCount(Group group) {
+        requireNonNull(group);
+        GroupWatcher groupWatcher = this.groupWatchers.get(group);
+        return groupWatcher == null ? -1 : groupWatcher.lastModificationCount;
+    }
+
+    private void onGroupsChanged(ListChangeListener.Change<? extends Group> change) {
+        this.modificationCount++;
+        while (change.next()) {
+            change.getRemoved().forEach(this::unwatchGroup);
+            change.getAddedSubList().forEach(this::watchGroup);
+        }
+    }
+
+    private void watchGroup(Group group) {
+        unwatchGroup(group);
+        this.groupWatchers.put(group, new GroupWatcher(group));
+    }
+
+    private void unwatchGroup(Group group) {
+        GroupWatcher groupWatcher = this.groupWatchers.remove(group);
+        if (groupWatcher != null) {
+            groupWatcher.unwatch();
+        }
+    }
+
     //util Methods
 
     @Override
@@ -164,4 +212,49 @@ public class GroupManager implements ReadOnlyGroupManager {
                 + this.listOfGroups.getList().stream().map(Group::toString).collect(Collectors.joining("\n"))
                 + "\n Total number of groups: " + this.listOfGroups.size();
     }
+
+    /**
+     * Listens to the students, lessons and student information of a group, and counts their changes.
+     */
+    private class GroupWatcher {
+
+        private final Group group;
+        private final ListChangeListener<Object> countModification = change -> countModification();
+        private final ListChangeListener<Lesson> onLessonsChanged = this::onLessonsChanged;
+        private long lastModificationCount;
+
+        GroupWatcher(Group group) {
+            this.group = group;
+            countModification();
+            group.getStudents().getList().addListener(this.countModification);
+            group.getLessons().getList().addListener(this.onLessonsChanged);
+            group.getLessons().forEach(this::watchLesson);
+        }
+
+        void unwatch() {
+            this.group.getStudents().getList().removeListener(this.countModification);
+            this.group.getLessons().getList().removeListener(this.onLessonsChanged);
+            this.group.getLessons().forEach(this::unwatchLesson);
+        }
+
+        private void countModification() {
+            this.lastModificationCount = ++GroupManager.this.modificationCount;
+        }
+
+        private void onLessonsChanged(ListChangeListener.Change<? extends Lesson> change) {
+            countModification();
+            while (change.next()) {
+                change.getRemoved().forEach(this::unwatchLesson);
+                change.getAddedSubList().forEach(this::watchLesson);
+            }
+        }
+
+        private void watchLesson(Lesson lesson) {
+            lesson.getStudentsInfo().getList().addListener(this.countModification);
+        }
+
+        private void unwatchLesson(Lesson lesson) {
+            lesson.getStudentsInfo().getList().removeListener(this.countModification);
+        }
+    }
 }
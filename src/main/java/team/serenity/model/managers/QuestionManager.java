@@ -4,37 +4,50 @@ import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.exceptions.DuplicateQuestionException;
 import team.serenity.model.group.exceptions.QuestionNotFoundException;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.question.Question;
+import team.serenity.model.group.question.QuestionIndex;
+import team.serenity.model.group.question.QuestionSimilarityIndex;
 import team.serenity.model.group.question.UniqueQuestionList;
-import team.serenity.model.util.UniqueList;
 
 /**
  * Wraps all data at the QuestionManager level
  * Duplicates are not allowed (by .equals comparison)
+ * The questions are kept in a partition per lesson, see {@link UniqueQuestionList}.
+ * The descriptions of the questions are indexed as the questions change, see {@link QuestionIndex},
+ * and so are the questions similar to each other, see {@link QuestionSimilarityIndex}.
+ * Each index is only built the first time it is searched, so that copies which are never searched,
+ * such as the ones being saved, do not index their questions.
  */
 public class QuestionManager implements ReadOnlyQuestionManager {
 
-    private final UniqueList<Question> listOfQuestions;
+    private final UniqueQuestionList listOfQuestions;
+    private QuestionIndex questionIndex;
+    private QuestionSimilarityIndex similarityIndex;
+    private long modificationCount = 0;
 
     /**
      * Instantiates a new QuestionManager.
      */
     public QuestionManager() {
         this.listOfQuestions = new UniqueQuestionList();
+        this.listOfQuestions.getList().addListener((ListChangeListener<Question>) change -> this.modificationCount++);
     }
 
     /**
      * Creates a QuestionManager using the Questions in the {@code toBeCopied}
      */
     public QuestionManager(ReadOnlyQuestionManager toBeCopied) {
-        this.listOfQuestions = new UniqueQuestionList();
+        this();
         resetData(toBeCopied);
     }
 
@@ -47,6 +60,8 @@ public class QuestionManager implements ReadOnlyQuestionManager {
     public void setQuestions(List<Question> newListOfQuestions) {
         requireNonNull(newListOfQuestions);
         this.listOfQuestions.setElementsWithList(newListOfQuestions);
+        this.questionIndex = null;
+        this.similarityIndex = null;
     }
 
     /**
@@ -65,6 +80,11 @@ public class QuestionManager implements ReadOnlyQuestionManager {
         return this.listOfQuestions.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
     // Question-level operations
 
     /**
@@ -85,6 +105,7 @@ public class QuestionManager implements ReadOnlyQuestionManager {
             throw new DuplicateQuestionException();
         }
         this.listOfQuestions.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -99,6 +120,8 @@ public class QuestionManager implements ReadOnlyQuestionManager {
             throw new DuplicateQuestionException();
         }
         this.listOfQuestions.setElement(target, editedQuestion);
+        removeFromIndexes(target);
+        addToIndexes(editedQuestion);
     }
 
     /**
@@ -111,30 +134,108 @@ public class QuestionManager implements ReadOnlyQuestionManager {
             throw new QuestionNotFoundException();
         }
         this.listOfQuestions.remove(toDelete);
+        removeFromIndexes(toDelete);
+    }
+
+    /**
+     * Returns the questions whose description contains any of {@code keywords}, ignoring case.
+     */
+    public Set<Question> findQuestions(List<String> keywords) {
+        requireNonNull(keywords);
+        return getQuestionIndex().find(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} of the questions whose description contains any of {@code keywords}, ignoring case,
+     * from the most to the least relevant.
+     */
+    public List<Question> rankQuestions(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return getQuestionIndex().rank(keywords, limit);
+    }
+
+    /**
+     * Returns the questions that are similar to {@code question} in any group and lesson, other than
+     * {@code question} itself, from the most to the least similar.
+     */
+    public List<Question> findSimilarQuestions(Question question) {
+        requireNonNull(question);
+        return getSimilarityIndex().findSimilar(question);
+    }
+
+    /**
+     * Returns the groups of questions that are similar to each other, across all groups and lessons.
+     */
+    public List<List<Question>> getSimilarQuestionClusters() {
+        return getSimilarityIndex().getClusters();
     }
 
     /**
      * Deletes the all questions with the given {@code group} from this {@code QuestionManager}.
+     * Only the questions of the lessons of {@code group} are looked at.
      */
     public void deleteAllQuestionsFromGroup(Group group) {
         requireNonNull(group);
-        List<Question> newListOfQuestions = this.listOfQuestions.stream()
-                .filter(qn -> !qn.getGroupName().equals(group.getGroupName())).collect(Collectors.toList());
-        this.setQuestions(newListOfQuestions);
+        this.listOfQuestions.removeQuestionsOf(group.getGroupName()).forEach(this::removeFromIndexes);
     }
 
     /**
      * Deletes the all questions with the given {@code group} and {@code lesson} from this {@code QuestionManager}.
+     * Only the questions of {@code lesson} are looked at.
      */
     public void deleteAllQuestionsFromGroupLesson(Group group, Lesson lesson) {
         requireAllNonNull(group, lesson);
-        List<Question> newListOfQuestions = this.listOfQuestions.stream()
-                .filter(qn -> {
-                    return !qn.getGroupName().equals(group.getGroupName())
-                        || (qn.getGroupName().equals(group.getGroupName())
-                        && !qn.getLessonName().equals(lesson.getLessonName()));
-                }).collect(Collectors.toList());
-        this.setQuestions(newListOfQuestions);
+        GroupLessonKey key = new GroupLessonKey(group.getGroupName(), lesson.getLessonName());
+        this.listOfQuestions.removeQuestionsOf(key).forEach(this::removeFromIndexes);
+    }
+
+    /**
+     * Returns the index of the descriptions of the questions, building it if it has not been built yet.
+     */
+    private QuestionIndex getQuestionIndex() {
+        if (this.questionIndex == null) {
+            this.questionIndex = new QuestionIndex();
+            this.listOfQuestions.getList().forEach(this.questionIndex::add);
+        }
+        return this.questionIndex;
+    }
+
+    /**
+     * Returns the index of the questions similar to each other, building it if it has not been built yet.
+     */
+    private QuestionSimilarityIndex getSimilarityIndex() {
+        if (this.similarityIndex == null) {
+            this.similarityIndex = new QuestionSimilarityIndex();
+            this.listOfQuestions.getList().forEach(this.similarityIndex::add);
+        }
+        return this.similarityIndex;
+    }
+
+    private void addToIndexes(Question question) {
+        if (this.questionIndex != null) {
+            this.questionIndex.add(question);
+        }
+        if (this.similarityIndex != null) {
+            this.similarityIndex.add(question);
+        }
+    }
+
+    private void removeFromIndexes(Question question) {
+        if (this.questionIndex != null) {
+            this.questionIndex.remove(question);
+        }
+        if (this.similarityIndex != null) {
+            this.similarityIndex.remove(question);
+        }
+    }
+
+    /**
+     * Returns the questions of the lesson with {@code key} as an unmodifiable list,
+     * which stays up to date as the questions of the lesson change.
+     */
+    public ObservableList<Question> getQuestionsOf(GroupLessonKey key) {
+        requireNonNull(key);
+        return this.listOfQuestions.getQuestionsOf(key);
     }
 
     // Util Methods
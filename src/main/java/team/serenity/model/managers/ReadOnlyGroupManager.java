@@ -12,4 +12,17 @@ public interface ReadOnlyGroupManager {
      * this list will not contain any duplicate groups
      */
     public ObservableList<Group> getListOfGroups();
+
+    /**
+     * Returns the number of changes made to the groups, including their students, lessons and student information.
+     * The count only ever increases, so an unchanged count means that the groups have not changed.
+     */
+    public long getModificationCount();
+
+    /**
+     * Returns the modification count of the groups when {@code group}, or its students, lessons or student
+     * information, last changed or was added, or -1 if it is not one of the groups.
+     * The count stays the same as long as the group is not changed, removed or added again.
+     */
+    public long getModificationCount(Group group);
 }
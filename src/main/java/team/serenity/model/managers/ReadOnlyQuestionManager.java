@@ -12,4 +12,10 @@ public interface ReadOnlyQuestionManager {
      * This list will not contain any duplicate question.
      */
     ObservableList<Question> getListOfQuestions();
+
+    /**
+     * Returns the number of changes made to the questions.
+     * The count only ever increases, so an unchanged count means that the questions have not changed.
+     */
+    long getModificationCount();
 }
@@ -5,6 +5,7 @@ import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -13,7 +14,11 @@ import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.exceptions.GroupLessonPairNotFoundException;
 import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
 import team.serenity.model.util.UniqueList;
 
 public class StudentInfoManager implements ReadOnlyStudentInfoManager {
@@ -134,6 +139,72 @@ public class StudentInfoManager implements ReadOnlyStudentInfoManager {
         return this.mapToListOfStudentsInfo.get(key).asUnmodifiableObservableList();
     }
 
+    /**
+     * Replaces the attendance of the student with {@code studentNumber} in the group lesson pair, in place.
+     * @param key the given group and lesson key.
+     * @param studentNumber the student number of the student to update.
+     * @param attendance the new attendance of the student.
+     * @return The updated StudentInfo.
+     */
+    public StudentInfo updateAttendance(GroupLessonKey key, StudentNumber studentNumber, Attendance attendance)
+            throws GroupLessonPairNotFoundException {
+        requireAllNonNull(key, studentNumber, attendance);
+        return getUniqueStudentInfoList(key).setAttendance(studentNumber, attendance);
+    }
+
+    /**
+     * Replaces the participation of the student with {@code studentNumber} in the group lesson pair, in place.
+     * @param key the given group and lesson key.
+     * @param studentNumber the student number of the student to update.
+     * @param participation the new participation of the student.
+     * @return The updated StudentInfo.
+     */
+    public StudentInfo updateParticipation(GroupLessonKey key, StudentNumber studentNumber,
+                                           Participation participation) throws GroupLessonPairNotFoundException {
+        requireAllNonNull(key, studentNumber, participation);
+        return getUniqueStudentInfoList(key).setParticipation(studentNumber, participation);
+    }
+
+    /**
+     * Sets the attendance of every student in the group lesson pair to {@code attendance}, in place,
+     * as a single change.
+     * @param key the given group and lesson key.
+     * @param attendance the new attendance of the students.
+     */
+    public void updateAttendanceOfAll(GroupLessonKey key, Attendance attendance)
+            throws GroupLessonPairNotFoundException {
+        requireAllNonNull(key, attendance);
+        getUniqueStudentInfoList(key).setAttendanceOfAll(attendance);
+    }
+
+    /**
+     * Replaces the student info of each student in {@code updatedStudentsInfo} in the group lesson pair, in place,
+     * as a single change.
+     * @param key the given group and lesson key.
+     * @param updatedStudentsInfo the updated student infos of students already in the lesson.
+     */
+    public void updateStudentsInfo(GroupLessonKey key, List<StudentInfo> updatedStudentsInfo)
+            throws GroupLessonPairNotFoundException {
+        requireAllNonNull(key, updatedStudentsInfo);
+        getUniqueStudentInfoList(key).setStudentsInfo(updatedStudentsInfo);
+    }
+
+    /**
+     * Returns the position of the student with {@code studentNumber} in the group lesson pair,
+     * or -1 if the student is not in the lesson.
+     */
+    public int getPositionOfStudent(GroupLessonKey key, StudentNumber studentNumber)
+            throws GroupLessonPairNotFoundException {
+        requireAllNonNull(key, studentNumber);
+        return getUniqueStudentInfoList(key).indexOf(studentNumber);
+    }
+
+    private UniqueStudentInfoList getUniqueStudentInfoList(GroupLessonKey key) throws GroupLessonPairNotFoundException {
+        UniqueList<StudentInfo> studentsInfo = getListOfStudentsInfoFromGroupLessonKey(key);
+        assert studentsInfo instanceof UniqueStudentInfoList;
+        return (UniqueStudentInfoList) studentsInfo;
+    }
+
     /**
      * @param key
      * @param studentInfo
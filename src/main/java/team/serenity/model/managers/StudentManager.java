@@ -3,19 +3,30 @@ package team.serenity.model.managers;
 import static java.util.Objects.requireNonNull;
 import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import javafx.collections.ListChangeListener;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupName;
 import team.serenity.model.group.exceptions.GroupNotFoundException;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
 import team.serenity.model.util.UniqueList;
 
+/**
+ * Keeps the students of each group, and an index from the {@code StudentNumber} of every student to the group
+ * that the student is in. The index listens to the list of students of each group, so it stays in sync even when
+ * a list is modified through its group.
+ */
 public class StudentManager implements ReadOnlyStudentManager {
 
     private final Map<GroupName, UniqueList<Student>> mapToListOfStudents;
+    private final Map<StudentNumber, GroupName> groupOfStudent = new HashMap<>();
+    private final Map<GroupName, ListChangeListener<Student>> listeners = new HashMap<>();
 
     /**
      * Instantiates a new LessonManager
@@ -39,8 +50,10 @@ public class StudentManager implements ReadOnlyStudentManager {
      * {@code newStudentMap} must not contain duplicate students.
      */
     public void setStudents(Map<GroupName, UniqueList<Student>> newStudentMap) {
-        this.mapToListOfStudents.clear();
-        this.mapToListOfStudents.putAll(newStudentMap);
+        for (GroupName group : new ArrayList<>(this.mapToListOfStudents.keySet())) {
+            removeListOfStudents(group);
+        }
+        newStudentMap.forEach(this::putListOfStudents);
     }
 
     /**
@@ -53,7 +66,7 @@ public class StudentManager implements ReadOnlyStudentManager {
 
     @Override
     public Map<GroupName, UniqueList<Student>> getStudentMap() {
-        return this.mapToListOfStudents;
+        return Collections.unmodifiableMap(this.mapToListOfStudents);
     }
 
     //Student-level methods
@@ -82,7 +95,7 @@ public class StudentManager implements ReadOnlyStudentManager {
      */
     public void addListOfStudentsToGroup(GroupName group, UniqueList<Student> students) {
         requireAllNonNull(group, students);
-        this.mapToListOfStudents.put(group, students);
+        putListOfStudents(group, students);
     }
 
     /**
@@ -90,7 +103,16 @@ public class StudentManager implements ReadOnlyStudentManager {
      */
     public boolean hasStudent(Student toCheck) {
         requireNonNull(toCheck);
-        return this.mapToListOfStudents.values().stream().anyMatch(students -> students.contains(toCheck));
+        return this.groupOfStudent.containsKey(toCheck.getStudentNo());
+    }
+
+    /**
+     * Returns the name of the group that the student with {@code studentNumber} is in,
+     * or an empty Optional if no group has such a student.
+     */
+    public Optional<GroupName> getGroupNameOfStudent(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return Optional.ofNullable(this.groupOfStudent.get(studentNumber));
     }
 
     /**
@@ -131,7 +153,7 @@ public class StudentManager implements ReadOnlyStudentManager {
      */
     public void setListOfStudentsToGroup(GroupName group, UniqueList<Student> newListOfStudents) {
         requireAllNonNull(group, newListOfStudents);
-        this.mapToListOfStudents.put(group, newListOfStudents);
+        putListOfStudents(group, newListOfStudents);
     }
 
     /**
@@ -155,7 +177,68 @@ public class StudentManager implements ReadOnlyStudentManager {
      */
     public void deleteAllStudentsFromGroup(Group group) {
         requireNonNull(group);
-        this.mapToListOfStudents.remove(group.getGroupName());
+        removeListOfStudents(group.getGroupName());
+    }
+
+    // Index methods
+
+    private void putListOfStudents(GroupName group, UniqueList<Student> students) {
+        if (this.mapToListOfStudents.get(group) == students) {
+            return;
+        }
+        removeListOfStudents(group);
+        this.mapToListOfStudents.put(group, students);
+        ListChangeListener<Student> listener = change -> onStudentsChanged(group, change);
+        students.getList().addListener(listener);
+        this.listeners.put(group, listener);
+        for (Student student : students) {
+            this.groupOfStudent.putIfAbsent(student.getStudentNo(), group);
+        }
+    }
+
+    private void removeListOfStudents(GroupName group) {
+        UniqueList<Student> students = this.mapToListOfStudents.remove(group);
+        if (students == null) {
+            return;
+        }
+        students.getList().removeListener(this.listeners.remove(group));
+        for (Student student : students) {
+            removeFromIndex(group, student);
+        }
+    }
+
+    private void onStudentsChanged(GroupName group, ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            for (Student removed : change.getRemoved()) {
+                removeFromIndex(group, removed);
+            }
+            for (Student added : change.getAddedSubList()) {
+                this.groupOfStudent.putIfAbsent(added.getStudentNo(), group);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code student} of {@code group} from the index, unless the student is still in that group.
+     * The same student may also be in another group, as adding a student to a group does not look at the other
+     * groups, in which case the student is indexed under that group instead.
+     */
+    private void removeFromIndex(GroupName group, Student student) {
+        StudentNumber studentNumber = student.getStudentNo();
+        GroupName indexedGroup = this.groupOfStudent.get(studentNumber);
+        if (!group.equals(indexedGroup)) {
+            return;
+        }
+        UniqueList<Student> students = this.mapToListOfStudents.get(group);
+        if (students != null && students.contains(student)) {
+            return;
+        }
+
+        this.groupOfStudent.remove(studentNumber);
+        this.mapToListOfStudents.entrySet().stream()
+            .filter(entry -> entry.getValue().contains(student))
+            .findFirst()
+            .ifPresent(entry -> this.groupOfStudent.put(studentNumber, entry.getKey()));
     }
 
     //util methods
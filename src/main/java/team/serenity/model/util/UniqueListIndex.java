@@ -0,0 +1,123 @@
+package team.serenity.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A hash index from a key to the position of the element with that key in an {@code ObservableList}.
+ * The index listens to the list, so it stays in sync even when the list is modified directly.
+ * Appends and in-place replacements are applied incrementally, while any other structural change
+ * marks the index as stale, and it is then rebuilt in a single pass on the next lookup.
+ *
+ * @param <K> Type of the key identifying an element.
+ * @param <T> Type of the elements in the list.
+ */
+public class UniqueListIndex<K, T> {
+
+    private final ObservableList<T> list;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Map<K, Integer> positions = new HashMap<>();
+    private boolean isStale = false;
+
+    /**
+     * Creates an index over {@code list}, using {@code keyExtractor} to obtain the key of each element.
+     */
+    public UniqueListIndex(ObservableList<T> list, Function<? super T, ? extends K> keyExtractor) {
+        requireNonNull(list);
+        requireNonNull(keyExtractor);
+        this.list = list;
+        this.keyExtractor = keyExtractor;
+        this.list.addListener(this::onChanged);
+        rebuild();
+    }
+
+    /**
+     * Returns the key of {@code element}.
+     */
+    public K keyOf(T element) {
+        return this.keyExtractor.apply(element);
+    }
+
+    /**
+     * Returns true if an element with the given key is in the list.
+     */
+    public boolean containsKey(K key) {
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Returns the position of the element with the given key, or -1 if there is no such element.
+     */
+    public int indexOf(K key) {
+        requireNonNull(key);
+        if (this.isStale) {
+            rebuild();
+        }
+        Integer position = this.positions.get(key);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Returns true if no two elements of {@code elements} share the same key.
+     */
+    public static <K, T> boolean hasUniqueKeys(List<T> elements, Function<? super T, ? extends K> keyExtractor) {
+        Set<K> seen = new HashSet<>();
+        for (T element : elements) {
+            if (!seen.add(keyExtractor.apply(element))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuild() {
+        this.positions.clear();
+        for (int i = 0; i < this.list.size(); i++) {
+            this.positions.put(keyOf(this.list.get(i)), i);
+        }
+        this.isStale = false;
+    }
+
+    /**
+     * Indexes the elements from {@code from} (inclusive) to {@code to} (exclusive). If a key ends up at two
+     * positions at once, which happens briefly when elements are moved one at a time, the index is marked as stale.
+     */
+    private void putAll(int from, int to) {
+        for (int i = from; i < to; i++) {
+            K key = keyOf(this.list.get(i));
+            Integer previous = this.positions.put(key, i);
+            if (previous != null && previous != i && previous < this.list.size()
+                    && key.equals(keyOf(this.list.get(previous)))) {
+                this.isStale = true;
+            }
+        }
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (!this.isStale && change.next()) {
+            if (change.wasPermutated()) {
+                this.isStale = true;
+            } else if (change.getRemovedSize() == change.getAddedSize()) {
+                List<? extends T> removed = change.getRemoved();
+                for (int i = 0; i < removed.size(); i++) {
+                    this.positions.remove(keyOf(removed.get(i)), change.getFrom() + i);
+                }
+                putAll(change.getFrom(), change.getTo());
+            } else if (!change.wasRemoved() && change.getTo() == this.list.size()) {
+                putAll(change.getFrom(), change.getTo());
+            } else {
+                this.isStale = true;
+            }
+        }
+    }
+
+}
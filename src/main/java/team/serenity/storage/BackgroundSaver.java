@@ -0,0 +1,271 @@
+package team.serenity.storage;
+
+import static java.util.Objects.requireNonNull;
+import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import team.serenity.commons.core.LogsCenter;
+import team.serenity.commons.util.StringUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.managers.QuestionManager;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlyQuestionManager;
+
+/**
+ * Saves the changes made to the Serenity data on a background thread, so that commands do not wait for the data
+ * to be written. Each save request copies the data on the calling thread. Requests made within the debounce window
+ * of the first unsaved request are coalesced, and only the latest copy is saved.
+ * Groups or questions whose modification count has not changed since the last request are not copied again,
+ * and a request after which nothing has changed is ignored. In particular, only the groups whose own modification
+ * count has moved are copied, so the cost of a request grows with the groups that changed rather than with all data.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long debounceMillis;
+    private final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<Snapshot> unsavedSnapshot = new AtomicReference<>();
+    private volatile Snapshot lastSnapshot;
+    private volatile Consumer<IOException> onSaveFailure = exception -> { };
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage}.
+     *
+     * @param storage        the storage to save the changes to
+     * @param debounceMillis how long to wait for more changes before saving, in milliseconds
+     */
+    public BackgroundSaver(Storage storage, long debounceMillis) {
+        requireNonNull(storage);
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce window must not be negative");
+        }
+        this.storage = storage;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Sets the handler that is called on the background thread when the changes could not be saved.
+     */
+    public void setOnSaveFailure(Consumer<IOException> onSaveFailure) {
+        requireNonNull(onSaveFailure);
+        this.onSaveFailure = onSaveFailure;
+    }
+
+    /**
+     * Copies the given data and saves it once the debounce window has passed, unless a later request
+     * replaces the copy first. Does nothing if the data has not changed since the last request.
+     *
+     * @param groupManager The current groups.
+     * @param questionManager The current questions.
+     */
+    public void requestSave(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) {
+        requireAllNonNull(groupManager, questionManager);
+        Snapshot previous = this.lastSnapshot;
+        Snapshot snapshot = previous == null
+            ? new Snapshot(groupManager, questionManager)
+            : previous.update(groupManager, questionManager);
+        if (snapshot == previous) {
+            return;
+        }
+        this.lastSnapshot = snapshot;
+        if (this.unsavedSnapshot.getAndSet(snapshot) == null) {
+            this.saveExecutor.schedule(this::saveUnsavedSnapshot, this.debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the copy that has not been saved yet, if any, without waiting for the debounce window,
+     * and waits for all saves to finish.
+     *
+     * @throws IOException Thrown if the copy could not be saved.
+     */
+    public void flush() throws IOException {
+        try {
+            Snapshot snapshot = this.unsavedSnapshot.getAndSet(null);
+            if (snapshot == null) {
+                this.saveExecutor.submit(() -> { }).get();
+                return;
+            }
+            this.saveExecutor.submit(() -> {
+                save(snapshot);
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the data to be saved: " + StringUtil.getDetails(e));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Saves any unsaved changes and stops the background thread. No more saves can be requested afterwards.
+     *
+     * @throws IOException Thrown if the unsaved changes could not be saved.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            this.saveExecutor.shutdown();
+        }
+    }
+
+    private void saveUnsavedSnapshot() {
+        Snapshot snapshot = this.unsavedSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            save(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save data: " + StringUtil.getDetails(e));
+            this.onSaveFailure.accept(e);
+        }
+    }
+
+    private void save(Snapshot snapshot) throws IOException {
+        try {
+            this.storage.saveChanges(snapshot.groups, snapshot.questions);
+        } catch (IOException e) {
+            // The next request copies all the data again, so nothing is skipped because of this failed save.
+            this.lastSnapshot = null;
+            throw e;
+        }
+    }
+
+    /**
+     * A copy of the Serenity data that is not changed by later commands,
+     * along with the modification counts of the data it was copied from.
+     */
+    private static class Snapshot {
+
+        private final ReadOnlyGroupManager groupSource;
+        private final GroupCopies groups;
+        private final long groupsModificationCount;
+        private final ReadOnlyQuestionManager questionSource;
+        private final QuestionManager questions;
+        private final long questionsModificationCount;
+
+        Snapshot(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) {
+            this(groupManager, new GroupCopies(groupManager, null), questionManager,
+                new QuestionManager(questionManager));
+        }
+
+        private Snapshot(ReadOnlyGroupManager groupSource, GroupCopies groups,
+            ReadOnlyQuestionManager questionSource, QuestionManager questions) {
+            this.groupSource = groupSource;
+            this.groups = groups;
+            this.groupsModificationCount = groupSource.getModificationCount();
+            this.questionSource = questionSource;
+            this.questions = questions;
+            this.questionsModificationCount = questionSource.getModificationCount();
+        }
+
+        /**
+         * Returns a snapshot of the given data that shares the copies in this snapshot which are still up to date,
+         * or this snapshot if all of them are.
+         */
+        Snapshot update(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) {
+            boolean isGroupsChanged = groupManager != this.groupSource
+                || groupManager.getModificationCount() != this.groupsModificationCount;
+            boolean isQuestionsChanged = questionManager != this.questionSource
+                || questionManager.getModificationCount() != this.questionsModificationCount;
+            if (!isGroupsChanged && !isQuestionsChanged) {
+                return this;
+            }
+            GroupCopies groups = isGroupsChanged ? new GroupCopies(groupManager, this.groups) : this.groups;
+            return new Snapshot(groupManager, groups,
+                questionManager, isQuestionsChanged ? new QuestionManager(questionManager) : this.questions);
+        }
+    }
+
+    /**
+     * Copies of the groups of a group manager that are not changed by later commands.
+     * The copies of the groups that have not changed since an earlier {@code GroupCopies} of the same group manager
+     * are shared with it. The modification count of each copy is the one of the group it was copied from,
+     * so that the journal does not compare the copies that are shared with the data it last recorded.
+     */
+    private static class GroupCopies implements ReadOnlyGroupManager {
+
+        private final ReadOnlyGroupManager source;
+        private final long modificationCount;
+        private final ObservableList<Group> groups;
+        private final Map<Group, GroupCopy> copiesBySource = new IdentityHashMap<>();
+        private final Map<Group, Long> modificationCountsByCopy = new IdentityHashMap<>();
+
+        GroupCopies(ReadOnlyGroupManager source, GroupCopies previous) {
+            this.source = source;
+            this.modificationCount = source.getModificationCount();
+            Map<Group, GroupCopy> previousCopies = previous != null && previous.source == source
+                ? previous.copiesBySource
+                : Collections.emptyMap();
+            List<Group> groups = new ArrayList<>();
+            for (Group group : source.getListOfGroups()) {
+                long groupModificationCount = source.getModificationCount(group);
+                GroupCopy copy = previousCopies.get(group);
+                if (copy == null || copy.modificationCount != groupModificationCount) {
+                    copy = new GroupCopy(new Group(group), groupModificationCount);
+                }
+                this.copiesBySource.put(group, copy);
+                this.modificationCountsByCopy.put(copy.group, groupModificationCount);
+                groups.add(copy.group);
+            }
+            this.groups = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(groups));
+        }
+
+        @Override
+        public ObservableList<Group> getListOfGroups() {
+            return this.groups;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return this.modificationCount;
+        }
+
+        @Override
+        public long getModificationCount(Group group) {
+            return this.modificationCountsByCopy.getOrDefault(group, -1L);
+        }
+    }
+
+    /**
+     * A copy of a group, along with the modification count of the group when it was copied.
+     */
+    private static class GroupCopy {
+
+        private final Group group;
+        private final long modificationCount;
+
+        GroupCopy(Group group, long modificationCount) {
+            this.group = group;
+            this.modificationCount = modificationCount;
+        }
+    }
+
+}
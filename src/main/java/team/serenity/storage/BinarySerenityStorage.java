@@ -0,0 +1,482 @@
+package team.serenity.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import team.serenity.commons.core.LogsCenter;
+import team.serenity.commons.exceptions.DataConversionException;
+import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.commons.util.FileUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.lesson.UniqueLessonList;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.student.UniqueStudentList;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
+import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlySerenity;
+import team.serenity.model.managers.Serenity;
+import team.serenity.model.util.UniqueList;
+
+/**
+ * A class to access Serenity data stored as a binary snapshot on the hard disk, which is read with a single
+ * sequential read. The snapshot starts with a magic number, {@link #FORMAT_VERSION} and the fingerprint of the
+ * JSON files it was saved with, and ends with a CRC32 checksum of everything before it. In between, each group
+ * stores its students once, and each lesson stores the attendance of its students as two bits each and their
+ * participation scores as four bits each. Counts and positions are stored as variable-length integers.
+ * Reading a snapshot only creates the groups, their students and the names of their lessons; the attendance and
+ * participation of each lesson are only decoded the first time they are needed, e.g. when the lesson is viewed or
+ * changed.
+ * When given a {@link ShardedJsonSerenityStorage}, the JSON files remain the data, and are saved first on every save.
+ * The snapshot is then only a cache of them, which is read instead of them as long as its fingerprint matches the
+ * files, and rebuilt from them otherwise, e.g. after they were edited by hand or restored from a backup.
+ */
+public class BinarySerenityStorage implements SerenityStorage {
+
+    public static final int MAGIC = 0x53524E59;
+    public static final int FORMAT_VERSION = 2;
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySerenityStorage.class);
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final int PRESENT_BIT = 1;
+    private static final int FLAGGED_BIT = 2;
+
+    private static final int FORMAT_VERSION_WITHOUT_FINGERPRINT = 1;
+
+    private final Path filePath;
+    private final ShardedJsonSerenityStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinarySerenityStorage} for the snapshot at {@code filePath}, which holds the data itself.
+     */
+    public BinarySerenityStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.jsonStorage = null;
+    }
+
+    /**
+     * Creates a {@code BinarySerenityStorage} for the snapshot at {@code filePath},
+     * which caches the data stored in {@code jsonStorage}.
+     */
+    public BinarySerenityStorage(Path filePath, ShardedJsonSerenityStorage jsonStorage) {
+        requireNonNull(filePath);
+        requireNonNull(jsonStorage);
+        this.filePath = filePath;
+        this.jsonStorage = jsonStorage;
+    }
+
+    /**
+     * Returns the path of the snapshot for the JSON data file at {@code jsonFilePath},
+     * e.g. {@code data/serenity.bin} for {@code data/serenity.json}.
+     */
+    public static Path getBinaryFilePathFor(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the data file, which is the JSON data file if the snapshot is a cache of it.
+     */
+    @Override
+    public Path getSerenityFilePath() {
+        return this.jsonStorage == null ? this.filePath : this.jsonStorage.getSerenityFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlySerenity> readSerenity() throws IllegalValueException, DataConversionException {
+        return readSerenity(getSerenityFilePath());
+    }
+
+    /**
+     * Reads the data cached by the snapshot if {@code filePath} is the JSON data file, or else the snapshot at
+     * {@code filePath}.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySerenity> readSerenity(Path filePath)
+        throws IllegalValueException, DataConversionException {
+        requireNonNull(filePath);
+        if (this.jsonStorage != null && filePath.equals(this.jsonStorage.getSerenityFilePath())) {
+            return readCachedSerenity();
+        }
+        return readSnapshot(filePath).map(snapshot -> snapshot.serenity);
+    }
+
+    /**
+     * Reads the snapshot if it matches the JSON files, or else the JSON files, which the snapshot is then rebuilt from.
+     * A snapshot saved before it was a cache holds the only copy of the latest data, so it is saved as JSON first.
+     */
+    private Optional<ReadOnlySerenity> readCachedSerenity() throws IllegalValueException, DataConversionException {
+        Optional<Snapshot> snapshot = Optional.empty();
+        try {
+            snapshot = readSnapshot(this.filePath);
+        } catch (DataConversionException e) {
+            logger.warning("Snapshot file " + this.filePath + " could not be read, so it will be rebuilt");
+        }
+
+        if (snapshot.isPresent() && snapshot.get().version == FORMAT_VERSION_WITHOUT_FINGERPRINT) {
+            logger.info("Saving data from snapshot file " + this.filePath + " to " + getSerenityFilePath());
+            Serenity serenity = snapshot.get().serenity;
+            try {
+                saveSerenity(serenity.getGroupManager());
+            } catch (IOException e) {
+                logger.warning("Failed to save data from snapshot file " + this.filePath + ": " + e.getMessage());
+            }
+            return Optional.of(serenity);
+        }
+
+        if (snapshot.isPresent() && snapshot.get().fingerprint == getJsonFingerprint()) {
+            Serenity serenity = snapshot.get().serenity;
+            this.jsonStorage.setSavedGroups(serenity.getGroupList());
+            return Optional.of(serenity);
+        }
+
+        logger.info("Snapshot file " + this.filePath + " is missing or outdated. Reading data from "
+            + getSerenityFilePath());
+        Optional<ReadOnlySerenity> serenity = this.jsonStorage.readSerenity();
+        if (serenity.isPresent()) {
+            saveCache(serenity.get().getGroupManager());
+        }
+        return serenity;
+    }
+
+    /**
+     * Saves the groups of {@code groupManager} to the JSON files, if the snapshot is a cache of them, and then to the
+     * snapshot. The data is saved even if the snapshot cannot be, since a snapshot that does not match the JSON files
+     * is not read.
+     */
+    @Override
+    public synchronized void saveSerenity(ReadOnlyGroupManager groupManager) throws IOException {
+        requireNonNull(groupManager);
+        if (this.jsonStorage == null) {
+            writeSnapshot(groupManager, 0);
+            return;
+        }
+        this.jsonStorage.saveSerenity(groupManager);
+        saveCache(groupManager);
+    }
+
+    private void saveCache(ReadOnlyGroupManager groupManager) {
+        try {
+            writeSnapshot(groupManager, this.jsonStorage.getFingerprint());
+        } catch (IOException e) {
+            logger.warning("Failed to save snapshot file " + this.filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the JSON files, or a fingerprint no snapshot is saved with if it cannot be found.
+     */
+    private long getJsonFingerprint() {
+        try {
+            return this.jsonStorage.getFingerprint();
+        } catch (IOException e) {
+            logger.warning("Failed to look up the files in " + getSerenityFilePath() + ": " + e.getMessage());
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private void writeSnapshot(ReadOnlyGroupManager groupManager, long fingerprint) throws IOException {
+        FileUtil.createParentDirsOfFile(this.filePath);
+        FileUtil.writeToFile(this.filePath, out -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(fingerprint);
+            writeVarint(data, groupManager.getListOfGroups().size());
+            for (Group group : groupManager.getListOfGroups()) {
+                writeGroup(data, group);
+            }
+            data.flush();
+            new DataOutputStream(out).writeInt((int) checksum.getValue());
+        });
+    }
+
+    private static Optional<Snapshot> readSnapshot(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        try {
+            return Optional.of(readSnapshot(bytes));
+        } catch (IOException | RuntimeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Snapshot readSnapshot(byte[] bytes) throws IOException {
+        if (bytes.length < 2 * Integer.BYTES + CHECKSUM_LENGTH) {
+            throw new IOException("Snapshot is truncated");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - CHECKSUM_LENGTH);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - CHECKSUM_LENGTH);
+        if (ByteBuffer.wrap(bytes, bytes.length - CHECKSUM_LENGTH, CHECKSUM_LENGTH).getInt()
+            != (int) checksum.getValue()) {
+            throw new IOException("Snapshot checksum does not match its content");
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a Serenity snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_FINGERPRINT) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        long fingerprint = version == FORMAT_VERSION ? buffer.getLong() : 0;
+
+        int groupCount = readVarint(buffer);
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(readGroup(buffer));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Snapshot has unexpected data after its last group");
+        }
+        return new Snapshot(version, fingerprint, new Serenity(groups));
+    }
+
+    /**
+     * Writes the name of {@code group}, its students and its lessons. Students of its lessons that are not
+     * in the group are stored after the group's own students, so that lessons can refer to all students by position.
+     */
+    private static void writeGroup(DataOutputStream data, Group group) throws IOException {
+        List<Student> students = new ArrayList<>(group.getStudents().getList());
+        Map<StudentNumber, Integer> studentPositions = new HashMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            studentPositions.put(students.get(i).getStudentNo(), i);
+        }
+        int groupSize = students.size();
+        for (Lesson lesson : group.getLessons()) {
+            for (StudentInfo studentInfo : lesson.getStudentsInfo().getList()) {
+                Student student = studentInfo.getStudent();
+                if (!studentPositions.containsKey(student.getStudentNo())) {
+                    studentPositions.put(student.getStudentNo(), students.size());
+                    students.add(student);
+                }
+            }
+        }
+
+        writeString(data, group.getGroupName().toString());
+        writeVarint(data, groupSize);
+        writeVarint(data, students.size() - groupSize);
+        for (Student student : students) {
+            writeString(data, student.getStudentName().toString());
+            writeString(data, student.getStudentNo().toString());
+        }
+        writeVarint(data, group.getLessons().size());
+        for (Lesson lesson : group.getLessons()) {
+            writeLesson(data, lesson, studentPositions, groupSize);
+        }
+    }
+
+    private static Group readGroup(ByteBuffer buffer) throws IOException {
+        String groupName = readString(buffer);
+        int groupSize = readVarint(buffer);
+        int studentCount = groupSize + readVarint(buffer);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(readString(buffer), readString(buffer)));
+        }
+        UniqueList<Student> groupStudents = new UniqueStudentList();
+        groupStudents.setElementsWithList(new ArrayList<>(students.subList(0, groupSize)));
+
+        int lessonCount = readVarint(buffer);
+        UniqueList<Lesson> lessons = new UniqueLessonList();
+        for (int i = 0; i < lessonCount; i++) {
+            lessons.add(readLesson(buffer, students, groupSize));
+        }
+        return new Group(groupName, groupStudents, lessons);
+    }
+
+    /**
+     * Writes the name of {@code lesson} and the positions of its students, unless it has all the students of
+     * the group in the same order, followed by their attendance and participation.
+     */
+    private static void writeLesson(DataOutputStream data, Lesson lesson, Map<StudentNumber, Integer> studentPositions,
+        int groupSize) throws IOException {
+        List<StudentInfo> studentsInfo = lesson.getStudentsInfo().getList();
+        int size = studentsInfo.size();
+        boolean isInGroupOrder = size == groupSize;
+        for (int i = 0; i < size && isInGroupOrder; i++) {
+            isInGroupOrder = studentPositions.get(studentsInfo.get(i).getStudent().getStudentNo()) == i;
+        }
+
+        writeString(data, lesson.getLessonName().toString());
+        writeVarint(data, size);
+        data.writeBoolean(isInGroupOrder);
+        if (!isInGroupOrder) {
+            for (StudentInfo studentInfo : studentsInfo) {
+                writeVarint(data, studentPositions.get(studentInfo.getStudent().getStudentNo()));
+            }
+        }
+
+        byte[] attendance = new byte[(size + 3) / 4];
+        byte[] scores = new byte[(size + 1) / 2];
+        for (int i = 0; i < size; i++) {
+            StudentInfo studentInfo = studentsInfo.get(i);
+            int attendanceBits = (studentInfo.getAttendance().isPresent() ? PRESENT_BIT : 0)
+                | (studentInfo.getAttendance().isFlagged() ? FLAGGED_BIT : 0);
+            attendance[i / 4] |= attendanceBits << (2 * (i % 4));
+            scores[i / 2] |= studentInfo.getParticipation().getScore() << (4 * (i % 2));
+        }
+        data.write(attendance);
+        data.write(scores);
+    }
+
+    /**
+     * Reads a lesson, whose attendance and participation are only decoded the first time they are needed.
+     * They are checked to be valid here, so that invalid data is still found when the snapshot is read.
+     */
+    private static Lesson readLesson(ByteBuffer buffer, List<Student> students, int groupSize) throws IOException {
+        String lessonName = readString(buffer);
+        int size = readVarint(buffer);
+        boolean isInGroupOrder = buffer.get() != 0;
+        if (isInGroupOrder && size != groupSize) {
+            throw new IOException("Lesson " + lessonName + " does not have all the students of its group");
+        }
+        List<Student> lessonStudents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int position = isInGroupOrder ? i : readVarint(buffer);
+            if (position >= students.size()) {
+                throw new IOException("Lesson " + lessonName + " refers to a student that does not exist");
+            }
+            lessonStudents.add(students.get(position));
+        }
+
+        byte[] attendance = new byte[(size + 3) / 4];
+        byte[] scores = new byte[(size + 1) / 2];
+        buffer.get(attendance);
+        buffer.get(scores);
+        List<StudentInfo> flaggedStudentsInfo = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int attendanceBits = getAttendanceBits(attendance, i);
+            if (attendanceBits == (PRESENT_BIT | FLAGGED_BIT)) {
+                throw new IOException(Attendance.MESSAGE_CONSTRAINTS);
+            }
+            if (!Participation.isValidParticipation(getScore(scores, i))) {
+                throw new IOException(Participation.MESSAGE_CONSTRAINTS);
+            }
+            if (attendanceBits == FLAGGED_BIT) {
+                flaggedStudentsInfo.add(readStudentInfo(lessonStudents.get(i), attendance, scores, i));
+            }
+        }
+
+        UniqueStudentInfoList studentsInfo = new UniqueStudentInfoList();
+        studentsInfo.setElementsLazily(lessonStudents, flaggedStudentsInfo, () -> {
+            List<StudentInfo> loaded = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                loaded.add(readStudentInfo(lessonStudents.get(i), attendance, scores, i));
+            }
+            return loaded;
+        });
+        return new Lesson(lessonName, studentsInfo);
+    }
+
+    private static StudentInfo readStudentInfo(Student student, byte[] attendance, byte[] scores, int index) {
+        int attendanceBits = getAttendanceBits(attendance, index);
+        return new StudentInfo(student, new Participation(getScore(scores, index)),
+            new Attendance((attendanceBits & PRESENT_BIT) != 0, (attendanceBits & FLAGGED_BIT) != 0));
+    }
+
+    private static int getAttendanceBits(byte[] attendance, int index) {
+        return (attendance[index / 4] >> (2 * (index % 4))) & (PRESENT_BIT | FLAGGED_BIT);
+    }
+
+    private static int getScore(byte[] scores, int index) {
+        return (scores[index / 2] >> (4 * (index % 2))) & 0xF;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new IOException("Snapshot is truncated");
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+            StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Writes a non-negative {@code value} seven bits at a time, least significant first,
+     * setting the top bit of each byte except the last.
+     */
+    private static void writeVarint(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Snapshot has a negative count");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Snapshot has a malformed number");
+    }
+
+    /**
+     * The data read from a snapshot, along with the version it was saved in and the fingerprint it was saved with.
+     */
+    private static class Snapshot {
+
+        private final int version;
+        private final long fingerprint;
+        private final Serenity serenity;
+
+        Snapshot(int version, long fingerprint, Serenity serenity) {
+            this.version = version;
+            this.fingerprint = fingerprint;
+            this.serenity = serenity;
+        }
+
+    }
+
+}
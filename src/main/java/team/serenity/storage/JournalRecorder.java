@@ -0,0 +1,265 @@
+package team.serenity.storage;
+
+import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.lesson.LessonName;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlyQuestionManager;
+
+/**
+ * Remembers the Serenity data as of the last journal entry, and records the changes made since then as journal
+ * entries. Students, student information and questions are immutable values, so they are compared with
+ * {@code equals} to find what has changed. Lessons are remembered as copies, which share the attendance and
+ * participation of lessons that have not been loaded yet, so that remembering and comparing unchanged lessons
+ * does not load them. Groups are matched by name, since the data may be a copy of the groups that were last recorded.
+ * Only the groups whose modification count has moved since they were recorded are compared and remembered again.
+ */
+class JournalRecorder {
+
+    private final Map<GroupName, RecordedGroup> groups = new LinkedHashMap<>();
+    private final List<Question> questions = new ArrayList<>();
+    private ReadOnlyGroupManager recordedGroupManager;
+    private long recordedGroupsModificationCount;
+    private ReadOnlyQuestionManager recordedQuestionManager;
+    private long recordedQuestionsModificationCount;
+
+    /**
+     * Remembers the given data as the state that the journal starts from.
+     */
+    public void reset(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) {
+        requireAllNonNull(groupManager, questionManager);
+        resetGroups(groupManager);
+        resetQuestions(questionManager);
+    }
+
+    /**
+     * Returns the journal entries that turn the remembered state into the given data,
+     * and remembers the given data as the new state.
+     * Groups or questions that are the ones last remembered, with the same modification count, are not compared.
+     * Neither is a group that is the same group as the one remembered, with the same modification count of its own.
+     */
+    public List<JsonAdaptedJournalEntry> recordChanges(ReadOnlyGroupManager groupManager,
+        ReadOnlyQuestionManager questionManager) {
+        requireAllNonNull(groupManager, questionManager);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (groupManager != this.recordedGroupManager
+            || groupManager.getModificationCount() != this.recordedGroupsModificationCount) {
+            recordGroupChanges(groupManager, entries);
+        }
+        if (questionManager != this.recordedQuestionManager
+            || questionManager.getModificationCount() != this.recordedQuestionsModificationCount) {
+            recordQuestionChanges(questionManager.getListOfQuestions(), entries);
+            resetQuestions(questionManager);
+        }
+        return entries;
+    }
+
+    private void resetGroups(ReadOnlyGroupManager groupManager) {
+        this.groups.clear();
+        for (Group group : groupManager.getListOfGroups()) {
+            this.groups.put(group.getGroupName(), new RecordedGroup(group, groupManager.getModificationCount(group)));
+        }
+        this.recordedGroupManager = groupManager;
+        this.recordedGroupsModificationCount = groupManager.getModificationCount();
+    }
+
+    private void resetQuestions(ReadOnlyQuestionManager questionManager) {
+        this.questions.clear();
+        this.questions.addAll(questionManager.getListOfQuestions());
+        this.recordedQuestionManager = questionManager;
+        this.recordedQuestionsModificationCount = questionManager.getModificationCount();
+    }
+
+    /**
+     * Records the changes to the groups of {@code groupManager}, and remembers them as the new state.
+     * The groups that have not changed since they were remembered are kept as they are.
+     */
+    private void recordGroupChanges(ReadOnlyGroupManager groupManager, List<JsonAdaptedJournalEntry> entries) {
+        Map<GroupName, RecordedGroup> currentGroups = new LinkedHashMap<>();
+        for (Group group : groupManager.getListOfGroups()) {
+            long modificationCount = groupManager.getModificationCount(group);
+            RecordedGroup recordedGroup = this.groups.remove(group.getGroupName());
+            if (recordedGroup != null && recordedGroup.isRecordOf(group, modificationCount)) {
+                currentGroups.put(group.getGroupName(), recordedGroup);
+                continue;
+            }
+            if (recordedGroup == null || !recordedGroup.hasSameStudents(group)) {
+                entries.add(JsonAdaptedJournalEntry.putGroup(group));
+            } else {
+                recordedGroup.recordLessonChanges(group, entries);
+            }
+            currentGroups.put(group.getGroupName(), new RecordedGroup(group, modificationCount));
+        }
+        for (GroupName deletedGroupName : this.groups.keySet()) {
+            entries.add(JsonAdaptedJournalEntry.deleteGroup(deletedGroupName));
+        }
+        this.groups.clear();
+        this.groups.putAll(currentGroups);
+        this.recordedGroupManager = groupManager;
+        this.recordedGroupsModificationCount = groupManager.getModificationCount();
+    }
+
+    private void recordQuestionChanges(List<Question> currentQuestions, List<JsonAdaptedJournalEntry> entries) {
+        if (isSameList(this.questions, currentQuestions)) {
+            return;
+        }
+
+        int recordedSize = this.questions.size();
+        int currentSize = currentQuestions.size();
+        if (currentSize > recordedSize && isSameList(this.questions, currentQuestions.subList(0, recordedSize))) {
+            for (Question added : currentQuestions.subList(recordedSize, currentSize)) {
+                entries.add(JsonAdaptedJournalEntry.addQuestion(added));
+            }
+            return;
+        }
+
+        if (currentSize < recordedSize && isSubsequence(currentQuestions, this.questions)) {
+            Set<Question> remaining = new HashSet<>(currentQuestions);
+            for (Question recorded : this.questions) {
+                if (!remaining.contains(recorded)) {
+                    entries.add(JsonAdaptedJournalEntry.deleteQuestion(recorded));
+                }
+            }
+            return;
+        }
+
+        List<Integer> changedPositions = getChangedPositions(this.questions, currentQuestions);
+        if (currentSize == recordedSize && changedPositions.size() == 1) {
+            int position = changedPositions.get(0);
+            entries.add(JsonAdaptedJournalEntry.setQuestion(this.questions.get(position),
+                currentQuestions.get(position)));
+            return;
+        }
+
+        entries.add(JsonAdaptedJournalEntry.setQuestions(currentQuestions));
+    }
+
+    private static <T> boolean isSameList(List<T> recorded, List<T> current) {
+        if (recorded.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < recorded.size(); i++) {
+            if (!recorded.get(i).equals(current.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> boolean isSubsequence(List<T> shorter, List<T> longer) {
+        int matched = 0;
+        for (int i = 0; i < longer.size() && matched < shorter.size(); i++) {
+            if (longer.get(i).equals(shorter.get(matched))) {
+                matched++;
+            }
+        }
+        return matched == shorter.size();
+    }
+
+    /**
+     * Returns the positions at which two lists of the same size hold different elements.
+     */
+    private static <T> List<Integer> getChangedPositions(List<T> recorded, List<T> current) {
+        List<Integer> changedPositions = new ArrayList<>();
+        if (recorded.size() != current.size()) {
+            return changedPositions;
+        }
+        for (int i = 0; i < recorded.size(); i++) {
+            if (!recorded.get(i).equals(current.get(i))) {
+                changedPositions.add(i);
+            }
+        }
+        return changedPositions;
+    }
+
+    /**
+     * The state of a group as of the last journal entry, along with the group it was recorded from
+     * and the modification count of that group at the time.
+     */
+    private static class RecordedGroup {
+
+        private final Group source;
+        private final long modificationCount;
+        private final List<Student> students;
+        private final Map<LessonName, Lesson> lessons = new HashMap<>();
+
+        RecordedGroup(Group group, long modificationCount) {
+            this.source = group;
+            this.modificationCount = modificationCount;
+            this.students = new ArrayList<>(group.getStudents().getList());
+            for (Lesson lesson : group.getLessons()) {
+                this.lessons.put(lesson.getLessonName(), new Lesson(lesson));
+            }
+        }
+
+        /**
+         * Returns true if this is the record of {@code current}, which has not changed since,
+         * given the modification count of {@code current}.
+         */
+        boolean isRecordOf(Group current, long currentModificationCount) {
+            return current == this.source && currentModificationCount != -1
+                && currentModificationCount == this.modificationCount;
+        }
+
+        boolean hasSameStudents(Group current) {
+            return isSameList(this.students, current.getStudents().getList());
+        }
+
+        /**
+         * Records the changes to the lessons of {@code current}, which must have the same students as this group.
+         * A lesson where fewer than half of the students changed is recorded one student at a time,
+         * otherwise the whole lesson is recorded.
+         */
+        void recordLessonChanges(Group current, List<JsonAdaptedJournalEntry> entries) {
+            GroupName groupName = current.getGroupName();
+            Set<LessonName> currentLessonNames = new HashSet<>();
+            for (Lesson lesson : current.getLessons()) {
+                currentLessonNames.add(lesson.getLessonName());
+                Lesson recordedLesson = this.lessons.get(lesson.getLessonName());
+                if (recordedLesson != null && recordedLesson.getStudentsInfo().equals(lesson.getStudentsInfo())) {
+                    continue;
+                }
+
+                List<StudentInfo> recordedStudentsInfo = recordedLesson == null
+                    ? null
+                    : recordedLesson.getStudentsInfo().getList();
+                List<StudentInfo> currentStudentsInfo = lesson.getStudentsInfo().getList();
+                List<Integer> changedPositions = recordedStudentsInfo == null
+                    ? new ArrayList<>()
+                    : getChangedPositions(recordedStudentsInfo, currentStudentsInfo);
+                boolean isRecordedPerStudent = !changedPositions.isEmpty()
+                    && changedPositions.size() * 2 < currentStudentsInfo.size()
+                    && changedPositions.stream().allMatch(i -> recordedStudentsInfo.get(i).getStudent()
+                        .isSameStudent(currentStudentsInfo.get(i).getStudent()));
+                if (isRecordedPerStudent) {
+                    for (int position : changedPositions) {
+                        entries.add(JsonAdaptedJournalEntry.putStudentInfo(groupName, lesson.getLessonName(),
+                            currentStudentsInfo.get(position)));
+                    }
+                } else {
+                    entries.add(JsonAdaptedJournalEntry.putLesson(groupName, lesson));
+                }
+            }
+            for (LessonName recordedLessonName : this.lessons.keySet()) {
+                if (!currentLessonNames.contains(recordedLessonName)) {
+                    entries.add(JsonAdaptedJournalEntry.deleteLesson(groupName, recordedLessonName));
+                }
+            }
+        }
+    }
+
+}
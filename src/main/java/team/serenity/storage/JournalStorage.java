@@ -0,0 +1,82 @@
+package team.serenity.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import team.serenity.commons.exceptions.DataConversionException;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlyQuestionManager;
+
+/**
+ * Represents an append-only journal of the changes made to the Serenity data since its last snapshot.
+ * The journal is made of an active file, which new changes are appended to, and a rotated file,
+ * which holds older changes while a new snapshot that includes them is being written.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the active journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Starts recording changes from the given data, which must match the snapshot and journal on disk.
+     *
+     * @param groupManager The groups to start from.
+     * @param questionManager The questions to start from.
+     */
+    void startJournal(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager);
+
+    /**
+     * Appends the changes made to the given data since the last call to the active journal file,
+     * and forces them to disk before returning. Nothing is written if nothing has changed.
+     *
+     * @param groupManager The current groups.
+     * @param questionManager The current questions.
+     * @throws IOException Thrown if there is an input/output error.
+     */
+    void appendToJournal(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager)
+        throws IOException;
+
+    /**
+     * Applies the changes in the journal to the given lists of groups and questions, which should hold the data
+     * read from the last snapshot. A partially written change at the end of the journal is discarded.
+     *
+     * @param groups The groups read from the snapshot.
+     * @param questions The questions read from the snapshot.
+     * @return True if any change was applied.
+     * @throws DataConversionException Thrown if the journal cannot be read.
+     */
+    boolean replayJournal(List<Group> groups, List<Question> questions) throws DataConversionException;
+
+    /**
+     * Returns the size in bytes of the active journal file.
+     */
+    long getJournalSize() throws IOException;
+
+    /**
+     * Moves the changes in the active journal file to the rotated journal file,
+     * so that new changes are appended to an empty active journal file.
+     *
+     * @throws IOException Thrown if there is an input/output error.
+     */
+    void rotateJournal() throws IOException;
+
+    /**
+     * Deletes the rotated journal file, once a snapshot that includes its changes has been saved.
+     *
+     * @throws IOException Thrown if there is an input/output error.
+     */
+    void deleteRotatedJournal() throws IOException;
+
+    /**
+     * Deletes both journal files, once a snapshot that includes all their changes has been saved.
+     *
+     * @throws IOException Thrown if there is an input/output error.
+     */
+    void clearJournal() throws IOException;
+
+}
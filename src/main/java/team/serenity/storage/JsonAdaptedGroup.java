@@ -3,7 +3,9 @@ package team.serenity.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -15,11 +17,13 @@ import team.serenity.model.group.GroupName;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.UniqueLessonList;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
 import team.serenity.model.group.student.UniqueStudentList;
 import team.serenity.model.util.UniqueList;
 
 /**
  * Jackson-friendly version of {@link Group}.
+ * The students of the group are stored once, and its lessons refer to them by their position.
  */
 class JsonAdaptedGroup {
 
@@ -37,11 +41,14 @@ class JsonAdaptedGroup {
     public JsonAdaptedGroup(Group source) {
         requireNonNull(source);
         this.groupName = source.getGroupName().toString();
-        this.students.addAll(source.getStudents().asUnmodifiableObservableList().stream()
-            .map(JsonAdaptedStudent::new)
-            .collect(Collectors.toList()));
-        this.lessons.addAll(source.getSortedLessons().asUnmodifiableObservableList().stream()
-            .map(JsonAdaptedLesson::new)
+        List<Student> groupStudents = source.getStudents().getList();
+        Map<StudentNumber, Integer> studentPositions = new HashMap<>();
+        for (int i = 0; i < groupStudents.size(); i++) {
+            this.students.add(new JsonAdaptedStudent(groupStudents.get(i)));
+            studentPositions.put(groupStudents.get(i).getStudentNo(), i);
+        }
+        this.lessons.addAll(source.getSortedLessons().stream()
+            .map(lesson -> new JsonAdaptedLesson(lesson, studentPositions, groupStudents.size()))
             .collect(Collectors.toList()));
     }
 
@@ -72,7 +79,6 @@ class JsonAdaptedGroup {
         final List<Student> groupStudents = new ArrayList<>();
 
         for (JsonAdaptedStudent student : this.students) {
-            Student studentModel = student.toModelType();
             groupStudents.add(student.toModelType());
         }
 
@@ -81,7 +87,7 @@ class JsonAdaptedGroup {
 
         final List<Lesson> groupLessons = new ArrayList<>();
         for (JsonAdaptedLesson groupLesson : this.lessons) {
-            Lesson lessonItem = groupLesson.toModelType();
+            Lesson lessonItem = groupLesson.toModelType(groupStudents);
             groupLessons.add(lessonItem);
         }
 
@@ -0,0 +1,307 @@
+package team.serenity.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.lesson.LessonName;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.util.UniqueList;
+import team.serenity.storage.question.JsonAdaptedQuestion;
+
+/**
+ * Jackson-friendly version of a single change to the Serenity data, as recorded in the journal.
+ * Every entry overwrites the state it refers to, so replaying an entry more than once has no further effect.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal entry has an unknown type: %s";
+
+    /**
+     * Types of changes that can be recorded in the journal.
+     */
+    enum Type {
+        PUT_GROUP, DELETE_GROUP, PUT_LESSON, DELETE_LESSON, PUT_STUDENT_INFO,
+        ADD_QUESTION, DELETE_QUESTION, SET_QUESTION, SET_QUESTIONS
+    }
+
+    private final String type;
+    private final String groupName;
+    private final String lessonName;
+    private final JsonAdaptedGroup group;
+    private final JsonAdaptedLesson lesson;
+    private final JsonAdaptedStudentInfo studentInfo;
+    private final JsonAdaptedQuestion question;
+    private final JsonAdaptedQuestion editedQuestion;
+    private final List<JsonAdaptedQuestion> questions;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type,
+        @JsonProperty("groupName") String groupName,
+        @JsonProperty("lessonName") String lessonName,
+        @JsonProperty("group") JsonAdaptedGroup group,
+        @JsonProperty("lesson") JsonAdaptedLesson lesson,
+        @JsonProperty("studentInfo") JsonAdaptedStudentInfo studentInfo,
+        @JsonProperty("question") JsonAdaptedQuestion question,
+        @JsonProperty("editedQuestion") JsonAdaptedQuestion editedQuestion,
+        @JsonProperty("questions") List<JsonAdaptedQuestion> questions) {
+        this.type = type;
+        this.groupName = groupName;
+        this.lessonName = lessonName;
+        this.group = group;
+        this.lesson = lesson;
+        this.studentInfo = studentInfo;
+        this.question = question;
+        this.editedQuestion = editedQuestion;
+        this.questions = questions;
+    }
+
+    private JsonAdaptedJournalEntry(Type type, String groupName, String lessonName) {
+        this(type.name(), groupName, lessonName, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates an entry that adds {@code group}, or replaces the group with the same name.
+     */
+    public static JsonAdaptedJournalEntry putGroup(Group group) {
+        requireNonNull(group);
+        return new JsonAdaptedJournalEntry(Type.PUT_GROUP.name(), null, null, new JsonAdaptedGroup(group),
+            null, null, null, null, null);
+    }
+
+    /**
+     * Creates an entry that deletes the group named {@code groupName}.
+     */
+    public static JsonAdaptedJournalEntry deleteGroup(GroupName groupName) {
+        requireNonNull(groupName);
+        return new JsonAdaptedJournalEntry(Type.DELETE_GROUP, groupName.toString(), null);
+    }
+
+    /**
+     * Creates an entry that adds {@code lesson} to the group named {@code groupName},
+     * or replaces the lesson with the same name.
+     */
+    public static JsonAdaptedJournalEntry putLesson(GroupName groupName, Lesson lesson) {
+        requireNonNull(groupName);
+        requireNonNull(lesson);
+        return new JsonAdaptedJournalEntry(Type.PUT_LESSON.name(), groupName.toString(), null, null,
+            new JsonAdaptedLesson(lesson), null, null, null, null);
+    }
+
+    /**
+     * Creates an entry that deletes the lesson named {@code lessonName} from the group named {@code groupName}.
+     */
+    public static JsonAdaptedJournalEntry deleteLesson(GroupName groupName, LessonName lessonName) {
+        requireNonNull(groupName);
+        requireNonNull(lessonName);
+        return new JsonAdaptedJournalEntry(Type.DELETE_LESSON, groupName.toString(), lessonName.toString());
+    }
+
+    /**
+     * Creates an entry that replaces the information of one student in a lesson with {@code studentInfo}.
+     */
+    public static JsonAdaptedJournalEntry putStudentInfo(GroupName groupName, LessonName lessonName,
+        StudentInfo studentInfo) {
+        requireNonNull(groupName);
+        requireNonNull(lessonName);
+        requireNonNull(studentInfo);
+        return new JsonAdaptedJournalEntry(Type.PUT_STUDENT_INFO.name(), groupName.toString(),
+            lessonName.toString(), null, null, new JsonAdaptedStudentInfo(studentInfo), null, null, null);
+    }
+
+    /**
+     * Creates an entry that adds {@code question}.
+     */
+    public static JsonAdaptedJournalEntry addQuestion(Question question) {
+        requireNonNull(question);
+        return new JsonAdaptedJournalEntry(Type.ADD_QUESTION.name(), null, null, null, null, null,
+            new JsonAdaptedQuestion(question), null, null);
+    }
+
+    /**
+     * Creates an entry that deletes {@code question}.
+     */
+    public static JsonAdaptedJournalEntry deleteQuestion(Question question) {
+        requireNonNull(question);
+        return new JsonAdaptedJournalEntry(Type.DELETE_QUESTION.name(), null, null, null, null, null,
+            new JsonAdaptedQuestion(question), null, null);
+    }
+
+    /**
+     * Creates an entry that replaces {@code target} with {@code editedQuestion}.
+     */
+    public static JsonAdaptedJournalEntry setQuestion(Question target, Question editedQuestion) {
+        requireNonNull(target);
+        requireNonNull(editedQuestion);
+        return new JsonAdaptedJournalEntry(Type.SET_QUESTION.name(), null, null, null, null, null,
+            new JsonAdaptedQuestion(target), new JsonAdaptedQuestion(editedQuestion), null);
+    }
+
+    /**
+     * Creates an entry that replaces all questions with {@code questions}.
+     */
+    public static JsonAdaptedJournalEntry setQuestions(List<Question> questions) {
+        requireNonNull(questions);
+        return new JsonAdaptedJournalEntry(Type.SET_QUESTIONS.name(), null, null, null, null, null, null, null,
+            questions.stream().map(JsonAdaptedQuestion::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this change to the given lists of groups and questions.
+     *
+     * @throws IllegalValueException Thrown if there were any data constraints violated in this entry.
+     */
+    public void applyTo(List<Group> groups, List<Question> questions) throws IllegalValueException {
+        switch (getType()) {
+        case PUT_GROUP:
+            Group toPut = requirePresent(this.group, "group").toModelType();
+            int groupIndex = indexOfGroup(groups, toPut.getGroupName());
+            if (groupIndex == -1) {
+                groups.add(toPut);
+            } else {
+                groups.set(groupIndex, toPut);
+            }
+            break;
+        case DELETE_GROUP:
+            groupIndex = indexOfGroup(groups, getGroupName());
+            if (groupIndex != -1) {
+                groups.remove(groupIndex);
+            }
+            break;
+        case PUT_LESSON:
+            Lesson lessonToPut = requirePresent(this.lesson, "lesson").toModelType();
+            UniqueList<Lesson> lessons = getGroup(groups).getLessons();
+            Lesson existingLesson = findLesson(lessons, lessonToPut.getLessonName());
+            if (existingLesson == null) {
+                lessons.add(lessonToPut);
+            } else {
+                List<Lesson> updatedLessons = new ArrayList<>(lessons.getList());
+                updatedLessons.set(updatedLessons.indexOf(existingLesson), lessonToPut);
+                lessons.setElementsWithList(updatedLessons);
+            }
+            break;
+        case DELETE_LESSON:
+            lessons = getGroup(groups).getLessons();
+            existingLesson = findLesson(lessons, getLessonName());
+            if (existingLesson != null) {
+                lessons.remove(existingLesson);
+            }
+            break;
+        case PUT_STUDENT_INFO:
+            StudentInfo studentInfoToPut = requirePresent(this.studentInfo, "studentInfo").toModelType();
+            existingLesson = findLesson(getGroup(groups).getLessons(), getLessonName());
+            if (existingLesson == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lesson"));
+            }
+            UniqueList<StudentInfo> studentsInfo = existingLesson.getStudentsInfo();
+            StudentInfo existingStudentInfo = studentsInfo.stream()
+                .filter(info -> info.getStudent().isSameStudent(studentInfoToPut.getStudent()))
+                .findFirst().orElse(null);
+            if (existingStudentInfo == null) {
+                studentsInfo.add(studentInfoToPut);
+            } else {
+                studentsInfo.setElement(existingStudentInfo, studentInfoToPut);
+            }
+            break;
+        case ADD_QUESTION:
+            Question questionToAdd = requirePresent(this.question, "question").toModelType();
+            if (!questions.contains(questionToAdd)) {
+                questions.add(questionToAdd);
+            }
+            break;
+        case DELETE_QUESTION:
+            questions.remove(requirePresent(this.question, "question").toModelType());
+            break;
+        case SET_QUESTION:
+            Question target = requirePresent(this.question, "question").toModelType();
+            Question edited = requirePresent(this.editedQuestion, "editedQuestion").toModelType();
+            int questionIndex = questions.indexOf(target);
+            if (questionIndex != -1) {
+                questions.set(questionIndex, edited);
+            } else if (!questions.contains(edited)) {
+                questions.add(edited);
+            }
+            break;
+        case SET_QUESTIONS:
+            List<Question> replacement = new ArrayList<>();
+            for (JsonAdaptedQuestion jsonAdaptedQuestion : requirePresent(this.questions, "questions")) {
+                replacement.add(jsonAdaptedQuestion.toModelType());
+            }
+            questions.clear();
+            questions.addAll(replacement);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, this.type));
+        }
+    }
+
+    private Type getType() throws IllegalValueException {
+        requirePresent(this.type, "type");
+        try {
+            return Type.valueOf(this.type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, this.type));
+        }
+    }
+
+    private GroupName getGroupName() throws IllegalValueException {
+        requirePresent(this.groupName, GroupName.class.getSimpleName());
+        if (!GroupName.isValidName(this.groupName)) {
+            throw new IllegalValueException(GroupName.MESSAGE_CONSTRAINTS);
+        }
+        return new GroupName(this.groupName);
+    }
+
+    private LessonName getLessonName() throws IllegalValueException {
+        requirePresent(this.lessonName, LessonName.class.getSimpleName());
+        if (!LessonName.isValidName(this.lessonName)) {
+            throw new IllegalValueException(LessonName.MESSAGE_CONSTRAINTS);
+        }
+        return new LessonName(this.lessonName);
+    }
+
+    private Group getGroup(List<Group> groups) throws IllegalValueException {
+        int index = indexOfGroup(groups, getGroupName());
+        if (index == -1) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "group"));
+        }
+        return groups.get(index);
+    }
+
+    private static int indexOfGroup(List<Group> groups, GroupName groupName) {
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.get(i).getGroupName().equals(groupName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Lesson findLesson(UniqueList<Lesson> lessons, LessonName lessonName) {
+        return lessons.stream().filter(lesson -> lesson.getLessonName().equals(lessonName)).findFirst().orElse(null);
+    }
+
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+
+}
@@ -1,43 +1,81 @@
 package team.serenity.storage;
 
 import static java.util.Objects.requireNonNull;
+import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import team.serenity.commons.exceptions.IllegalValueException;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.LessonName;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
-import team.serenity.model.util.UniqueList;
 
 /**
  * Jackson-friendly version of {@link Lesson}.
+ * Within a group, a lesson refers to the students of the group by their position in the group's list of students,
+ * and stores their attendance and participation as arrays in the same order as its students.
+ * A lesson that is not stored as part of a group stores a full {@link JsonAdaptedStudentInfo} for each student,
+ * which is also how all lessons were stored before {@link JsonSerializableSerenity#SCHEMA_VERSION} 2.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedLesson {
 
-
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson's %s field is missing!";
+    public static final String MESSAGE_INVALID_STUDENTS = "Lesson's students do not match the students of its group!";
+
+    static final int ABSENT = 0;
+    static final int PRESENT = 1;
+    static final int FLAGGED = 2;
 
-    private final List<JsonAdaptedStudentInfo> studentInfos = new ArrayList<>();
     private final String name;
+    private final int[] students;
+    private final int[] attendance;
+    private final int[] participation;
+    private final List<JsonAdaptedStudentInfo> studentInfos;
 
     /**
-     * Constructs a {@code JsonAdaptedLesson} with the given {@code name}.
+     * Constructs a {@code JsonAdaptedLesson} with the given details.
      *
      * @param name The lesson name.
-     * @param studentInfos The studentinfos that the lesson is managing.
+     * @param students The positions of the lesson's students in the group's list of students,
+     *     or null if the lesson has all the students of the group in the same order.
+     * @param attendance The attendance of each student of the lesson.
+     * @param participation The participation score of each student of the lesson.
+     * @param studentInfos The studentinfos that the lesson is managing, if it does not refer to its group's students.
      */
     @JsonCreator
     public JsonAdaptedLesson(@JsonProperty("name") String name,
+        @JsonProperty("students") int[] students,
+        @JsonProperty("attendance") int[] attendance,
+        @JsonProperty("participation") int[] participation,
         @JsonProperty("studentInfos") List<JsonAdaptedStudentInfo> studentInfos) {
-        this.studentInfos.addAll(studentInfos);
         this.name = name;
+        this.students = students;
+        this.attendance = attendance;
+        this.participation = participation;
+        this.studentInfos = studentInfos == null ? null : new ArrayList<>(studentInfos);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given {@code name}.
+     *
+     * @param name The lesson name.
+     * @param studentInfos The studentinfos that the lesson is managing.
+     */
+    public JsonAdaptedLesson(String name, List<JsonAdaptedStudentInfo> studentInfos) {
+        this(name, null, null, null, studentInfos);
     }
 
     /**
@@ -48,10 +86,85 @@ class JsonAdaptedLesson {
     public JsonAdaptedLesson(Lesson source) {
         requireNonNull(source);
         this.name = source.getLessonName().toString();
-        this.studentInfos.addAll(source.getStudentsInfo()
+        this.students = null;
+        this.attendance = null;
+        this.participation = null;
+        this.studentInfos = source.getStudentsInfo()
             .asUnmodifiableObservableList().stream()
             .map(JsonAdaptedStudentInfo::new).collect(
-            Collectors.toList()));
+            Collectors.toList());
+    }
+
+    /**
+     * Converts a given {@code Lesson} of a group into this Lesson for Jackson use,
+     * referring to each student by their position in the group's list of students.
+     * Falls back to storing full studentinfos if the lesson has a student that is not in the group.
+     *
+     * @param source The lesson to manage.
+     * @param studentPositions The position of each student in the group's list of students.
+     * @param groupSize The number of students in the group.
+     */
+    public JsonAdaptedLesson(Lesson source, Map<StudentNumber, Integer> studentPositions, int groupSize) {
+        requireAllNonNull(source, studentPositions);
+        List<StudentInfo> lessonStudentsInfo = source.getStudentsInfo().getList();
+        int[] positions = getPositions(lessonStudentsInfo, studentPositions);
+        this.name = source.getLessonName().toString();
+        if (positions == null) {
+            this.students = null;
+            this.attendance = null;
+            this.participation = null;
+            this.studentInfos = lessonStudentsInfo.stream().map(JsonAdaptedStudentInfo::new)
+                .collect(Collectors.toList());
+            return;
+        }
+
+        boolean isInGroupOrder = positions.length == groupSize;
+        this.attendance = new int[positions.length];
+        this.participation = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            StudentInfo studentInfo = lessonStudentsInfo.get(i);
+            isInGroupOrder = isInGroupOrder && positions[i] == i;
+            this.attendance[i] = toAttendanceCode(studentInfo.getAttendance());
+            this.participation[i] = studentInfo.getParticipation().getScore();
+        }
+        this.students = isInGroupOrder ? null : positions;
+        this.studentInfos = null;
+    }
+
+    /**
+     * Returns the position of each student of {@code studentsInfo} in the group's list of students,
+     * or null if any of them is not in the group.
+     */
+    private static int[] getPositions(List<StudentInfo> studentsInfo, Map<StudentNumber, Integer> studentPositions) {
+        int[] positions = new int[studentsInfo.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Integer position = studentPositions.get(studentsInfo.get(i).getStudent().getStudentNo());
+            if (position == null) {
+                return null;
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    private static int toAttendanceCode(Attendance attendance) {
+        if (attendance.isPresent()) {
+            return PRESENT;
+        }
+        return attendance.isFlagged() ? FLAGGED : ABSENT;
+    }
+
+    private static Attendance toAttendance(int attendanceCode) throws IllegalValueException {
+        switch (attendanceCode) {
+        case ABSENT:
+            return new Attendance(false, false);
+        case PRESENT:
+            return new Attendance(true, false);
+        case FLAGGED:
+            return new Attendance(false, true);
+        default:
+            throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+        }
     }
 
     /**
@@ -61,6 +174,19 @@ class JsonAdaptedLesson {
      * @throws IllegalValueException Thrown if there were any data constraints violated in the adapted question.
      */
     public Lesson toModelType() throws IllegalValueException {
+        return toModelType(new ArrayList<>());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted Lesson object of a group into the model's {@code Lesson} object,
+     * sharing the students of the group.
+     *
+     * @param groupStudents The students of the group, in the order they are stored in.
+     * @return A new Lesson object.
+     * @throws IllegalValueException Thrown if there were any data constraints violated in the adapted lesson.
+     */
+    public Lesson toModelType(List<Student> groupStudents) throws IllegalValueException {
+        requireNonNull(groupStudents);
         if (this.name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 LessonName.class.getSimpleName()));
@@ -70,11 +196,42 @@ class JsonAdaptedLesson {
             throw new IllegalValueException(LessonName.MESSAGE_CONSTRAINTS);
         }
 
-        UniqueList<StudentInfo> studentInfos = new UniqueStudentInfoList();
-        for (JsonAdaptedStudentInfo jsonStudentInfo : this.studentInfos) {
-            StudentInfo studentInfo = jsonStudentInfo.toModelType();
-            studentInfos.add(studentInfo);
+        UniqueStudentInfoList studentInfos = new UniqueStudentInfoList();
+        if (this.studentInfos != null) {
+            List<StudentInfo> modelStudentInfos = new ArrayList<>();
+            for (JsonAdaptedStudentInfo jsonStudentInfo : this.studentInfos) {
+                modelStudentInfos.add(jsonStudentInfo.toModelType());
+            }
+            studentInfos.setElementsWithList(modelStudentInfos);
+            return new Lesson(this.name, studentInfos);
+        }
+
+        if (this.attendance == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                Attendance.class.getSimpleName()));
+        }
+
+        if (this.participation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                Participation.class.getSimpleName()));
+        }
+
+        int size = this.students == null ? groupStudents.size() : this.students.length;
+        if (this.attendance.length != size || this.participation.length != size) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENTS);
+        }
+
+        for (int i = 0; i < size; i++) {
+            int position = this.students == null ? i : this.students[i];
+            if (position < 0 || position >= groupStudents.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS);
+            }
+            if (!Participation.isValidParticipation(this.participation[i])) {
+                throw new IllegalValueException(Participation.MESSAGE_CONSTRAINTS);
+            }
+            studentInfos.add(new StudentInfo(groupStudents.get(position), new Participation(this.participation[i]),
+                toAttendance(this.attendance[i])));
         }
-        return new Lesson(name, studentInfos);
+        return new Lesson(this.name, studentInfos);
     }
 }
@@ -0,0 +1,174 @@
+package team.serenity.storage;
+
+import static java.util.Objects.requireNonNull;
+import static team.serenity.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import team.serenity.commons.core.LogsCenter;
+import team.serenity.commons.exceptions.DataConversionException;
+import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.commons.util.FileUtil;
+import team.serenity.commons.util.JsonUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.exceptions.DuplicateException;
+import team.serenity.model.group.exceptions.NotFoundException;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlyQuestionManager;
+
+/**
+ * A class to access the journal of changes to the Serenity data, stored as a file of JSON lines on the hard disk.
+ * Each line holds the changes made by one command, so a line that was only partially written is easy to discard.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String ROTATED_JOURNAL_FILE_SUFFIX = ".old";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+    private final Path rotatedFilePath;
+    private final JournalRecorder recorder = new JournalRecorder();
+    private boolean isStarted = false;
+
+    /**
+     * Creates a {@code JsonJournalStorage} that keeps its active journal at {@code filePath}.
+     */
+    public JsonJournalStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.rotatedFilePath = filePath.resolveSibling(filePath.getFileName() + ROTATED_JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotFilePath},
+     * e.g. {@code data/serenity.journal} for {@code data/serenity.json}.
+     */
+    public static Path getJournalFilePathFor(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+        String snapshotFileName = snapshotFilePath.getFileName().toString();
+        int extensionIndex = snapshotFileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? snapshotFileName.substring(0, extensionIndex) : snapshotFileName;
+        return snapshotFilePath.resolveSibling(baseName + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public void startJournal(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) {
+        this.recorder.reset(groupManager, questionManager);
+        this.isStarted = true;
+    }
+
+    @Override
+    public void appendToJournal(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager)
+        throws IOException {
+        requireAllNonNull(groupManager, questionManager);
+        if (!this.isStarted) {
+            throw new IllegalStateException("The journal must be started before changes are appended to it.");
+        }
+
+        List<JsonAdaptedJournalEntry> entries = this.recorder.recordChanges(groupManager, questionManager);
+        if (entries.isEmpty()) {
+            return;
+        }
+        FileUtil.appendToFile(this.filePath, JsonUtil.toCompactJsonString(entries) + "\n");
+    }
+
+    @Override
+    public boolean replayJournal(List<Group> groups, List<Question> questions) throws DataConversionException {
+        requireAllNonNull(groups, questions);
+        boolean isRotatedJournalReplayed = replayJournalFile(this.rotatedFilePath, groups, questions);
+        boolean isJournalReplayed = replayJournalFile(this.filePath, groups, questions);
+        return isRotatedJournalReplayed || isJournalReplayed;
+    }
+
+    /**
+     * Applies the changes in {@code journalFile} line by line. If a line cannot be applied, the journal is
+     * truncated just before it, so that the changes appended later are not lost behind it.
+     */
+    private boolean replayJournalFile(Path journalFile, List<Group> groups, List<Question> questions)
+        throws DataConversionException {
+        if (!FileUtil.isFileExists(journalFile)) {
+            return false;
+        }
+
+        try {
+            byte[] content = Files.readAllBytes(journalFile);
+            int lineStart = 0;
+            int replayedLines = 0;
+            while (lineStart < content.length) {
+                int lineEnd = lineStart;
+                while (lineEnd < content.length && content[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (lineEnd == content.length) {
+                    logger.warning("Discarding partially written change at the end of " + journalFile);
+                    FileUtil.truncateFile(journalFile, lineStart);
+                    break;
+                }
+
+                String line = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                try {
+                    for (JsonAdaptedJournalEntry entry : JsonUtil.fromJsonString(line,
+                        JsonAdaptedJournalEntry[].class)) {
+                        entry.applyTo(groups, questions);
+                    }
+                } catch (IOException | IllegalValueException | IllegalArgumentException
+                    | DuplicateException | NotFoundException e) {
+                    logger.warning("Discarding changes from line " + (replayedLines + 1) + " of " + journalFile
+                        + ": " + e.getMessage());
+                    FileUtil.truncateFile(journalFile, lineStart);
+                    break;
+                }
+                replayedLines++;
+                lineStart = lineEnd + 1;
+            }
+            logger.info("Replayed " + replayedLines + " changes from " + journalFile);
+            return replayedLines > 0;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public long getJournalSize() throws IOException {
+        return FileUtil.isFileExists(this.filePath) ? Files.size(this.filePath) : 0;
+    }
+
+    @Override
+    public void rotateJournal() throws IOException {
+        if (!FileUtil.isFileExists(this.filePath)) {
+            return;
+        }
+        if (FileUtil.isFileExists(this.rotatedFilePath)) {
+            FileUtil.appendToFile(this.rotatedFilePath, FileUtil.readFromFile(this.filePath));
+            Files.delete(this.filePath);
+        } else {
+            Files.move(this.filePath, this.rotatedFilePath);
+        }
+    }
+
+    @Override
+    public void deleteRotatedJournal() throws IOException {
+        Files.deleteIfExists(this.rotatedFilePath);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(this.rotatedFilePath);
+        Files.deleteIfExists(this.filePath);
+    }
+
+}
@@ -4,15 +4,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import team.serenity.commons.exceptions.IllegalValueException;
 import team.serenity.model.group.Group;
-import team.serenity.model.group.UniqueGroupList;
 import team.serenity.model.group.exceptions.DuplicateException;
 import team.serenity.model.managers.ReadOnlyGroupManager;
 import team.serenity.model.managers.Serenity;
-import team.serenity.model.util.UniqueList;
 
 /**
  * An Immutable Serenity that is serializable to JSON format.
@@ -20,30 +20,83 @@ import team.serenity.model.util.UniqueList;
 @JsonRootName(value = "serenity")
 class JsonSerializableSerenity {
 
+    /**
+     * The version of the format the Serenity data is stored in. Data stored without a version is in version 1,
+     * where each lesson stores a full copy of each of its students. Since version 2, each group stores its students
+     * once and its lessons refer to them by their position.
+     */
+    public static final int SCHEMA_VERSION = 2;
+
+    private final int schemaVersion;
     private final List<JsonAdaptedGroup> groups = new ArrayList<>();
 
+    /**
+     * Creates a new JsonSerializableSerenity object with the given groups.
+     *
+     * @param schemaVersion The version of the format the groups were stored in, or null if it is version 1.
+     * @param groups The Jackson-friendly groups read from the JSON file.
+     */
+    @JsonCreator
+    public JsonSerializableSerenity(@JsonProperty("schemaVersion") Integer schemaVersion,
+        @JsonProperty("groups") List<JsonAdaptedGroup> groups) {
+        this.schemaVersion = schemaVersion == null ? 1 : schemaVersion;
+        this.groups.addAll(groups);
+    }
+
     /**
      * Creates a new JsonSerializableSerenity object.
      *
      * @param manager The ReadOnlyGroupManager involved.
      */
     public JsonSerializableSerenity(ReadOnlyGroupManager manager) {
+        this.schemaVersion = SCHEMA_VERSION;
         this.groups.addAll(manager.getListOfGroups().stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()));
     }
 
+    public int getSchemaVersion() {
+        return this.schemaVersion;
+    }
+
     /**
      * Converts this serenity object into the model's {@code Serenity} object.
+     * The groups are independent of each other, so they are converted in parallel on the common
+     * {@code ForkJoinPool}, and checked for duplicates once they have all been converted.
      *
      * @return A new Serenity object containing the groups from the JSON file.
      * @throws IllegalValueException Thrown if there are any data constraints violated.
      * @throws DuplicateException Thrown if there are any duplicates.
      */
     public Serenity toModelType() throws IllegalValueException, DuplicateException {
-        UniqueList<Group> groups = new UniqueGroupList();
-        for (JsonAdaptedGroup jsonAdaptedGroup : this.groups) {
-            Group group = jsonAdaptedGroup.toModelType();
-            groups.add(group);
+        List<Group> groups;
+        try {
+            groups = this.groups.parallelStream().map(JsonSerializableSerenity::toModelGroup)
+                .collect(Collectors.toList());
+        } catch (IllegalGroupException e) {
+            throw e.getCause();
+        }
+        return new Serenity(groups);
+    }
+
+    private static Group toModelGroup(JsonAdaptedGroup jsonAdaptedGroup) {
+        try {
+            return jsonAdaptedGroup.toModelType();
+        } catch (IllegalValueException e) {
+            throw new IllegalGroupException(e);
+        }
+    }
+
+    /**
+     * Carries the {@code IllegalValueException} of a group out of the stream that converts the groups.
+     */
+    private static class IllegalGroupException extends RuntimeException {
+
+        IllegalGroupException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
         }
-        return new Serenity(groups.asUnmodifiableObservableList());
     }
 }
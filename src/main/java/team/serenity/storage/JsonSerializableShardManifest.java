@@ -0,0 +1,57 @@
+package team.serenity.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * The manifest of the Serenity data stored one group per file, which lists the names of the groups in order.
+ * Each group is stored in the file named after it in the same directory as the manifest.
+ */
+@JsonRootName(value = "manifest")
+class JsonSerializableShardManifest {
+
+    private final int schemaVersion;
+    private final List<String> groups = new ArrayList<>();
+
+    /**
+     * Creates a manifest of groups stored in the current {@link JsonSerializableSerenity#SCHEMA_VERSION}
+     * that lists {@code groups}.
+     *
+     * @param groups The names of the groups, in order.
+     */
+    public JsonSerializableShardManifest(List<String> groups) {
+        this(JsonSerializableSerenity.SCHEMA_VERSION, groups);
+    }
+
+    /**
+     * Creates a manifest that lists {@code groups}.
+     *
+     * @param schemaVersion The version of the format the groups are stored in, or null if it is version 1.
+     * @param groups The names of the groups, in order.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("schemaVersion") Integer schemaVersion,
+        @JsonProperty("groups") List<String> groups) {
+        this.schemaVersion = schemaVersion == null ? 1 : schemaVersion;
+        if (groups != null) {
+            this.groups.addAll(groups);
+        }
+    }
+
+    public int getSchemaVersion() {
+        return this.schemaVersion;
+    }
+
+    /**
+     * Returns the names of the groups, in order.
+     */
+    public List<String> getGroupNames() {
+        return Collections.unmodifiableList(this.groups);
+    }
+
+}
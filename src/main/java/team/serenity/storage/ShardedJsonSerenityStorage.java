@@ -0,0 +1,317 @@
+package team.serenity.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import team.serenity.commons.core.LogsCenter;
+import team.serenity.commons.exceptions.DataConversionException;
+import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.commons.util.FileUtil;
+import team.serenity.commons.util.JsonUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlySerenity;
+import team.serenity.model.managers.Serenity;
+
+/**
+ * A class to access Serenity data stored on the hard disk as one json file per group, along with a manifest
+ * that lists the groups in order. The files are kept in a directory next to the data file,
+ * e.g. {@code data/serenity/} for {@code data/serenity.json}.
+ * Only the files of the groups that changed since they were last read or saved are rewritten,
+ * and the files are read in parallel. Data saved as a single file by {@link JsonSerenityStorage}, e.g. a backup that
+ * was restored, is read instead of the files of the groups whenever it exists. That data, and data stored in an older
+ * {@link JsonSerializableSerenity#SCHEMA_VERSION}, is saved one group per file in the current version as soon as it
+ * is read. The single file is then kept as a backup, e.g. {@code data/serenity.json.v1.bak}, instead of being deleted.
+ */
+public class ShardedJsonSerenityStorage implements SerenityStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+    public static final String BACKUP_FILE_SUFFIX = ".v1.bak";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedJsonSerenityStorage.class);
+
+    private final Path filePath;
+    private final JsonSerenityStorage singleFileStorage;
+    private final Map<GroupName, Group> savedGroups = new HashMap<>();
+    private List<GroupName> savedGroupNames;
+
+    /**
+     * Creates a {@code ShardedJsonSerenityStorage} for the data file at {@code filePath}.
+     */
+    public ShardedJsonSerenityStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.singleFileStorage = new JsonSerenityStorage(filePath);
+    }
+
+    /**
+     * Returns the directory that holds the files of the groups for the data file at {@code filePath},
+     * e.g. {@code data/serenity} for {@code data/serenity.json}, or {@code data/serenity-groups} for
+     * {@code data/serenity}.
+     */
+    public static Path getShardDirectoryFor(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0
+            ? filePath.resolveSibling(fileName.substring(0, extensionIndex))
+            : filePath.resolveSibling(fileName + "-groups");
+    }
+
+    @Override
+    public Path getSerenityFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySerenity> readSerenity() throws IllegalValueException, DataConversionException {
+        return readSerenity(this.filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlySerenity> readSerenity(Path filePath)
+        throws IllegalValueException, DataConversionException {
+        requireNonNull(filePath);
+        Optional<ReadOnlySerenity> singleFileSerenity = this.singleFileStorage.readSerenity(filePath);
+        if (singleFileSerenity.isPresent()) {
+            if (filePath.equals(this.filePath)) {
+                migrate(singleFileSerenity.get());
+            }
+            return singleFileSerenity;
+        }
+
+        Path shardDirectory = getShardDirectoryFor(filePath);
+        Optional<JsonSerializableShardManifest> manifest = JsonUtil.readJsonFile(
+            shardDirectory.resolve(MANIFEST_FILE_NAME), JsonSerializableShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Group> groups = readShards(shardDirectory, manifest.get().getGroupNames());
+        Serenity serenity;
+        try {
+            serenity = new Serenity(groups);
+        } catch (RuntimeException e) {
+            logger.info("Illegal values found in " + shardDirectory + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        boolean isOutdated = manifest.get().getSchemaVersion() < JsonSerializableSerenity.SCHEMA_VERSION;
+        if (filePath.equals(this.filePath) && isOutdated) {
+            migrate(serenity);
+        } else if (filePath.equals(this.filePath)) {
+            setSavedGroups(groups);
+        }
+        return Optional.of(serenity);
+    }
+
+    /**
+     * Records {@code groups} as the groups that are in the files, e.g. after they were read from a copy of the files,
+     * so that the next save only rewrites the files of the groups that changed since.
+     */
+    synchronized void setSavedGroups(List<Group> groups) {
+        this.savedGroups.clear();
+        for (Group group : groups) {
+            this.savedGroups.put(group.getGroupName(), new Group(group));
+        }
+        this.savedGroupNames = groups.stream().map(Group::getGroupName).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a fingerprint of the names, sizes and modification times of the files the data is stored in, which
+     * changes whenever any of them is written, added or removed, including by hand.
+     */
+    public synchronized long getFingerprint() throws IOException {
+        long fingerprint = getFingerprintOf(this.filePath);
+        Path shardDirectory = getShardDirectoryFor(this.filePath);
+        if (!Files.isDirectory(shardDirectory)) {
+            return fingerprint;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            shardFiles.forEach(files::add);
+        }
+        files.sort(null);
+        for (Path file : files) {
+            fingerprint = 31 * fingerprint + getFingerprintOf(file);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the file that data saved as a single file at {@code filePath} is moved to once it is saved
+     * one group per file, e.g. {@code data/serenity.json.v1.bak} for {@code data/serenity.json}.
+     */
+    public static Path getBackupFileFor(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Saves the groups of {@code groupManager}, rewriting only the files of the groups that have changed.
+     * The manifest is only rewritten if groups were added, removed or reordered.
+     */
+    @Override
+    public synchronized void saveSerenity(ReadOnlyGroupManager groupManager) throws IOException {
+        requireNonNull(groupManager);
+        Path shardDirectory = getShardDirectoryFor(this.filePath);
+        Path manifestFile = shardDirectory.resolve(MANIFEST_FILE_NAME);
+        FileUtil.createParentDirsOfFile(manifestFile);
+
+        List<GroupName> groupNames = new ArrayList<>();
+        for (Group group : groupManager.getListOfGroups()) {
+            GroupName groupName = group.getGroupName();
+            groupNames.add(groupName);
+            if (!group.equals(this.savedGroups.get(groupName))) {
+                JsonUtil.saveJsonFile(new JsonAdaptedGroup(group), getShardFile(shardDirectory, groupName));
+                this.savedGroups.put(groupName, new Group(group));
+            }
+        }
+
+        if (!groupNames.equals(this.savedGroupNames)) {
+            List<String> manifestGroupNames = groupNames.stream().map(GroupName::toString)
+                .collect(Collectors.toList());
+            JsonUtil.saveJsonFile(new JsonSerializableShardManifest(manifestGroupNames), manifestFile);
+            this.savedGroups.keySet().retainAll(groupNames);
+            this.savedGroupNames = groupNames;
+            deleteUnlistedShards(shardDirectory, new HashSet<>(manifestGroupNames));
+        }
+    }
+
+    /**
+     * Saves {@code serenity}, which was read from data stored in an older format, one group per file
+     * in the current {@link JsonSerializableSerenity#SCHEMA_VERSION}, and moves data saved as a single file to its
+     * backup file. If it cannot be saved now, all of it is saved again on the next save.
+     */
+    private void migrate(ReadOnlySerenity serenity) {
+        logger.info("Migrating " + this.filePath + " to schema version " + JsonSerializableSerenity.SCHEMA_VERSION);
+        this.savedGroups.clear();
+        this.savedGroupNames = null;
+        try {
+            saveSerenity(serenity.getGroupManager());
+            if (Files.exists(this.filePath)) {
+                Path backupFile = getBackupFileFor(this.filePath);
+                logger.info("Moving " + this.filePath + " to " + backupFile);
+                Files.move(this.filePath, backupFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to migrate " + this.filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static long getFingerprintOf(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return Objects.hash(file.getFileName().toString(), attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    private static Path getShardFile(Path shardDirectory, GroupName groupName) {
+        return shardDirectory.resolve(groupName + SHARD_FILE_EXTENSION);
+    }
+
+    /**
+     * Deletes the files of the groups that are not listed in the manifest.
+     */
+    private static void deleteUnlistedShards(Path shardDirectory, Set<String> groupNames) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String groupName = fileName.substring(0, fileName.length() - SHARD_FILE_EXTENSION.length());
+                if (GroupName.isValidName(groupName) && !groupNames.contains(groupName)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the files of the groups named {@code groupNames} in parallel, and returns the groups in the same order.
+     */
+    private static List<Group> readShards(Path shardDirectory, List<String> groupNames)
+        throws IllegalValueException, DataConversionException {
+        if (groupNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int threadCount = Math.min(groupNames.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService readExecutor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "group-file-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Group>> shards = new ArrayList<>();
+            for (String groupName : groupNames) {
+                shards.add(readExecutor.submit(() -> readShard(shardDirectory, groupName)));
+            }
+            List<Group> groups = new ArrayList<>();
+            for (Future<Group> shard : shards) {
+                groups.add(getShard(shard));
+            }
+            return groups;
+        } finally {
+            readExecutor.shutdownNow();
+        }
+    }
+
+    private static Group readShard(Path shardDirectory, String groupName)
+        throws IllegalValueException, DataConversionException {
+        if (!GroupName.isValidName(groupName)) {
+            throw new IllegalValueException(GroupName.MESSAGE_CONSTRAINTS);
+        }
+        Path shardFile = shardDirectory.resolve(groupName + SHARD_FILE_EXTENSION);
+        Optional<JsonAdaptedGroup> shard = JsonUtil.readJsonFile(shardFile, JsonAdaptedGroup.class);
+        if (shard.isEmpty()) {
+            throw new DataConversionException(new IOException("The file of group " + groupName + " is missing"));
+        }
+        Group group = shard.get().toModelType();
+        if (!group.getGroupName().toString().equals(groupName)) {
+            throw new IllegalValueException("The file of group " + groupName + " holds group " + group.getGroupName());
+        }
+        return group;
+    }
+
+    private static Group getShard(Future<Group> shard) throws IllegalValueException, DataConversionException {
+        try {
+            return shard.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataConversionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof Exception) {
+                throw new DataConversionException((Exception) cause);
+            }
+            throw (Error) cause;
+        }
+    }
+
+}
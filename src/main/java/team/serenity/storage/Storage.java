@@ -6,6 +6,8 @@ import java.util.Optional;
 
 import team.serenity.commons.exceptions.DataConversionException;
 import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlyQuestionManager;
 import team.serenity.model.managers.ReadOnlySerenity;
 import team.serenity.model.userprefs.ReadOnlyUserPrefs;
 import team.serenity.model.userprefs.UserPrefs;
@@ -15,7 +17,7 @@ import team.serenity.storage.userprefs.UserPrefsStorage;
 /**
  * API of the Storage component.
  */
-public interface Storage extends UserPrefsStorage, SerenityStorage, QuestionStorage {
+public interface Storage extends UserPrefsStorage, SerenityStorage, QuestionStorage, JournalStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -31,4 +33,27 @@ public interface Storage extends UserPrefsStorage, SerenityStorage, QuestionStor
     @Override
     Optional<ReadOnlySerenity> readSerenity() throws IllegalValueException, DataConversionException;
 
+    // ---- Journal ----//
+
+    /**
+     * Saves the changes made to the given data since the last save by appending them to the journal.
+     * Once the journal grows past its size limit, a snapshot of the given data is saved in the background,
+     * after which the changes it includes are removed from the journal.
+     *
+     * @param groupManager The current groups.
+     * @param questionManager The current questions.
+     * @throws IOException Thrown if the changes could not be appended to the journal.
+     */
+    void saveChanges(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) throws IOException;
+
+    /**
+     * Saves a snapshot of the given data and empties the journal.
+     * Waits for any snapshot being saved in the background to finish first.
+     *
+     * @param groupManager The current groups.
+     * @param questionManager The current questions.
+     * @throws IOException Thrown if there is an input/output error.
+     */
+    void saveSnapshot(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) throws IOException;
+
 }
@@ -2,12 +2,23 @@ package team.serenity.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import team.serenity.commons.core.LogsCenter;
 import team.serenity.commons.exceptions.DataConversionException;
 import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.commons.util.StringUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.managers.GroupManager;
+import team.serenity.model.managers.QuestionManager;
 import team.serenity.model.managers.ReadOnlyGroupManager;
 import team.serenity.model.managers.ReadOnlyQuestionManager;
 import team.serenity.model.managers.ReadOnlySerenity;
@@ -21,13 +32,23 @@ import team.serenity.storage.userprefs.UserPrefsStorage;
  */
 public class StorageManager implements Storage {
 
+    public static final long DEFAULT_JOURNAL_SIZE_LIMIT = 1024 * 1024;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SerenityStorage serenityStorage;
     private QuestionStorage questionStorage;
     private UserPrefsStorage userPrefsStorage;
+    private JournalStorage journalStorage;
+    private final long journalSizeLimit;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pendingCompaction;
 
     /**
-     * Instantiates a new Storage manager.
+     * Instantiates a new Storage manager, which keeps its journal next to the serenity data file.
      *
      * @param serenityStorage   the serenity manager storage
      * @param questionStorage   the question manager storage
@@ -36,10 +57,31 @@ public class StorageManager implements Storage {
     public StorageManager(SerenityStorage serenityStorage,
                           QuestionStorage questionStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(serenityStorage, questionStorage, userPrefsStorage,
+            new JsonJournalStorage(JsonJournalStorage.getJournalFilePathFor(serenityStorage.getSerenityFilePath())),
+            DEFAULT_JOURNAL_SIZE_LIMIT);
+    }
+
+    /**
+     * Instantiates a new Storage manager.
+     *
+     * @param serenityStorage   the serenity manager storage
+     * @param questionStorage   the question manager storage
+     * @param userPrefsStorage  the user pref storage
+     * @param journalStorage    the journal of changes since the last snapshot
+     * @param journalSizeLimit  the size in bytes past which the journal is compacted into a new snapshot
+     */
+    public StorageManager(SerenityStorage serenityStorage,
+                          QuestionStorage questionStorage,
+                          UserPrefsStorage userPrefsStorage,
+                          JournalStorage journalStorage,
+                          long journalSizeLimit) {
         super();
         this.serenityStorage = serenityStorage;
         this.questionStorage = questionStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journalStorage = journalStorage;
+        this.journalSizeLimit = journalSizeLimit;
     }
 
     // ================ UserPrefs methods ==============================
@@ -116,4 +158,107 @@ public class StorageManager implements Storage {
         this.questionStorage.saveQuestionManager(questionManager, filePath);
     }
 
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return this.journalStorage.getJournalFilePath();
+    }
+
+    @Override
+    public void startJournal(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager) {
+        this.journalStorage.startJournal(groupManager, questionManager);
+    }
+
+    @Override
+    public void appendToJournal(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager)
+        throws IOException {
+        logger.fine("Attempting to append changes to journal file: " + getJournalFilePath());
+        this.journalStorage.appendToJournal(groupManager, questionManager);
+    }
+
+    @Override
+    public boolean replayJournal(List<Group> groups, List<Question> questions) throws DataConversionException {
+        logger.fine("Attempting to replay journal file: " + getJournalFilePath());
+        return this.journalStorage.replayJournal(groups, questions);
+    }
+
+    @Override
+    public long getJournalSize() throws IOException {
+        return this.journalStorage.getJournalSize();
+    }
+
+    @Override
+    public void rotateJournal() throws IOException {
+        this.journalStorage.rotateJournal();
+    }
+
+    @Override
+    public void deleteRotatedJournal() throws IOException {
+        this.journalStorage.deleteRotatedJournal();
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        this.journalStorage.clearJournal();
+    }
+
+    @Override
+    public void saveChanges(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager)
+        throws IOException {
+        appendToJournal(groupManager, questionManager);
+        if (getJournalSize() >= this.journalSizeLimit && !isCompactingJournal()) {
+            compactJournalInBackground(groupManager, questionManager);
+        }
+    }
+
+    @Override
+    public void saveSnapshot(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager)
+        throws IOException {
+        waitForJournalCompaction();
+        saveSerenity(groupManager);
+        saveQuestionManager(questionManager);
+        clearJournal();
+        startJournal(groupManager, questionManager);
+    }
+
+    private boolean isCompactingJournal() {
+        return this.pendingCompaction != null && !this.pendingCompaction.isDone();
+    }
+
+    /**
+     * Copies the given data, moves the journal aside and saves the copy as a new snapshot on another thread.
+     * The journal that was moved aside is only deleted once the snapshot has been saved.
+     */
+    private void compactJournalInBackground(ReadOnlyGroupManager groupManager,
+        ReadOnlyQuestionManager questionManager) throws IOException {
+        GroupManager groupsToSave = new GroupManager();
+        groupsToSave.setGroups(groupManager.getListOfGroups().stream().map(Group::new).collect(Collectors.toList()));
+        QuestionManager questionsToSave = new QuestionManager(questionManager);
+
+        rotateJournal();
+        this.pendingCompaction = this.compactionExecutor.submit(() -> {
+            try {
+                saveSerenity(groupsToSave);
+                saveQuestionManager(questionsToSave);
+                deleteRotatedJournal();
+                logger.info("Compacted journal into a new snapshot");
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal, its changes are kept until the next snapshot: "
+                    + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    private void waitForJournalCompaction() {
+        if (this.pendingCompaction == null) {
+            return;
+        }
+        try {
+            this.pendingCompaction.get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Interrupted while waiting for journal compaction: " + StringUtil.getDetails(e));
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package team.serenity.ui;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.control.TextFormatter;
 import javafx.scene.layout.Region;
 import team.serenity.logic.Logic;
 import team.serenity.logic.commands.CommandResult;
@@ -14,6 +15,7 @@ import team.serenity.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     private static final String FXML = "CommandBox.fxml";
+    private static final String LINE_SEPARATOR = "\u2028";
 
     private final CommandExecutor commandExecutor;
 
@@ -31,6 +33,12 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         this.commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // keeps the lines of a pasted batch of commands apart, since the text field drops line breaks,
+        // but keeps the Unicode line separator, which is still a line break to the parser.
+        this.commandTextField.setTextFormatter(new TextFormatter<>(change -> {
+            change.setText(change.getText().replaceAll("^\\R+|\\R+$", "").replaceAll("\\R+", LINE_SEPARATOR));
+            return change;
+        }));
     }
 
     /**
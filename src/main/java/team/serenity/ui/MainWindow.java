@@ -1,7 +1,11 @@
 package team.serenity.ui;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -23,6 +27,7 @@ import team.serenity.commons.core.LogsCenter;
 import team.serenity.logic.Logic;
 import team.serenity.logic.commands.CommandResult;
 import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.logic.parser.SerenityParser;
 import team.serenity.logic.parser.exceptions.ParseException;
 import team.serenity.model.group.Group;
 import team.serenity.ui.datapanel.DataPanel;
@@ -126,6 +131,7 @@ public class MainWindow extends UiPart<Stage> {
 
         this.resultDisplay = new ResultDisplay();
         this.resultDisplayPlaceholder.getChildren().add(this.resultDisplay.getRoot());
+        this.logic.setOnSaveFailure(message -> Platform.runLater(() -> this.resultDisplay.setFeedbackToUser(message)));
 
         this.sideBar = new SideBar();
         this.sidebarPlaceholder.setContent(this.sideBar.getRoot());
@@ -217,7 +223,7 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     public void toggleHomeView() {
         this.titleDisplay.setDefaultTitle();
-        this.serenityDataPanel = new SerenityDataPanel(this.logic.getAllStudentInfo(),
+        this.serenityDataPanel = new SerenityDataPanel(this.logic.getFlaggedStudentsInfo(),
             this.logic.getFilteredQuestionList());
         this.dataDisplayPlaceholder.getChildren().clear();
         this.dataDisplayPlaceholder.getChildren().add(this.serenityDataPanel.getRoot());
@@ -232,6 +238,39 @@ public class MainWindow extends UiPart<Stage> {
         setUpGroupButton(groupButton);
     }
 
+    /**
+     * Adds group buttons for the groups that do not have one yet.
+     */
+    private void handleAddGrps() {
+        Set<String> groupNamesWithButton = new HashSet<>();
+        for (Node groupButton : this.sideBar.getButtons()) {
+            groupNamesWithButton.add(groupButton.getId());
+        }
+        for (Group group : this.logic.getGroups()) {
+            if (!groupNamesWithButton.contains(group.getGroupName().toString())) {
+                handleAddGrp(group.getGroupName().toString());
+            }
+        }
+    }
+
+    /**
+     * Deletes the group buttons of the groups in {@code groupNamesBefore} that no longer exist.
+     */
+    private void handleDelGrps(Set<String> groupNamesBefore) {
+        groupNamesBefore.removeAll(getGroupNames());
+        for (String groupName : groupNamesBefore) {
+            handleDelGrp(groupName);
+        }
+    }
+
+    private Set<String> getGroupNames() {
+        Set<String> groupNames = new HashSet<>();
+        for (Group group : this.logic.getGroups()) {
+            groupNames.add(group.getGroupName().toString());
+        }
+        return groupNames;
+    }
+
     /**
      * Set up group button.
      *
@@ -377,11 +416,20 @@ public class MainWindow extends UiPart<Stage> {
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
-            commandText = commandText.replaceAll("\\s+", " ");
+            commandText = commandText.replaceAll("\\h+", " ");
+            Set<String> groupNamesBefore = getGroupNames();
             CommandResult commandResult = this.logic.execute(commandText);
             this.logger.info("Result: " + commandResult.getFeedbackToUser());
             this.resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
+            // A batch is shown once, according to its last command, after the group buttons are brought up to date
+            List<String> commandTexts = SerenityParser.splitCommands(commandText);
+            if (commandTexts.size() > 1) {
+                handleAddGrps();
+                handleDelGrps(groupNamesBefore);
+                commandText = commandTexts.get(commandTexts.size() - 1);
+            }
+
             switch (commandResult.getUiAction()) {
             case SHOW_HELP:
                 handleHelp();
@@ -401,10 +449,14 @@ public class MainWindow extends UiPart<Stage> {
 
             case ADD_GRP:
                 String groupName = getGroupName(commandText);
-                handleAddGrp(groupName);
+                handleAddGrps();
                 handleViewGrp(groupName);
                 break;
 
+            case ADD_GRPS:
+                handleAddGrps();
+                break;
+
             case DEL_GRP:
                 handleDelGrp(getGroupName(commandText));
                 break;
@@ -35,10 +35,9 @@ public class SerenityDataPanel extends DataPanel {
     /**
      * Constructor for panel to display tutorial group data.
      */
-    public SerenityDataPanel(ObservableList<StudentInfo> studentInfo, ObservableList<Question> questionList) {
+    public SerenityDataPanel(ObservableList<StudentInfo> flaggedStudentsInfo, ObservableList<Question> questionList) {
         super(FXML);
-        studentInfo = studentInfo.filtered(info -> info.getAttendance().isFlagged());
-        this.flaggedAttendanceListView.setItems(studentInfo);
+        this.flaggedAttendanceListView.setItems(flaggedStudentsInfo);
         this.flaggedAttendanceListView.setCellFactory(listView -> new StudentInfoListViewCell());
         this.flaggedAttendanceListView.setPlaceholder(new Label(Messages.MESSAGE_NO_FLAGGED_ATTENDANCE));
         this.questionListView.setItems(questionList);
@@ -1,13 +1,23 @@
 package team.serenity.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static team.serenity.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,31 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_contentWriter_fileReplacedWithWrittenContent() throws IOException {
+        Path file = this.testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        FileUtil.writeToFile(file, out -> {
+            out.write("new ".getBytes(StandardCharsets.UTF_8));
+            out.write("content".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(this.testFolder.resolve("file.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFile_contentWriterFails_fileUnchanged() throws IOException {
+        Path file = this.testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+    }
+
 }
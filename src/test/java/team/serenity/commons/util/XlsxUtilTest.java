@@ -1,35 +1,69 @@
 package team.serenity.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static team.serenity.commons.core.Messages.MESSAGE_ASSERTION_ERROR_METHOD;
 import static team.serenity.commons.core.Messages.MESSAGE_FILE_EMPTY;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_HEADER_COLUMNS;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_STUDENT_ROW;
 import static team.serenity.commons.core.Messages.MESSAGE_NO_STUDENT_LIST;
+import static team.serenity.logic.commands.CommandTestUtil.INVALID_CSV_NO_HEADER_COLUMNS;
 import static team.serenity.logic.commands.CommandTestUtil.INVALID_XLSX_EMPTY;
 import static team.serenity.logic.commands.CommandTestUtil.INVALID_XLSX_NO_HEADER_COLUMNS;
 import static team.serenity.logic.commands.CommandTestUtil.INVALID_XLSX_NO_STUDENTS;
 import static team.serenity.logic.commands.CommandTestUtil.INVALID_XLSX_WRONG_HEADER_COLUMNS;
+import static team.serenity.logic.commands.CommandTestUtil.VALID_CSV_GROUP_A;
 import static team.serenity.logic.commands.CommandTestUtil.VALID_PATH_G04;
 import static team.serenity.logic.commands.CommandTestUtil.VALID_XLSX_NO_LESSONS;
 import static team.serenity.logic.commands.CommandTestUtil.VALID_XLSX_NO_TITLE;
 import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudent.CATHERINE;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import team.serenity.logic.parser.exceptions.ParseException;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
 import team.serenity.model.util.UniqueList;
+import team.serenity.testutil.GroupBuilder;
 import team.serenity.testutil.StudentBuilder;
 
 public class XlsxUtilTest {
 
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XlsxUtilTest");
+    private static final String INVALID_XLSX_INVALID_STUDENT =
+        TEST_DATA_FOLDER.resolve("CS2101_invalidstudent.xlsx").toString();
+
+    @TempDir
+    public Path testFolder;
+
     private Set<Student> expectedStudents = ExpectedGroup.getExpectedStudents();
     private Set<StudentInfo> expectedStudentsInfo = ExpectedGroup.getExpectedStudentsInfo();
     private Set<Lesson> expectedLessons = ExpectedGroup.getExpectedLessons();
@@ -97,6 +131,78 @@ public class XlsxUtilTest {
         assertThrows(ParseException.class, MESSAGE_NO_STUDENT_LIST, util::checkValidityOfXlsx);
     }
 
+    @Test
+    public void checkValidityOfXlsx_invalidXlsxInvalidStudent_throwsParseException() {
+        XlsxUtil util = new XlsxUtil(INVALID_XLSX_INVALID_STUDENT);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_STUDENT_ROW, 8), util::checkValidityOfXlsx);
+    }
+
+    @Test
+    public void readStudentsFromXlsx_invalidXlsxInvalidStudent_skipsInvalidStudent() {
+        XlsxUtil util = new XlsxUtil(INVALID_XLSX_INVALID_STUDENT);
+        Set<Student> students = util.readStudentsFromXlsx();
+        assertEquals(expectedStudents.size() - 1, students.size());
+        assertTrue(new ArrayList<>(expectedStudents).containsAll(students));
+    }
+
+    @Test
+    public void readStudentsFromXlsx_streamedAndLoadedWorkbook_sameResult() throws IOException {
+        XlsxUtil streamedUtil = new XlsxUtil(VALID_PATH_G04);
+        XlsxUtil loadedUtil = new XlsxUtil(VALID_PATH_G04, new XSSFWorkbook(VALID_PATH_G04));
+        assertEquals(new ArrayList<>(loadedUtil.readStudentsFromXlsx()),
+            new ArrayList<>(streamedUtil.readStudentsFromXlsx()));
+        assertEquals(new ArrayList<>(loadedUtil.readLessonsFromXlsx(expectedStudentsInfo)),
+            new ArrayList<>(streamedUtil.readLessonsFromXlsx(expectedStudentsInfo)));
+    }
+
+    @Test
+    public void readStudentsFromXlsx_validCsv_success() throws ParseException {
+        XlsxUtil util = new XlsxUtil(VALID_CSV_GROUP_A);
+        util.checkValidityOfXlsx();
+        Set<Student> students = util.readStudentsFromXlsx();
+        assertEquals(Arrays.asList(new Student("Aaron Tan", "A0123456U"), new Student("Baron Wong", "A0654321U"),
+            new Student("Cherry Lee", "A0135791U"), new Student("Dickson Low", "A0246810U"),
+            new Student("Eng Wee Kiat", "A0101010U")), new ArrayList<>(students));
+    }
+
+    @Test
+    public void readLessonsFromXlsx_validCsv_success() {
+        XlsxUtil util = new XlsxUtil(VALID_CSV_GROUP_A);
+        Set<StudentInfo> studentsInfo = util.readStudentsInfoFromXlsx(util.readStudentsFromXlsx());
+        Set<String> lessonNames = util.readLessonsFromXlsx(studentsInfo).stream()
+            .map(lesson -> lesson.getLessonName().toString()).collect(Collectors.toSet());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("1-1", "1-2", "2-1", "2-2", "3-1")), lessonNames);
+    }
+
+    @Test
+    public void readStudentsFromXlsx_csvWithQuotedFields_success() throws IOException, ParseException {
+        Path csvFile = this.testFolder.resolve("quoted.csv");
+        Files.write(csvFile, ("\uFEFF\"Title, with comma\",,,\r\n"
+            + "Photo,Name,User ID,Email,1\r\n"
+            + ",\"Aaron Tan\",A0123456U,\"aaron@u.nus.edu\",\r\n"
+            + ",Baron Wong,A0654321U,\"baron\n@u.nus.edu\",\r\n").getBytes(StandardCharsets.UTF_8));
+        XlsxUtil util = new XlsxUtil(csvFile.toString());
+        util.checkValidityOfXlsx();
+        Set<Student> students = util.readStudentsFromXlsx();
+        assertEquals(Arrays.asList(new Student("Aaron Tan", "A0123456U"), new Student("Baron Wong", "A0654321U")),
+            new ArrayList<>(students));
+    }
+
+    @Test
+    public void isCsvFile() {
+        assertTrue(XlsxUtil.isCsvFile("students.csv"));
+        assertTrue(XlsxUtil.isCsvFile("students.CSV"));
+        assertTrue(XlsxUtil.isCsvFile("students.Csv"));
+        assertFalse(XlsxUtil.isCsvFile("students.xlsx"));
+        assertFalse(XlsxUtil.isCsvFile("students.csv.xlsx"));
+    }
+
+    @Test
+    public void checkValidityOfXlsx_invalidCsvNoHeaderColumns_throwsParseException() {
+        XlsxUtil util = new XlsxUtil(INVALID_CSV_NO_HEADER_COLUMNS);
+        assertThrows(ParseException.class, MESSAGE_INVALID_HEADER_COLUMNS, util::checkValidityOfXlsx);
+    }
+
     @Test
     public void readLessonsFromXlsx_validXlsx_success() {
         XlsxUtil util = new XlsxUtil(VALID_PATH_G04);
@@ -119,6 +225,60 @@ public class XlsxUtilTest {
             && studentsInfo.retainAll(expectedStudentsInfo));
     }
 
+    @Test
+    public void writeScoreToXlsx_validGroup_oneRowPerStudent() throws IOException {
+        Group group = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN, CATHERINE)
+            .withLessons("1-1", "1-2").build();
+        Map<GroupLessonKey, UniqueList<StudentInfo>> studentInfoMap = new HashMap<>();
+        for (Lesson lesson : group.getLessons()) {
+            studentInfoMap.put(new GroupLessonKey(group.getGroupName(), lesson.getLessonName()),
+                lesson.getStudentsInfo());
+        }
+        Lesson firstLesson = group.getSortedLessons().get(0);
+        Student firstStudent = group.getSortedStudents().get(0);
+        UniqueStudentInfoList firstLessonStudentsInfo = new UniqueStudentInfoList();
+        for (Student student : group.getStudents()) {
+            firstLessonStudentsInfo.add(new StudentInfo(student));
+        }
+        firstLessonStudentsInfo.setParticipation(firstStudent.getStudentNo(), new Participation(3));
+        studentInfoMap.put(new GroupLessonKey(group.getGroupName(), firstLesson.getLessonName()),
+            firstLessonStudentsInfo);
+
+        Path outputFile = new XlsxUtil().writeScoreToXlsx(group, studentInfoMap, this.testFolder);
+
+        DataFormatter formatter = new DataFormatter();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(outputFile.toString())) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(2 + group.getStudents().size(), sheet.getLastRowNum());
+            assertEquals(firstLesson.getLessonName().toString(), formatter.formatCellValue(sheet.getRow(2).getCell(2)));
+            Row firstStudentRow = sheet.getRow(3);
+            assertEquals(firstStudent.getStudentNo().toString(), formatter.formatCellValue(firstStudentRow.getCell(1)));
+            assertEquals("3", formatter.formatCellValue(firstStudentRow.getCell(2)));
+            assertEquals("0", formatter.formatCellValue(firstStudentRow.getCell(3)));
+        }
+    }
+
+    @Test
+    public void writeAllToXlsx_oneGroupFails_otherGroupsExported() {
+        Group exportedGroup = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN)
+            .withLessons("1-1").build();
+        Group failingGroup = new Group(new GroupBuilder().withName("G02").withStudents(CATHERINE).build()) {
+            @Override
+            public List<Student> getSortedStudents() {
+                throw new IllegalStateException("dummy exception");
+            }
+        };
+
+        ExportSummary summary = XlsxUtil.writeAllToXlsx(Arrays.asList(failingGroup, exportedGroup),
+            new HashMap<>(), this.testFolder, 2);
+
+        assertEquals(2, summary.getWorkbookCount());
+        assertEquals(4, summary.getRowCount());
+        assertEquals(Arrays.asList("G02_attendance.xlsx", "G02_participation.xlsx"), summary.getFailedFileNames());
+        assertTrue(Files.exists(this.testFolder.resolve("G01_attendance.xlsx")));
+        assertTrue(Files.exists(this.testFolder.resolve("G01_participation.xlsx")));
+    }
+
     private static class ExpectedGroup {
 
         private static final Student AARON_TAN =
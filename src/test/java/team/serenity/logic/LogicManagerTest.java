@@ -1,28 +1,59 @@
 package team.serenity.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_QUESTION_DISPLAYED_INDEX;
 import static team.serenity.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalGroups.getTypicalGroupManager;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudentInfo.AARON_FLAGGED_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.BENJAMIN_FLAGGED_INFO;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import team.serenity.logic.commands.CommandResult;
+import team.serenity.logic.commands.CommandResult.UiAction;
+import team.serenity.logic.commands.DelGrpCommand;
 import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.logic.commands.question.AddQnCommand;
+import team.serenity.logic.commands.question.DelQnCommand;
 import team.serenity.logic.commands.question.ViewQnCommand;
+import team.serenity.logic.commands.studentinfo.FlagAttCommand;
 import team.serenity.logic.parser.exceptions.ParseException;
 import team.serenity.model.Model;
 import team.serenity.model.ModelManager;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.lesson.LessonName;
+import team.serenity.model.group.question.Description;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
+import team.serenity.model.managers.GroupManager;
+import team.serenity.model.managers.QuestionManager;
+import team.serenity.model.managers.ReadOnlyGroupManager;
 import team.serenity.model.userprefs.UserPrefs;
+import team.serenity.storage.BackgroundSaver;
+import team.serenity.storage.BinarySerenityStorage;
 import team.serenity.storage.JsonSerenityStorage;
+import team.serenity.storage.ShardedJsonSerenityStorage;
 import team.serenity.storage.StorageManager;
 import team.serenity.storage.question.JsonQuestionStorage;
 import team.serenity.storage.userprefs.JsonUserPrefsStorage;
+import team.serenity.testutil.GroupBuilder;
 
 public class LogicManagerTest {
 
@@ -33,14 +64,59 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private StorageManager storage;
+    private BackgroundSaver saver;
 
     @BeforeEach
     public void setUp() {
         JsonSerenityStorage serenityStorage = new JsonSerenityStorage(temporaryFolder.resolve("serenity.json"));
         JsonQuestionStorage questionStorage = new JsonQuestionStorage(temporaryFolder.resolve("question.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(serenityStorage, questionStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        storage = new StorageManager(serenityStorage, questionStorage, userPrefsStorage);
+        saver = new BackgroundSaver(storage, 0);
+        logic = new LogicManager(model, storage, saver);
+    }
+
+    @Test
+    public void constructor_lessonsReadFromSnapshot_noLessonLoaded() throws Exception {
+        StorageManager snapshotStorage = getSnapshotStorage(getTypicalGroupManager());
+        Model snapshotModel = new ModelManager(snapshotStorage.readSerenity().get(), new QuestionManager(),
+            new UserPrefs());
+        BackgroundSaver snapshotSaver = new BackgroundSaver(snapshotStorage, 0);
+
+        Logic snapshotLogic = new LogicManager(snapshotModel, snapshotStorage, snapshotSaver);
+        assertEquals(0, getLoadedLessonCount(snapshotModel));
+
+        // Recording the deletion of a group compares the lessons of the other groups
+        snapshotLogic.execute(DelGrpCommand.COMMAND_WORD + " grp/G01");
+        snapshotSaver.flush();
+        assertEquals(0, getLoadedLessonCount(snapshotModel));
+    }
+
+    @Test
+    public void getFlaggedStudentsInfo_lessonsReadFromSnapshot_listedWithoutLoadingLessons() throws Exception {
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroups(getTypicalGroupManager().getListOfGroups().stream().map(Group::new)
+            .collect(Collectors.toList()));
+        Lesson lesson = groupManager.getListOfGroups().get(0).getLessons().getList().get(0);
+        UniqueStudentInfoList studentsInfo = (UniqueStudentInfoList) lesson.getStudentsInfo();
+        studentsInfo.setAttendance(AARON.getStudentNo(), new Attendance(false, true));
+        StorageManager snapshotStorage = getSnapshotStorage(groupManager);
+        Model snapshotModel = new ModelManager(snapshotStorage.readSerenity().get(), new QuestionManager(),
+            new UserPrefs());
+        BackgroundSaver snapshotSaver = new BackgroundSaver(snapshotStorage, 0);
+        Logic snapshotLogic = new LogicManager(snapshotModel, snapshotStorage, snapshotSaver);
+
+        // What the main window asks for when it opens
+        snapshotLogic.getGroups();
+        snapshotLogic.getFilteredQuestionList();
+        assertEquals(List.of(AARON_FLAGGED_INFO), snapshotLogic.getFlaggedStudentsInfo());
+        assertEquals(0, getLoadedLessonCount(snapshotModel));
+
+        snapshotLogic.execute("viewlsn grp/G01 lsn/1-2\n" + FlagAttCommand.COMMAND_WORD + " 2");
+        assertEquals(List.of(AARON_FLAGGED_INFO, BENJAMIN_FLAGGED_INFO), snapshotLogic.getFlaggedStudentsInfo());
+        assertEquals(1, getLoadedLessonCount(snapshotModel));
+        snapshotSaver.flush();
     }
 
     @Test
@@ -61,11 +137,70 @@ public class LogicManagerTest {
         assertCommandSuccess(viewQnCommand, ViewQnCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validBatch_allCommandsExecutedAndSavedOnce() throws Exception {
+        model.addGroup(new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1").build());
+        Question firstQuestion = getQuestion("What is due?");
+        Question secondQuestion = getQuestion("When is it due?");
+
+        CommandResult result = logic.execute("viewlsn grp/G01 lsn/1-1\naddqn qn/What is due?\n"
+            + "addqn qn/When is it due?");
+
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(AddQnCommand.MESSAGE_SUCCESS, firstQuestion)
+            + "\n" + String.format(AddQnCommand.MESSAGE_SUCCESS, secondQuestion)));
+        assertEquals(UiAction.NO_ACTION, result.getUiAction());
+        assertTrue(model.hasQuestion(firstQuestion) && model.hasQuestion(secondQuestion));
+        saver.flush();
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void execute_batchWithFailingCommand_allCommandsRolledBack() {
+        model.addGroup(new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1").build());
+        String batch = "viewlsn grp/G01 lsn/1-1\naddqn qn/What is due?\naddqn qn/What is due?";
+
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_BATCH_FAILED, 3,
+            "addqn qn/What is due?", AddQnCommand.MESSAGE_DUPLICATE_QUESTION), () -> logic.execute(batch));
+        assertFalse(model.hasQuestion(getQuestion("What is due?")));
+        assertEquals(1, model.getFilteredGroupList().size());
+        assertTrue(model.getFilteredLessonList().isEmpty());
+    }
+
+    @Test
+    public void execute_batchWithInvalidCommand_nothingExecuted() {
+        assertThrows(ParseException.class, String.format(LogicManager.MESSAGE_INVALID_BATCH_COMMAND, 2,
+            "delqn", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DelQnCommand.MESSAGE_USAGE)), () ->
+            logic.execute("viewqn\ndelqn"));
+        assertEquals(new ModelManager(new UserPrefs()), model);
+    }
+
     @Test
     public void getFilteredQuestionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> this.logic.getFilteredQuestionList().remove(0));
     }
 
+    /**
+     * Saves {@code groupManager} as a binary snapshot and returns a storage that reads it back.
+     */
+    private StorageManager getSnapshotStorage(ReadOnlyGroupManager groupManager) throws IOException {
+        Path serenityFilePath = temporaryFolder.resolve("snapshot").resolve("serenity.json");
+        BinarySerenityStorage serenityStorage = new BinarySerenityStorage(
+            BinarySerenityStorage.getBinaryFilePathFor(serenityFilePath),
+            new ShardedJsonSerenityStorage(serenityFilePath));
+        serenityStorage.saveSerenity(groupManager);
+        return new StorageManager(serenityStorage, new JsonQuestionStorage(temporaryFolder.resolve("question.json")),
+            new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    private long getLoadedLessonCount(Model model) {
+        return model.getFilteredGroupList().stream().flatMap(group -> group.getLessons().stream())
+            .filter(lesson -> ((UniqueStudentInfoList) lesson.getStudentsInfo()).isLoaded()).count();
+    }
+
+    private static Question getQuestion(String description) {
+        return new Question(new GroupName("G01"), new LessonName("1-1"), new Description(description));
+    }
+
     /**
      * Executes the command and confirms that - no exceptions are thrown <br> - the feedback message is equal to {@code
      * expectedMessage} <br> - the internal model manager state is the same as that in {@code expectedModel} <br>
@@ -0,0 +1,76 @@
+package team.serenity.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.logic.commands.AddGrpCommand.MESSAGE_DUPLICATE_GROUP_NAME_FORMAT;
+import static team.serenity.logic.commands.AddGrpCommand.MESSAGE_DUPLICATE_STUDENT_FORMAT;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudent.CATHERINE;
+import static team.serenity.testutil.TypicalStudent.DAVID;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.model.Model;
+import team.serenity.model.ModelManager;
+import team.serenity.model.group.Group;
+import team.serenity.testutil.GroupBuilder;
+
+class AddGrpsCommandTest {
+
+    private final Group groupA = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).build();
+    private final Group groupB = new GroupBuilder().withName("G02").withStudents(CATHERINE).build();
+
+    @Test
+    public void constructor_nullGroups_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddGrpsCommand(null));
+    }
+
+    @Test
+    public void execute_newGroups_allGroupsAdded() throws CommandException {
+        Model model = new ModelManager();
+        CommandResult commandResult = new AddGrpsCommand(Arrays.asList(this.groupA, this.groupB)).execute(model);
+
+        assertEquals(String.format(AddGrpsCommand.MESSAGE_SUCCESS, 2, "G01, G02"),
+            commandResult.getFeedbackToUser());
+        assertEquals(CommandResult.UiAction.ADD_GRPS, commandResult.getUiAction());
+        assertEquals(Arrays.asList(this.groupA, this.groupB), model.getFilteredGroupList());
+    }
+
+    @Test
+    public void execute_studentInTwoNewGroups_noGroupAdded() {
+        Model model = new ModelManager();
+        Group invalidGroup = new GroupBuilder().withName("G02").withStudents(DAVID, BENJAMIN).build();
+        AddGrpsCommand addGrpsCommand = new AddGrpsCommand(Arrays.asList(this.groupA, invalidGroup));
+
+        assertThrows(CommandException.class, String.format(MESSAGE_DUPLICATE_STUDENT_FORMAT,
+            BENJAMIN.getStudentName(), BENJAMIN.getStudentNo()), () -> addGrpsCommand.execute(model));
+        assertTrue(model.isEmpty());
+    }
+
+    @Test
+    public void execute_existingGroupName_noGroupAdded() throws CommandException {
+        Model model = new ModelManager();
+        new AddGrpCommand(this.groupA).execute(model);
+        Group sameName = new GroupBuilder().withName("G01").withStudents(DAVID).build();
+        AddGrpsCommand addGrpsCommand = new AddGrpsCommand(Arrays.asList(this.groupB, sameName));
+
+        assertThrows(CommandException.class, String.format(MESSAGE_DUPLICATE_GROUP_NAME_FORMAT, "G01"), () ->
+            addGrpsCommand.execute(model));
+        assertFalse(model.hasGroupName(this.groupB.getGroupName()));
+    }
+
+    @Test
+    public void equals() {
+        AddGrpsCommand addGrpsCommand = new AddGrpsCommand(Arrays.asList(this.groupA, this.groupB));
+        assertTrue(addGrpsCommand.equals(addGrpsCommand));
+        assertTrue(addGrpsCommand.equals(new AddGrpsCommand(Arrays.asList(this.groupA, this.groupB))));
+        assertFalse(addGrpsCommand.equals(new AddGrpsCommand(Arrays.asList(this.groupA))));
+        assertFalse(addGrpsCommand.equals(null));
+    }
+}
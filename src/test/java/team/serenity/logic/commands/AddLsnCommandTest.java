@@ -19,7 +19,6 @@ import team.serenity.model.group.GroupContainsKeywordPredicate;
 import team.serenity.model.group.GroupName;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.LessonName;
-import team.serenity.model.group.question.Question;
 import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
 import team.serenity.testutil.GroupBuilder;
 import team.serenity.testutil.LessonBuilder;
@@ -96,7 +95,7 @@ class AddLsnCommandTest {
         }
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) {
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {
 
         }
     }
@@ -42,6 +42,7 @@ public class CommandTestUtil {
     public static final String VALID_PATH_G05 = "CS2101_G05.xlsx";
     public static final String VALID_XLSX_NO_LESSONS = "CS2101_nolessons.xlsx";
     public static final String VALID_XLSX_NO_TITLE = "CS2101_notitle.xlsx";
+    public static final String VALID_CSV_GROUP_A = "LUMINUS_GROUP_A.csv";
 
     public static final String VALID_QN_DESC_A = "What is the deadline for the report?";
     public static final String VALID_QN_DESC_B = "When is the consultation held?";
@@ -93,6 +94,7 @@ public class CommandTestUtil {
     public static final String INVALID_XLSX_NO_HEADER_COLUMNS = "CS2101_noheadercolumns.xlsx";
     public static final String INVALID_XLSX_NO_STUDENTS = "CS2101_nostudents.xlsx";
     public static final String INVALID_XLSX_WRONG_HEADER_COLUMNS = "CS2101_wrongheadercolumns.xlsx";
+    public static final String INVALID_CSV_NO_HEADER_COLUMNS = "LUMINUS_GROUP_B.csv";
 
     public static final String INVALID_LESSON_NAME_TEN = " " + PREFIX_LSN + "1-10";
     public static final String INVALID_QN_DESC = " " + PREFIX_QN; // empty string not allowed in questions
@@ -145,7 +145,7 @@ class ViewLsnCommandTest {
         }
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) {
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {
             this.filteredQuestionList.setPredicate(predicate);
         }
     }
@@ -168,7 +168,7 @@ class ViewLsnCommandTest {
         public void updateFilteredLessonList(Predicate<Lesson> predicate) {}
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) {}
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {}
     }
 
     private static class ModelStubWithNoLesson extends ModelStub {
@@ -202,7 +202,7 @@ class ViewLsnCommandTest {
         }
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) {
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {
             this.filteredQuestionList.setPredicate(predicate);
         }
     }
@@ -14,7 +14,6 @@ import static team.serenity.testutil.question.TypicalQuestion.QUESTION_B_DESC;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +27,7 @@ import team.serenity.model.group.UniqueGroupList;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.UniqueLessonList;
 import team.serenity.model.group.question.Question;
+import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
 import team.serenity.model.managers.QuestionManager;
 import team.serenity.model.managers.ReadOnlyQuestionManager;
 import team.serenity.model.util.UniqueList;
@@ -54,6 +54,22 @@ class AddQnCommandTest {
         assertEquals(Arrays.asList(validQuestion), modelStub.questionAdded);
     }
 
+    @Test
+    public void execute_similarQuestionAsked_similarQuestionListed() throws CommandException {
+        ModelStubAcceptingQuestionAdded modelStub = new ModelStubAcceptingQuestionAdded();
+        Question similarQuestion = new QuestionBuilder().withGroupName("G02")
+            .withDescription("What is the report deadline?").build();
+        modelStub.similarQuestions.add(similarQuestion);
+        Question validQuestion = new QuestionBuilder().build();
+
+        CommandResult commandResult = new AddQnCommand(validQuestion.getDescription()).execute(modelStub);
+
+        assertEquals(String.format(AddQnCommand.MESSAGE_SUCCESS, validQuestion)
+            + String.format(AddQnCommand.MESSAGE_SIMILAR_QUESTIONS, "\n  " + similarQuestion),
+            commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(validQuestion), modelStub.questionAdded);
+    }
+
     @Test
     public void execute_duplicateQuestion_throwsCommandException() {
         Question validQuestion = new QuestionBuilder().build();
@@ -157,6 +173,7 @@ class AddQnCommandTest {
      */
     private class ModelStubAcceptingQuestionAdded extends ModelStub {
         final ArrayList<Question> questionAdded = new ArrayList<>();
+        final ArrayList<Question> similarQuestions = new ArrayList<>();
         final FilteredList<Question> filteredList = new FilteredList<>(
                 FXCollections.observableArrayList(this.questionAdded)
         );
@@ -191,13 +208,19 @@ class AddQnCommandTest {
             this.questionAdded.add(question);
         }
 
+        @Override
+        public List<Question> getSimilarQuestions(Question question) {
+            requireNonNull(question);
+            return this.similarQuestions;
+        }
+
         @Override
         public ReadOnlyQuestionManager getQuestionManager() {
             return new QuestionManager();
         }
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) {
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {
             this.filteredList.setPredicate(predicate);
         }
     }
@@ -228,7 +251,7 @@ class AddQnCommandTest {
         }
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) { }
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) { }
     }
 
     /**
@@ -252,7 +275,7 @@ class AddQnCommandTest {
         }
 
         @Override
-        public void updateFilteredQuestionList(Predicate<Question> predicate) { }
+        public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) { }
     }
 
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static team.serenity.commons.core.Messages.MESSAGE_QUESTIONS_LISTED_OVERVIEW;
 import static team.serenity.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static team.serenity.testutil.question.TypicalQuestion.QUESTION_A;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_C;
 import static team.serenity.testutil.question.TypicalQuestion.getTypicalQuestionManager;
 
 import java.util.Arrays;
@@ -58,6 +59,10 @@ class FindQnCommandTest {
 
         // different person -> returns false
         assertNotEquals(findFirstCommand, findSecondCommand);
+
+        // different limit -> returns false
+        assertNotEquals(findFirstCommand, new FindQnCommand(firstPredicate, 1));
+        assertNotEquals(new FindQnCommand(firstPredicate, 2), new FindQnCommand(firstPredicate, 1));
     }
 
     @Test
@@ -82,6 +87,17 @@ class FindQnCommandTest {
         assertEquals(Collections.singletonList(QUESTION_A), this.model.getFilteredQuestionList());
     }
 
+    @Test
+    public void execute_keywordsWithLimit_bestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_QUESTIONS_LISTED_OVERVIEW, 2, "questions")
+                + FindQnCommand.MESSAGE_RANKED + FindQnCommand.MESSAGE_TO_VIEW_ALL_QUESTIONS;
+        QuestionContainsKeywordPredicate predicate = preparePredicate("what the");
+        FindQnCommand command = new FindQnCommand(predicate, 2);
+        this.expectedModel.rankQuestions(predicate, 2);
+        assertCommandSuccess(command, this.model, expectedMessage, this.expectedModel);
+        assertEquals(Arrays.asList(QUESTION_A, QUESTION_C), this.model.getFilteredQuestionList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code QuestionContainsKeywordsPredicate}.
      */
@@ -0,0 +1,65 @@
+package team.serenity.logic.commands.question;
+
+import static team.serenity.logic.commands.CommandTestUtil.assertViewQnCommandSuccess;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_A;
+import static team.serenity.testutil.question.TypicalQuestion.getTypicalQuestionManager;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import team.serenity.model.Model;
+import team.serenity.model.ModelManager;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.managers.Serenity;
+import team.serenity.model.userprefs.UserPrefs;
+import team.serenity.testutil.question.QuestionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for SimQnCommand.
+ */
+class SimQnCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = new ModelManager(new Serenity(), getTypicalQuestionManager(), new UserPrefs());
+        this.expectedModel = new ModelManager(new Serenity(), getTypicalQuestionManager(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noSimilarQuestions_showsNoQuestions() {
+        this.expectedModel.updateFilteredQuestionList(unused -> false);
+        assertViewQnCommandSuccess(new SimQnCommand(), this.model,
+                SimQnCommand.MESSAGE_NO_SIMILAR_QUESTIONS, this.expectedModel);
+    }
+
+    @Test
+    public void execute_similarQuestions_showsSimilarQuestions() {
+        Question similarToA = new QuestionBuilder(QUESTION_A).withGroupName("G02").build();
+        this.model.addQuestion(similarToA);
+        this.expectedModel.addQuestion(similarToA);
+        this.expectedModel.updateFilteredQuestionList(Set.of(QUESTION_A, similarToA)::contains);
+
+        String expectedMessage = String.format(SimQnCommand.MESSAGE_SUCCESS, 1,
+                "\n1.\n  " + QUESTION_A + "\n  " + similarToA);
+        assertViewQnCommandSuccess(new SimQnCommand(), this.model, expectedMessage, this.expectedModel);
+    }
+
+    @Test
+    public void execute_questionEdited_noLongerSimilar() {
+        Question similarToA = new QuestionBuilder(QUESTION_A).withGroupName("G02").build();
+        Question editedQuestion = new QuestionBuilder(similarToA).withDescription("When is the quiz?").build();
+        this.model.addQuestion(similarToA);
+        this.model.setQuestion(similarToA, editedQuestion);
+        this.expectedModel.addQuestion(editedQuestion);
+        this.expectedModel.updateFilteredQuestionList(unused -> false);
+
+        assertViewQnCommandSuccess(new SimQnCommand(), this.model,
+                SimQnCommand.MESSAGE_NO_SIMILAR_QUESTIONS, this.expectedModel);
+    }
+
+}
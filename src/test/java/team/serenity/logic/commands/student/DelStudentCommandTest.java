@@ -8,6 +8,7 @@ import static team.serenity.commons.core.Messages.MESSAGE_STUDENT_EMPTY;
 import static team.serenity.logic.commands.student.DelStudentCommand.MESSAGE_SUCCESS;
 import static team.serenity.testutil.Assert.assertThrows;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import team.serenity.commons.core.index.Index;
 import team.serenity.logic.commands.CommandResult;
 import team.serenity.logic.commands.exceptions.CommandException;
 import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupName;
 import team.serenity.model.group.UniqueGroupList;
 import team.serenity.model.group.student.Student;
 import team.serenity.model.group.student.StudentName;
@@ -167,6 +169,14 @@ class ModelStubGroup extends ModelStub {
         return filteredGroups;
     }
 
+    @Override
+    public Optional<GroupName> getGroupNameOfStudent(StudentNumber studentNumber) {
+        return this.filteredGroups.stream()
+            .filter(group -> group.getStudents().stream().anyMatch(s -> s.getStudentNo().equals(studentNumber)))
+            .map(Group::getGroupName)
+            .findFirst();
+    }
+
     @Override
     public void deleteStudentFromGroup(Student student, Predicate<Group> predicate) {
         return;
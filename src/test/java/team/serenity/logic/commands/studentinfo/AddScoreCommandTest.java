@@ -17,6 +17,8 @@ import static team.serenity.testutil.TypicalStudentInfo.ORIGINAL_SCORE;
 import static team.serenity.testutil.TypicalStudentInfo.SCORE_OUT_OF_RANGE;
 import static team.serenity.testutil.TypicalStudentInfo.VALID_ADD_SCORE;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import team.serenity.commons.core.index.Index;
@@ -127,6 +129,29 @@ class AddScoreCommandTest {
                 wrongIndex.getOneBased()), () -> addScoreCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_addScoreIndices_success() throws CommandException {
+        ModelStubWithStudentsPresent modelStub = new ModelStubWithStudentsPresent();
+        int expectedScore = ORIGINAL_SCORE + VALID_ADD_SCORE;
+
+        CommandResult commandResult = new AddScoreCommand(Arrays.asList(Index.fromOneBased(2), Index.fromOneBased(1)),
+                VALID_ADD_SCORE).execute(modelStub);
+        assertEquals(String.format(AddScoreCommand.MESSAGE_MANY_SUCCESS, 2,
+                BENJAMIN + ": " + expectedScore + "\n" + AARON + ": " + expectedScore),
+                commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_addScoreIndicesOutOfRange_throwsCommandException() {
+        ModelStubWithStudentsPresent modelStub = new ModelStubWithStudentsPresent();
+        AddScoreCommand addScoreCommand = new AddScoreCommand(Arrays.asList(Index.fromOneBased(1),
+                Index.fromOneBased(3)), SCORE_OUT_OF_RANGE);
+
+        String expectedMessage = String.format(MESSAGE_ADDED_SCORE_NOT_WITHIN_RANGE, SCORE_OUT_OF_RANGE, ORIGINAL_SCORE
+                + SCORE_OUT_OF_RANGE);
+        assertThrows(CommandException.class, expectedMessage, () -> addScoreCommand.execute(modelStub));
+    }
+
     @Test
     public void equals() throws CommandException {
         AddScoreCommand addScoreStudentCommandA = new AddScoreCommand(AARON, VALID_ADD_SCORE);
@@ -0,0 +1,71 @@
+package team.serenity.logic.commands.studentinfo;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.logic.commands.studentinfo.ExportAllCommand.MESSAGE_FAILURE;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudent.DAVID;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import team.serenity.commons.util.ExportSummary;
+import team.serenity.logic.commands.exceptions.CommandException;
+import team.serenity.model.Model;
+import team.serenity.model.ModelManager;
+import team.serenity.model.managers.QuestionManager;
+import team.serenity.model.managers.Serenity;
+import team.serenity.model.userprefs.UserPrefs;
+import team.serenity.testutil.GroupBuilder;
+import team.serenity.testutil.ModelStub;
+
+public class ExportAllCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_twoGroups_allFilesWritten() throws CommandException {
+        Model model = new ModelManager(new Serenity(Arrays.asList(
+            new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1", "1-2").build(),
+            new GroupBuilder().withName("G02").withStudents(DAVID).withLessons("1-1").build())),
+            new QuestionManager(), new UserPrefs());
+
+        new ExportAllCommand(this.testFolder).execute(model);
+
+        for (String fileName : Arrays.asList("G01_attendance.xlsx", "G01_participation.xlsx",
+            "G02_attendance.xlsx", "G02_participation.xlsx")) {
+            assertTrue(Files.exists(this.testFolder.resolve(fileName)));
+        }
+    }
+
+    @Test
+    public void execute_fileNotWritten_throwsCommandException() {
+        ModelStub modelStub = new ModelStub() {
+            @Override
+            public ExportSummary exportAll(Path directory) {
+                return new ExportSummary(1, 2, Collections.singletonList("G01_participation.xlsx"), 5);
+            }
+        };
+        assertThrows(CommandException.class, String.format(MESSAGE_FAILURE, 1, 1, "G01_participation.xlsx"), () ->
+            new ExportAllCommand(this.testFolder).execute(modelStub));
+    }
+
+    @Test
+    public void equals() {
+        ExportAllCommand exportAllCommand = new ExportAllCommand();
+        assertTrue(exportAllCommand.equals(exportAllCommand));
+        assertTrue(exportAllCommand.equals(new ExportAllCommand(Paths.get(""))));
+        assertFalse(exportAllCommand.equals(new ExportAllCommand(this.testFolder)));
+        assertFalse(exportAllCommand.equals(null));
+    }
+
+}
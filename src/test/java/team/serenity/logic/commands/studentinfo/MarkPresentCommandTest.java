@@ -10,9 +10,13 @@ import static team.serenity.commons.core.Messages.MESSAGE_STUDENT_NOT_FOUND;
 import static team.serenity.testutil.Assert.assertThrows;
 import static team.serenity.testutil.TypicalIndexes.INDEX_FIRST;
 import static team.serenity.testutil.TypicalIndexes.INDEX_SECOND;
+import static team.serenity.testutil.TypicalIndexes.INDEX_THIRD;
 import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.CATHERINE;
 import static team.serenity.testutil.TypicalStudent.GEORGE;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import team.serenity.commons.core.index.Index;
@@ -101,6 +105,26 @@ class MarkPresentCommandTest {
                         INDEX_SECOND.getOneBased()), () -> markPresentCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_markIndices_success() throws CommandException {
+        ModelStubWithStudentsAbsent modelStub = new ModelStubWithStudentsAbsent();
+
+        CommandResult commandResult = new MarkPresentCommand(Arrays.asList(INDEX_FIRST, INDEX_THIRD))
+                .execute(modelStub);
+        assertEquals(String.format(MarkPresentCommand.MESSAGE_MANY_SUCCESS, 2, AARON + "\n" + CATHERINE),
+                commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_wrongIndexInIndices_throwsCommandException() {
+        ModelStubWithStudentsAbsent modelStub = new ModelStubWithStudentsAbsent();
+        Index wrongIndex = Index.fromOneBased(4);
+        MarkPresentCommand markPresentCommand = new MarkPresentCommand(Arrays.asList(INDEX_FIRST, wrongIndex));
+
+        assertThrows(CommandException.class, String.format(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX,
+                wrongIndex.getOneBased()), () -> markPresentCommand.execute(modelStub));
+    }
+
     @Test
     public void execute_markAllStudent_success() throws CommandException {
         ModelStubWithStudentsAbsent modelStub = new ModelStubWithStudentsAbsent();
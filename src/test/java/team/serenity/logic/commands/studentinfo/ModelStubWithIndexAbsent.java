@@ -14,6 +14,9 @@ import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.UniqueGroupList;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.UniqueLessonList;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.util.UniqueList;
 import team.serenity.testutil.GroupBuilder;
@@ -65,6 +68,14 @@ class ModelStubWithIndexAbsent extends ModelStub {
                                                       UniqueList<StudentInfo> newListOfStudentsInfo) {
     }
 
+    @Override
+    public void updateAttendance(GroupLessonKey key, StudentNumber studentNumber, Attendance attendance) {
+    }
+
+    @Override
+    public void updateParticipation(GroupLessonKey key, StudentNumber studentNumber, Participation participation) {
+    }
+
     @Override
     public void updateLessonList() {
         return;
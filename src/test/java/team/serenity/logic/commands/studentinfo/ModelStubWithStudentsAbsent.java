@@ -11,6 +11,9 @@ import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.UniqueGroupList;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.UniqueLessonList;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.util.UniqueList;
 import team.serenity.testutil.GroupBuilder;
@@ -58,6 +61,22 @@ class ModelStubWithStudentsAbsent extends ModelStub {
                                                       UniqueList<StudentInfo> newListOfStudentsInfo) {
     }
 
+    @Override
+    public void updateAttendance(GroupLessonKey key, StudentNumber studentNumber, Attendance attendance) {
+    }
+
+    @Override
+    public void updateAttendanceOfAll(GroupLessonKey key, Attendance attendance) {
+    }
+
+    @Override
+    public void updateParticipation(GroupLessonKey key, StudentNumber studentNumber, Participation participation) {
+    }
+
+    @Override
+    public void updateStudentsInfo(GroupLessonKey key, List<StudentInfo> updatedStudentsInfo) {
+    }
+
     @Override
     public void updateStudentsInfoList() {
         return;
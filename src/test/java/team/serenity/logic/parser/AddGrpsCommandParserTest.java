@@ -0,0 +1,45 @@
+package team.serenity.logic.parser;
+
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static team.serenity.logic.parser.AddGrpsCommandParser.MESSAGE_INVALID_FILE_NAME;
+import static team.serenity.logic.parser.AddGrpsCommandParser.MESSAGE_NO_FILES;
+import static team.serenity.logic.parser.CliSyntax.PREFIX_PATH;
+import static team.serenity.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static team.serenity.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import team.serenity.logic.commands.AddGrpsCommand;
+import team.serenity.model.group.Group;
+
+public class AddGrpsCommandParserTest {
+
+    private AddGrpsCommandParser parser = new AddGrpsCommandParser();
+
+    @Test
+    public void parse_fileNamePattern_returnsGroupOfEachFile() {
+        AddGrpsCommand expectedCommand = new AddGrpsCommand(Arrays.asList(new Group("G04", "CS2101_G04.xlsx"),
+            new Group("G05", "CS2101_G05.xlsx"), new Group("G06", "CS2101_G06.xlsx")));
+        assertParseSuccess(parser, " " + PREFIX_PATH + "CS2101_G0*.xlsx", expectedCommand);
+    }
+
+    @Test
+    public void parse_fileNameWithoutGroupName_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_PATH + "CS2101_empty.xlsx",
+            String.format(MESSAGE_INVALID_FILE_NAME, "CS2101_empty.xlsx"));
+    }
+
+    @Test
+    public void parse_noMatchingFiles_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_PATH + "CS2101_X*.xlsx",
+            String.format(MESSAGE_NO_FILES, "CS2101_X*.xlsx"));
+    }
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        assertParseFailure(parser, " CS2101_G0*.xlsx",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddGrpsCommand.MESSAGE_USAGE));
+    }
+}
@@ -136,6 +136,17 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixMatched() {
+        Prefix dashTop = new Prefix("-top");
+        String argsString = "SomePreambleString -top5 -t dashT-Value -to\tp/pSlash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, dashTop);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTop, "5");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "o\tp/pSlash value");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
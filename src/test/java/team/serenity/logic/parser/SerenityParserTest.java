@@ -1,5 +1,6 @@
 package team.serenity.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static team.serenity.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static team.serenity.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -13,6 +14,9 @@ import static team.serenity.logic.commands.CommandTestUtil.STUDENT_DESC_AARON;
 import static team.serenity.logic.commands.CommandTestUtil.VALID_INDEX;
 import static team.serenity.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import team.serenity.logic.commands.AddGrpCommand;
@@ -24,10 +28,12 @@ import team.serenity.logic.commands.lesson.AddLsnCommand;
 import team.serenity.logic.commands.lesson.DelLsnCommand;
 import team.serenity.logic.commands.question.AddQnCommand;
 import team.serenity.logic.commands.question.DelQnCommand;
+import team.serenity.logic.commands.question.SimQnCommand;
 import team.serenity.logic.commands.question.ViewQnCommand;
 import team.serenity.logic.commands.student.AddStudentCommand;
 import team.serenity.logic.commands.student.DelStudentCommand;
 import team.serenity.logic.commands.studentinfo.AddScoreCommand;
+import team.serenity.logic.commands.studentinfo.ExportAllCommand;
 import team.serenity.logic.parser.exceptions.ParseException;
 
 public class SerenityParserTest {
@@ -100,6 +106,17 @@ public class SerenityParserTest {
         assertTrue(parser.parseCommand(ViewQnCommand.COMMAND_WORD + " 3") instanceof ViewQnCommand);
     }
 
+    @Test
+    public void parseCommand_simQn() throws Exception {
+        assertTrue(parser.parseCommand(SimQnCommand.COMMAND_WORD) instanceof SimQnCommand);
+        assertTrue(parser.parseCommand(SimQnCommand.COMMAND_WORD + " 3") instanceof SimQnCommand);
+    }
+
+    @Test
+    public void parseCommand_exportAll() throws Exception {
+        assertTrue(parser.parseCommand(ExportAllCommand.COMMAND_WORD) instanceof ExportAllCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -122,4 +139,29 @@ public class SerenityParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void splitCommands_singleLine_oneCommand() {
+        assertEquals(Collections.singletonList(" viewgrp grp/G01 "), SerenityParser.splitCommands(" viewgrp grp/G01 "));
+        assertEquals(Collections.singletonList("  "), SerenityParser.splitCommands("  "));
+    }
+
+    @Test
+    public void splitCommands_lineBreaks_commandsInOrder() {
+        assertEquals(Arrays.asList("viewlsn grp/G01 lsn/1-1", "markpresent 1", "markpresent 2", "markabsent 3"),
+            SerenityParser.splitCommands("viewlsn grp/G01 lsn/1-1\r\nmarkpresent 1\nmarkpresent 2\u2028markabsent 3"));
+    }
+
+    @Test
+    public void splitCommands_semicolons_keptAsTyped() {
+        assertEquals(Collections.singletonList("addqn qn/Why is it slow; help me"),
+            SerenityParser.splitCommands("addqn qn/Why is it slow; help me"));
+        assertEquals(Collections.singletonList("addqn qn/Is it due;; today;"),
+            SerenityParser.splitCommands("addqn qn/Is it due;; today;"));
+    }
+
+    @Test
+    public void splitCommands_blankLines_kept() {
+        assertEquals(Arrays.asList("viewqn", "", "viewqn", ""), SerenityParser.splitCommands("viewqn\n\nviewqn\n"));
+    }
 }
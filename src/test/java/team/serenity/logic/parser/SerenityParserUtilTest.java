@@ -1,12 +1,19 @@
 package team.serenity.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static team.serenity.commons.core.Messages.MESSAGE_INVALID_INDEX_RANGE;
+import static team.serenity.commons.core.Messages.MESSAGE_TOO_MANY_INDICES;
 import static team.serenity.testutil.Assert.assertThrows;
 import static team.serenity.testutil.TypicalIndexes.INDEX_FIRST;
+import static team.serenity.testutil.TypicalIndexes.INDEX_SECOND;
+import static team.serenity.testutil.TypicalIndexes.INDEX_THIRD;
+
+import java.util.Arrays;
 
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
 
+import team.serenity.commons.core.index.Index;
 import team.serenity.commons.util.XlsxUtil;
 import team.serenity.logic.parser.exceptions.ParseException;
 import team.serenity.model.group.GroupName;
@@ -49,6 +56,31 @@ public class SerenityParserUtilTest {
         assertEquals(INDEX_FIRST, SerenityParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndices_listsAndRanges_indicesInListedOrderWithoutDuplicates() throws Exception {
+        assertEquals(Arrays.asList(INDEX_FIRST), SerenityParserUtil.parseIndices(" 1 "));
+        assertEquals(Arrays.asList(INDEX_THIRD, INDEX_FIRST, INDEX_SECOND, Index.fromOneBased(5)),
+                SerenityParserUtil.parseIndices("3, 1-3 ,5,2"));
+        assertEquals(SerenityParserUtil.MAX_INDEX_COUNT,
+                SerenityParserUtil.parseIndices("1-" + SerenityParserUtil.MAX_INDEX_COUNT).size());
+    }
+
+    @Test
+    public void parseIndices_invalidInput_throwsException() {
+        assertThrows(NumberFormatException.class, () -> SerenityParserUtil.parseIndices("1,a"));
+        assertThrows(NumberFormatException.class, () -> SerenityParserUtil.parseIndices("1,"));
+        assertThrows(NumberFormatException.class, () -> SerenityParserUtil.parseIndices("1-"));
+        assertThrows(ParseException.class, () -> SerenityParserUtil.parseIndices("0-2"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "3-1"), () ->
+                SerenityParserUtil.parseIndices("1, 3-1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "1-2-3"), () ->
+                SerenityParserUtil.parseIndices("1, 1-2-3 "));
+        assertThrows(ParseException.class, String.format(MESSAGE_TOO_MANY_INDICES,
+                SerenityParserUtil.MAX_INDEX_COUNT), () -> SerenityParserUtil.parseIndices("1-" + Integer.MAX_VALUE));
+        assertThrows(ParseException.class, String.format(MESSAGE_TOO_MANY_INDICES,
+                SerenityParserUtil.MAX_INDEX_COUNT), () -> SerenityParserUtil.parseIndices("1-1000,1001"));
+    }
+
     // For Serenity
 
     @Test
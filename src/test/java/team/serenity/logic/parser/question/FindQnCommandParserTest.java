@@ -32,5 +32,20 @@ class FindQnCommandParserTest {
         assertParseSuccess(this.parser, " \n Due \n \t Deadline  \t", expectedFindQnCommand);
     }
 
+    @Test
+    public void parse_validArgsWithLimit_returnsRankedFindQnCommand() {
+        FindQnCommand expectedFindQnCommand =
+                new FindQnCommand(new QuestionContainsKeywordPredicate(Arrays.asList("Due", "Deadline")), 3);
+        assertParseSuccess(this.parser, " Due Deadline top/3", expectedFindQnCommand);
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindQnCommand.MESSAGE_USAGE);
+        assertParseFailure(this.parser, " Due top/0", expectedMessage);
+        assertParseFailure(this.parser, " Due top/three", expectedMessage);
+        assertParseFailure(this.parser, " top/3", expectedMessage);
+    }
+
 }
 
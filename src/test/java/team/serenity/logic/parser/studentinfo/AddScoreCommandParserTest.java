@@ -17,6 +17,8 @@ import static team.serenity.logic.commands.CommandTestUtil.VALID_SCORE;
 import static team.serenity.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static team.serenity.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import team.serenity.commons.core.index.Index;
@@ -114,4 +116,12 @@ class AddScoreCommandParserTest {
         assertParseSuccess(parser, VALID_INDEX + " " + ADD_SCORE_DESC, new AddScoreCommand(index, score));
     }
 
+    @Test
+    public void parse_validIndicesParameter_returnsAddScoreCommand() {
+        int score = Integer.parseInt(VALID_SCORE);
+
+        assertParseSuccess(parser, "3,7,9" + ADD_SCORE_DESC, new AddScoreCommand(Arrays.asList(
+                Index.fromOneBased(3), Index.fromOneBased(7), Index.fromOneBased(9)), score));
+    }
+
 }
@@ -12,6 +12,8 @@ import static team.serenity.logic.commands.CommandTestUtil.VALID_INDEX;
 import static team.serenity.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static team.serenity.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import team.serenity.commons.core.index.Index;
@@ -81,6 +83,12 @@ class MarkPresentCommandParserTest {
         assertParseSuccess(parser, VALID_INDEX, new MarkPresentCommand(index));
     }
 
+    @Test
+    public void parse_validIndicesParameter_returnsMarkPresentCommand() {
+        assertParseSuccess(parser, "1-2, 4", new MarkPresentCommand(Arrays.asList(Index.fromOneBased(1),
+                Index.fromOneBased(2), Index.fromOneBased(4))));
+    }
+
     @Test
     public void parse_validPreambleParameter_returnsMarkPresentCommand() {
         String preamble = "all";
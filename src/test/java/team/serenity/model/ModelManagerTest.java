@@ -3,23 +3,39 @@ package team.serenity.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.model.Model.PREDICATE_SHOW_ALL_GROUPS;
 import static team.serenity.model.Model.PREDICATE_SHOW_ALL_QUESTIONS;
 import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
 import static team.serenity.testutil.question.TypicalQuestion.QUESTION_A;
 import static team.serenity.testutil.question.TypicalQuestion.QUESTION_B;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import team.serenity.commons.core.GuiSettings;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.GroupContainsKeywordPredicate;
+import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.exceptions.DuplicateQuestionException;
 import team.serenity.model.group.exceptions.QuestionNotFoundException;
+import team.serenity.model.group.lesson.LessonContainsKeywordPredicate;
+import team.serenity.model.group.lesson.LessonName;
 import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
+import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.managers.QuestionManager;
 import team.serenity.model.managers.Serenity;
 import team.serenity.model.userprefs.UserPrefs;
+import team.serenity.testutil.GroupBuilder;
 import team.serenity.testutil.question.QuestionManagerBuilder;
 
 public class ModelManagerTest {
@@ -172,6 +188,124 @@ public class ModelManagerTest {
         assertThrows(NullPointerException.class, () -> this.modelManager.updateFilteredQuestionList(null));
     }
 
+    @Test
+    public void showLessonQuestions_questionsAdded_onlyQuestionsOfLessonShown() {
+        this.modelManager.addQuestion(QUESTION_A);
+        this.modelManager.showLessonQuestions(
+            new QuestionFromGroupLessonPredicate(QUESTION_B.getGroupName(), QUESTION_B.getLessonName()));
+        assertEquals(Collections.emptyList(), this.modelManager.getFilteredQuestionList());
+
+        this.modelManager.addQuestion(QUESTION_B);
+        assertEquals(Collections.singletonList(QUESTION_B), this.modelManager.getFilteredQuestionList());
+
+        this.modelManager.updateFilteredQuestionList(PREDICATE_SHOW_ALL_QUESTIONS);
+        assertEquals(Arrays.asList(QUESTION_A, QUESTION_B), this.modelManager.getFilteredQuestionList());
+    }
+
+    @Test
+    public void rankQuestions_thenUpdateFilteredQuestionList_originalOrderShown() {
+        this.modelManager.addQuestion(QUESTION_A);
+        this.modelManager.addQuestion(QUESTION_B);
+        this.modelManager.rankQuestions(new QuestionContainsKeywordPredicate(Arrays.asList("tomorrow", "what")), 2);
+        assertEquals(Arrays.asList(QUESTION_B, QUESTION_A), this.modelManager.getFilteredQuestionList());
+
+        this.modelManager.updateFilteredQuestionList(PREDICATE_SHOW_ALL_QUESTIONS);
+        assertEquals(Arrays.asList(QUESTION_A, QUESTION_B), this.modelManager.getFilteredQuestionList());
+    }
+
+
+    @Test
+    public void updateStudentsInfo_shownLesson_shownStudentsInfoUpdated() {
+        Group group = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1").build();
+        this.modelManager.addGroup(group);
+        this.modelManager.updateFilteredGroupList(new GroupContainsKeywordPredicate("G01"));
+        this.modelManager.updateFilteredLessonList(new LessonContainsKeywordPredicate("1-1"));
+        this.modelManager.updateStudentsInfoList();
+        GroupLessonKey key = new GroupLessonKey(group.getGroupName(), new LessonName("1-1"));
+        List<StudentInfo> updatedStudentsInfo = this.modelManager.getStudentsInfoList().stream()
+            .map(studentInfo -> studentInfo.updateAttendance(new Attendance(true))).collect(Collectors.toList());
+
+        this.modelManager.updateStudentsInfo(key, updatedStudentsInfo);
+
+        assertEquals(updatedStudentsInfo, new ArrayList<>(this.modelManager.getStudentsInfoList()));
+        assertEquals(updatedStudentsInfo,
+            new ArrayList<>(this.modelManager.getObservableListOfStudentsInfoFromKey(key)));
+    }
+
+    @Test
+    public void updateAttendanceOfAll_shownLesson_lessonAndShownStudentsInfoUpdated() {
+        Group group = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1").build();
+        this.modelManager.addGroup(group);
+        this.modelManager.updateFilteredGroupList(new GroupContainsKeywordPredicate("G01"));
+        this.modelManager.updateFilteredLessonList(new LessonContainsKeywordPredicate("1-1"));
+        this.modelManager.updateStudentsInfoList();
+        GroupLessonKey key = new GroupLessonKey(group.getGroupName(), new LessonName("1-1"));
+        List<StudentInfo> updatedStudentsInfo = this.modelManager.getStudentsInfoList().stream()
+            .map(studentInfo -> studentInfo.updateAttendance(new Attendance(true))).collect(Collectors.toList());
+
+        this.modelManager.updateAttendanceOfAll(key, new Attendance(true));
+
+        assertEquals(updatedStudentsInfo, new ArrayList<>(this.modelManager.getStudentsInfoList()));
+        assertEquals(updatedStudentsInfo, group.getLessons().getList().get(0).getStudentsInfo().getList());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_changesUndone() {
+        Group group = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1").build();
+        this.modelManager.addGroup(group);
+        this.modelManager.addQuestion(QUESTION_A);
+        this.modelManager.updateFilteredGroupList(new GroupContainsKeywordPredicate("G01"));
+        GroupLessonKey key = new GroupLessonKey(group.getGroupName(), new LessonName("1-1"));
+
+        this.modelManager.startTransaction();
+        this.modelManager.updateAttendance(key, AARON.getStudentNo(), new Attendance(true));
+        this.modelManager.deleteQuestion(QUESTION_A);
+        this.modelManager.updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+        this.modelManager.rollbackTransaction();
+
+        assertFalse(this.modelManager.getObservableListOfStudentsInfoFromKey(key).get(0).getAttendance().isPresent());
+        assertTrue(this.modelManager.hasQuestion(QUESTION_A));
+        assertEquals(1, this.modelManager.getFilteredGroupList().size());
+        assertEquals(group.getGroupName(), this.modelManager.getFilteredGroupList().get(0).getGroupName());
+        assertEquals(Arrays.asList(AARON, BENJAMIN), this.modelManager.getStudentList());
+    }
+
+    @Test
+    public void rollbackTransaction_afterCommittedTransactions_committedChangesKept() {
+        Group group = new GroupBuilder().withName("G01").withStudents(AARON, BENJAMIN).withLessons("1-1").build();
+        this.modelManager.addGroup(group);
+        GroupLessonKey key = new GroupLessonKey(group.getGroupName(), new LessonName("1-1"));
+        this.modelManager.startTransaction();
+        this.modelManager.updateAttendance(key, AARON.getStudentNo(), new Attendance(true));
+        this.modelManager.commitTransaction();
+        this.modelManager.startTransaction();
+        this.modelManager.addQuestion(QUESTION_A);
+        this.modelManager.commitTransaction();
+
+        this.modelManager.startTransaction();
+        this.modelManager.updateAttendance(key, BENJAMIN.getStudentNo(), new Attendance(true));
+        this.modelManager.deleteQuestion(QUESTION_A);
+        this.modelManager.rollbackTransaction();
+
+        List<StudentInfo> studentsInfo = this.modelManager.getObservableListOfStudentsInfoFromKey(key);
+        assertTrue(studentsInfo.get(0).getAttendance().isPresent());
+        assertFalse(studentsInfo.get(1).getAttendance().isPresent());
+        assertTrue(this.modelManager.hasQuestion(QUESTION_A));
+
+        // The groups restored by the rollback are copied again for the next transaction
+        this.modelManager.startTransaction();
+        this.modelManager.updateAttendance(key, AARON.getStudentNo(), new Attendance(false));
+        this.modelManager.rollbackTransaction();
+        assertTrue(this.modelManager.getObservableListOfStudentsInfoFromKey(key).get(0).getAttendance().isPresent());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_changesKept() {
+        this.modelManager.startTransaction();
+        this.modelManager.addQuestion(QUESTION_A);
+        this.modelManager.commitTransaction();
+        assertTrue(this.modelManager.hasQuestion(QUESTION_A));
+    }
 
     @Test
     public void equals() {
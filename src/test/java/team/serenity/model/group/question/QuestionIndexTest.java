@@ -0,0 +1,115 @@
+package team.serenity.model.group.question;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_A;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_B;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_C;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import team.serenity.testutil.question.QuestionBuilder;
+
+class QuestionIndexTest {
+
+    private final QuestionIndex questionIndex = new QuestionIndex();
+
+    @BeforeEach
+    public void setUp() {
+        this.questionIndex.add(QUESTION_A);
+        this.questionIndex.add(QUESTION_B);
+        this.questionIndex.add(QUESTION_C);
+    }
+
+    @Test
+    public void find_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.questionIndex.find((String) null));
+        assertThrows(NullPointerException.class, () -> this.questionIndex.find((List<String>) null));
+    }
+
+    @Test
+    public void find_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> this.questionIndex.find("  "));
+        assertThrows(IllegalArgumentException.class, () -> this.questionIndex.find("dead line"));
+    }
+
+    @Test
+    public void find_shortKeyword_questionsContainingKeyword() {
+        assertEquals(Set.of(QUESTION_A, QUESTION_B), this.questionIndex.find("wH"));
+        assertEquals(Set.of(QUESTION_C), this.questionIndex.find("g"));
+        assertEquals(Collections.emptySet(), this.questionIndex.find("xyz"));
+    }
+
+    @Test
+    public void find_longKeyword_questionsContainingKeyword() {
+        assertEquals(Set.of(QUESTION_A), this.questionIndex.find("DEADline"));
+        assertEquals(Set.of(QUESTION_C), this.questionIndex.find("criter"));
+        assertEquals(Collections.emptySet(), this.questionIndex.find("deadlines"));
+    }
+
+    @Test
+    public void find_gramsInDifferentWords_noMatch() {
+        // "the" and "dea" are both in QUESTION_A, but not "thedea"
+        assertEquals(Collections.emptySet(), this.questionIndex.find("thedea"));
+    }
+
+    @Test
+    public void find_manyKeywords_questionsContainingAnyKeyword() {
+        assertEquals(Set.of(QUESTION_A, QUESTION_C),
+            this.questionIndex.find(Arrays.asList("report", "grading", "missing")));
+        assertEquals(Collections.emptySet(), this.questionIndex.find(Collections.emptyList()));
+    }
+
+    @Test
+    public void find_matchesPredicate() {
+        List<String> keywords = Arrays.asList("is", "lesson", "the");
+        QuestionContainsKeywordPredicate predicate = new QuestionContainsKeywordPredicate(keywords);
+        for (Question question : Arrays.asList(QUESTION_A, QUESTION_B, QUESTION_C)) {
+            assertEquals(predicate.test(question), this.questionIndex.find(keywords).contains(question));
+        }
+    }
+
+    @Test
+    public void rank_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> this.questionIndex.rank(List.of("what"), 0));
+    }
+
+    @Test
+    public void rank_manyKeywords_mostRelevantFirst() {
+        // QUESTION_A has both keywords, and QUESTION_C is shorter than QUESTION_B
+        assertEquals(List.of(QUESTION_A, QUESTION_C, QUESTION_B), this.questionIndex.rank(List.of("what", "THE"), 5));
+    }
+
+    @Test
+    public void rank_limit_onlyMostRelevantKept() {
+        assertEquals(List.of(QUESTION_A, QUESTION_C), this.questionIndex.rank(List.of("what", "the", "the"), 2));
+        assertEquals(List.of(QUESTION_C), this.questionIndex.rank(List.of("grading", "missing"), 2));
+        assertEquals(Collections.emptyList(), this.questionIndex.rank(List.of("missing"), 2));
+    }
+
+    @Test
+    public void remove_question_noLongerFound() {
+        this.questionIndex.remove(QUESTION_A);
+        assertEquals(Set.of(QUESTION_B), this.questionIndex.find("what"));
+        assertEquals(Collections.emptySet(), this.questionIndex.find("deadline"));
+    }
+
+    @Test
+    public void remove_questionNotInIndex_nothingRemoved() {
+        this.questionIndex.remove(new QuestionBuilder().withDescription("What is the deadline?").build());
+        assertEquals(Set.of(QUESTION_A), this.questionIndex.find("deadline"));
+    }
+
+    @Test
+    public void clear_nothingFound() {
+        this.questionIndex.clear();
+        assertEquals(Collections.emptySet(), this.questionIndex.find("what"));
+    }
+
+}
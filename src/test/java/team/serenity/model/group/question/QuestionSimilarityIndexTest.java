@@ -0,0 +1,84 @@
+package team.serenity.model.group.question;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_A;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_B;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_C;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import team.serenity.testutil.question.QuestionBuilder;
+
+class QuestionSimilarityIndexTest {
+
+    // Has the same words as QUESTION_A, ignoring case and punctuation
+    private static final Question SIMILAR_TO_A = new QuestionBuilder().withGroupName("G02")
+        .withDescription("What is the deadline for the REPORT??").build();
+    // Shares 5 of the 8 words in either question with QUESTION_A
+    private static final Question LESS_SIMILAR_TO_A = new QuestionBuilder().withGroupName("G03")
+        .withDescription("What is the deadline for the final project?").build();
+
+    private final QuestionSimilarityIndex similarityIndex = new QuestionSimilarityIndex();
+
+    @BeforeEach
+    public void setUp() {
+        this.similarityIndex.add(QUESTION_A);
+        this.similarityIndex.add(QUESTION_B);
+        this.similarityIndex.add(QUESTION_C);
+    }
+
+    @Test
+    public void findSimilar_nullQuestion_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.similarityIndex.findSimilar(null));
+    }
+
+    @Test
+    public void findSimilar_noSimilarQuestions_emptyList() {
+        assertEquals(Collections.emptyList(), this.similarityIndex.findSimilar(QUESTION_A));
+        assertEquals(Collections.emptyList(), this.similarityIndex.findSimilar(
+            new QuestionBuilder().withDescription("When is the quiz?").build()));
+    }
+
+    @Test
+    public void findSimilar_similarQuestions_mostSimilarFirst() {
+        this.similarityIndex.add(LESS_SIMILAR_TO_A);
+        this.similarityIndex.add(SIMILAR_TO_A);
+        assertEquals(List.of(SIMILAR_TO_A, LESS_SIMILAR_TO_A), this.similarityIndex.findSimilar(QUESTION_A));
+        assertEquals(List.of(QUESTION_A, LESS_SIMILAR_TO_A), this.similarityIndex.findSimilar(SIMILAR_TO_A));
+    }
+
+    @Test
+    public void getClusters_similarQuestions_groupedInOrderAdded() {
+        assertEquals(Collections.emptyList(), this.similarityIndex.getClusters());
+
+        Question similarToB = new QuestionBuilder(QUESTION_B).withGroupName("G02").build();
+        this.similarityIndex.add(SIMILAR_TO_A);
+        this.similarityIndex.add(similarToB);
+        this.similarityIndex.add(LESS_SIMILAR_TO_A);
+        assertEquals(List.of(List.of(QUESTION_A, SIMILAR_TO_A, LESS_SIMILAR_TO_A), List.of(QUESTION_B, similarToB)),
+            this.similarityIndex.getClusters());
+    }
+
+    @Test
+    public void remove_question_noLongerSimilar() {
+        this.similarityIndex.add(SIMILAR_TO_A);
+        this.similarityIndex.remove(SIMILAR_TO_A);
+        this.similarityIndex.remove(SIMILAR_TO_A);
+        assertEquals(Collections.emptyList(), this.similarityIndex.findSimilar(QUESTION_A));
+        assertEquals(Collections.emptyList(), this.similarityIndex.getClusters());
+    }
+
+    @Test
+    public void clear_noClusters() {
+        this.similarityIndex.add(SIMILAR_TO_A);
+        this.similarityIndex.clear();
+        assertEquals(Collections.emptyList(), this.similarityIndex.findSimilar(QUESTION_A));
+        assertEquals(Collections.emptyList(), this.similarityIndex.getClusters());
+    }
+
+}
@@ -20,12 +20,19 @@ import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.exceptions.DuplicateQuestionException;
 import team.serenity.model.group.exceptions.QuestionNotFoundException;
 import team.serenity.model.util.UniqueList;
+import team.serenity.testutil.question.QuestionBuilder;
 
 class UniqueQuestionListTest {
 
+    private static final Question QUESTION_D = new QuestionBuilder().withGroupName("G02").withLessonName("1-1")
+        .withDescription("When is the quiz?").build();
+    private static final GroupLessonKey KEY_G01_1_2 =
+        new GroupLessonKey(QUESTION_B.getGroupName(), QUESTION_B.getLessonName());
+
     private final UniqueList<Question> uniqueQuestionList = new UniqueQuestionList();
 
     @Test
@@ -217,4 +224,53 @@ class UniqueQuestionListTest {
         assertNotEquals(diffPl.hashCode(), this.uniqueQuestionList.hashCode());
     }
 
+    @Test
+    public void add_questionsOfManyLessons_questionsOfEachLessonKeptTogether() {
+        UniqueQuestionList questions = new UniqueQuestionList();
+        questions.add(QUESTION_B);
+        questions.add(QUESTION_D);
+        questions.add(QUESTION_C);
+        questions.add(QUESTION_A);
+        assertEquals(Arrays.asList(QUESTION_B, QUESTION_C, QUESTION_D, QUESTION_A), questions.getList());
+
+        questions.remove(QUESTION_C);
+        questions.setElement(QUESTION_D, QUESTION_C);
+        assertEquals(Arrays.asList(QUESTION_B, QUESTION_C, QUESTION_A), questions.getList());
+    }
+
+    @Test
+    public void getQuestionsOf_questionsChanged_listUpdated() {
+        UniqueQuestionList questions = new UniqueQuestionList();
+        List<Question> lessonQuestions = questions.getQuestionsOf(KEY_G01_1_2);
+        assertEquals(Collections.emptyList(), lessonQuestions);
+
+        questions.setElementsWithList(Arrays.asList(QUESTION_A, QUESTION_B, QUESTION_D));
+        questions.add(QUESTION_C);
+        assertEquals(Arrays.asList(QUESTION_B, QUESTION_C), lessonQuestions);
+
+        questions.remove(QUESTION_B);
+        assertEquals(Collections.singletonList(QUESTION_C), lessonQuestions);
+        assertThrows(UnsupportedOperationException.class, () -> lessonQuestions.remove(0));
+    }
+
+    @Test
+    public void removeQuestionsOf_lesson_onlyQuestionsOfLessonRemoved() {
+        UniqueQuestionList questions = new UniqueQuestionList();
+        questions.setElementsWithList(Arrays.asList(QUESTION_A, QUESTION_B, QUESTION_D, QUESTION_C));
+        assertEquals(Arrays.asList(QUESTION_B, QUESTION_C), questions.removeQuestionsOf(KEY_G01_1_2));
+        assertEquals(Arrays.asList(QUESTION_A, QUESTION_D), questions.getList());
+        assertFalse(questions.contains(QUESTION_B));
+        assertEquals(Collections.emptyList(), questions.getQuestionsOf(KEY_G01_1_2));
+    }
+
+    @Test
+    public void removeQuestionsOf_group_onlyQuestionsOfGroupRemoved() {
+        UniqueQuestionList questions = new UniqueQuestionList();
+        questions.setElementsWithList(Arrays.asList(QUESTION_A, QUESTION_B, QUESTION_D, QUESTION_C));
+        assertEquals(Arrays.asList(QUESTION_A, QUESTION_B, QUESTION_C),
+            questions.removeQuestionsOf(QUESTION_A.getGroupName()));
+        assertEquals(Collections.singletonList(QUESTION_D), questions.getList());
+        assertEquals(Collections.emptyList(), questions.removeQuestionsOf(QUESTION_A.getGroupName()));
+    }
+
 }
@@ -0,0 +1,230 @@
+package team.serenity.model.group.studentinfo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudentInfo.AARON_ABSENT_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.AARON_FLAGGED_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.AARON_PRESENT_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.BENJAMIN_ABSENT_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.BENJAMIN_FLAGGED_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.BENJAMIN_PRESENT_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.CATHERINE_FLAGGED_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.CATHERINE_PRESENT_INFO;
+import static team.serenity.testutil.TypicalStudentInfo.HELENE_INFO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import team.serenity.model.group.exceptions.DuplicateStudentInfoException;
+import team.serenity.model.group.exceptions.StudentInfoNotFoundException;
+
+public class UniqueStudentInfoListTest {
+
+    private final UniqueStudentInfoList uniqueStudentInfoList = new UniqueStudentInfoList();
+
+    private static UniqueStudentInfoList listOf(StudentInfo... studentsInfo) {
+        UniqueStudentInfoList list = new UniqueStudentInfoList();
+        list.setElementsWithList(Arrays.asList(studentsInfo));
+        return list;
+    }
+
+    @Test
+    public void add_studentInfo_readBackWithSameFields() {
+        this.uniqueStudentInfoList.add(AARON_PRESENT_INFO);
+        this.uniqueStudentInfoList.add(CATHERINE_FLAGGED_INFO);
+        assertEquals(Arrays.asList(AARON_PRESENT_INFO, CATHERINE_FLAGGED_INFO),
+            new ArrayList<>(this.uniqueStudentInfoList.getList()));
+        assertTrue(this.uniqueStudentInfoList.contains(AARON_PRESENT_INFO));
+        assertFalse(this.uniqueStudentInfoList.contains(AARON_ABSENT_INFO));
+    }
+
+    @Test
+    public void add_sameStudent_throwsDuplicateStudentInfoException() {
+        this.uniqueStudentInfoList.add(AARON_PRESENT_INFO);
+        assertThrows(DuplicateStudentInfoException.class, () -> this.uniqueStudentInfoList.add(AARON_FLAGGED_INFO));
+    }
+
+    @Test
+    public void remove_middleStudentInfo_shiftsFollowingStudentsInfo() {
+        UniqueStudentInfoList list = listOf(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO, CATHERINE_FLAGGED_INFO);
+        list.remove(BENJAMIN_ABSENT_INFO);
+        assertEquals(Arrays.asList(AARON_PRESENT_INFO, CATHERINE_FLAGGED_INFO), new ArrayList<>(list.getList()));
+        assertThrows(StudentInfoNotFoundException.class, () -> list.remove(BENJAMIN_ABSENT_INFO));
+    }
+
+    @Test
+    public void setElement_updatedAttendance_onlyTargetChanged() {
+        UniqueStudentInfoList list = listOf(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO);
+        list.setElement(BENJAMIN_ABSENT_INFO, BENJAMIN_PRESENT_INFO);
+        assertEquals(Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_PRESENT_INFO), new ArrayList<>(list.getList()));
+    }
+
+    @Test
+    public void setAttendanceOfAll_present_allStudentsPresentAndUnflagged() {
+        UniqueStudentInfoList list = listOf(AARON_FLAGGED_INFO, BENJAMIN_ABSENT_INFO, CATHERINE_PRESENT_INFO);
+        List<Integer> updatedPositions = new ArrayList<>();
+        list.getList().addListener((ListChangeListener<StudentInfo>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        updatedPositions.add(i);
+                    }
+                }
+            }
+        });
+
+        list.setAttendanceOfAll(new Attendance(true));
+
+        for (StudentInfo studentInfo : list) {
+            assertTrue(studentInfo.getAttendance().isPresent());
+            assertFalse(studentInfo.getAttendance().isFlagged());
+        }
+        assertEquals(AARON_FLAGGED_INFO.getParticipation(), list.getList().get(0).getParticipation());
+        assertEquals(Arrays.asList(0, 1, 2), updatedPositions);
+    }
+
+    @Test
+    public void setStudentsInfo_someStudents_onlyThoseReplaced() {
+        UniqueStudentInfoList list = listOf(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO, CATHERINE_FLAGGED_INFO);
+        List<Integer> replacedPositions = new ArrayList<>();
+        list.getList().addListener((ListChangeListener<StudentInfo>) change -> {
+            while (change.next()) {
+                replacedPositions.add(change.getFrom());
+            }
+        });
+
+        list.setStudentsInfo(Arrays.asList(CATHERINE_PRESENT_INFO, AARON_PRESENT_INFO));
+
+        assertEquals(Arrays.asList(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO, CATHERINE_PRESENT_INFO),
+            new ArrayList<>(list.getList()));
+        replacedPositions.sort(null);
+        assertEquals(Arrays.asList(0, 2), replacedPositions);
+    }
+
+    @Test
+    public void setStudentsInfo_studentNotInList_throwsStudentInfoNotFoundExceptionAndNothingChanged() {
+        UniqueStudentInfoList list = listOf(AARON_ABSENT_INFO, CATHERINE_FLAGGED_INFO);
+        assertThrows(StudentInfoNotFoundException.class, () ->
+            list.setStudentsInfo(Arrays.asList(AARON_PRESENT_INFO, BENJAMIN_PRESENT_INFO)));
+        assertEquals(Arrays.asList(AARON_ABSENT_INFO, CATHERINE_FLAGGED_INFO), new ArrayList<>(list.getList()));
+    }
+
+    @Test
+    public void setElementsWithUniqueList_copyChanged_originalUnchanged() {
+        UniqueStudentInfoList original = listOf(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO);
+        this.uniqueStudentInfoList.setElementsWithUniqueList(original);
+        assertEquals(original, this.uniqueStudentInfoList);
+
+        this.uniqueStudentInfoList.setAttendanceOfAll(new Attendance(true));
+        this.uniqueStudentInfoList.remove(this.uniqueStudentInfoList.getList().get(0));
+        assertEquals(Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO), new ArrayList<>(original.getList()));
+    }
+
+    @Test
+    public void shareStudentsWith_sameStudents_studentsChangedIndependently() {
+        UniqueStudentInfoList first = listOf(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO);
+        UniqueStudentInfoList second = listOf(AARON_PRESENT_INFO, BENJAMIN_PRESENT_INFO);
+        assertTrue(first.shareStudentsWith(second));
+
+        second.add(HELENE_INFO);
+        assertEquals(Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO), new ArrayList<>(first.getList()));
+        assertEquals(Arrays.asList(AARON_PRESENT_INFO, BENJAMIN_PRESENT_INFO, HELENE_INFO),
+            new ArrayList<>(second.getList()));
+    }
+
+    @Test
+    public void shareStudentsWith_differentStudents_returnsFalse() {
+        assertFalse(listOf(AARON_ABSENT_INFO).shareStudentsWith(listOf(BENJAMIN_ABSENT_INFO)));
+        assertFalse(listOf(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO)
+            .shareStudentsWith(listOf(BENJAMIN_ABSENT_INFO, AARON_ABSENT_INFO)));
+    }
+
+    @Test
+    public void equals() {
+        UniqueStudentInfoList list = listOf(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO);
+        UniqueStudentInfoList sameList = listOf(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO);
+        assertEquals(list, sameList);
+        assertEquals(list.hashCode(), sameList.hashCode());
+
+        sameList.setElement(AARON_PRESENT_INFO, new StudentInfo(AARON, new Participation(1), new Attendance(true)));
+        assertNotEquals(list, sameList);
+        assertNotEquals(list, listOf(AARON_PRESENT_INFO, BENJAMIN_PRESENT_INFO));
+        assertNotEquals(list, listOf(AARON_PRESENT_INFO));
+    }
+
+    @Test
+    public void setElementsLazily_studentsInfoLoadedOnFirstRead() {
+        List<Integer> loadCount = new ArrayList<>();
+        this.uniqueStudentInfoList.setElementsLazily(Arrays.asList(AARON, BENJAMIN), List.of(), () -> {
+            loadCount.add(1);
+            return Arrays.asList(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO);
+        });
+        assertEquals(2, this.uniqueStudentInfoList.size());
+        assertEquals(1, this.uniqueStudentInfoList.indexOf(BENJAMIN.getStudentNo()));
+        assertFalse(this.uniqueStudentInfoList.isLoaded());
+
+        assertEquals(Arrays.asList(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO),
+            new ArrayList<>(this.uniqueStudentInfoList.getList()));
+        assertTrue(this.uniqueStudentInfoList.isLoaded());
+        assertEquals(Arrays.asList(AARON_PRESENT_INFO, BENJAMIN_ABSENT_INFO),
+            new ArrayList<>(this.uniqueStudentInfoList.getList()));
+        assertEquals(1, loadCount.size());
+    }
+
+    @Test
+    public void setElementsLazily_copyOfUnloadedList_loadedSeparately() {
+        UniqueStudentInfoList original = new UniqueStudentInfoList();
+        original.setElementsLazily(Arrays.asList(AARON, BENJAMIN), List.of(), () ->
+            Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO));
+        this.uniqueStudentInfoList.setElementsWithUniqueList(original);
+        assertFalse(this.uniqueStudentInfoList.isLoaded());
+
+        this.uniqueStudentInfoList.setAttendanceOfAll(new Attendance(true));
+        assertFalse(original.isLoaded());
+        assertEquals(Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO), new ArrayList<>(original.getList()));
+    }
+
+    @Test
+    public void equals_unchangedCopyOfUnloadedList_equalWithoutLoading() {
+        UniqueStudentInfoList original = new UniqueStudentInfoList();
+        original.setElementsLazily(Arrays.asList(AARON, BENJAMIN), List.of(), () ->
+            Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_ABSENT_INFO));
+        this.uniqueStudentInfoList.setElementsWithUniqueList(original);
+
+        assertEquals(original, this.uniqueStudentInfoList);
+        assertFalse(original.isLoaded());
+        assertFalse(this.uniqueStudentInfoList.isLoaded());
+
+        this.uniqueStudentInfoList.setAttendanceOfAll(new Attendance(true));
+        assertNotEquals(original, this.uniqueStudentInfoList);
+    }
+
+    @Test
+    public void getFlaggedStudentsInfo_unloadedList_flaggedStudentsInfoWithoutLoading() {
+        List<StudentInfo> flaggedStudentsInfo = List.of(BENJAMIN_FLAGGED_INFO);
+        this.uniqueStudentInfoList.setElementsLazily(Arrays.asList(AARON, BENJAMIN), flaggedStudentsInfo, () ->
+            Arrays.asList(AARON_ABSENT_INFO, BENJAMIN_FLAGGED_INFO));
+        assertEquals(flaggedStudentsInfo, this.uniqueStudentInfoList.getFlaggedStudentsInfo());
+        assertFalse(this.uniqueStudentInfoList.isLoaded());
+
+        this.uniqueStudentInfoList.setAttendance(AARON.getStudentNo(), new Attendance(false, true));
+        assertEquals(List.of(AARON_FLAGGED_INFO, BENJAMIN_FLAGGED_INFO),
+            this.uniqueStudentInfoList.getFlaggedStudentsInfo());
+    }
+
+    @Test
+    public void setElementsLazily_duplicateStudents_throwsDuplicateStudentInfoException() {
+        assertThrows(DuplicateStudentInfoException.class, () -> this.uniqueStudentInfoList.setElementsLazily(
+            Arrays.asList(AARON, AARON), List.of(), () -> Arrays.asList(AARON_ABSENT_INFO, AARON_PRESENT_INFO)));
+    }
+
+}
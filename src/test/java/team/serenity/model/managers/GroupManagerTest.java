@@ -2,6 +2,7 @@ package team.serenity.model.managers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static team.serenity.testutil.Assert.assertThrows;
 import static team.serenity.testutil.TypicalGroups.GROUP_G01;
@@ -20,6 +21,9 @@ import javafx.collections.ObservableList;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.exceptions.DuplicateGroupException;
 import team.serenity.model.group.exceptions.GroupNotFoundException;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.util.UniqueList;
 
 class GroupManagerTest {
 
@@ -123,6 +127,46 @@ class GroupManagerTest {
                 .getListOfGroups().remove(0));
     }
 
+    @Test
+    public void getModificationCount_lessonOfGroupChanged_countIncreased() {
+        Group group = new Group(GROUP_G01);
+        this.groupManager.addGroup(group);
+        long count = this.groupManager.getModificationCount();
+
+        UniqueList<StudentInfo> studentsInfo = group.getLessons().getList().get(0).getStudentsInfo();
+        StudentInfo studentInfo = studentsInfo.getList().get(0);
+        studentsInfo.setElement(studentInfo, new StudentInfo(studentInfo.getStudent(),
+            studentInfo.getParticipation(), new Attendance(!studentInfo.getAttendance().isPresent())));
+        assertNotEquals(count, this.groupManager.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCount_deletedGroupChanged_countUnchanged() {
+        Group group = new Group(GROUP_G01);
+        this.groupManager.addGroup(group);
+        this.groupManager.deleteGroup(group);
+        long count = this.groupManager.getModificationCount();
+
+        group.getStudents().remove(group.getStudents().getList().get(0));
+        group.getLessons().remove(group.getLessons().getList().get(0));
+        assertEquals(count, this.groupManager.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCountOfGroup_otherGroupChanged_countUnchanged() {
+        Group changedGroup = new Group(GROUP_G01);
+        Group unchangedGroup = new Group(GROUP_G02);
+        this.groupManager.addGroup(changedGroup);
+        this.groupManager.addGroup(unchangedGroup);
+        long changedGroupCount = this.groupManager.getModificationCount(changedGroup);
+        long unchangedGroupCount = this.groupManager.getModificationCount(unchangedGroup);
+
+        changedGroup.getLessons().remove(changedGroup.getLessons().getList().get(0));
+        assertNotEquals(changedGroupCount, this.groupManager.getModificationCount(changedGroup));
+        assertEquals(unchangedGroupCount, this.groupManager.getModificationCount(unchangedGroup));
+        assertEquals(-1, this.groupManager.getModificationCount(new Group(GROUP_G01)));
+    }
+
     /**
      * A stub ReadOnlyGroupManager whose group list can violate interface constraints.
      */
@@ -137,5 +181,15 @@ class GroupManagerTest {
         public ObservableList<Group> getListOfGroups() {
             return this.groupList;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public long getModificationCount(Group group) {
+            return this.groupList.contains(group) ? 0 : -1;
+        }
     }
 }
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +29,7 @@ import javafx.collections.ObservableList;
 import team.serenity.model.group.exceptions.DuplicateQuestionException;
 import team.serenity.model.group.exceptions.QuestionNotFoundException;
 import team.serenity.model.group.question.Question;
+import team.serenity.testutil.question.QuestionBuilder;
 import team.serenity.testutil.question.QuestionManagerBuilder;
 
 class QuestionManagerTest {
@@ -159,6 +161,50 @@ class QuestionManagerTest {
         assertFalse(this.questionManager.hasQuestion(QUESTION_A));
     }
 
+    @Test
+    public void findQuestions_afterChanges_findsCurrentQuestions() {
+        this.questionManager.setQuestions(getTypicalQuestion());
+        assertEquals(Set.of(QUESTION_A, QUESTION_B), this.questionManager.findQuestions(List.of("what")));
+
+        Question editedQuestion = new QuestionBuilder(QUESTION_B).withDescription("When is the quiz?").build();
+        this.questionManager.setQuestion(QUESTION_B, editedQuestion);
+        this.questionManager.deleteQuestion(QUESTION_A);
+        this.questionManager.addQuestion(QUESTION_A);
+        this.questionManager.deleteQuestion(QUESTION_C);
+        assertEquals(Set.of(QUESTION_A), this.questionManager.findQuestions(List.of("what")));
+        assertEquals(Set.of(editedQuestion), this.questionManager.findQuestions(List.of("quiz", "grading")));
+
+        this.questionManager.deleteAllQuestionsFromGroup(GROUP_G01);
+        assertEquals(Collections.emptySet(), this.questionManager.findQuestions(List.of("what", "quiz")));
+    }
+
+    @Test
+    public void findSimilarQuestions_afterChanges_findsCurrentQuestions() {
+        this.questionManager.setQuestions(getTypicalQuestion());
+        Question similarQuestion = new QuestionBuilder(QUESTION_A).withGroupName("G02").build();
+        assertEquals(List.of(QUESTION_A), this.questionManager.findSimilarQuestions(similarQuestion));
+
+        this.questionManager.addQuestion(similarQuestion);
+        assertEquals(List.of(List.of(QUESTION_A, similarQuestion)), this.questionManager.getSimilarQuestionClusters());
+
+        this.questionManager.deleteAllQuestionsFromGroup(GROUP_G01);
+        assertEquals(Collections.emptyList(), this.questionManager.findSimilarQuestions(similarQuestion));
+        assertEquals(Collections.emptyList(), this.questionManager.getSimilarQuestionClusters());
+    }
+
+    @Test
+    public void findQuestions_copyChangedBeforeFirstSearch_findsCurrentQuestions() {
+        this.questionManager.setQuestions(getTypicalQuestion());
+        QuestionManager questionManagerCopy = new QuestionManager(this.questionManager);
+        questionManagerCopy.deleteQuestion(QUESTION_A);
+        Question similarQuestion = new QuestionBuilder(QUESTION_B).withGroupName("G02").build();
+        questionManagerCopy.addQuestion(similarQuestion);
+
+        assertEquals(Set.of(QUESTION_B, similarQuestion), questionManagerCopy.findQuestions(List.of("what")));
+        assertEquals(List.of(QUESTION_B), questionManagerCopy.findSimilarQuestions(similarQuestion));
+        assertEquals(Set.of(QUESTION_A, QUESTION_B), this.questionManager.findQuestions(List.of("what")));
+    }
+
     @Test
     public void deleteAllQuestionsFromGroup_nullGroup_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> this.questionManager.deleteAllQuestionsFromGroup(null));
@@ -267,6 +313,17 @@ class QuestionManagerTest {
         assertNotEquals(this.questionManager.toString(), differentQuestionManager.toString());
     }
 
+    @Test
+    public void getModificationCount_questionAdded_countIncreased() {
+        long count = this.questionManager.getModificationCount();
+        this.questionManager.addQuestion(QUESTION_A);
+        assertNotEquals(count, this.questionManager.getModificationCount());
+
+        count = this.questionManager.getModificationCount();
+        this.questionManager.getListOfQuestions();
+        assertEquals(count, this.questionManager.getModificationCount());
+    }
+
     /**
      * A stub ReadOnlyQuestionManager whose question list can violate interface constraints.
      */
@@ -281,6 +338,11 @@ class QuestionManagerTest {
         public ObservableList<Question> getListOfQuestions() {
             return this.questionList;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
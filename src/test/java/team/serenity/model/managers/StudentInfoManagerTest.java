@@ -10,13 +10,20 @@ import static team.serenity.testutil.TypicalStudentInfo.GEORGE_INFO;
 import static team.serenity.testutil.TypicalStudentInfo.HELENE_INFO;
 import static team.serenity.testutil.TypicalStudentInfo.getTypicalStudentInfoManager;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import team.serenity.model.group.GroupLessonKey;
 import team.serenity.model.group.exceptions.DuplicateStudentInfoException;
 import team.serenity.model.group.exceptions.GroupLessonPairNotFoundException;
 import team.serenity.model.group.exceptions.StudentInfoNotFoundException;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
+import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.testutil.GroupLessonKeyBuilder;
 
 public class StudentInfoManagerTest {
@@ -161,4 +168,68 @@ public class StudentInfoManagerTest {
         this.studentInfoManager.deleteStudentInfoFromGroupLessonKey(new GroupLessonKeyBuilder().build(), HELENE_INFO);
         assertFalse(this.studentInfoManager.checkIfStudentInfoExist(new GroupLessonKeyBuilder().build(), HELENE_INFO));
     }
+
+    @Test
+    public void updateAttendance_groupLessonKeyDoesNotExist_throwGroupLessonPairNotFoundException() {
+        assertThrows(GroupLessonPairNotFoundException.class, () -> this.studentInfoManager.updateAttendance(
+                new GroupLessonKeyBuilder().build(), GEORGE_INFO.getStudent().getStudentNo(), new Attendance(true)));
+    }
+
+    @Test
+    public void updateAttendance_studentNotInLesson_throwStudentInfoNotFoundException() {
+        this.studentInfoManager.resetData(getTypicalStudentInfoManager());
+        assertThrows(StudentInfoNotFoundException.class, () -> this.studentInfoManager.updateAttendance(
+                new GroupLessonKeyBuilder().build(), CATHERINE_ABSENT_INFO.getStudent().getStudentNo(),
+                new Attendance(true)));
+    }
+
+    @Test
+    public void updateAttendance_validStudent_replacesOnlyThatStudentInfo() {
+        this.studentInfoManager.resetData(getTypicalStudentInfoManager());
+        GroupLessonKey key = new GroupLessonKeyBuilder().build();
+        List<String> changes = new ArrayList<>();
+        this.studentInfoManager.getListOfStudentsInfoFromGroupLessonKey(key).getList()
+                .addListener((ListChangeListener<StudentInfo>) change -> {
+                    while (change.next()) {
+                        changes.add(change.getFrom() + ":" + change.getRemovedSize() + ":" + change.getAddedSize());
+                    }
+                });
+
+        StudentInfo updated = this.studentInfoManager.updateAttendance(key,
+                GEORGE_INFO.getStudent().getStudentNo(), new Attendance(true));
+
+        assertEquals(GEORGE_INFO.updateAttendance(new Attendance(true)), updated);
+        assertTrue(this.studentInfoManager.checkIfStudentInfoExist(key, updated));
+        assertTrue(this.studentInfoManager.checkIfStudentInfoExist(key, HELENE_INFO));
+        assertEquals(Collections.singletonList("1:1:1"), changes);
+    }
+
+    @Test
+    public void updateAttendanceOfAll_validKey_allStudentsInfoUpdatedInOneChange() {
+        this.studentInfoManager.resetData(getTypicalStudentInfoManager());
+        GroupLessonKey key = new GroupLessonKeyBuilder().build();
+        List<Integer> changes = new ArrayList<>();
+        this.studentInfoManager.getListOfStudentsInfoFromGroupLessonKey(key).getList()
+                .addListener((ListChangeListener<StudentInfo>) change -> changes.add(1));
+
+        this.studentInfoManager.updateAttendanceOfAll(key, new Attendance(true));
+
+        assertEquals(1, changes.size());
+        assertTrue(this.studentInfoManager.checkIfStudentInfoExist(key,
+                GEORGE_INFO.updateAttendance(new Attendance(true))));
+        assertTrue(this.studentInfoManager.checkIfStudentInfoExist(key,
+                HELENE_INFO.updateAttendance(new Attendance(true))));
+    }
+
+    @Test
+    public void updateParticipation_validStudent_updatesParticipation() {
+        this.studentInfoManager.resetData(getTypicalStudentInfoManager());
+        GroupLessonKey key = new GroupLessonKeyBuilder().build();
+        StudentInfo updated = this.studentInfoManager.updateParticipation(key,
+                HELENE_INFO.getStudent().getStudentNo(), new Participation(4));
+
+        assertEquals(HELENE_INFO.updateParticipation(new Participation(4)), updated);
+        assertEquals(0, this.studentInfoManager.getPositionOfStudent(key, HELENE_INFO.getStudent().getStudentNo()));
+        assertFalse(this.studentInfoManager.checkIfStudentInfoExist(key, HELENE_INFO));
+    }
 }
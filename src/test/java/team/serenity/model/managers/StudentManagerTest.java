@@ -8,19 +8,27 @@ import static team.serenity.testutil.Assert.assertThrows;
 import static team.serenity.testutil.TypicalGroups.GROUP_G01;
 import static team.serenity.testutil.TypicalGroups.GROUP_G02;
 import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudent.CATHERINE;
 import static team.serenity.testutil.TypicalStudent.DAVID;
 import static team.serenity.testutil.TypicalStudent.HELENE;
 import static team.serenity.testutil.TypicalStudent.JEFFERY;
 import static team.serenity.testutil.TypicalStudent.getTypicalStudentManager;
 import static team.serenity.testutil.TypicalStudent.getTypicalStudents;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import team.serenity.model.group.exceptions.DuplicateStudentException;
 import team.serenity.model.group.exceptions.GroupNotFoundException;
 import team.serenity.model.group.exceptions.StudentNotFoundException;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.UniqueStudentList;
+import team.serenity.model.util.UniqueList;
 
 class StudentManagerTest {
 
@@ -175,4 +183,62 @@ class StudentManagerTest {
         this.studentManager.deleteStudentFromGroup(GROUP_G02.getGroupName(), DAVID);
         assertFalse(this.studentManager.checkIfStudentExistsInGroup(GROUP_G02.getGroupName(), DAVID));
     }
+
+    @Test
+    public void getGroupNameOfStudent_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.studentManager.getGroupNameOfStudent(null));
+    }
+
+    @Test
+    public void getGroupNameOfStudent_studentsOfGroups_returnsTheirGroups() {
+        this.studentManager.setListOfStudentsToGroup(GROUP_G01.getGroupName(), listOf(AARON, BENJAMIN));
+        this.studentManager.setListOfStudentsToGroup(GROUP_G02.getGroupName(), listOf(CATHERINE));
+        assertEquals(Optional.of(GROUP_G01.getGroupName()),
+            this.studentManager.getGroupNameOfStudent(BENJAMIN.getStudentNo()));
+        assertEquals(Optional.of(GROUP_G02.getGroupName()),
+            this.studentManager.getGroupNameOfStudent(CATHERINE.getStudentNo()));
+        assertEquals(Optional.empty(), this.studentManager.getGroupNameOfStudent(HELENE.getStudentNo()));
+    }
+
+    @Test
+    public void getGroupNameOfStudent_studentsChangedThroughGroupList_indexUpdated() {
+        UniqueList<Student> students = listOf(AARON);
+        this.studentManager.setListOfStudentsToGroup(GROUP_G01.getGroupName(), students);
+
+        students.add(HELENE);
+        students.remove(AARON);
+        assertTrue(this.studentManager.hasStudent(HELENE));
+        assertFalse(this.studentManager.hasStudent(AARON));
+        assertEquals(Optional.of(GROUP_G01.getGroupName()),
+            this.studentManager.getGroupNameOfStudent(HELENE.getStudentNo()));
+    }
+
+    @Test
+    public void getGroupNameOfStudent_groupReplaced_studentsOfOldListRemoved() {
+        UniqueList<Student> oldStudents = listOf(AARON);
+        this.studentManager.setListOfStudentsToGroup(GROUP_G01.getGroupName(), oldStudents);
+        this.studentManager.setListOfStudentsToGroup(GROUP_G01.getGroupName(), listOf(BENJAMIN));
+        assertFalse(this.studentManager.hasStudent(AARON));
+        assertTrue(this.studentManager.hasStudent(BENJAMIN));
+
+        // the old list is no longer part of the manager
+        oldStudents.add(HELENE);
+        assertFalse(this.studentManager.hasStudent(HELENE));
+    }
+
+    @Test
+    public void deleteAllStudentsFromGroup_studentsOfGroup_removedFromIndex() {
+        this.studentManager.setListOfStudentsToGroup(GROUP_G01.getGroupName(), listOf(AARON, BENJAMIN));
+        this.studentManager.setListOfStudentsToGroup(GROUP_G02.getGroupName(), listOf(CATHERINE));
+        this.studentManager.deleteAllStudentsFromGroup(GROUP_G01);
+        assertFalse(this.studentManager.hasStudent(AARON));
+        assertFalse(this.studentManager.hasStudent(BENJAMIN));
+        assertTrue(this.studentManager.hasStudent(CATHERINE));
+    }
+
+    private static UniqueList<Student> listOf(Student... students) {
+        UniqueList<Student> list = new UniqueStudentList();
+        list.setElementsWithList(new ArrayList<>(Arrays.asList(students)));
+        return list;
+    }
 }
@@ -0,0 +1,85 @@
+package team.serenity.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudent.CATHERINE;
+import static team.serenity.testutil.TypicalStudent.DAVID;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+
+class UniqueListIndexTest {
+
+    private final ObservableList<Student> list = FXCollections.observableArrayList();
+    private final UniqueListIndex<StudentNumber, Student> index =
+        new UniqueListIndex<>(this.list, Student::getStudentNo);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UniqueListIndex<>(null, Student::getStudentNo));
+        assertThrows(NullPointerException.class, () -> new UniqueListIndex<>(this.list, null));
+    }
+
+    @Test
+    public void indexOf_keyNotInList_returnsMinusOne() {
+        this.list.add(AARON);
+        assertEquals(-1, this.index.indexOf(BENJAMIN.getStudentNo()));
+        assertFalse(this.index.containsKey(BENJAMIN.getStudentNo()));
+    }
+
+    @Test
+    public void indexOf_afterAppend_returnsPosition() {
+        this.list.add(AARON);
+        this.list.addAll(BENJAMIN, CATHERINE);
+        assertEquals(0, this.index.indexOf(AARON.getStudentNo()));
+        assertEquals(2, this.index.indexOf(CATHERINE.getStudentNo()));
+    }
+
+    @Test
+    public void indexOf_afterReplace_returnsPosition() {
+        this.list.addAll(AARON, BENJAMIN);
+        this.list.set(0, CATHERINE);
+        assertFalse(this.index.containsKey(AARON.getStudentNo()));
+        assertEquals(0, this.index.indexOf(CATHERINE.getStudentNo()));
+    }
+
+    @Test
+    public void indexOf_afterRemoveAndSort_returnsPosition() {
+        this.list.addAll(DAVID, CATHERINE, BENJAMIN, AARON);
+        this.list.remove(DAVID);
+        assertEquals(2, this.index.indexOf(AARON.getStudentNo()));
+        this.list.sort(Comparator.comparing(student -> student.getStudentNo().toString()));
+        assertEquals(0, this.index.indexOf(AARON.getStudentNo()));
+        assertEquals(2, this.index.indexOf(CATHERINE.getStudentNo()));
+        assertFalse(this.index.containsKey(DAVID.getStudentNo()));
+    }
+
+    @Test
+    public void indexOf_afterSetAll_returnsPosition() {
+        this.list.addAll(AARON, BENJAMIN);
+        this.list.setAll(CATHERINE, AARON);
+        assertEquals(1, this.index.indexOf(AARON.getStudentNo()));
+        assertTrue(this.index.containsKey(CATHERINE.getStudentNo()));
+        assertFalse(this.index.containsKey(BENJAMIN.getStudentNo()));
+    }
+
+    @Test
+    public void hasUniqueKeys() {
+        assertTrue(UniqueListIndex.hasUniqueKeys(Arrays.asList(AARON, BENJAMIN), Student::getStudentNo));
+        Student renamedAaron = new Student("Aaron Lim", AARON.getStudentNo().toString());
+        assertFalse(UniqueListIndex.hasUniqueKeys(Arrays.asList(AARON, BENJAMIN, renamedAaron),
+            Student::getStudentNo));
+    }
+
+}
@@ -0,0 +1,190 @@
+package team.serenity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalGroups.GROUP_G01;
+import static team.serenity.testutil.TypicalGroups.GROUP_G02;
+import static team.serenity.testutil.TypicalGroups.getTypicalGroupManager;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.question.TypicalQuestion.getTypicalQuestionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import team.serenity.model.group.Group;
+import team.serenity.model.managers.GroupManager;
+import team.serenity.model.managers.QuestionManager;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.managers.ReadOnlyQuestionManager;
+import team.serenity.storage.question.JsonQuestionStorage;
+import team.serenity.storage.userprefs.JsonUserPrefsStorage;
+
+public class BackgroundSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDebounce_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackgroundSaver(new StorageStub(), -1));
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_latestDataSavedOnce() throws Exception {
+        StorageStub storage = new StorageStub();
+        BackgroundSaver saver = new BackgroundSaver(storage, LONG_DEBOUNCE_MILLIS);
+        GroupManager groupManager = getTypicalGroupManager();
+        QuestionManager questionManager = getTypicalQuestionManager();
+
+        saver.requestSave(groupManager, questionManager);
+        saver.requestSave(groupManager, questionManager);
+        groupManager.deleteGroup(GROUP_G01);
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+
+        assertEquals(1, storage.savedGroupManagers.size());
+        assertEquals(groupManager.getListOfGroups(), storage.savedGroupManagers.get(0).getListOfGroups());
+    }
+
+    @Test
+    public void requestSave_modelChangedAfterRequest_savedDataUnchanged() throws Exception {
+        StorageStub storage = new StorageStub();
+        BackgroundSaver saver = new BackgroundSaver(storage, LONG_DEBOUNCE_MILLIS);
+        GroupManager groupManager = getTypicalGroupManager();
+
+        saver.requestSave(groupManager, getTypicalQuestionManager());
+        groupManager.deleteGroup(GROUP_G01);
+        saver.flush();
+
+        assertEquals(getTypicalGroupManager().getListOfGroups(), storage.savedGroupManagers.get(0).getListOfGroups());
+    }
+
+    @Test
+    public void requestSave_nothingChangedSinceLastRequest_notSavedAgain() throws Exception {
+        StorageStub storage = new StorageStub();
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+        GroupManager groupManager = getTypicalGroupManager();
+        QuestionManager questionManager = getTypicalQuestionManager();
+
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+
+        assertEquals(1, storage.savedGroupManagers.size());
+    }
+
+    @Test
+    public void requestSave_onlyGroupsChanged_questionsNotCopiedAgain() throws Exception {
+        StorageStub storage = new StorageStub();
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+        GroupManager groupManager = getTypicalGroupManager();
+        QuestionManager questionManager = getTypicalQuestionManager();
+
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+        groupManager.deleteGroup(GROUP_G01);
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+
+        assertEquals(2, storage.savedGroupManagers.size());
+        assertNotSame(storage.savedGroupManagers.get(0), storage.savedGroupManagers.get(1));
+        assertSame(storage.savedQuestionManagers.get(0), storage.savedQuestionManagers.get(1));
+    }
+
+    @Test
+    public void requestSave_oneGroupChanged_otherGroupsNotCopiedAgain() throws Exception {
+        StorageStub storage = new StorageStub();
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroups(List.of(new Group(GROUP_G01), new Group(GROUP_G02)));
+        QuestionManager questionManager = getTypicalQuestionManager();
+
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+        Group changedGroup = groupManager.getListOfGroups().get(0);
+        groupManager.deleteStudentFromGroup(changedGroup, AARON);
+        saver.requestSave(groupManager, questionManager);
+        saver.flush();
+
+        List<Group> firstSavedGroups = storage.savedGroupManagers.get(0).getListOfGroups();
+        List<Group> secondSavedGroups = storage.savedGroupManagers.get(1).getListOfGroups();
+        assertEquals(groupManager.getListOfGroups(), secondSavedGroups);
+        assertNotSame(firstSavedGroups.get(0), secondSavedGroups.get(0));
+        assertSame(firstSavedGroups.get(1), secondSavedGroups.get(1));
+        assertEquals(storage.savedGroupManagers.get(0).getModificationCount(firstSavedGroups.get(1)),
+            storage.savedGroupManagers.get(1).getModificationCount(secondSavedGroups.get(1)));
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandlerCalled() throws Exception {
+        IOException exception = new IOException("dummy exception");
+        StorageStub storage = new StorageStub(exception);
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        saver.setOnSaveFailure(failure::complete);
+
+        saver.requestSave(getTypicalGroupManager(), getTypicalQuestionManager());
+
+        assertSame(exception, failure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        StorageStub storage = new StorageStub(new IOException("dummy exception"));
+        BackgroundSaver saver = new BackgroundSaver(storage, LONG_DEBOUNCE_MILLIS);
+        saver.requestSave(getTypicalGroupManager(), getTypicalQuestionManager());
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    @Test
+    public void flush_nothingRequested_nothingSaved() throws Exception {
+        StorageStub storage = new StorageStub();
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+        saver.flush();
+        assertEquals(0, storage.savedGroupManagers.size());
+    }
+
+    /**
+     * A {@code StorageManager} that records the data it is asked to save instead of saving it.
+     */
+    private class StorageStub extends StorageManager {
+
+        private final List<ReadOnlyGroupManager> savedGroupManagers = new ArrayList<>();
+        private final List<ReadOnlyQuestionManager> savedQuestionManagers = new ArrayList<>();
+        private final IOException exceptionToThrow;
+
+        StorageStub() {
+            this(null);
+        }
+
+        StorageStub(IOException exceptionToThrow) {
+            super(new JsonSerenityStorage(testFolder.resolve("serenity.json")),
+                new JsonQuestionStorage(testFolder.resolve("question.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+            this.exceptionToThrow = exceptionToThrow;
+        }
+
+        @Override
+        public void saveChanges(ReadOnlyGroupManager groupManager, ReadOnlyQuestionManager questionManager)
+            throws IOException {
+            if (this.exceptionToThrow != null) {
+                throw this.exceptionToThrow;
+            }
+            this.savedGroupManagers.add(groupManager);
+            this.savedQuestionManagers.add(questionManager);
+        }
+    }
+
+}
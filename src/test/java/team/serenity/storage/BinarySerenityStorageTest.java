@@ -0,0 +1,216 @@
+package team.serenity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalGroups.getTypicalGroupManager;
+import static team.serenity.testutil.TypicalLesson.LESSON_1_1;
+import static team.serenity.testutil.TypicalStudent.AARON;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import team.serenity.commons.exceptions.DataConversionException;
+import team.serenity.model.Model;
+import team.serenity.model.ModelManager;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.lesson.UniqueLessonList;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.UniqueStudentList;
+import team.serenity.model.group.studentinfo.UniqueStudentInfoList;
+import team.serenity.model.managers.GroupManager;
+import team.serenity.model.managers.QuestionManager;
+import team.serenity.model.managers.ReadOnlySerenity;
+import team.serenity.model.userprefs.UserPrefs;
+import team.serenity.model.util.UniqueList;
+
+public class BinarySerenityStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePathFor_jsonPath_binaryPathReturned() {
+        assertEquals(Path.of("data", "serenity.bin"),
+            BinarySerenityStorage.getBinaryFilePathFor(Path.of("data", "serenity.json")));
+        assertEquals(Path.of("data", "serenity.bin"),
+            BinarySerenityStorage.getBinaryFilePathFor(Path.of("data", "serenity")));
+    }
+
+    @Test
+    public void readSerenity_missingFile_emptyResult() throws Exception {
+        BinarySerenityStorage storage = new BinarySerenityStorage(this.testFolder.resolve("serenity.bin"));
+        assertFalse(storage.readSerenity().isPresent());
+    }
+
+    @Test
+    public void readAndSaveSerenity_allInOrder_success() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.bin");
+        GroupManager original = getTypicalGroupManager();
+        new BinarySerenityStorage(filePath).saveSerenity(original);
+        assertEquals(original, new BinarySerenityStorage(filePath).readSerenity().get().getGroupManager());
+
+        Path jsonFilePath = this.testFolder.resolve("serenity.json");
+        new JsonSerenityStorage(jsonFilePath).saveSerenity(original);
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAndSaveSerenity_lessonStudentNotInGroup_success() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.bin");
+        UniqueList<Student> students = new UniqueStudentList();
+        students.add(AARON);
+        UniqueList<Lesson> lessons = new UniqueLessonList();
+        lessons.add(new Lesson(LESSON_1_1));
+        GroupManager original = new GroupManager();
+        original.setGroups(Arrays.asList(new Group("G05", students, lessons)));
+
+        new BinarySerenityStorage(filePath).saveSerenity(original);
+
+        assertEquals(original, new BinarySerenityStorage(filePath).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void readSerenity_missingCache_readFromJsonAndCached() throws Exception {
+        Path jsonFilePath = this.testFolder.resolve("serenity.json");
+        GroupManager original = getTypicalGroupManager();
+        new ShardedJsonSerenityStorage(jsonFilePath).saveSerenity(original);
+
+        assertEquals(original, createCache(jsonFilePath).readSerenity().get().getGroupManager());
+        assertTrue(Files.exists(BinarySerenityStorage.getBinaryFilePathFor(jsonFilePath)));
+        assertReadFromCache(original, createCache(jsonFilePath));
+    }
+
+    @Test
+    public void saveSerenity_cache_jsonAndCacheSaved() throws Exception {
+        Path jsonFilePath = this.testFolder.resolve("serenity.json");
+        GroupManager original = getTypicalGroupManager();
+        createCache(jsonFilePath).saveSerenity(original);
+
+        assertEquals(original, new ShardedJsonSerenityStorage(jsonFilePath).readSerenity().get().getGroupManager());
+        assertReadFromCache(original, createCache(jsonFilePath));
+    }
+
+    @Test
+    public void readSerenity_jsonChangedAfterCacheSaved_readFromJson() throws Exception {
+        Path jsonFilePath = this.testFolder.resolve("serenity.json");
+        createCache(jsonFilePath).saveSerenity(getTypicalGroupManager());
+
+        // E.g. the files of the groups were edited by hand
+        GroupManager edited = new GroupManager();
+        edited.setGroups(Arrays.asList(new Group(getTypicalGroupManager().getListOfGroups().get(0))));
+        new ShardedJsonSerenityStorage(jsonFilePath).saveSerenity(edited);
+
+        assertEquals(edited, createCache(jsonFilePath).readSerenity().get().getGroupManager());
+        assertReadFromCache(edited, createCache(jsonFilePath));
+    }
+
+    @Test
+    public void readSerenity_corruptedCache_readFromJson() throws Exception {
+        Path jsonFilePath = this.testFolder.resolve("serenity.json");
+        Path filePath = BinarySerenityStorage.getBinaryFilePathFor(jsonFilePath);
+        GroupManager original = getTypicalGroupManager();
+        createCache(jsonFilePath).saveSerenity(original);
+        Files.write(filePath, "not a snapshot".getBytes());
+
+        assertEquals(original, createCache(jsonFilePath).readSerenity().get().getGroupManager());
+        assertReadFromCache(original, createCache(jsonFilePath));
+    }
+
+    @Test
+    public void readSerenity_snapshotWithoutFingerprint_savedAsJson() throws Exception {
+        Path jsonFilePath = this.testFolder.resolve("serenity.json");
+        Path filePath = BinarySerenityStorage.getBinaryFilePathFor(jsonFilePath);
+        new ShardedJsonSerenityStorage(jsonFilePath).saveSerenity(new GroupManager());
+        GroupManager original = getTypicalGroupManager();
+        new BinarySerenityStorage(filePath).saveSerenity(original);
+        Files.write(filePath, removeFingerprint(Files.readAllBytes(filePath)));
+
+        assertEquals(original, createCache(jsonFilePath).readSerenity().get().getGroupManager());
+        assertEquals(original, new ShardedJsonSerenityStorage(jsonFilePath).readSerenity().get().getGroupManager());
+        assertReadFromCache(original, createCache(jsonFilePath));
+    }
+
+    @Test
+    public void readSerenity_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.bin");
+        new BinarySerenityStorage(filePath).saveSerenity(getTypicalGroupManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinarySerenityStorage(filePath).readSerenity());
+    }
+
+    @Test
+    public void readSerenity_notSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.bin");
+        Files.write(filePath, "not a snapshot".getBytes());
+        assertThrows(DataConversionException.class, () -> new BinarySerenityStorage(filePath).readSerenity());
+    }
+
+    @Test
+    public void readSerenity_modelCreated_studentsInfoOnlyLoadedWhenRead() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.bin");
+        new BinarySerenityStorage(filePath).saveSerenity(getTypicalGroupManager());
+
+        Model model = new ModelManager(new BinarySerenityStorage(filePath).readSerenity().get(),
+            new QuestionManager(), new UserPrefs());
+        assertTrue(getLessons(model).stream().noneMatch(lesson -> isLoaded(lesson)));
+
+        Lesson readLesson = getLessons(model).get(0);
+        readLesson.getStudentsInfo().getList().get(0);
+        assertTrue(isLoaded(readLesson));
+        assertEquals(1, getLessons(model).stream().filter(lesson -> isLoaded(lesson)).count());
+    }
+
+    private static BinarySerenityStorage createCache(Path jsonFilePath) {
+        return new BinarySerenityStorage(BinarySerenityStorage.getBinaryFilePathFor(jsonFilePath),
+            new ShardedJsonSerenityStorage(jsonFilePath));
+    }
+
+    /**
+     * Asserts that {@code storage} reads {@code expected} from its snapshot, whose lessons are not loaded yet,
+     * rather than from the JSON files.
+     */
+    private static void assertReadFromCache(GroupManager expected, BinarySerenityStorage storage) throws Exception {
+        ReadOnlySerenity serenity = storage.readSerenity().get();
+        assertTrue(serenity.getGroupList().stream().flatMap(group -> group.getLessons().stream())
+            .noneMatch(lesson -> isLoaded(lesson)));
+        assertEquals(expected, serenity.getGroupManager());
+    }
+
+    /**
+     * Returns the snapshot {@code bytes} as it was saved before snapshots had a fingerprint.
+     */
+    private static byte[] removeFingerprint(byte[] bytes) {
+        ByteBuffer snapshot = ByteBuffer.allocate(bytes.length - Long.BYTES);
+        snapshot.putInt(BinarySerenityStorage.MAGIC);
+        snapshot.putInt(1);
+        snapshot.put(bytes, 2 * Integer.BYTES + Long.BYTES, bytes.length - 3 * Integer.BYTES - Long.BYTES);
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot.array(), 0, snapshot.position());
+        snapshot.putInt((int) checksum.getValue());
+        return snapshot.array();
+    }
+
+    private static List<Lesson> getLessons(Model model) {
+        return model.getFilteredGroupList().stream().flatMap(group -> group.getLessons().stream())
+            .collect(Collectors.toList());
+    }
+
+    private static boolean isLoaded(Lesson lesson) {
+        return ((UniqueStudentInfoList) lesson.getStudentsInfo()).isLoaded();
+    }
+
+}
@@ -1,15 +1,27 @@
 package team.serenity.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static team.serenity.testutil.Assert.assertThrows;
 import static team.serenity.testutil.TypicalLesson.LESSON_1_1;
+import static team.serenity.testutil.TypicalStudent.AARON;
+import static team.serenity.testutil.TypicalStudent.BENJAMIN;
+import static team.serenity.testutil.TypicalStudent.CATHERINE;
+import static team.serenity.testutil.TypicalStudent.DAVID;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import team.serenity.commons.exceptions.IllegalValueException;
 import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
 
 class JsonAdaptedLessonTest {
 
@@ -36,4 +48,56 @@ class JsonAdaptedLessonTest {
         assertThrows(IllegalValueException.class, () -> invalidLessonName.toModelType());
         assertThrows(IllegalValueException.class, () -> invalidFormatLessonName.toModelType());
     }
+
+    @Test
+    public void toModelType_lessonOfGroup_returnsLessonWithGroupStudents() throws Exception {
+        List<Student> groupStudents = Arrays.asList(CATHERINE, BENJAMIN, AARON, DAVID);
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(LESSON_1_1, getStudentPositions(groupStudents),
+            groupStudents.size());
+
+        Lesson readLesson = lesson.toModelType(groupStudents);
+
+        assertEquals(LESSON_1_1, readLesson);
+        assertSame(AARON, readLesson.getStudentsInfo().getList().get(0).getStudent());
+    }
+
+    @Test
+    public void toModelType_studentNotInGroup_returnsLesson() throws Exception {
+        List<Student> groupStudents = Arrays.asList(AARON, BENJAMIN);
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(LESSON_1_1, getStudentPositions(groupStudents),
+            groupStudents.size());
+        assertEquals(LESSON_1_1, lesson.toModelType(groupStudents));
+    }
+
+    @Test
+    public void toModelType_invalidStudentPosition_throwsIllegalValueException() {
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson("1-1", new int[] {0, 3}, new int[] {0, 0},
+            new int[] {0, 0}, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedLesson.MESSAGE_INVALID_STUDENTS, () ->
+            lesson.toModelType(Arrays.asList(AARON, BENJAMIN)));
+    }
+
+    @Test
+    public void toModelType_missingStudentData_throwsIllegalValueException() {
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson("1-1", null, new int[] {0},
+            new int[] {0, 0}, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedLesson.MESSAGE_INVALID_STUDENTS, () ->
+            lesson.toModelType(Arrays.asList(AARON, BENJAMIN)));
+    }
+
+    @Test
+    public void toModelType_invalidAttendance_throwsIllegalValueException() {
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson("1-1", null, new int[] {0, 3},
+            new int[] {0, 0}, null);
+        assertThrows(IllegalValueException.class, Attendance.MESSAGE_CONSTRAINTS, () ->
+            lesson.toModelType(Arrays.asList(AARON, BENJAMIN)));
+    }
+
+    private static Map<StudentNumber, Integer> getStudentPositions(List<Student> groupStudents) {
+        Map<StudentNumber, Integer> studentPositions = new HashMap<>();
+        for (int i = 0; i < groupStudents.size(); i++) {
+            studentPositions.put(groupStudents.get(i).getStudentNo(), i);
+        }
+        return studentPositions;
+    }
 }
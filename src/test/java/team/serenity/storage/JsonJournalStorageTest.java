@@ -0,0 +1,246 @@
+package team.serenity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.testutil.TypicalGroups.GROUP_G01;
+import static team.serenity.testutil.TypicalGroups.GROUP_G02;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_EDIT;
+import static team.serenity.testutil.question.TypicalQuestion.getTypicalQuestionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import team.serenity.commons.util.FileUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.group.question.Question;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
+import team.serenity.model.group.studentinfo.StudentInfo;
+import team.serenity.model.managers.GroupManager;
+import team.serenity.model.managers.QuestionManager;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+import team.serenity.model.util.UniqueList;
+
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonJournalStorage journalStorage;
+    private GroupManager groupManager;
+    private QuestionManager questionManager;
+
+    @BeforeEach
+    public void setUp() {
+        this.journalStorage = new JsonJournalStorage(this.testFolder.resolve("serenity.journal"));
+        this.groupManager = new GroupManager();
+        this.groupManager.setGroups(copyOf(Arrays.asList(GROUP_G01, GROUP_G02)));
+        this.questionManager = new QuestionManager(getTypicalQuestionManager());
+    }
+
+    private static List<Group> copyOf(List<Group> groups) {
+        return groups.stream().map(Group::new).collect(Collectors.toList());
+    }
+
+    private void markPresent(Group group, int lessonIndex, int studentIndex) {
+        UniqueList<StudentInfo> studentsInfo = group.getLessons().getList().get(lessonIndex).getStudentsInfo();
+        StudentInfo target = studentsInfo.getList().get(studentIndex);
+        studentsInfo.setElement(target, target.updateAttendance(new Attendance(true)));
+    }
+
+    @Test
+    public void getJournalFilePathFor_snapshotFilePath_returnsSiblingJournal() {
+        assertEquals(Paths.get("data", "serenity.journal"),
+            JsonJournalStorage.getJournalFilePathFor(Paths.get("data", "serenity.json")));
+        assertEquals(Paths.get("serenity.journal"), JsonJournalStorage.getJournalFilePathFor(Paths.get("serenity")));
+    }
+
+    @Test
+    public void appendToJournal_notStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () ->
+            this.journalStorage.appendToJournal(this.groupManager, this.questionManager));
+    }
+
+    @Test
+    public void appendToJournal_noChanges_nothingWritten() throws Exception {
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+        assertEquals(0, this.journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void appendToJournal_oneStudentChanged_writesOneStudentOnly() throws Exception {
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+        markPresent(this.groupManager.getListOfGroups().get(0), 0, 0);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+
+        String journal = FileUtil.readFromFile(this.journalStorage.getJournalFilePath());
+        assertTrue(journal.contains("PUT_STUDENT_INFO"));
+        assertFalse(journal.contains("PUT_LESSON"));
+        assertEquals(1, journal.split("\n").length);
+    }
+
+    @Test
+    public void appendToJournal_groupModificationCountUnchanged_groupNotCompared() throws Exception {
+        GroupManagerStub groups = new GroupManagerStub(this.groupManager.getListOfGroups());
+        this.journalStorage.startJournal(groups, this.questionManager);
+        Group firstGroup = groups.getListOfGroups().get(0);
+        Group secondGroup = groups.getListOfGroups().get(1);
+        markPresent(firstGroup, 0, 0);
+        markPresent(secondGroup, 0, 0);
+        groups.countChangeOf(firstGroup);
+        this.journalStorage.appendToJournal(groups, this.questionManager);
+
+        String journal = FileUtil.readFromFile(this.journalStorage.getJournalFilePath());
+        assertEquals(1, journal.split("\n").length);
+        assertTrue(journal.contains(firstGroup.getGroupName().toString()));
+        assertFalse(journal.contains(secondGroup.getGroupName().toString()));
+    }
+
+    @Test
+    public void replayJournal_afterChanges_restoresData() throws Exception {
+        List<Group> groups = copyOf(this.groupManager.getListOfGroups());
+        List<Question> questions = new ArrayList<>(this.questionManager.getListOfQuestions());
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+
+        Group firstGroup = this.groupManager.getListOfGroups().get(0);
+        markPresent(firstGroup, 0, 0);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+
+        Lesson lesson = this.groupManager.getListOfGroups().get(1).getLessons().getList().get(0);
+        UniqueList<StudentInfo> studentsInfo = lesson.getStudentsInfo();
+        for (StudentInfo studentInfo : new ArrayList<>(studentsInfo.getList())) {
+            studentsInfo.setElement(studentInfo, studentInfo.updateParticipation(new Participation(3)));
+        }
+        this.questionManager.addQuestion(QUESTION_EDIT);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+
+        this.groupManager.deleteGroup(firstGroup);
+        this.questionManager.deleteQuestion(this.questionManager.getListOfQuestions().get(0));
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+
+        assertTrue(this.journalStorage.replayJournal(groups, questions));
+        assertEquals(this.groupManager.getListOfGroups(), groups);
+        assertEquals(this.questionManager.getListOfQuestions(), questions);
+    }
+
+    @Test
+    public void replayJournal_twice_sameResult() throws Exception {
+        List<Group> groups = copyOf(this.groupManager.getListOfGroups());
+        List<Question> questions = new ArrayList<>(this.questionManager.getListOfQuestions());
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+        markPresent(this.groupManager.getListOfGroups().get(1), 2, 1);
+        this.questionManager.addQuestion(QUESTION_EDIT);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+
+        this.journalStorage.replayJournal(groups, questions);
+        this.journalStorage.replayJournal(groups, questions);
+        assertEquals(this.groupManager.getListOfGroups(), groups);
+        assertEquals(this.questionManager.getListOfQuestions(), questions);
+    }
+
+    @Test
+    public void replayJournal_rotatedJournal_replaysBothFiles() throws Exception {
+        List<Group> groups = copyOf(this.groupManager.getListOfGroups());
+        List<Question> questions = new ArrayList<>(this.questionManager.getListOfQuestions());
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+        markPresent(this.groupManager.getListOfGroups().get(0), 0, 1);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+        this.journalStorage.rotateJournal();
+        assertEquals(0, this.journalStorage.getJournalSize());
+
+        this.questionManager.addQuestion(QUESTION_EDIT);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+
+        assertTrue(this.journalStorage.replayJournal(groups, questions));
+        assertEquals(this.groupManager.getListOfGroups(), groups);
+        assertEquals(this.questionManager.getListOfQuestions(), questions);
+    }
+
+    @Test
+    public void replayJournal_partiallyWrittenLine_discardsLine() throws Exception {
+        List<Group> groups = copyOf(this.groupManager.getListOfGroups());
+        List<Question> questions = new ArrayList<>(this.questionManager.getListOfQuestions());
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+        this.questionManager.addQuestion(QUESTION_EDIT);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+        long completeSize = this.journalStorage.getJournalSize();
+        FileUtil.appendToFile(this.journalStorage.getJournalFilePath(), "[{\"type\":\"DELETE_GR");
+
+        assertTrue(this.journalStorage.replayJournal(groups, questions));
+        assertEquals(this.groupManager.getListOfGroups(), groups);
+        assertEquals(this.questionManager.getListOfQuestions(), questions);
+        assertEquals(completeSize, this.journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void replayJournal_noJournal_returnsFalse() throws Exception {
+        List<Group> groups = copyOf(this.groupManager.getListOfGroups());
+        assertFalse(this.journalStorage.replayJournal(groups, new ArrayList<>()));
+        assertEquals(this.groupManager.getListOfGroups(), groups);
+    }
+
+    @Test
+    public void clearJournal_deletesBothFiles() throws Exception {
+        this.journalStorage.startJournal(this.groupManager, this.questionManager);
+        this.questionManager.addQuestion(QUESTION_EDIT);
+        this.journalStorage.appendToJournal(this.groupManager, this.questionManager);
+        this.journalStorage.rotateJournal();
+        this.journalStorage.clearJournal();
+        try (Stream<Path> files = Files.list(this.testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * A group manager whose modification counts only move when told to.
+     */
+    private static class GroupManagerStub implements ReadOnlyGroupManager {
+
+        private final ObservableList<Group> groups;
+        private final Map<Group, Long> modificationCounts = new IdentityHashMap<>();
+        private long modificationCount = 0;
+
+        GroupManagerStub(List<Group> groups) {
+            this.groups = FXCollections.observableArrayList(groups);
+            groups.forEach(group -> this.modificationCounts.put(group, 0L));
+        }
+
+        void countChangeOf(Group group) {
+            this.modificationCounts.put(group, ++this.modificationCount);
+        }
+
+        @Override
+        public ObservableList<Group> getListOfGroups() {
+            return this.groups;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return this.modificationCount;
+        }
+
+        @Override
+        public long getModificationCount(Group group) {
+            return this.modificationCounts.getOrDefault(group, -1L);
+        }
+    }
+
+}
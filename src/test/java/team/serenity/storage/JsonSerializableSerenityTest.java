@@ -0,0 +1,40 @@
+package team.serenity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalGroups.GROUP_G01;
+import static team.serenity.testutil.TypicalGroups.getTypicalGroupManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import team.serenity.commons.exceptions.IllegalValueException;
+import team.serenity.model.group.exceptions.DuplicateGroupException;
+import team.serenity.model.managers.GroupManager;
+
+class JsonSerializableSerenityTest {
+
+    @Test
+    public void toModelType_typicalGroups_groupsInSameOrder() throws Exception {
+        GroupManager typicalGroupManager = getTypicalGroupManager();
+        JsonSerializableSerenity serenity = new JsonSerializableSerenity(typicalGroupManager);
+        assertEquals(typicalGroupManager, serenity.toModelType().getGroupManager());
+    }
+
+    @Test
+    public void toModelType_invalidGroup_throwsIllegalValueException() {
+        JsonSerializableSerenity serenity = new JsonSerializableSerenity(JsonSerializableSerenity.SCHEMA_VERSION,
+            Arrays.asList(new JsonAdaptedGroup(GROUP_G01), new JsonAdaptedGroup("g01", new ArrayList<>())));
+        assertThrows(IllegalValueException.class, serenity::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateGroups_throwsDuplicateGroupException() {
+        JsonSerializableSerenity serenity = new JsonSerializableSerenity(JsonSerializableSerenity.SCHEMA_VERSION,
+            Arrays.asList(new JsonAdaptedGroup(GROUP_G01), new JsonAdaptedGroup(GROUP_G01)));
+        assertThrows(DuplicateGroupException.class, serenity::toModelType);
+    }
+
+}
@@ -0,0 +1,214 @@
+package team.serenity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.serenity.testutil.Assert.assertThrows;
+import static team.serenity.testutil.TypicalGroups.GROUP_G01;
+import static team.serenity.testutil.TypicalGroups.GROUP_G02;
+import static team.serenity.testutil.TypicalGroups.getTypicalGroupManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import team.serenity.commons.exceptions.DataConversionException;
+import team.serenity.commons.util.FileUtil;
+import team.serenity.commons.util.JsonUtil;
+import team.serenity.model.group.Group;
+import team.serenity.model.group.lesson.Lesson;
+import team.serenity.model.managers.GroupManager;
+import team.serenity.model.managers.ReadOnlyGroupManager;
+
+public class ShardedJsonSerenityStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ShardedJsonSerenityStorageTest");
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getShardFile(Path filePath, Group group) {
+        return ShardedJsonSerenityStorage.getShardDirectoryFor(filePath)
+            .resolve(group.getGroupName() + ShardedJsonSerenityStorage.SHARD_FILE_EXTENSION);
+    }
+
+    @Test
+    public void getShardDirectoryFor_validPath_siblingDirectoryReturned() {
+        assertEquals(Path.of("data", "serenity"),
+            ShardedJsonSerenityStorage.getShardDirectoryFor(Path.of("data", "serenity.json")));
+        assertEquals(Path.of("data", "serenity-groups"),
+            ShardedJsonSerenityStorage.getShardDirectoryFor(Path.of("data", "serenity")));
+    }
+
+    @Test
+    public void readSerenity_missingFile_emptyResult() throws Exception {
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(this.testFolder.resolve("serenity.json"));
+        assertFalse(storage.readSerenity().isPresent());
+    }
+
+    @Test
+    public void readAndSaveSerenity_allInOrder_success() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        GroupManager original = getTypicalGroupManager();
+        new ShardedJsonSerenityStorage(filePath).saveSerenity(original);
+
+        assertTrue(Files.exists(getShardFile(filePath, GROUP_G01)));
+        assertTrue(Files.exists(getShardFile(filePath, GROUP_G02)));
+        assertEquals(original, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void saveSerenity_oneGroupChanged_onlyItsFileRewritten() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(filePath);
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroups(Arrays.asList(new Group(GROUP_G01), new Group(GROUP_G02)));
+        storage.saveSerenity(groupManager);
+        Files.setLastModifiedTime(getShardFile(filePath, GROUP_G01), OLD_TIME);
+        Files.setLastModifiedTime(getShardFile(filePath, GROUP_G02), OLD_TIME);
+
+        groupManager.getListOfGroups().get(1).getStudents().remove(groupManager.getListOfGroups().get(1)
+            .getStudents().getList().get(0));
+        storage.saveSerenity(groupManager);
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(getShardFile(filePath, GROUP_G01)));
+        assertFalse(OLD_TIME.equals(Files.getLastModifiedTime(getShardFile(filePath, GROUP_G02))));
+        assertEquals(groupManager, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void saveSerenity_groupDeleted_itsFileDeleted() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(filePath);
+        GroupManager groupManager = getTypicalGroupManager();
+        storage.saveSerenity(groupManager);
+
+        groupManager.deleteGroup(GROUP_G01);
+        storage.saveSerenity(groupManager);
+
+        assertFalse(Files.exists(getShardFile(filePath, GROUP_G01)));
+        assertEquals(groupManager, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void readSerenity_singleFileData_readAndBackedUp() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        GroupManager original = getTypicalGroupManager();
+        new JsonSerenityStorage(filePath).saveSerenity(original);
+        String singleFileContent = FileUtil.readFromFile(filePath);
+
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(filePath);
+        assertEquals(original, storage.readSerenity().get().getGroupManager());
+        assertFalse(Files.exists(filePath));
+        Path backupFile = ShardedJsonSerenityStorage.getBackupFileFor(filePath);
+        assertEquals(singleFileContent, FileUtil.readFromFile(backupFile));
+
+        // Later saves leave the backup alone
+        Files.setLastModifiedTime(backupFile, OLD_TIME);
+        storage.saveSerenity(new GroupManager());
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(backupFile));
+        assertEquals(original, new JsonSerenityStorage(backupFile).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void saveSerenity_singleFileNotMigrated_notDeleted() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(filePath);
+        storage.saveSerenity(getTypicalGroupManager());
+
+        // A single file written after the groups were first saved is not touched by later saves
+        new JsonSerenityStorage(filePath).saveSerenity(new GroupManager());
+        storage.saveSerenity(new GroupManager());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(ShardedJsonSerenityStorage.getBackupFileFor(filePath)));
+    }
+
+    @Test
+    public void readSerenity_singleFileRestored_readInsteadOfGroupFiles() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(filePath);
+        storage.saveSerenity(getTypicalGroupManager());
+        GroupManager restored = new GroupManager();
+        new JsonSerenityStorage(filePath).saveSerenity(restored);
+
+        assertEquals(restored, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+        assertFalse(Files.exists(filePath));
+        assertEquals(restored, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void getFingerprint_groupFileChanged_fingerprintChanged() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        ShardedJsonSerenityStorage storage = new ShardedJsonSerenityStorage(filePath);
+        storage.saveSerenity(getTypicalGroupManager());
+        long fingerprint = storage.getFingerprint();
+        assertEquals(fingerprint, new ShardedJsonSerenityStorage(filePath).getFingerprint());
+
+        Files.setLastModifiedTime(getShardFile(filePath, GROUP_G01), OLD_TIME);
+        assertNotEquals(fingerprint, storage.getFingerprint());
+    }
+
+    @Test
+    public void readSerenity_groupFileMissing_throwsDataConversionException() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        new ShardedJsonSerenityStorage(filePath).saveSerenity(getTypicalGroupManager());
+        Files.delete(getShardFile(filePath, GROUP_G02));
+        assertThrows(DataConversionException.class, () -> new ShardedJsonSerenityStorage(filePath).readSerenity());
+    }
+
+    @Test
+    public void readSerenity_groupFileNotJson_throwsDataConversionException() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        new ShardedJsonSerenityStorage(filePath).saveSerenity(getTypicalGroupManager());
+        FileUtil.writeToFile(getShardFile(filePath, GROUP_G01), "not json");
+        assertThrows(DataConversionException.class, () -> new ShardedJsonSerenityStorage(filePath).readSerenity());
+    }
+
+    @Test
+    public void readSerenity_schemaVersion1File_migratedToCurrentVersion() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("schemaVersion1Serenity.json"), filePath);
+
+        ReadOnlyGroupManager migrated = new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager();
+        Lesson lesson = migrated.getListOfGroups().get(0).getLessons().getList().get(0);
+        assertTrue(lesson.getStudentsInfo().getList().get(0).getAttendance().isPresent());
+        assertEquals(3, lesson.getStudentsInfo().getList().get(0).getParticipation().getScore());
+        assertTrue(lesson.getStudentsInfo().getList().get(1).getAttendance().isFlagged());
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(ShardedJsonSerenityStorage.getBackupFileFor(filePath)));
+        Path shardDirectory = ShardedJsonSerenityStorage.getShardDirectoryFor(filePath);
+        assertEquals(JsonSerializableSerenity.SCHEMA_VERSION, JsonUtil.readJsonFile(shardDirectory
+            .resolve(ShardedJsonSerenityStorage.MANIFEST_FILE_NAME), JsonSerializableShardManifest.class)
+            .get().getSchemaVersion());
+        assertFalse(FileUtil.readFromFile(shardDirectory.resolve("G01.json")).contains("studentInfos"));
+        assertEquals(migrated, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+    }
+
+    @Test
+    public void readSerenity_schemaVersion1Shards_allFilesRewritten() throws Exception {
+        Path filePath = this.testFolder.resolve("serenity.json");
+        GroupManager original = getTypicalGroupManager();
+        new ShardedJsonSerenityStorage(filePath).saveSerenity(original);
+        Path shardDirectory = ShardedJsonSerenityStorage.getShardDirectoryFor(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableShardManifest(null, Arrays.asList(
+            GROUP_G01.getGroupName().toString(), GROUP_G02.getGroupName().toString())),
+            shardDirectory.resolve(ShardedJsonSerenityStorage.MANIFEST_FILE_NAME));
+        Files.setLastModifiedTime(getShardFile(filePath, GROUP_G01), OLD_TIME);
+
+        assertEquals(original, new ShardedJsonSerenityStorage(filePath).readSerenity().get().getGroupManager());
+
+        assertFalse(OLD_TIME.equals(Files.getLastModifiedTime(getShardFile(filePath, GROUP_G01))));
+        assertEquals(JsonSerializableSerenity.SCHEMA_VERSION, JsonUtil.readJsonFile(shardDirectory
+            .resolve(ShardedJsonSerenityStorage.MANIFEST_FILE_NAME), JsonSerializableShardManifest.class)
+            .get().getSchemaVersion());
+    }
+
+}
@@ -1,17 +1,25 @@
 package team.serenity.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static team.serenity.testutil.TypicalGroups.GROUP_G01;
+import static team.serenity.testutil.TypicalGroups.GROUP_G02;
 import static team.serenity.testutil.TypicalGroups.getTypicalGroupManager;
+import static team.serenity.testutil.question.TypicalQuestion.QUESTION_EDIT;
 import static team.serenity.testutil.question.TypicalQuestion.getTypicalQuestionManager;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import team.serenity.commons.core.GuiSettings;
+import team.serenity.model.group.Group;
 import team.serenity.model.managers.GroupManager;
 import team.serenity.model.managers.QuestionManager;
 import team.serenity.model.managers.ReadOnlyGroupManager;
@@ -76,4 +84,31 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getSerenityFilePath());
     }
 
+    @Test
+    public void saveChanges_journalOverSizeLimit_compactedIntoSnapshot() throws Exception {
+        JsonSerenityStorage serenityStorage = new JsonSerenityStorage(getTempFilePath("serenity.json"));
+        JsonQuestionStorage questionStorage = new JsonQuestionStorage(getTempFilePath("question.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        JsonJournalStorage journalStorage = new JsonJournalStorage(getTempFilePath("serenity.journal"));
+        StorageManager journaledStorageManager = new StorageManager(serenityStorage, questionStorage,
+            userPrefsStorage, journalStorage, 1);
+
+        GroupManager groupManager = new GroupManager();
+        QuestionManager questionManager = new QuestionManager();
+        journaledStorageManager.startJournal(groupManager, questionManager);
+        groupManager.addGroup(new Group(GROUP_G01));
+        journaledStorageManager.saveChanges(groupManager, questionManager);
+        groupManager.addGroup(new Group(GROUP_G02));
+        questionManager.addQuestion(QUESTION_EDIT);
+        journaledStorageManager.saveChanges(groupManager, questionManager);
+        journaledStorageManager.saveSnapshot(groupManager, questionManager);
+
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertFalse(journaledStorageManager.replayJournal(new ArrayList<>(), new ArrayList<>()));
+        GroupManager expectedGroupManager = new GroupManager();
+        expectedGroupManager.setGroups(Arrays.asList(GROUP_G01, GROUP_G02));
+        assertEquals(expectedGroupManager, journaledStorageManager.readSerenity().get().getGroupManager());
+        assertEquals(questionManager, journaledStorageManager.readQuestionManager().get());
+    }
+
 }
@@ -1,10 +1,13 @@
 package team.serenity.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import team.serenity.commons.core.GuiSettings;
+import team.serenity.commons.util.ExportSummary;
 import team.serenity.model.Model;
 import team.serenity.model.group.Group;
 import team.serenity.model.group.GroupLessonKey;
@@ -12,7 +15,12 @@ import team.serenity.model.group.GroupName;
 import team.serenity.model.group.lesson.Lesson;
 import team.serenity.model.group.lesson.LessonName;
 import team.serenity.model.group.question.Question;
+import team.serenity.model.group.question.QuestionContainsKeywordPredicate;
+import team.serenity.model.group.question.QuestionFromGroupLessonPredicate;
 import team.serenity.model.group.student.Student;
+import team.serenity.model.group.student.StudentNumber;
+import team.serenity.model.group.studentinfo.Attendance;
+import team.serenity.model.group.studentinfo.Participation;
 import team.serenity.model.group.studentinfo.StudentInfo;
 import team.serenity.model.managers.GroupManager;
 import team.serenity.model.managers.ReadOnlyQuestionManager;
@@ -65,6 +73,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Group> getListOfGroups() {
         throw new AssertionError("This method should not be called.");
@@ -100,13 +123,18 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ExportSummary exportAll(Path directory) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredGroupList(Predicate<Group> predicate) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<StudentInfo> getAllStudentInfo() {
+    public ObservableList<StudentInfo> getFlaggedStudentsInfo() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -150,6 +178,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<GroupName> getGroupNameOfStudent(StudentNumber studentNumber) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteStudentFromGroup(Student student, Predicate<Group> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -181,6 +214,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateAttendance(GroupLessonKey key, StudentNumber studentNumber, Attendance attendance) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateAttendanceOfAll(GroupLessonKey key, Attendance attendance) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateParticipation(GroupLessonKey key, StudentNumber studentNumber, Participation participation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateStudentsInfo(GroupLessonKey key, List<StudentInfo> updatedStudentsInfo) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateStudentsInfoList() {
         throw new AssertionError("This method should not be called.");
@@ -216,6 +269,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Question> getSimilarQuestions(Question question) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<List<Question>> getSimilarQuestionClusters() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Question> getFilteredQuestionList() {
         throw new AssertionError("This method should not be called.");
@@ -226,4 +289,19 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void findQuestions(QuestionContainsKeywordPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rankQuestions(QuestionContainsKeywordPredicate predicate, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void showLessonQuestions(QuestionFromGroupLessonPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 }